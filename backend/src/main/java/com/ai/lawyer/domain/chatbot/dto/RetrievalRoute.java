@@ -0,0 +1,21 @@
+package com.ai.lawyer.domain.chatbot.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지별 벡터 검색 경로
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RetrievalRoute {
+
+    NONE(false, false),            // 법률과 무관한 메시지 -> 검색 생략
+    CASES(true, false),            // 판례만 검색 (사건번호, 판결 관련 질문)
+    LAWS(false, true),             // 법령만 검색 (조문, 법령명 관련 질문)
+    BOTH(true, true),              // 판례 + 법령 검색 (기존 동작)
+    REUSE_PREVIOUS(false, false);  // 후속 질문 -> 이전 턴 검색 결과 재사용
+
+    private final boolean searchCases;
+    private final boolean searchLaws;
+}
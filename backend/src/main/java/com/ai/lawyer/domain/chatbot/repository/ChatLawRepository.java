@@ -1,9 +1,15 @@
 package com.ai.lawyer.domain.chatbot.repository;
 
+import com.ai.lawyer.domain.chatbot.entity.Chat;
 import com.ai.lawyer.domain.chatbot.entity.ChatLaw;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ChatLawRepository extends JpaRepository<ChatLaw, Long> {
+
+    List<ChatLaw> findByChatId(Chat chatId);
+
 }
@@ -1,7 +1,13 @@
 package com.ai.lawyer.domain.chatbot.repository;
 
+import com.ai.lawyer.domain.chatbot.entity.Chat;
 import com.ai.lawyer.domain.chatbot.entity.ChatPrecedent;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface ChatPrecedentRepository extends JpaRepository<ChatPrecedent, Long> {
+
+    List<ChatPrecedent> findByChatId(Chat chatId);
+
 }
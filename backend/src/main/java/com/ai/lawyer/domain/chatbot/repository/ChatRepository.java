@@ -1,9 +1,17 @@
 package com.ai.lawyer.domain.chatbot.repository;
 
 import com.ai.lawyer.domain.chatbot.entity.Chat;
+import com.ai.lawyer.domain.chatbot.entity.History;
+import org.springframework.ai.chat.messages.MessageType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long> {
+
+    // 채팅방의 가장 최근 메시지 (이전 턴 검색 결과 재사용용)
+    Optional<Chat> findFirstByHistoryIdAndTypeOrderByChatIdDesc(History historyId, MessageType type);
+
 }
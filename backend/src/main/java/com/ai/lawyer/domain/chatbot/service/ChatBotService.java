@@ -4,8 +4,11 @@ import com.ai.lawyer.domain.chatbot.dto.ChatDto.ChatRequest;
 import com.ai.lawyer.domain.chatbot.dto.ChatDto.ChatResponse;
 import com.ai.lawyer.domain.chatbot.dto.ExtractionDto.KeywordExtractionDto;
 import com.ai.lawyer.domain.chatbot.dto.ExtractionDto.TitleExtractionDto;
+import com.ai.lawyer.domain.chatbot.dto.RetrievalRoute;
 import com.ai.lawyer.domain.chatbot.entity.*;
 import com.ai.lawyer.domain.chatbot.repository.*;
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
+import com.ai.lawyer.domain.law.service.LawArticleService;
 import com.ai.lawyer.domain.member.entity.Member;
 import com.ai.lawyer.domain.member.repositories.MemberRepository;
 import com.ai.lawyer.global.qdrant.service.QdrantService;
@@ -23,6 +26,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +42,8 @@ public class ChatBotService {
 
     private final QdrantService qdrantService;
     private final HistoryService historyService;
+    private final RetrievalRouter retrievalRouter;
+    private final LawArticleService lawArticleService;
 
     private final ChatRepository chatRepository;
     private final HistoryRepository historyRepository;
@@ -46,6 +53,8 @@ public class ChatBotService {
     private final ChatPrecedentRepository chatPrecedentRepository;
     private final ChatLawRepository chatLawRepository;
 
+    private static final int MAX_CITED_ARTICLES = 3;
+
     @Value("${custom.ai.system-message}")
     private String systemMessageTemplate;
     @Value("${custom.ai.title-extraction}")
@@ -54,24 +63,26 @@ public class ChatBotService {
     private String keywordExtraction;
 
     // 핵심 로직
-    // 멤버 조회 -> 벡터 검색 (판례, 법령) -> 프롬프트 생성 (시스템, 유저) -> 채팅 클라이언트 호출 (스트림) -> 응답 저장, 제목/키워드 추출
+    // 멤버 조회 -> 검색 경로 결정 -> 벡터 검색 (판례, 법령) -> 프롬프트 생성 (시스템, 유저) -> 채팅 클라이언트 호출 (스트림) -> 응답 저장, 제목/키워드 추출
     public Flux<ChatResponse> sendMessage(Long memberId, ChatRequest chatChatRequestDto, Long roomId) {
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다.")
         );
 
-        // 벡터 검색 (판례, 법령)
-        List<Document> similarCaseDocuments = qdrantService.searchDocument(chatChatRequestDto.getMessage(), "type", "판례");
-        List<Document> similarLawDocuments = qdrantService.searchDocument(chatChatRequestDto.getMessage(), "type", "법령");
+        // 채팅방 조회 or 생성 -> 없으면 생성
+        History history = getOrCreateRoom(member, roomId);
+
+        // 검색 경로 결정 후 필요한 벡터 검색만 수행 (법률 무관 질문은 생략, 후속 질문은 이전 결과 재사용)
+        RetrievalRoute route = retrievalRouter.route(chatChatRequestDto.getMessage(), roomId != null);
+        RetrievedDocuments retrieved = retrieveDocuments(route, chatChatRequestDto.getMessage(), history);
+        List<Document> similarCaseDocuments = retrieved.cases();
+        List<Document> similarLawDocuments = retrieved.laws();
 
         // 판례와 법령 정보를 구분 있게 포맷팅
         String caseContext = formatting(similarCaseDocuments);
         String lawContext = formatting(similarLawDocuments);
 
-        // 채팅방 조회 or 생성 -> 없으면 생성
-        History history = getOrCreateRoom(member, roomId);
-
         // 메시지 기억 관리 (최대 10개)
         // 멀티턴 -> 10개까지 기억 이거 안하면 매번 처음부터 대화 (멍충한 AI)
         ChatMemory chatMemory = saveChatMemory(chatChatRequestDto, history);
@@ -91,6 +102,74 @@ public class ChatBotService {
                 .onErrorResume(throwable -> Flux.just(handleError(history)));  // 에러 발생 시 에러 핸들링 -> 재전송 유도
     }
 
+    // 검색 경로에 따라 판례/법령 검색 또는 이전 턴 결과 재사용
+    private RetrievedDocuments retrieveDocuments(RetrievalRoute route, String message, History history) {
+        if (route == RetrievalRoute.REUSE_PREVIOUS) {
+            RetrievedDocuments previous = loadPreviousDocuments(history);
+            if (!previous.cases().isEmpty() || !previous.laws().isEmpty()) {
+                return previous;
+            }
+            // 재사용할 결과가 없으면 전체 검색
+            route = RetrievalRoute.BOTH;
+        }
+
+        List<Document> cases = route.isSearchCases()
+                ? qdrantService.searchDocument(message, "type", "판례")
+                : Collections.emptyList();
+        List<Document> laws = route.isSearchLaws()
+                ? qdrantService.searchDocument(message, "type", "법령")
+                : Collections.emptyList();
+        return new RetrievedDocuments(cases, withCitedArticles(message, laws));
+    }
+
+    // 메시지에 "민법 제750조"처럼 조문을 직접 인용하면 해당 조문을 색인으로 찾아 법령 참고 자료 앞에 추가
+    private List<Document> withCitedArticles(String message, List<Document> laws) {
+        List<LawArticleDto> cited;
+        try {
+            cited = lawArticleService.findCitedArticles(message, MAX_CITED_ARTICLES);
+        } catch (RuntimeException e) {
+            log.warn("인용 조문 조회 실패: {}", e.getMessage());
+            return laws;
+        }
+        if (cited.isEmpty()) {
+            return laws;
+        }
+        List<Document> merged = new ArrayList<>(cited.size() + laws.size());
+        for (LawArticleDto article : cited) {
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("type", "법령");
+            metadata.put("lawName", article.getLawName());
+            metadata.put("article", article.getArticle());
+            merged.add(Document.builder().text(article.getContent()).metadata(metadata).build());
+        }
+        merged.addAll(laws);
+        return merged;
+    }
+
+    // 이전 사용자 메시지에 저장된 판례/법령을 Document로 복원
+    private RetrievedDocuments loadPreviousDocuments(History history) {
+        return chatRepository.findFirstByHistoryIdAndTypeOrderByChatIdDesc(history, MessageType.USER)
+                .map(chat -> new RetrievedDocuments(
+                        chatPrecedentRepository.findByChatId(chat).stream()
+                                .map(cp -> {
+                                    Map<String, Object> metadata = new HashMap<>();
+                                    metadata.put("type", "판례");
+                                    metadata.put("caseNumber", cp.getCaseNumber());
+                                    metadata.put("caseName", cp.getCaseName());
+                                    return Document.builder().text(cp.getPrecedentContent()).metadata(metadata).build();
+                                })
+                                .toList(),
+                        chatLawRepository.findByChatId(chat).stream()
+                                .map(cl -> {
+                                    Map<String, Object> metadata = new HashMap<>();
+                                    metadata.put("type", "법령");
+                                    metadata.put("lawName", cl.getLawName());
+                                    return Document.builder().text(cl.getContent()).metadata(metadata).build();
+                                })
+                                .toList()))
+                .orElse(new RetrievedDocuments(Collections.emptyList(), Collections.emptyList()));
+    }
+
     // 키워드 추출 메서드
     public <T> T keywordExtract(String content, String promptTemplate, Class<T> classType) {
         String prompt = promptTemplate + content;
@@ -231,4 +310,7 @@ public class ChatBotService {
         return context;
     }
 
+    private record RetrievedDocuments(List<Document> cases, List<Document> laws) {
+    }
+
 }
\ No newline at end of file
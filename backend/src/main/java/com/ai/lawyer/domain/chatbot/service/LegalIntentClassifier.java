@@ -0,0 +1,100 @@
+package com.ai.lawyer.domain.chatbot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사전 매칭으로 판단이 어려운 메시지를 위한 보조 분류기 (선택 사항)
+ * <p>
+ * 로컬 임베딩 모델로 법률/비법률 예시 문장의 중심 벡터를 만들어 두고,
+ * 메시지 임베딩이 어느 쪽에 더 가까운지로 법률 질문 여부를 판단한다.
+ */
+@Slf4j
+@Component
+public class LegalIntentClassifier {
+
+    private static final List<String> LEGAL_EXAMPLES = List.of(
+            "집주인이 보증금을 돌려주지 않아요",
+            "회사에서 부당하게 해고당했습니다",
+            "인터넷 중고거래에서 돈만 받고 물건을 안 보내요",
+            "교통사고 합의금은 어떻게 정해지나요",
+            "이혼할 때 재산분할 비율이 궁금합니다");
+
+    private static final List<String> NON_LEGAL_EXAMPLES = List.of(
+            "오늘 저녁 메뉴 추천해줘",
+            "내일 서울 날씨 어때",
+            "재미있는 영화 알려줘",
+            "파이썬 코드 짜는 법 알려줘",
+            "안녕 반가워");
+
+    private final EmbeddingModel embeddingModel;
+    private final boolean enabled;
+
+    private volatile float[] legalCentroid;
+    private volatile float[] nonLegalCentroid;
+
+    public LegalIntentClassifier(EmbeddingModel embeddingModel,
+                                 @Value("${custom.ai.router.model.enabled:false}") boolean enabled) {
+        this.embeddingModel = embeddingModel;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 메시지가 법률 질문인지 판단
+     *
+     * @param message 사용자 메시지
+     * @return 법률 질문 여부 (비활성화 또는 오류 시 빈 값)
+     */
+    public Optional<Boolean> isLegal(String message) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            initCentroids();
+            float[] embedding = embeddingModel.embed(message);
+            return Optional.of(cosine(embedding, legalCentroid) >= cosine(embedding, nonLegalCentroid));
+        } catch (Exception e) {
+            log.warn("법률 질문 분류 실패. 사전 기반 판단을 사용합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void initCentroids() {
+        if (legalCentroid != null) {
+            return;
+        }
+        synchronized (this) {
+            if (legalCentroid == null) {
+                nonLegalCentroid = centroid(embeddingModel.embed(NON_LEGAL_EXAMPLES));
+                legalCentroid = centroid(embeddingModel.embed(LEGAL_EXAMPLES));
+            }
+        }
+    }
+
+    private static float[] centroid(List<float[]> vectors) {
+        float[] centroid = new float[vectors.get(0).length];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < centroid.length; i++) {
+                centroid[i] += vector[i] / vectors.size();
+            }
+        }
+        return centroid;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+}
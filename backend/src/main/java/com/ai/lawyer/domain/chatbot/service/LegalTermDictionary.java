@@ -0,0 +1,134 @@
+package com.ai.lawyer.domain.chatbot.service;
+
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.lawWord.repository.LawWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 질문 라우팅용 법률 용어 사전
+ * <p>
+ * 기본 용어 목록에 DB의 법령명, 법령 용어를 더해 구성하며,
+ * 용어 앞 두 글자로 색인해 메시지 길이에 비례하는 시간으로 매칭한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegalTermDictionary {
+
+    public enum TermCategory {
+        CASE,       // 판례/재판 관련 용어
+        LAW,        // 법령/조문 관련 용어, 법령명
+        GENERAL,    // 일반 법률 용어
+        NON_LEGAL   // 법률과 무관한 잡담 용어
+    }
+
+    private static final List<String> CASE_TERMS = List.of(
+            "판례", "판결", "대법원", "고등법원", "지방법원", "소송", "재판", "항소", "상고", "선고",
+            "유죄", "무죄", "형량", "사례", "고소", "고발", "합의금", "집행유예", "벌금형", "승소", "패소");
+
+    private static final List<String> LAW_TERMS = List.of(
+            "법률", "법령", "조문", "시행령", "시행규칙", "규정", "조항", "법조항", "처벌규정", "요건", "법적");
+
+    private static final List<String> GENERAL_TERMS = List.of(
+            "계약", "이혼", "양육권", "양육비", "위자료", "재산분할", "상속", "유언", "사기", "폭행", "상해",
+            "명예훼손", "모욕", "임대차", "전세", "보증금", "월세", "해고", "임금", "퇴직금", "손해배상", "배상",
+            "채무", "채권", "변제", "압류", "가압류", "변호사", "경찰", "검찰", "형사", "민사", "산재", "음주운전",
+            "교통사고", "저작권", "개인정보", "성희롱", "스토킹", "층간소음", "부동산", "등기", "담보", "보험금",
+            "파산", "회생", "횡령", "배임", "절도", "협박", "위반", "처벌", "고용", "근로", "소유권", "피해");
+
+    private static final List<String> NON_LEGAL_TERMS = List.of(
+            "날씨", "레시피", "요리", "맛집", "노래", "영화", "게임", "다이어트", "여행", "운세",
+            "안녕", "반가워", "고마워", "심심", "ㅎㅎ", "ㅋㅋ");
+
+    private final LawRepository lawRepository;
+    private final LawWordRepository lawWordRepository;
+
+    // 용어 앞 두 글자 -> (용어, 분류) 목록
+    private volatile Map<String, List<Term>> index = buildIndex(defaultTerms());
+
+    /**
+     * 애플리케이션 기동 후 DB 용어를 포함해 사전 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        try {
+            Map<String, TermCategory> terms = defaultTerms();
+            lawRepository.findAllLawNames().forEach(name -> putIfAbsent(terms, name.replace(" ", ""), TermCategory.LAW));
+            lawWordRepository.findAllWords().forEach(word -> putIfAbsent(terms, word.trim(), TermCategory.GENERAL));
+
+            this.index = buildIndex(terms);
+            log.info("법률 용어 사전 구성 완료. 용어 수: {}", terms.size());
+        } catch (Exception e) {
+            log.warn("법률 용어 사전 구성 실패. 기본 용어만 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 메시지에 포함된 분류별 용어 개수 집계
+     *
+     * @param message 사용자 메시지
+     * @return 분류별 매칭 개수
+     */
+    public Map<TermCategory, Integer> match(String message) {
+        Map<TermCategory, Integer> counts = new EnumMap<>(TermCategory.class);
+        for (TermCategory category : TermCategory.values()) {
+            counts.put(category, 0);
+        }
+        if (message == null || message.length() < 2) {
+            return counts;
+        }
+
+        String text = message.replace(" ", "");
+        Map<String, List<Term>> current = this.index;
+        Set<String> matched = new HashSet<>();
+
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            List<Term> candidates = current.get(text.substring(i, i + 2));
+            if (candidates == null) {
+                continue;
+            }
+            for (Term term : candidates) {
+                if (text.startsWith(term.value(), i) && matched.add(term.value())) {
+                    counts.merge(term.category(), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static Map<String, TermCategory> defaultTerms() {
+        Map<String, TermCategory> terms = new HashMap<>();
+        CASE_TERMS.forEach(term -> terms.put(term, TermCategory.CASE));
+        LAW_TERMS.forEach(term -> terms.put(term, TermCategory.LAW));
+        GENERAL_TERMS.forEach(term -> terms.put(term, TermCategory.GENERAL));
+        NON_LEGAL_TERMS.forEach(term -> terms.put(term, TermCategory.NON_LEGAL));
+        return terms;
+    }
+
+    private static void putIfAbsent(Map<String, TermCategory> terms, String term, TermCategory category) {
+        if (term.length() >= 2) {
+            terms.putIfAbsent(term, category);
+        }
+    }
+
+    private static Map<String, List<Term>> buildIndex(Map<String, TermCategory> terms) {
+        Map<String, List<Term>> index = new HashMap<>();
+        terms.forEach((value, category) -> {
+            if (value.length() >= 2) {
+                index.computeIfAbsent(value.substring(0, 2), key -> new ArrayList<>()).add(new Term(value, category));
+            }
+        });
+        return index;
+    }
+
+    private record Term(String value, TermCategory category) {
+    }
+}
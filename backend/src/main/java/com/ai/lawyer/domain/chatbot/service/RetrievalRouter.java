@@ -0,0 +1,130 @@
+package com.ai.lawyer.domain.chatbot.service;
+
+import com.ai.lawyer.domain.chatbot.dto.RetrievalRoute;
+import com.ai.lawyer.domain.chatbot.service.LegalTermDictionary.TermCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 벡터 검색 전에 메시지별 검색 경로(판례/법령/둘 다/생략/이전 결과 재사용)를 결정하는 라우터
+ * <p>
+ * 법률 용어 사전과 사건번호/조문 패턴으로 판단하고, 애매한 경우에만 선택적으로 보조 분류기를 사용한다.
+ */
+@Slf4j
+@Component
+public class RetrievalRouter {
+
+    // 사건번호 (예: 2020다12345, 2019도 1234, 2015헌마123). 사건부호만 허용해 날짜/금액/기간("2023년 5월", "5000만원 2년")은 제외
+    private static final Pattern CASE_NUMBER_PATTERN = Pattern.compile(
+            "(?<!\\d)\\d{2,4}\\s?(가합|가단|가소|고합|고단|고정|구합|구단|헌[가나다라마바사]|다|나|도|노|누|두|므|르|드|스|즈|카|마|그|허|후|재)\\s?\\d{1,7}(?!\\d)");
+    // 조문 인용 (예: 제750조, 제 3 조의2)
+    private static final Pattern ARTICLE_PATTERN = Pattern.compile("제\\s?\\d+\\s?조");
+    // 이전 대화를 이어가는 표현
+    private static final List<String> FOLLOW_UP_CUES = List.of(
+            "그럼", "그러면", "그렇다면", "그 경우", "그런 경우", "그건", "그거", "위 판례", "위 법", "방금", "앞서",
+            "이어서", "더 자세히", "자세히", "추가로", "다시 설명", "예를 들어", "왜요", "그래서");
+
+    private final LegalTermDictionary legalTermDictionary;
+    private final LegalIntentClassifier legalIntentClassifier;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int minLegalLength;
+    private final int followUpMaxLength;
+
+    public RetrievalRouter(LegalTermDictionary legalTermDictionary,
+                           LegalIntentClassifier legalIntentClassifier,
+                           MeterRegistry meterRegistry,
+                           @Value("${custom.ai.router.enabled:true}") boolean enabled,
+                           @Value("${custom.ai.router.min-legal-length:10}") int minLegalLength,
+                           @Value("${custom.ai.router.follow-up-max-length:40}") int followUpMaxLength) {
+        this.legalTermDictionary = legalTermDictionary;
+        this.legalIntentClassifier = legalIntentClassifier;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minLegalLength = minLegalLength;
+        this.followUpMaxLength = followUpMaxLength;
+    }
+
+    /**
+     * 메시지의 검색 경로 결정
+     *
+     * @param message 사용자 메시지
+     * @param hasPreviousTurn 이전 대화(검색 결과)가 있는 채팅방인지 여부
+     * @return 검색 경로
+     */
+    public RetrievalRoute route(String message, boolean hasPreviousTurn) {
+        RetrievalRoute route = enabled ? decide(message, hasPreviousTurn) : RetrievalRoute.BOTH;
+        Counter.builder("chat.retrieval.route")
+                .tag("route", route.name())
+                .register(meterRegistry)
+                .increment();
+        log.debug("검색 경로 결정: {} (메시지 길이: {})", route, message == null ? 0 : message.length());
+        return route;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private RetrievalRoute decide(String message, boolean hasPreviousTurn) {
+        if (message == null || message.isBlank()) {
+            return RetrievalRoute.NONE;
+        }
+        String text = message.strip();
+
+        boolean hasCaseNumber = CASE_NUMBER_PATTERN.matcher(text).find();
+        boolean hasArticle = ARTICLE_PATTERN.matcher(text).find();
+        Map<TermCategory, Integer> counts = legalTermDictionary.match(text);
+
+        int caseTerms = counts.get(TermCategory.CASE);
+        int lawTerms = counts.get(TermCategory.LAW);
+        int generalTerms = counts.get(TermCategory.GENERAL);
+        int nonLegalTerms = counts.get(TermCategory.NON_LEGAL);
+
+        // 1. 후속 질문 -> 새로운 사건번호/조문/법령 지정이 없으면 이전 턴 검색 결과 재사용
+        if (hasPreviousTurn && isFollowUp(text) && !hasCaseNumber && !hasArticle && lawTerms == 0) {
+            return RetrievalRoute.REUSE_PREVIOUS;
+        }
+
+        int legalSignals = caseTerms + lawTerms + generalTerms + (hasCaseNumber ? 1 : 0) + (hasArticle ? 1 : 0);
+
+        // 2. 법률 신호가 없는 메시지
+        if (legalSignals == 0) {
+            if (nonLegalTerms > 0) {
+                return RetrievalRoute.NONE;
+            }
+            Optional<Boolean> legal = legalIntentClassifier.isLegal(text);
+            if (legal.isPresent()) {
+                return legal.get() ? RetrievalRoute.BOTH : RetrievalRoute.NONE;
+            }
+            // 짧은 잡담은 생략, 그 외에는 신종 분쟁일 수 있으므로 기존처럼 모두 검색
+            return text.length() < minLegalLength ? RetrievalRoute.NONE : RetrievalRoute.BOTH;
+        }
+
+        // 3. 판례/법령 중 한쪽만 가리키는 메시지
+        boolean caseSignal = hasCaseNumber || caseTerms > 0;
+        boolean lawSignal = hasArticle || lawTerms > 0;
+
+        if (caseSignal && !lawSignal && (hasCaseNumber || generalTerms == 0)) {
+            return RetrievalRoute.CASES;
+        }
+        if (lawSignal && !caseSignal && (hasArticle || generalTerms == 0)) {
+            return RetrievalRoute.LAWS;
+        }
+        return RetrievalRoute.BOTH;
+    }
+
+    private boolean isFollowUp(String text) {
+        if (text.length() > followUpMaxLength) {
+            return false;
+        }
+        return FOLLOW_UP_CUES.stream().anyMatch(text::contains);
+    }
+}
@@ -1,17 +1,26 @@
 package com.ai.lawyer.domain.law.controller;
 
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
+import com.ai.lawyer.domain.law.dto.LawDocument;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
-import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.service.LawArticleService;
+import com.ai.lawyer.domain.law.service.LawDocumentCache;
 import com.ai.lawyer.domain.law.service.LawService;
 import com.ai.lawyer.global.dto.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Locale;
+
 @RestController
 @RequiredArgsConstructor
 @Tag(name = "법령", description = "법령 API")
@@ -19,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 public class LawController {
 
     private final LawService lawService;
+    private final LawDocumentCache lawDocumentCache;
+    private final LawArticleService lawArticleService;
 
 
     @GetMapping(value = "/list/save")
@@ -51,12 +62,105 @@ public class LawController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/names")
+    @Operation(summary = "법령명 자동완성 기능", description = "입력 중인 검색어로 시작하거나 포함하는 법령명을 가져옵니다 \n" +
+            "예시: /api/law/names?query=근로&size=10")
+    public ResponseEntity<List<String>> suggestLawNames(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(lawService.suggestLawNames(query, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "볍령 상세 조회 기능", description = "법령 상세 데이터를 조회합니다 \n" +
             "예시: /api/law/1")
-    public ResponseEntity<Law> getFullLaw(@PathVariable Long id) {
-        Law law = lawService.getLawWithAllChildren(id);
+    public ResponseEntity<byte[]> getFullLaw(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LawDocument document = lawDocumentCache.get(id);
+
+        if (ifNoneMatch != null && (ifNoneMatch.contains(document.etag()) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(document.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.gzip());
+        }
+        return response.body(document.json());
+    }
+
+    @GetMapping("/{id}/articles/{article}")
+    @Operation(summary = "조문 조회 기능", description = "법령 전체가 아닌 조문 하나를 조회합니다 \n" +
+            "예시: /api/law/1/articles/750, /api/law/1/articles/10-2")
+    public ResponseEntity<LawArticleDto> getArticle(@PathVariable Long id, @PathVariable String article) {
+        return ResponseEntity.ok(lawArticleService.getArticle(id, article));
+    }
+
+    @GetMapping("/{id}/articles")
+    @Operation(summary = "조문 범위 조회 기능", description = "from ~ to 조문을 조회합니다 (최대 50개) \n" +
+            "예시: /api/law/1/articles?from=750&to=766")
+    public ResponseEntity<List<LawArticleDto>> getArticles(
+            @PathVariable Long id,
+            @RequestParam String from,
+            @RequestParam String to
+    ) {
+        return ResponseEntity.ok(lawArticleService.getArticles(id, from, to));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 확인
+     * <p>
+     * gzip(x-gzip)이 있으면 그 q값, 없으면 *의 q값을 따르며 q=0은 거부로 본다. 헤더가 없거나 둘 다 없으면 원본을 내려준다.
+     *
+     * @param acceptEncoding Accept-Encoding 헤더
+     * @return gzip 본문을 내려줘도 되면 true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] params = element.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    quality = parseQuality(param.substring(2).trim());
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        double quality = gzip != null ? gzip : any != null ? any : 0;
+        return quality > 0;
+    }
 
-        return ResponseEntity.ok(law);
+    /**
+     * q값 파싱 (형식이 잘못되면 허용하지 않은 것으로 봄)
+     */
+    private static double parseQuality(String value) {
+        try {
+            double quality = Double.parseDouble(value);
+            return quality >= 0 && quality <= 1 ? quality : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.ai.lawyer.domain.law.dto;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 조문 번호 (제750조 -> 750, 제10조의2 -> 10 / 가지번호 2)
+ *
+ * @param number 조 번호
+ * @param branch 가지 번호 (없으면 0)
+ */
+public record ArticleNumber(int number, int branch) implements Comparable<ArticleNumber> {
+
+    private static final Pattern INPUT = Pattern.compile("^\\s*(?:제\\s*)?(\\d+)\\s*(?:조)?\\s*(?:(?:의|-)\\s*(\\d+))?\\s*$");
+    private static final Pattern CONTENT = Pattern.compile("^\\s*제\\s*(\\d+)\\s*조(?:\\s*의\\s*(\\d+))?");
+
+    /**
+     * Open API 조문키(조번호 4자리 + 가지번호 2자리 + 조문여부 1자리)에서 추출
+     */
+    public static Optional<ArticleNumber> fromArticleKey(String key) {
+        if (key == null || key.length() < 7 || !key.chars().allMatch(Character::isDigit)) {
+            return Optional.empty();
+        }
+        int number = Integer.parseInt(key.substring(0, key.length() - 3));
+        int branch = Integer.parseInt(key.substring(key.length() - 3, key.length() - 1));
+        return number > 0 ? Optional.of(new ArticleNumber(number, branch)) : Optional.empty();
+    }
+
+    /**
+     * 요청 값에서 추출 ("750", "750-2", "제750조", "제10조의2")
+     */
+    public static Optional<ArticleNumber> parse(String text) {
+        return text != null ? match(INPUT.matcher(text)) : Optional.empty();
+    }
+
+    /**
+     * 조 본문 머리("제750조(불법행위의 내용) ...")에서 추출 (조문키 없이 저장된 법령의 색인 보충용)
+     */
+    public static Optional<ArticleNumber> fromContent(String content) {
+        return content != null ? match(CONTENT.matcher(content)) : Optional.empty();
+    }
+
+    public String label() {
+        return "제" + number + "조" + (branch > 0 ? "의" + branch : "");
+    }
+
+    @Override
+    public int compareTo(ArticleNumber other) {
+        return number != other.number ? Integer.compare(number, other.number) : Integer.compare(branch, other.branch);
+    }
+
+    private static Optional<ArticleNumber> match(Matcher matcher) {
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        int number = Integer.parseInt(matcher.group(1));
+        int branch = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+        return number > 0 ? Optional.of(new ArticleNumber(number, branch)) : Optional.empty();
+    }
+}
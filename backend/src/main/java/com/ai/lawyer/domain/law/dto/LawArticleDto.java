@@ -0,0 +1,24 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LawArticleDto {
+    private Long lawId;
+
+    private String lawName; // 법령명
+
+    private String article; // 조문 표기 (제750조, 제10조의2)
+
+    private int articleNumber; // 조 번호
+
+    private int articleBranch; // 가지 번호
+
+    private String content; // 조/항/호 본문
+}
@@ -0,0 +1,18 @@
+package com.ai.lawyer.domain.law.dto;
+
+/**
+ * 직렬화가 끝난 법령 상세 응답 (GET /api/law/{id} 본문 그대로)
+ *
+ * @param json JSON 본문 (UTF-8)
+ * @param gzip gzip 압축한 본문
+ * @param etag 본문 해시로 만든 강한 ETag (따옴표 포함)
+ */
+public record LawDocument(byte[] json, byte[] gzip, String etag) {
+
+    /**
+     * 로컬 캐시 용량 계산에 쓰는 크기
+     */
+    public long weight() {
+        return (long) json.length + gzip.length;
+    }
+}
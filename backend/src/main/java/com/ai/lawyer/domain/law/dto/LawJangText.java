@@ -0,0 +1,11 @@
+package com.ai.lawyer.domain.law.dto;
+
+/**
+ * 장(Jang) 하나의 본문 (장 -> 조 -> 항 -> 호 순서로 각 본문 뒤에 줄바꿈을 붙여 이어 붙인 텍스트)
+ *
+ * @param lawId 법령 id
+ * @param jangId 장 id
+ * @param content 장 전체 본문 (본문이 하나도 없으면 빈 문자열)
+ */
+public record LawJangText(Long lawId, Long jangId, String content) {
+}
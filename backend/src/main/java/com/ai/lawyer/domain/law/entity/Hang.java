@@ -14,7 +14,9 @@ import java.util.List;
 @Table(name = "hang")
 public class Hang {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hang_id")
+    @TableGenerator(name = "hang_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "hang", allocationSize = LawIdBlock.ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
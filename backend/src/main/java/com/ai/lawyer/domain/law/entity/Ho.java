@@ -10,7 +10,9 @@ import lombok.Data;
 @Table(name = "ho")
 public class Ho {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ho_id")
+    @TableGenerator(name = "ho_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "ho", allocationSize = LawIdBlock.ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
@@ -14,13 +14,19 @@ import java.util.List;
 @Table(name = "jang")
 public class Jang {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "jang_id")
+    @TableGenerator(name = "jang_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "jang", allocationSize = LawIdBlock.ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
     @Column(nullable = true, columnDefinition = "TEXT")
     String content;
 
+    @Column(nullable = false)
+    @JsonIgnore
+    private int ordinal; // 법령 안에서의 장 순번 (0부터)
+
     @ManyToOne
     @JoinColumn(name = "law_id")
     @JsonBackReference
@@ -14,13 +14,19 @@ import java.util.List;
 @Table(name = "jo")
 public class Jo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "jo_id")
+    @TableGenerator(name = "jo_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "jo", allocationSize = LawIdBlock.ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
     @Column(nullable = true, columnDefinition = "TEXT")
     String content;
 
+    @Column(nullable = false)
+    @JsonIgnore
+    private int ordinal; // 법령 안에서의 조 순번 (0부터, 조문 색인의 ordinal과 같음)
+
     @ManyToOne
     @JoinColumn(name = "jang_id")
     @JsonBackReference
@@ -7,20 +7,30 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Data
-@Table(name = "law")
+@Table(name = "law", indexes = {
+        @Index(name = "idx_law_api_id", columnList = "law_api_id"),
+        @Index(name = "idx_law_content_updated_at", columnList = "content_updated_at")
+})
 public class Law {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "law_id")
+    @TableGenerator(name = "law_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "law", allocationSize = LawIdBlock.ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
     private String lawName; // 법령명
 
+    @Column(name = "law_api_id")
+    @JsonIgnore
+    private String lawApiId; // 법령ID (Open API, 개정되어도 유지)
+
     private String lawField; // 법령분야
 
     private String ministry; // 소관부처
@@ -31,6 +41,14 @@ public class Law {
 
     private LocalDate enforcementDate; // 시행일자
 
+    @Column(name = "articles_indexed", nullable = false)
+    @JsonIgnore
+    private boolean articlesIndexed; // 조문 색인 생성 여부 (색인할 조문이 없어도 true)
+
+    @Column(name = "content_updated_at")
+    @JsonIgnore
+    private LocalDateTime contentUpdatedAt; // 개정본으로 기본정보/장/조가 마지막으로 바뀐 시각 (법령 스냅샷 최신 여부 판단)
+
     @OneToMany(mappedBy = "law")
     @JsonManagedReference
     private List<Jang> jangList = new ArrayList<>();
@@ -0,0 +1,46 @@
+package com.ai.lawyer.domain.law.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * (법령 id, 조 번호, 가지 번호) -> 조(Jo) 색인
+ * <p>
+ * 법령 전체를 읽지 않고 조문 하나/범위를 바로 찾기 위한 색인이며, 법령 적재 시 조문키로 만든다.
+ * 법령 안에서 조문 번호는 유일하다 (같은 번호가 다시 나오면 처음 나온 조만 색인).
+ * ordinal은 법령 안에서의 조 순번으로, 법령 스냅샷에서 DB 조회 없이 본문을 읽을 때 쓴다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "law_article", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_law_article_number", columnNames = {"law_id", "article_number", "article_branch"})
+})
+public class LawArticle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "law_article_id")
+    @TableGenerator(name = "law_article_id", table = LawIdBlock.TABLE, pkColumnName = LawIdBlock.NAME_COLUMN,
+            valueColumnName = LawIdBlock.NEXT_ID_COLUMN, pkColumnValue = "law_article", allocationSize = LawIdBlock.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "law_id", nullable = false)
+    private Long lawId;
+
+    @Column(name = "article_number", nullable = false)
+    private int articleNumber; // 조 번호
+
+    @Column(name = "article_branch", nullable = false)
+    private int articleBranch; // 가지 번호 (없으면 0)
+
+    @Column(nullable = false)
+    private int ordinal; // 법령 안에서의 조 순번 (0부터)
+
+    @Column(name = "jo_id", nullable = false)
+    private Long joId;
+}
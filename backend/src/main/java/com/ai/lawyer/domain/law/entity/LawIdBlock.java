@@ -0,0 +1,33 @@
+package com.ai.lawyer.domain.law.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 법령 일괄 적재용 테이블별 다음 id
+ * <p>
+ * 적재 한 번에 필요한 id를 구간으로 예약해 id를 미리 정한 다중 행 INSERT를 할 수 있게 한다.
+ * 법령 엔티티(법령, 장, 조, 항, 호, 조문 색인)의 JPA 저장도 같은 행에서 id 구간을 받으므로(pooled-lo 테이블 생성기),
+ * 일괄 적재가 예약한 구간과 엔티티 저장 id가 겹치지 않는다. next_id는 두 경로 모두 "다음 구간의 첫 id"로 해석한다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = LawIdBlock.TABLE)
+public class LawIdBlock {
+
+    public static final String TABLE = "law_id_block";
+    public static final String NAME_COLUMN = "table_name";
+    public static final String NEXT_ID_COLUMN = "next_id";
+    public static final int ALLOCATION_SIZE = 50; // 엔티티 저장 시 한 번에 받는 id 수
+
+    @Id
+    @Column(name = NAME_COLUMN, length = 64)
+    private String tableName;
+
+    @Column(name = NEXT_ID_COLUMN, nullable = false)
+    private Long nextId; // 다음 예약의 첫 id
+}
@@ -0,0 +1,39 @@
+package com.ai.lawyer.domain.law.event;
+
+import java.util.Set;
+
+/**
+ * 이미 저장된 법령을 개정본으로 갱신했을 때 발행 (법령 문서 캐시 무효화, 변경된 장의 재벡터화 등)
+ * <p>
+ * 장/조 id는 갱신 후 기준이며, 짝지은 장/조는 위치가 바뀌어도 id를 유지한다 (순서는 순번 컬럼으로 반영).
+ *
+ * @param lawId 갱신된 법령 id (갱신 전과 같음)
+ * @param lawName 법령명
+ * @param lawInfoChanged 기본정보(법령명, 공포번호, 시행일자 등) 변경 여부
+ * @param changedJangIds 본문이 바뀌었거나 조가 추가/변경/삭제/이동된 장 id
+ * @param removedJangIds 삭제된 장 id
+ * @param changedJoIds 추가되었거나 본문(항/호 포함)이 바뀐 조 id
+ * @param removedJoIds 삭제된 조 id
+ */
+public record LawChangedEvent(
+        Long lawId,
+        String lawName,
+        boolean lawInfoChanged,
+        Set<Long> changedJangIds,
+        Set<Long> removedJangIds,
+        Set<Long> changedJoIds,
+        Set<Long> removedJoIds
+) {
+
+    /**
+     * 같은 공포본이라 바뀐 것이 없을 때
+     */
+    public static LawChangedEvent unchanged(Long lawId, String lawName) {
+        return new LawChangedEvent(lawId, lawName, false, Set.of(), Set.of(), Set.of(), Set.of());
+    }
+
+    public boolean isEmpty() {
+        return !lawInfoChanged && changedJangIds.isEmpty() && removedJangIds.isEmpty()
+                && changedJoIds.isEmpty() && removedJoIds.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ai.lawyer.domain.law.event;
+
+/**
+ * 법령을 Open API에서 가져와 저장했을 때 발행 (법령 문서 캐시 무효화 등)
+ *
+ * @param lawId 저장된 법령 id
+ * @param lawName 법령명
+ */
+public record LawImportedEvent(Long lawId, String lawName) {
+}
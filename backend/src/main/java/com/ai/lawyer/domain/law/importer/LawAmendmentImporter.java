@@ -0,0 +1,552 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static com.ai.lawyer.domain.law.importer.LawBulkImporter.HANG;
+import static com.ai.lawyer.domain.law.importer.LawBulkImporter.HO;
+import static com.ai.lawyer.domain.law.importer.LawBulkImporter.JANG;
+import static com.ai.lawyer.domain.law.importer.LawBulkImporter.JO;
+import static com.ai.lawyer.domain.law.importer.LawBulkImporter.LAW_ARTICLE;
+
+/**
+ * 이미 저장된 법령을 개정본으로 갱신 (바뀐 장/조만 INSERT/UPDATE/DELETE)
+ * <p>
+ * 기존 법령은 법령ID로 찾고, 법령ID 없이 저장된 법령은 법령명으로 찾는다 (처음 갱신할 때 법령ID를 채움).
+ * 법령ID가 같고 공포번호/시행일자도 같으면 같은 공포본이므로 비교하지 않고 건너뛴다.
+ * <p>
+ * 장은 본문이 같은 것끼리 순서대로(LCS) 짝짓고, 짝 사이에 남은 장은 위치로 짝지어 본문만 고친다.
+ * 조는 조문 번호(없으면 조/항/호 본문 해시)로 짝짓고, 해시가 다를 때만 조 본문을 고치고 항/호를 다시 저장한다.
+ * 장/조의 문서 순서는 순번 컬럼이 정하므로 짝지은 장/조는 위치와 관계없이 모두 id를 유지하고, 위치가 바뀐 것만 순번을 고친다
+ * (항/호는 조 단위로 통째로 다시 만들어 id 순서가 곧 문서 순서). 삭제는 INSERT/UPDATE 뒤에 하위 계층부터 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawAmendmentImporter {
+
+    private final LawRepository lawRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LawIdAllocator idAllocator;
+    private final LawBulkImporter bulkImporter;
+
+    /**
+     * 같은 법령이 저장되어 있으면 개정본 내용으로 갱신 (호출하는 쪽 트랜잭션에서 실행)
+     *
+     * @param parsed 파싱한 법령
+     * @return 변경 내역 (같은 법령이 없으면 empty -> 새로 저장해야 함)
+     */
+    public Optional<LawChangedEvent> amend(ParsedLaw parsed) {
+        Law incoming = parsed.law();
+        Optional<Law> existing = findExisting(incoming);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        Law law = existing.get();
+
+        if (StringUtils.hasText(law.getLawApiId()) && samePromulgation(law, incoming)) {
+            log.info("같은 공포본, 변경 없음. 법령 ID: {}, 법령명: {}, 공포번호: {}",
+                    law.getId(), law.getLawName(), law.getPromulgationNumber());
+            return Optional.of(LawChangedEvent.unchanged(law.getId(), law.getLawName()));
+        }
+
+        long startTime = System.currentTimeMillis();
+        boolean lawInfoChanged = updateLawInfo(law, incoming);
+        LawChangedEvent event = new Amendment(law, parsed, lawInfoChanged).apply();
+        law.setArticlesIndexed(true); // 조문 색인 도입 전에 적재된 법령도 여기서 색인이 맞춰짐
+        if (!event.isEmpty()) {
+            // 재기동/다른 인스턴스의 법령 스냅샷이 이 법령을 DB에서 읽도록 변경 시각을 남김
+            law.setContentUpdatedAt(LocalDateTime.now());
+        }
+
+        log.info("법령 개정본 갱신 완료. 법령 ID: {}, 법령명: {}, 장 변경/삭제: {}/{}, 조 변경/삭제: {}/{}, 소요 시간: {}ms",
+                law.getId(), law.getLawName(), event.changedJangIds().size(), event.removedJangIds().size(),
+                event.changedJoIds().size(), event.removedJoIds().size(), System.currentTimeMillis() - startTime);
+        return Optional.of(event);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Optional<Law> findExisting(Law incoming) {
+        if (StringUtils.hasText(incoming.getLawApiId())) {
+            Optional<Law> byApiId = lawRepository.findFirstByLawApiIdOrderByIdDesc(incoming.getLawApiId());
+            if (byApiId.isPresent()) {
+                return byApiId;
+            }
+        }
+        if (!StringUtils.hasText(incoming.getLawName())) {
+            return Optional.empty();
+        }
+        return lawRepository.findFirstByLawNameAndLawApiIdIsNullOrderByIdDesc(incoming.getLawName());
+    }
+
+    private static boolean samePromulgation(Law stored, Law incoming) {
+        return stored.getLawApiId().equals(incoming.getLawApiId())
+                && Objects.equals(stored.getPromulgationNumber(), incoming.getPromulgationNumber())
+                && Objects.equals(stored.getEnforcementDate(), incoming.getEnforcementDate());
+    }
+
+    /**
+     * 기본정보를 개정본 값으로 변경 (영속 상태 엔티티이므로 커밋 때 UPDATE)
+     *
+     * @return 바뀐 값이 있으면 true
+     */
+    private static boolean updateLawInfo(Law law, Law incoming) {
+        // 법령ID 없이 온 응답은 기존 법령ID를 유지
+        String lawApiId = StringUtils.hasText(incoming.getLawApiId()) ? incoming.getLawApiId() : law.getLawApiId();
+        boolean changed = !Objects.equals(law.getLawName(), incoming.getLawName())
+                || !Objects.equals(law.getLawApiId(), lawApiId)
+                || !Objects.equals(law.getLawField(), incoming.getLawField())
+                || !Objects.equals(law.getMinistry(), incoming.getMinistry())
+                || !Objects.equals(law.getPromulgationNumber(), incoming.getPromulgationNumber())
+                || !Objects.equals(law.getPromulgationDate(), incoming.getPromulgationDate())
+                || !Objects.equals(law.getEnforcementDate(), incoming.getEnforcementDate());
+        if (changed) {
+            law.setLawName(incoming.getLawName());
+            law.setLawApiId(lawApiId);
+            law.setLawField(incoming.getLawField());
+            law.setMinistry(incoming.getMinistry());
+            law.setPromulgationNumber(incoming.getPromulgationNumber());
+            law.setPromulgationDate(incoming.getPromulgationDate());
+            law.setEnforcementDate(incoming.getEnforcementDate());
+        }
+        return changed;
+    }
+
+    private List<Row> query(String sql, long lawId) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Row(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4)), lawId);
+    }
+
+    private void delete(String table, Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE id = ?",
+                    ids.stream().map(id -> new Object[]{id}).toList());
+        }
+    }
+
+    private static <T> Map<Long, List<T>> groupByParent(List<T> children, Function<T, Long> parentId) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T child : children) {
+            grouped.computeIfAbsent(parentId.apply(child), key -> new ArrayList<>()).add(child);
+        }
+        return grouped;
+    }
+
+    private static void appendContent(StringBuilder text, char level, String content) {
+        text.append('\u0000').append(level).append(content != null ? content : "\u0001");
+    }
+
+    private static String sha256(CharSequence text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 법령 하나의 저장된 계층과 개정본을 비교해 갱신
+     */
+    private final class Amendment {
+
+        private final Law law;
+        private final ParsedLaw parsed;
+        private final boolean lawInfoChanged;
+
+        // 저장된 계층 (문서 순서)
+        private final List<Row> storedJangs;
+        private final List<Row> storedJos;
+        private final Map<Long, List<Row>> storedHangs;     // 조 id -> 항
+        private final Map<Long, List<Row>> storedHos;       // 항 id -> 호
+        private final Map<Long, ArticleNumber> storedNumbers; // 조 id -> 조문 번호
+        private final Map<Long, String> storedHashes = new HashMap<>(); // 조 id -> 조/항/호 본문 해시
+
+        // 개정본 (ParsedLaw 목록의 위치)
+        private final List<List<Integer>> hangsOfJo;
+        private final List<List<Integer>> hosOfHang;
+        private final ArticleNumber[] numbers;
+
+        // 실행할 변경
+        private final Map<String, List<Object[]>> inserts = new HashMap<>();
+        private final List<Object[]> jangUpdates = new ArrayList<>();
+        private final List<Object[]> joUpdates = new ArrayList<>();
+        private final List<Long> hangDeletes = new ArrayList<>();
+        private final List<Long> hoDeletes = new ArrayList<>();
+
+        private final Set<Long> changedJangIds = new TreeSet<>();
+        private final Set<Long> removedJangIds = new TreeSet<>();
+        private final Set<Long> changedJoIds = new TreeSet<>();
+        private final Set<Long> removedJoIds = new TreeSet<>();
+
+        private Amendment(Law law, ParsedLaw parsed, boolean lawInfoChanged) {
+            this.law = law;
+            this.parsed = parsed;
+            this.lawInfoChanged = lawInfoChanged;
+
+            long lawId = law.getId();
+            storedJangs = query("SELECT id, law_id, content, ordinal FROM jang WHERE law_id = ? ORDER BY ordinal, id", lawId);
+            storedJos = query("SELECT jo.id, jo.jang_id, jo.content, jo.ordinal FROM jo JOIN jang ON jo.jang_id = jang.id "
+                    + "WHERE jang.law_id = ? ORDER BY jang.ordinal, jang.id, jo.ordinal, jo.id", lawId);
+            storedHangs = groupByParent(query("SELECT hang.id, hang.jo_id, hang.content, 0 FROM hang "
+                    + "JOIN jo ON hang.jo_id = jo.id JOIN jang ON jo.jang_id = jang.id "
+                    + "WHERE jang.law_id = ? ORDER BY hang.id", lawId), Row::parent);
+            storedHos = groupByParent(query("SELECT ho.id, ho.hang_id, ho.content, 0 FROM ho "
+                    + "JOIN hang ON ho.hang_id = hang.id JOIN jo ON hang.jo_id = jo.id JOIN jang ON jo.jang_id = jang.id "
+                    + "WHERE jang.law_id = ? ORDER BY ho.id", lawId), Row::parent);
+
+            storedNumbers = new HashMap<>();
+            jdbcTemplate.query("SELECT jo_id, article_number, article_branch FROM law_article WHERE law_id = ?",
+                    rs -> {
+                        storedNumbers.put(rs.getLong(1), new ArticleNumber(rs.getInt(2), rs.getInt(3)));
+                    }, lawId);
+
+            hangsOfJo = childrenOf(parsed.hangs(), parsed.jos().size());
+            hosOfHang = childrenOf(parsed.hos(), parsed.hangs().size());
+            numbers = new ArticleNumber[parsed.jos().size()];
+            parsed.articles().forEach(article -> numbers[article.jo()] = article.number());
+        }
+
+        LawChangedEvent apply() {
+            long lawId = law.getId();
+
+            // 1. 짝짓기 (짝지은 장/조는 모두 id를 유지)
+            Row[] keptJangs = matchJangs();
+            Row[] keptJos = matchJos();
+
+            int newJangs = countNull(keptJangs);
+            int newJos = countNull(keptJos);
+            int newHangs = 0;
+            int newHos = 0;
+            String[] hashes = new String[keptJos.length];
+            for (int jo = 0; jo < keptJos.length; jo++) {
+                hashes[jo] = incomingHash(jo);
+                if (keptJos[jo] == null || !hashes[jo].equals(storedHash(keptJos[jo]))) {
+                    newHangs += hangsOfJo.get(jo).size();
+                    for (int hang : hangsOfJo.get(jo)) {
+                        newHos += hosOfHang.get(hang).size();
+                    }
+                }
+            }
+            // 조가 추가/삭제/이동되면 순번이 바뀌므로 조문 색인을 다시 만듦
+            boolean rewriteArticles = newJos > 0 || keptJos.length - newJos != storedJos.size()
+                    || storedNumbers.size() != parsed.articles().size() || reordered(keptJos);
+
+            Map<String, Long> firstIds = idAllocator.allocate(Map.of(
+                    JANG, newJangs,
+                    JO, newJos,
+                    HANG, newHangs,
+                    HO, newHos,
+                    LAW_ARTICLE, rewriteArticles ? parsed.articles().size() : 0));
+            long[] nextIds = {
+                    firstIds.getOrDefault(JANG, 0L),
+                    firstIds.getOrDefault(JO, 0L),
+                    firstIds.getOrDefault(HANG, 0L),
+                    firstIds.getOrDefault(HO, 0L)
+            };
+
+            // 2. 장: 유지하면 본문/순번만 고치고, 아니면 새 id로 INSERT
+            long[] jangIds = new long[keptJangs.length];
+            Set<Long> keptJangIds = new HashSet<>();
+            for (int jang = 0; jang < keptJangs.length; jang++) {
+                String content = parsed.jangs().get(jang).content();
+                Row kept = keptJangs[jang];
+                if (kept == null) {
+                    jangIds[jang] = nextIds[0]++;
+                    insert(JANG, new Object[]{jangIds[jang], lawId, content, jang});
+                    changedJangIds.add(jangIds[jang]);
+                    continue;
+                }
+                jangIds[jang] = kept.id();
+                keptJangIds.add(kept.id());
+                boolean changed = !Objects.equals(kept.content(), content);
+                if (changed || kept.ordinal() != jang) {
+                    jangUpdates.add(new Object[]{content, jang, kept.id()});
+                }
+                if (changed) {
+                    changedJangIds.add(kept.id());
+                }
+            }
+            storedJangs.stream().map(Row::id).filter(id -> !keptJangIds.contains(id)).forEach(removedJangIds::add);
+
+            // 3. 조: 유지하면 장 이동/순번/본문 변경만 반영, 아니면 새 id로 INSERT
+            long[] joIds = new long[keptJos.length];
+            Set<Long> keptJoIds = new HashSet<>();
+            for (int jo = 0; jo < keptJos.length; jo++) {
+                ParsedLaw.Node node = parsed.jos().get(jo);
+                long jangId = jangIds[node.parent()];
+                Row kept = keptJos[jo];
+                if (kept == null) {
+                    joIds[jo] = nextIds[1]++;
+                    insert(JO, new Object[]{joIds[jo], jangId, node.content(), jo});
+                    insertSubtree(jo, joIds[jo], nextIds);
+                    changedJoIds.add(joIds[jo]);
+                    changedJangIds.add(jangId);
+                    continue;
+                }
+
+                joIds[jo] = kept.id();
+                keptJoIds.add(kept.id());
+                boolean moved = kept.parent() != jangId;
+                boolean changed = !hashes[jo].equals(storedHash(kept));
+                if (moved || changed || kept.ordinal() != jo) {
+                    joUpdates.add(new Object[]{jangId, node.content(), jo, kept.id()});
+                }
+                if (moved || changed) {
+                    changedJangIds.add(jangId);
+                }
+                if (moved && keptJangIds.contains(kept.parent())) {
+                    changedJangIds.add(kept.parent());
+                }
+                if (changed) {
+                    deleteSubtree(kept.id());
+                    insertSubtree(jo, kept.id(), nextIds);
+                    changedJoIds.add(kept.id());
+                }
+            }
+            for (Row stored : storedJos) {
+                if (!keptJoIds.contains(stored.id())) {
+                    removedJoIds.add(stored.id());
+                    deleteSubtree(stored.id());
+                    if (keptJangIds.contains(stored.parent())) {
+                        changedJangIds.add(stored.parent());
+                    }
+                }
+            }
+            markReorderedJangs(joIds, jangIds, keptJangIds);
+
+            // 4. 조문 색인
+            if (rewriteArticles) {
+                long articleId = firstIds.getOrDefault(LAW_ARTICLE, 0L);
+                for (ParsedLaw.Article article : parsed.articles()) {
+                    insert(LAW_ARTICLE, LawBulkImporter.articleRow(articleId++, lawId, article.number(), article.jo(), joIds[article.jo()]));
+                }
+                jdbcTemplate.update("DELETE FROM law_article WHERE law_id = ?", lawId);
+            }
+
+            // 5. INSERT -> UPDATE -> DELETE (하위 계층부터)
+            bulkImporter.insertAll(inserts);
+            if (!jangUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE jang SET content = ?, ordinal = ? WHERE id = ?", jangUpdates);
+            }
+            if (!joUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE jo SET jang_id = ?, content = ?, ordinal = ? WHERE id = ?", joUpdates);
+            }
+            delete(HO, hoDeletes);
+            delete(HANG, hangDeletes);
+            delete(JO, removedJoIds);
+            delete(JANG, removedJangIds);
+
+            return new LawChangedEvent(lawId, law.getLawName(), lawInfoChanged,
+                    changedJangIds, removedJangIds, changedJoIds, removedJoIds);
+        }
+
+        /**
+         * 장 본문 LCS로 짝을 찾고, 연속한 두 짝 사이에 남은 장끼리는 위치 순서대로 짝지음
+         *
+         * @return 개정본 장 위치 -> 저장된 장 (없으면 null)
+         */
+        private Row[] matchJangs() {
+            int incomingCount = parsed.jangs().size();
+            int storedCount = storedJangs.size();
+            int[][] lcs = new int[incomingCount + 1][storedCount + 1];
+            for (int i = incomingCount - 1; i >= 0; i--) {
+                for (int s = storedCount - 1; s >= 0; s--) {
+                    lcs[i][s] = sameJang(i, s) ? lcs[i + 1][s + 1] + 1 : Math.max(lcs[i + 1][s], lcs[i][s + 1]);
+                }
+            }
+
+            Row[] matched = new Row[incomingCount];
+            int i = 0;
+            int s = 0;
+            int gapIncoming = 0;
+            int gapStored = 0;
+            while (i < incomingCount && s < storedCount) {
+                if (sameJang(i, s)) {
+                    pairGap(matched, gapIncoming, i, gapStored, s);
+                    matched[i++] = storedJangs.get(s++);
+                    gapIncoming = i;
+                    gapStored = s;
+                } else if (lcs[i + 1][s] >= lcs[i][s + 1]) {
+                    i++;
+                } else {
+                    s++;
+                }
+            }
+            pairGap(matched, gapIncoming, incomingCount, gapStored, storedCount);
+            return matched;
+        }
+
+        private boolean sameJang(int incoming, int stored) {
+            return Objects.equals(parsed.jangs().get(incoming).content(), storedJangs.get(stored).content());
+        }
+
+        private void pairGap(Row[] matched, int fromIncoming, int toIncoming, int fromStored, int toStored) {
+            for (int i = fromIncoming, s = fromStored; i < toIncoming && s < toStored; i++, s++) {
+                matched[i] = storedJangs.get(s);
+            }
+        }
+
+        /**
+         * 조문 번호(없으면 조/항/호 본문 해시)가 같은 조끼리 문서 순서대로 짝지음
+         *
+         * @return 개정본 조 위치 -> 저장된 조 (없으면 null)
+         */
+        private Row[] matchJos() {
+            Map<JoKey, ArrayDeque<Row>> candidates = new HashMap<>();
+            for (Row stored : storedJos) {
+                ArticleNumber number = Optional.ofNullable(storedNumbers.get(stored.id()))
+                        .or(() -> ArticleNumber.fromContent(stored.content()))
+                        .orElse(null);
+                JoKey key = number != null ? new JoKey(number, null) : new JoKey(null, storedHash(stored));
+                candidates.computeIfAbsent(key, k -> new ArrayDeque<>()).add(stored);
+            }
+
+            Row[] matched = new Row[parsed.jos().size()];
+            for (int jo = 0; jo < matched.length; jo++) {
+                String content = parsed.jos().get(jo).content();
+                ArticleNumber number = numbers[jo] != null ? numbers[jo] : ArticleNumber.fromContent(content).orElse(null);
+                JoKey key = number != null ? new JoKey(number, null) : new JoKey(null, incomingHash(jo));
+                ArrayDeque<Row> queue = candidates.get(key);
+                matched[jo] = queue != null ? queue.poll() : null;
+            }
+            return matched;
+        }
+
+        /**
+         * 짝지은 조 중 법령 안에서의 위치가 바뀐 것이 있는지 (순번이 없던 기존 행은 모두 0이라 한 번은 다시 만듦)
+         */
+        private static boolean reordered(Row[] keptJos) {
+            for (int jo = 0; jo < keptJos.length; jo++) {
+                if (keptJos[jo] != null && keptJos[jo].ordinal() != jo) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 조의 구성이나 순서가 바뀐 유지 장을 변경으로 표시 (조 본문이 그대로여도 장 단위 본문은 바뀜)
+         */
+        private void markReorderedJangs(long[] joIds, long[] jangIds, Set<Long> keptJangIds) {
+            Map<Long, List<Long>> incoming = new HashMap<>();
+            for (int jo = 0; jo < joIds.length; jo++) {
+                incoming.computeIfAbsent(jangIds[parsed.jos().get(jo).parent()], key -> new ArrayList<>()).add(joIds[jo]);
+            }
+            Map<Long, List<Long>> stored = new HashMap<>();
+            for (Row jo : storedJos) {
+                stored.computeIfAbsent(jo.parent(), key -> new ArrayList<>()).add(jo.id());
+            }
+            for (Long jangId : keptJangIds) {
+                if (!incoming.getOrDefault(jangId, List.of()).equals(stored.getOrDefault(jangId, List.of()))) {
+                    changedJangIds.add(jangId);
+                }
+            }
+        }
+
+        private void insertSubtree(int jo, long joId, long[] nextIds) {
+            for (int hang : hangsOfJo.get(jo)) {
+                long hangId = nextIds[2]++;
+                insert(HANG, new Object[]{hangId, joId, parsed.hangs().get(hang).content()});
+                for (int ho : hosOfHang.get(hang)) {
+                    insert(HO, new Object[]{nextIds[3]++, hangId, parsed.hos().get(ho).content()});
+                }
+            }
+        }
+
+        private void deleteSubtree(long joId) {
+            for (Row hang : storedHangs.getOrDefault(joId, List.of())) {
+                hangDeletes.add(hang.id());
+                storedHos.getOrDefault(hang.id(), List.of()).forEach(ho -> hoDeletes.add(ho.id()));
+            }
+        }
+
+        private void insert(String table, Object[] row) {
+            inserts.computeIfAbsent(table, key -> new ArrayList<>()).add(row);
+        }
+
+        private String storedHash(Row jo) {
+            return storedHashes.computeIfAbsent(jo.id(), id -> hashStored(jo));
+        }
+
+        private String hashStored(Row jo) {
+            StringBuilder text = new StringBuilder();
+            appendContent(text, 'j', jo.content());
+            for (Row hang : storedHangs.getOrDefault(jo.id(), List.of())) {
+                appendContent(text, 'h', hang.content());
+                for (Row ho : storedHos.getOrDefault(hang.id(), List.of())) {
+                    appendContent(text, 'o', ho.content());
+                }
+            }
+            return sha256(text);
+        }
+
+        private String incomingHash(int jo) {
+            StringBuilder text = new StringBuilder();
+            appendContent(text, 'j', parsed.jos().get(jo).content());
+            for (int hang : hangsOfJo.get(jo)) {
+                appendContent(text, 'h', parsed.hangs().get(hang).content());
+                for (int ho : hosOfHang.get(hang)) {
+                    appendContent(text, 'o', parsed.hos().get(ho).content());
+                }
+            }
+            return sha256(text);
+        }
+
+        private static List<List<Integer>> childrenOf(List<ParsedLaw.Node> children, int parentCount) {
+            List<List<Integer>> grouped = new ArrayList<>(parentCount);
+            for (int i = 0; i < parentCount; i++) {
+                grouped.add(new ArrayList<>());
+            }
+            for (int i = 0; i < children.size(); i++) {
+                grouped.get(children.get(i).parent()).add(i);
+            }
+            return grouped;
+        }
+
+        private static int countNull(Row[] rows) {
+            return (int) Arrays.stream(rows).filter(Objects::isNull).count();
+        }
+    }
+
+    /**
+     * 저장된 장/조/항/호 행
+     *
+     * @param parent 상위 계층 id
+     * @param ordinal 법령 안에서의 순번 (장/조만, 항/호는 0)
+     */
+    private record Row(long id, long parent, String content, int ordinal) {
+    }
+
+    /**
+     * 조 짝짓기 키 (조문 번호가 있으면 번호, 없으면 본문 해시)
+     */
+    private record JoKey(ArticleNumber number, String hash) {
+    }
+}
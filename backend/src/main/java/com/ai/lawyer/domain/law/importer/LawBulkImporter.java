@@ -0,0 +1,220 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.Law;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파싱한 법령 전체를 계층별 다중 행 INSERT로 저장
+ * <p>
+ * 엔티티마다 save하면 행마다 INSERT가 한 번씩 나가므로, id를 LawIdAllocator로 미리 예약하고
+ * 법령 -> 장 -> 조 -> 항 -> 호 -> 조문 색인 순서로 "INSERT ... VALUES (...), (...)"를 묶어서 실행한다.
+ * 호출하는 쪽 트랜잭션(JPA와 같은 커넥션)에 참여한다. 장/조는 법령 안에서의 순번을 함께 저장하고, 항/호는 id 순서가 문서 순서다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawBulkImporter {
+
+    static final String LAW = "law";
+    static final String JANG = "jang";
+    static final String JO = "jo";
+    static final String HANG = "hang";
+    static final String HO = "ho";
+    static final String LAW_ARTICLE = "law_article";
+
+    // 외래 키 순서 (상위 계층부터 INSERT)
+    private static final Map<String, String> COLUMNS = columns();
+
+    private static final int MAX_PARAMETERS = 65_535; // MySQL prepared statement 파라미터 상한
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LawIdAllocator idAllocator;
+    private final LawImportProperties properties;
+
+    /**
+     * @param parsed 파싱한 법령
+     * @return id가 채워진 법령 (하위 목록은 비어 있음)
+     */
+    public Law importLaw(ParsedLaw parsed) {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Long> firstIds = idAllocator.allocate(Map.of(
+                LAW, 1,
+                JANG, parsed.jangs().size(),
+                JO, parsed.jos().size(),
+                HANG, parsed.hangs().size(),
+                HO, parsed.hos().size(),
+                LAW_ARTICLE, parsed.articles().size()));
+        long lawId = firstIds.get(LAW);
+        long jangId = firstIds.getOrDefault(JANG, 0L);
+        long joId = firstIds.getOrDefault(JO, 0L);
+        long hangId = firstIds.getOrDefault(HANG, 0L);
+        long hoId = firstIds.getOrDefault(HO, 0L);
+        long articleId = firstIds.getOrDefault(LAW_ARTICLE, 0L);
+
+        Law law = parsed.law();
+        int statements = insert(LAW, List.<Object[]>of(lawRow(lawId, law)));
+        statements += insert(JANG, orderedRows(parsed.jangs(), jangId, node -> lawId));
+        statements += insert(JO, orderedRows(parsed.jos(), joId, node -> jangId + node.parent()));
+        statements += insert(HANG, rows(parsed.hangs(), hangId, node -> joId + node.parent()));
+        statements += insert(HO, rows(parsed.hos(), hoId, node -> hangId + node.parent()));
+
+        List<Object[]> articles = new ArrayList<>(parsed.articles().size());
+        for (int i = 0; i < parsed.articles().size(); i++) {
+            ParsedLaw.Article article = parsed.articles().get(i);
+            articles.add(articleRow(articleId + i, lawId, article.number(), article.jo(), joId + article.jo()));
+        }
+        statements += insert(LAW_ARTICLE, articles);
+
+        law.setId(lawId);
+        log.info("법령 일괄 저장 완료. 법령명: {}, 행 수: {}, INSERT 문 수: {}, 소요 시간: {}ms",
+                law.getLawName(), parsed.rowCount() + parsed.articles().size(), statements,
+                System.currentTimeMillis() - startTime);
+        return law;
+    }
+
+    /**
+     * id를 이미 정한 행을 외래 키 순서(법령 -> 장 -> 조 -> 항 -> 호 -> 조문 색인)대로 다중 행 INSERT (개정본 갱신용)
+     *
+     * @param rows 테이블명 -> 행 (컬럼 순서는 일괄 저장과 같음)
+     * @return 실행한 INSERT 문 수
+     */
+    int insertAll(Map<String, List<Object[]>> rows) {
+        int statements = 0;
+        for (String table : COLUMNS.keySet()) {
+            statements += insert(table, rows.getOrDefault(table, List.of()));
+        }
+        return statements;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static Map<String, String> columns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put(LAW, "id, law_name, law_api_id, law_field, ministry, promulgation_number, promulgation_date, enforcement_date, articles_indexed");
+        columns.put(JANG, "id, law_id, content, ordinal");
+        columns.put(JO, "id, jang_id, content, ordinal");
+        columns.put(HANG, "id, jo_id, content");
+        columns.put(HO, "id, hang_id, content");
+        columns.put(LAW_ARTICLE, "id, law_id, article_number, article_branch, ordinal, jo_id");
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private static Object[] lawRow(long id, Law law) {
+        return new Object[]{id, law.getLawName(), law.getLawApiId(), law.getLawField(), law.getMinistry(),
+                law.getPromulgationNumber(), toSqlDate(law.getPromulgationDate()), toSqlDate(law.getEnforcementDate()), true};
+    }
+
+    static Object[] articleRow(long id, long lawId, ArticleNumber number, int ordinal, long joId) {
+        return new Object[]{id, lawId, number.number(), number.branch(), ordinal, joId};
+    }
+
+    private int batchRows() {
+        return Math.max(1, properties.getBatchRows());
+    }
+
+    /**
+     * 장/조 행 (순번 = 법령 안에서의 위치)
+     */
+    private static List<Object[]> orderedRows(List<ParsedLaw.Node> nodes, long firstId, ParentId parentId) {
+        List<Object[]> rows = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            ParsedLaw.Node node = nodes.get(i);
+            rows.add(new Object[]{firstId + i, parentId.of(node), node.content(), i});
+        }
+        return rows;
+    }
+
+    private static List<Object[]> rows(List<ParsedLaw.Node> nodes, long firstId, ParentId parentId) {
+        List<Object[]> rows = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            ParsedLaw.Node node = nodes.get(i);
+            rows.add(new Object[]{firstId + i, parentId.of(node), node.content()});
+        }
+        return rows;
+    }
+
+    /**
+     * 행 수/본문 크기 상한에 맞춰 나눈 다중 행 INSERT 실행
+     *
+     * @return 실행한 INSERT 문 수
+     */
+    private int insert(String table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int columnCount = rows.get(0).length;
+        int maxRows = Math.min(batchRows(), MAX_PARAMETERS / columnCount);
+
+        int statements = 0;
+        int from = 0;
+        while (from < rows.size()) {
+            int to = from;
+            long bytes = 0;
+            while (to < rows.size() && to - from < maxRows) {
+                long weight = weight(rows.get(to));
+                if (to > from && bytes + weight > properties.getMaxStatementBytes()) {
+                    break;
+                }
+                bytes += weight;
+                to++;
+            }
+            jdbcTemplate.update(insertSql(table, COLUMNS.get(table), columnCount, to - from), flatten(rows.subList(from, to)));
+            statements++;
+            from = to;
+        }
+        return statements;
+    }
+
+    private static String insertSql(String table, String columns, int columnCount, int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(columns).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ", ").append(row);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        Object[] args = new Object[rows.size() * rows.get(0).length];
+        int position = 0;
+        for (Object[] row : rows) {
+            System.arraycopy(row, 0, args, position, row.length);
+            position += row.length;
+        }
+        return args;
+    }
+
+    /**
+     * 문장 크기 근사치 (한글 UTF-8 3바이트 기준)
+     */
+    private static long weight(Object[] row) {
+        long bytes = 0;
+        for (Object value : row) {
+            bytes += value instanceof String text ? text.length() * 3L : 16;
+        }
+        return bytes;
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    @FunctionalInterface
+    private interface ParentId {
+        long of(ParsedLaw.Node node);
+    }
+}
@@ -0,0 +1,212 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * Open API 법령 상세(lawService.do) 응답을 읽으면서 법령 행을 문서 순서대로 내보냄
+ * <p>
+ * 조문키가 0으로 끝나면 장, 아니면 조로 보고, 조 아래 항/호를 문서 순서대로 펼친다.
+ * 응답 전체를 문자열/트리로 만들지 않고 JsonParser로 조문단위를 하나씩 읽으므로, 한 번에 메모리에 있는 것은 조문 하나뿐이다.
+ * (기본정보가 조문보다 뒤에 오면 법령 행을 먼저 내보낼 수 없어 조문을 트리로 읽어 두었다가 처리한다.)
+ */
+@Slf4j
+@Component
+public class LawDetailParser {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 응답 전체를 저장 전 계층 목록으로 변환
+     *
+     * @param json 법령 상세 응답 JSON
+     * @return 저장 전 법령 계층
+     */
+    public ParsedLaw parse(InputStream json) throws IOException {
+        ParsedLaw.Builder builder = new ParsedLaw.Builder();
+        parse(json, builder);
+        return builder.build();
+    }
+
+    /**
+     * 응답을 읽으면서 법령 행을 sink로 전달
+     *
+     * @param json 법령 상세 응답 JSON (다 읽으면 닫음)
+     * @param sink 법령 행을 받는 쪽
+     */
+    public void parse(InputStream json, LawRowSink sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("법령 상세 응답이 JSON 객체가 아닙니다.");
+            }
+            boolean lawFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("법령".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    parseLaw(parser, sink);
+                    lawFound = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!lawFound) {
+                sink.law(toLaw(MissingNode.getInstance()));
+            }
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * "법령" 객체의 필드를 순서대로 처리 (parser는 START_OBJECT에 위치)
+     */
+    private void parseLaw(JsonParser parser, LawRowSink sink) throws IOException {
+        boolean lawSent = false;
+        JsonNode deferredArticles = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "기본정보" -> {
+                    sink.law(toLaw(readTree(parser)));
+                    lawSent = true;
+                }
+                case "조문" -> {
+                    if (lawSent) {
+                        parseArticles(parser, sink);
+                    } else {
+                        deferredArticles = readTree(parser);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (!lawSent) {
+            sink.law(toLaw(MissingNode.getInstance()));
+        }
+        if (deferredArticles != null) {
+            try (JsonParser deferred = objectMapper.treeAsTokens(deferredArticles)) {
+                deferred.nextToken();
+                parseArticles(deferred, sink);
+            }
+        }
+    }
+
+    /**
+     * "조문" 객체의 조문단위 배열을 원소 하나씩 읽어 장/조 전달 (parser는 "조문" 값의 첫 토큰에 위치)
+     */
+    private void parseArticles(JsonParser parser, LawRowSink sink) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        boolean jangOpened = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (!"조문단위".equals(field) || parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode unit = readTree(parser);
+                String key = unit.path("조문키").asText();
+                String content = unit.path("조문내용").asText();
+
+                if (key.endsWith("0")) {
+                    // 장(Jang)
+                    sink.jang(content);
+                    jangOpened = true;
+                    continue;
+                }
+
+                // 조(Jo): 첫 장 이전의 조는 내용 없는 장에 담음
+                if (!jangOpened) {
+                    sink.jang(null);
+                    jangOpened = true;
+                }
+                // 조문키(조번호 + 가지번호)로 조문 색인 추가
+                sink.jo(content, ArticleNumber.fromArticleKey(key).orElse(null));
+                addHangs(unit.path("항"), sink);
+            }
+        }
+    }
+
+    /**
+     * 현재 값 하나를 트리로 읽음 (JSON null이면 MissingNode)
+     */
+    private static JsonNode readTree(JsonParser parser) throws IOException {
+        JsonNode node = parser.readValueAsTree();
+        return node != null ? node : MissingNode.getInstance();
+    }
+
+    private Law toLaw(JsonNode basic) {
+        Law law = new Law();
+        law.setLawName(basic.path("법령명_한글").asText());
+        law.setLawApiId(basic.path("법령ID").asText(null));
+        law.setLawField(basic.path("법종구분").path("content").asText());
+        law.setMinistry(basic.path("소관부처").path("content").asText());
+        law.setPromulgationNumber(basic.path("공포번호").asText());
+
+        // 날짜 파싱
+        parseAndSetDate(basic.path("공포일자").asText(), law::setPromulgationDate);
+        parseAndSetDate(basic.path("시행일자").asText(), law::setEnforcementDate);
+        return law;
+    }
+
+    /**
+     * 항(Hang)과 그 아래 호(Ho) 전달 (항이 객체 하나면 내용 없는 항으로 처리)
+     */
+    private void addHangs(JsonNode paragraphs, LawRowSink sink) {
+        if (paragraphs.isArray()) {
+            for (JsonNode paragraph : paragraphs) {
+                JsonNode hangContent = paragraph.path("항내용");
+                sink.hang(hangContent.isMissingNode() ? null : hangContent.asText());
+                addHos(paragraph.path("호"), sink);
+            }
+        } else if (paragraphs.isObject()) {
+            sink.hang(null);
+            addHos(paragraphs.path("호"), sink);
+        }
+    }
+
+    private void addHos(JsonNode items, LawRowSink sink) {
+        if (items.isArray()) {
+            for (JsonNode item : items) {
+                sink.ho(item.path("호내용").asText());
+            }
+        }
+    }
+
+    private void parseAndSetDate(String dateStr, Consumer<LocalDate> setter) {
+        if (StringUtils.hasText(dateStr)) {
+            try {
+                setter.accept(LocalDate.parse(dateStr, DATE_FORMATTER));
+            } catch (DateTimeParseException e) {
+                log.warn("날짜 파싱 실패: {}", dateStr);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ai.lawyer.domain.law.importer;
+
+/**
+ * 법령 수집 결과
+ *
+ * @param query 검색 키워드
+ * @param found 검색된 법령 수
+ * @param imported 저장한 법령 수
+ * @param failed 조회/파싱/저장에 실패한 법령 수
+ * @param elapsedMillis 소요 시간
+ */
+public record LawFetchResult(String query, int found, int imported, int failed, long elapsedMillis) {
+}
@@ -0,0 +1,102 @@
+package com.ai.lawyer.domain.law.importer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * law_id_block 테이블로 테이블별 연속 id 구간을 예약
+ * <p>
+ * 예약은 별도 트랜잭션에서 바로 커밋하므로, 적재 트랜잭션이 길어도 다른 적재가 기다리지 않는다 (롤백된 구간은 비어 있는 채로 남음).
+ * 법령 엔티티의 JPA 저장도 같은 행을 쓰는 테이블 생성기로 id를 받으므로 모든 쓰기 경로의 id 출처가 하나다.
+ * 생성기 도입 전 IDENTITY로 저장된 행과 겹치지 않도록, 기동 시 각 행을 MAX(id) 이후로 맞추고 예약 때도 MAX(id) 이후부터 구간을 잡는다.
+ */
+@Component
+public class LawIdAllocator {
+
+    // 테이블 생성기가 처음 쓰기 전에 기존 행 뒤로 맞춰 둘 테이블
+    private static final List<String> TABLES = List.of(
+            LawBulkImporter.LAW, LawBulkImporter.JANG, LawBulkImporter.JO,
+            LawBulkImporter.HANG, LawBulkImporter.HO, LawBulkImporter.LAW_ARTICLE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public LawIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param counts 테이블명 -> 필요한 id 수 (0 이하는 예약하지 않음)
+     * @return 테이블명 -> 예약한 구간의 첫 id ([첫 id, 첫 id + 개수))
+     */
+    public Map<String, Long> allocate(Map<String, Integer> counts) {
+        Map<String, Integer> positive = new HashMap<>();
+        counts.forEach((table, count) -> {
+            if (count > 0) {
+                positive.put(table, count);
+            }
+        });
+        return execute(positive);
+    }
+
+    /**
+     * 기동 시 테이블별 다음 id를 저장된 행 뒤로 맞춤 (행이 없으면 테이블 생성기가 1부터 시작해 기존 행과 겹치므로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignWithExistingRows() {
+        Map<String, Integer> counts = new HashMap<>();
+        TABLES.forEach(table -> counts.put(table, 0));
+        execute(counts);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Map<String, Long> execute(Map<String, Integer> counts) {
+        try {
+            return newTransaction.execute(status -> reserve(counts));
+        } catch (DuplicateKeyException e) {
+            // 두 인스턴스가 같은 테이블의 첫 구간을 동시에 만들었으면 한 번 더 시도하면 기존 행을 잠근다
+            return newTransaction.execute(status -> reserve(counts));
+        }
+    }
+
+    /**
+     * @param counts 테이블명 -> 예약할 id 수 (0이면 다음 id만 MAX(id) 이후로 맞춤)
+     */
+    private Map<String, Long> reserve(Map<String, Integer> counts) {
+        Map<String, Long> firstIds = new HashMap<>();
+        // 동시 적재끼리 교착하지 않도록 항상 테이블명 순서로 잠금
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(counts).entrySet()) {
+            String table = entry.getKey();
+            int count = entry.getValue();
+
+            List<Long> next = jdbcTemplate.queryForList(
+                    "SELECT next_id FROM law_id_block WHERE table_name = ? FOR UPDATE", Long.class, table);
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long first = Math.max(next.isEmpty() ? 1L : next.get(0), maxId + 1);
+
+            if (next.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO law_id_block (table_name, next_id) VALUES (?, ?)", table, first + count);
+            } else if (first + count != next.get(0)) {
+                jdbcTemplate.update("UPDATE law_id_block SET next_id = ? WHERE table_name = ?", first + count, table);
+            }
+            if (count > 0) {
+                firstIds.put(table, first);
+            }
+        }
+        return firstIds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ai.lawyer.domain.law.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law.import")
+@Getter
+@Setter
+public class LawImportProperties {
+
+    private boolean bulk = true;                    // false면 엔티티마다 repository.save (IDENTITY라 행마다 INSERT 1번)
+    private int batchRows = 500;                    // 다중 행 INSERT 한 문장의 최대 행 수
+    private int maxStatementBytes = 1024 * 1024;    // 다중 행 INSERT 한 문장의 본문 크기 상한 (max_allowed_packet 이하)
+    private boolean amend = true;                   // 이미 저장된 법령(법령ID, 없으면 법령명)이면 새로 저장하지 않고 바뀐 조만 갱신
+    private boolean refreshVectors = true;          // 갱신한 법령을 커밋 후 바로 다시 벡터화 (배치를 기다리지 않음)
+    private boolean backfillArticles = true;        // 조문 색인 도입 전에 적재된 법령의 색인을 기동 후 백그라운드에서 생성
+}
@@ -0,0 +1,228 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 국가법령정보 Open API에서 법령을 동시에 가져오는 수집기
+ * <p>
+ * 검색 결과의 법령을 가상 스레드로 최대 concurrency개씩 상세 조회/파싱하고, 도착하는 순서대로 호출한 스레드에서 저장 함수에 넘긴다.
+ * 상세 응답은 문자열로 받지 않고 응답 스트림을 바로 파싱해 계층 목록만 남긴다.
+ * 모든 요청(검색 포함)은 하나의 RateLimiter를 거쳐 Open API 호출 한도를 넘지 않으며,
+ * 시간 초과/5xx/429 응답은 지수 대기 + 무작위 지연 후 다시 시도한다 (429는 Retry-After를 따름).
+ */
+@Slf4j
+@Component
+public class LawOpenApiFetcher {
+
+    private final LawOpenApiProperties properties;
+    private final LawDetailParser parser;
+    private final RestTemplate restTemplate;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LawOpenApiFetcher(LawOpenApiProperties properties, LawDetailParser parser) {
+        this.properties = properties;
+        this.parser = parser;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeout());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.rateLimiter = RateLimiter.create(properties.getRequestsPerSecond());
+    }
+
+    /**
+     * 키워드로 법령을 검색해 상세 조회하고, 파싱한 법령을 도착 순서대로 저장 함수에 전달
+     * <p>
+     * 저장이 느리면 대기열(concurrency개)이 차서 상세 조회가 기다리므로, 메모리에는 최대 concurrency * 2개의 법령만 머문다.
+     * 개별 법령의 조회/저장 실패는 세고 계속 진행한다.
+     *
+     * @param query 검색 키워드
+     * @param importer 파싱한 법령 저장 함수 (호출한 스레드에서 실행)
+     * @return 수집 결과
+     */
+    public LawFetchResult fetch(String query, Consumer<ParsedLaw> importer) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        List<String> lawIds = searchLawIds(query);
+
+        int imported = 0;
+        int failed = 0;
+        BlockingQueue<Fetched> arrived = new ArrayBlockingQueue<>(Math.max(properties.getConcurrency(), 1));
+        Semaphore inFlight = new Semaphore(Math.max(properties.getConcurrency(), 1));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (String lawId : lawIds) {
+                    executor.submit(() -> {
+                        // 어떻게 끝나든 결과를 하나 넣어야 아래 take()가 멈추지 않으므로, 조회하지 못하면 실패로 넣음
+                        Fetched fetched = new Fetched(lawId, null);
+                        boolean acquired = false;
+                        try {
+                            // 대기열에 넣을 때까지 허가를 쥐고 있어 조회 중 + 대기 중 법령 수를 제한
+                            inFlight.acquire();
+                            acquired = true;
+                            fetched = fetchDetail(lawId);
+                        } catch (InterruptedException e) {
+                            // shutdownNow로 중단된 경우라 받을 쪽이 없음 (put도 바로 InterruptedException으로 끝남)
+                            Thread.currentThread().interrupt();
+                        } catch (Throwable e) {
+                            log.error("법령 상세 조회 작업 실패. 법령 ID: {}", lawId, e);
+                        } finally {
+                            try {
+                                arrived.put(fetched);
+                            } finally {
+                                if (acquired) {
+                                    inFlight.release();
+                                }
+                            }
+                        }
+                        return null;
+                    });
+                }
+
+                for (int i = 0; i < lawIds.size(); i++) {
+                    Fetched fetched = arrived.take();
+                    if (fetched.law() == null) {
+                        failed++;
+                        continue;
+                    }
+                    try {
+                        importer.accept(fetched.law());
+                        imported++;
+                    } catch (RuntimeException e) {
+                        failed++;
+                        log.error("법령 저장 실패. 법령 ID: {}", fetched.lawId(), e);
+                    }
+                }
+            } finally {
+                // 저장 중 예외/인터럽트로 빠져나오면 대기열에 막힌 조회 작업을 정리
+                executor.shutdownNow();
+            }
+        }
+
+        LawFetchResult result = new LawFetchResult(query, lawIds.size(), imported, failed,
+                System.currentTimeMillis() - startTime);
+        log.info("법령 수집 완료. {}", result);
+        return result;
+    }
+
+    /**
+     * 법령 검색 결과에서 법령 ID 목록 추출
+     *
+     * @param query 검색 키워드
+     * @return 법령 ID 목록
+     */
+    public List<String> searchLawIds(String query) throws InterruptedException {
+        String url = UriComponentsBuilder.fromHttpUrl(properties.getBaseUrl() + "/lawSearch.do")
+                .queryParam("OC", properties.getOc())
+                .queryParam("target", "law")
+                .queryParam("type", "JSON")
+                .queryParam("query", query)
+                .queryParam("page", 1)
+                .queryParam("display", properties.getDisplay())
+                .build()
+                .toUriString();
+
+        JsonNode lawNode = get(url, response -> objectMapper.readTree(response.getBody())).path("LawSearch").path("law");
+        List<String> lawIds = new ArrayList<>();
+        for (JsonNode item : lawNode.isArray() ? lawNode : List.of(lawNode)) {
+            String lawId = item.path("법령ID").asText(null);
+            if (StringUtils.hasText(lawId)) {
+                lawIds.add(lawId);
+            }
+        }
+        return lawIds;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 법령 상세 조회 + 파싱 (실패하면 law가 null)
+     */
+    private Fetched fetchDetail(String lawId) throws InterruptedException {
+        String url = UriComponentsBuilder.fromHttpUrl(properties.getBaseUrl() + "/lawService.do")
+                .queryParam("OC", properties.getOc())
+                .queryParam("target", "law")
+                .queryParam("ID", lawId)
+                .queryParam("type", "JSON")
+                .build()
+                .toUriString();
+
+        try {
+            return new Fetched(lawId, get(url, response -> parser.parse(response.getBody())));
+        } catch (RuntimeException e) {
+            log.error("법령 상세 조회 실패. 법령 ID: {}, cause: {}", lawId, e.getMessage());
+            return new Fetched(lawId, null);
+        }
+    }
+
+    /**
+     * 호출 한도 안에서 GET (시간 초과/5xx/429는 maxAttempts까지 재시도, 응답 본문을 읽다 끊겨도 재시도)
+     */
+    private <T> T get(String url, ResponseExtractor<T> extractor) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            // RateLimiter는 대기 중 인터럽트를 무시하고 플래그만 복원함
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            try {
+                return restTemplate.execute(url, HttpMethod.GET, null, extractor);
+            } catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests e) {
+                // 응답이 JSON이 아니면 다시 받아도 같으므로 재시도하지 않음
+                if (attempt >= properties.getMaxAttempts() || e.getCause() instanceof JsonProcessingException) {
+                    throw e;
+                }
+                long waitMillis = backoffMillis(attempt, e);
+                log.warn("Open API 요청 실패. {}ms 후 재시도 ({}/{}). url: {}, cause: {}",
+                        waitMillis, attempt, properties.getMaxAttempts(), url, e.getMessage());
+                Thread.sleep(waitMillis);
+            }
+        }
+    }
+
+    /**
+     * 기준 * 2^(시도-1)의 절반 + 무작위 절반 (동시에 실패한 요청들이 같은 시각에 몰리지 않게 함)
+     */
+    private long backoffMillis(int attempt, RestClientException e) {
+        long backoff = properties.getRetryBackoff().toMillis() << (attempt - 1);
+        long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+
+        if (e instanceof HttpClientErrorException.TooManyRequests tooManyRequests && tooManyRequests.getResponseHeaders() != null) {
+            String retryAfter = tooManyRequests.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null && retryAfter.chars().allMatch(Character::isDigit)) {
+                return Math.max(jittered, Long.parseLong(retryAfter) * 1000);
+            }
+        }
+        return jittered;
+    }
+
+    private record Fetched(String lawId, ParsedLaw law) {
+    }
+}
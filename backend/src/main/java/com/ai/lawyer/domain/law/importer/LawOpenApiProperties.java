@@ -0,0 +1,25 @@
+package com.ai.lawyer.domain.law.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law.open-api")
+@Getter
+@Setter
+public class LawOpenApiProperties {
+
+    private String baseUrl = "http://www.law.go.kr/DRF";    // 국가법령정보 Open API
+    private String oc = "noheechul";                        // Open API 사용자 id
+    private int display = 100;                              // 검색 결과 수
+    private int concurrency = 8;                            // 동시에 상세 조회할 법령 수
+    private double requestsPerSecond = 5;                   // 검색 + 상세 조회 초당 요청 수 (Open API 호출 한도, 최대 1초 분량까지 몰아 보냄)
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration readTimeout = Duration.ofSeconds(20);  // 큰 법령은 응답이 수 MB
+    private int maxAttempts = 3;                            // 시간 초과/5xx/429 재시도 포함 최대 시도 횟수
+    private Duration retryBackoff = Duration.ofMillis(500); // 재시도 대기 기준 (시도마다 2배 + 무작위)
+}
@@ -0,0 +1,38 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.Law;
+
+/**
+ * LawDetailParser가 문서 순서대로 내보내는 법령 행을 받는 쪽
+ * <p>
+ * 법령이 항상 먼저 오고, 장/조/항/호는 바로 앞에 받은 상위 계층에 속한다.
+ */
+public interface LawRowSink {
+
+    /**
+     * @param law 법령 기본정보 (id 없음)
+     */
+    void law(Law law);
+
+    /**
+     * @param content 장 본문 (첫 장 이전의 조를 담는 장이면 null)
+     */
+    void jang(String content);
+
+    /**
+     * @param content 조 본문
+     * @param number 조문 번호 (조문키를 해석할 수 없으면 null)
+     */
+    void jo(String content, ArticleNumber number);
+
+    /**
+     * @param content 항 본문 (없으면 null)
+     */
+    void hang(String content);
+
+    /**
+     * @param content 호 본문
+     */
+    void ho(String content);
+}
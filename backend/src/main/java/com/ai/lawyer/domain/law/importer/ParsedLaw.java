@@ -0,0 +1,99 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.Law;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Open API 법령 상세 응답을 저장 전에 계층별 목록으로 펼친 결과
+ * <p>
+ * 각 목록은 문서 순서이며, parent는 바로 위 계층 목록에서의 위치다 (장은 법령 하나에 속하므로 0).
+ *
+ * @param law 법령 기본정보 (id 없음)
+ * @param jangs 장 목록 (첫 장 이전의 조는 내용 없는 장에 담김)
+ * @param jos 조 목록 (parent = 장 위치)
+ * @param hangs 항 목록 (parent = 조 위치)
+ * @param hos 호 목록 (parent = 항 위치)
+ * @param articles 조문 색인 (조문키를 해석할 수 있는 조만, 조문 번호 중복 없음)
+ */
+public record ParsedLaw(
+        Law law,
+        List<Node> jangs,
+        List<Node> jos,
+        List<Node> hangs,
+        List<Node> hos,
+        List<Article> articles
+) {
+
+    /**
+     * 법령 + 하위 엔티티 행 수
+     */
+    public int rowCount() {
+        return 1 + jangs.size() + jos.size() + hangs.size() + hos.size();
+    }
+
+    /**
+     * 파서가 내보내는 행을 모아 ParsedLaw로 만듦 (수집 스레드에서 파싱하고, 저장은 호출한 스레드의 법령별 트랜잭션에서)
+     */
+    public static final class Builder implements LawRowSink {
+
+        private Law law;
+        private final List<Node> jangs = new ArrayList<>();
+        private final List<Node> jos = new ArrayList<>();
+        private final List<Node> hangs = new ArrayList<>();
+        private final List<Node> hos = new ArrayList<>();
+        private final List<Article> articles = new ArrayList<>();
+        private final Set<ArticleNumber> numbers = new HashSet<>();
+
+        @Override
+        public void law(Law law) {
+            this.law = law;
+        }
+
+        @Override
+        public void jang(String content) {
+            jangs.add(new Node(0, content));
+        }
+
+        @Override
+        public void jo(String content, ArticleNumber number) {
+            jos.add(new Node(jangs.size() - 1, content));
+            // 조문 번호는 법령 안에서 유일하게 색인 (같은 번호가 다시 나오면 처음 조만)
+            if (number != null && numbers.add(number)) {
+                articles.add(new Article(jos.size() - 1, number));
+            }
+        }
+
+        @Override
+        public void hang(String content) {
+            hangs.add(new Node(jos.size() - 1, content));
+        }
+
+        @Override
+        public void ho(String content) {
+            hos.add(new Node(hangs.size() - 1, content));
+        }
+
+        public ParsedLaw build() {
+            return new ParsedLaw(law, jangs, jos, hangs, hos, articles);
+        }
+    }
+
+    /**
+     * @param parent 상위 계층 목록에서의 위치
+     * @param content 본문 (없으면 null)
+     */
+    public record Node(int parent, String content) {
+    }
+
+    /**
+     * @param jo 조 목록에서의 위치 (= 법령 안 조 순번)
+     * @param number 조문 번호
+     */
+    public record Article(int jo, ArticleNumber number) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LawArticleRepository extends JpaRepository<LawArticle, Long> {
+
+    Optional<LawArticle> findByLawIdAndArticleNumberAndArticleBranch(Long lawId, int articleNumber, int articleBranch);
+
+    List<LawArticle> findByLawIdAndArticleNumberBetweenOrderByOrdinalAsc(Long lawId, int fromNumber, int toNumber);
+
+    boolean existsByLawId(Long lawId);
+}
@@ -1,16 +1,53 @@
 package com.ai.lawyer.domain.law.repository;
 
 import com.ai.lawyer.domain.law.entity.Law;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LawRepository extends JpaRepository<Law, Long>, LawRepositoryCustom {
 
-    // Law + Jang만 페치
-    @EntityGraph(attributePaths = "jangList")
-    Optional<Law> findWithJangById(Long id);
+    // 같은 이름으로 여러 번 적재된 경우 가장 최근 적재분
+    Optional<Law> findFirstByLawNameOrderByIdDesc(String lawName);
+
+    // 법령ID로 적재된 법령 (개정본 갱신 대상)
+    Optional<Law> findFirstByLawApiIdOrderByIdDesc(String lawApiId);
+
+    // 법령ID 없이 적재된 기존 법령 (개정본 갱신 대상, 처음 갱신할 때 법령ID를 채움)
+    Optional<Law> findFirstByLawNameAndLawApiIdIsNullOrderByIdDesc(String lawName);
+
+    // 법령명만 조회 (법률 용어 사전 구성용)
+    @Query("SELECT DISTINCT l.lawName FROM Law l WHERE l.lawName IS NOT NULL")
+    List<String> findAllLawNames();
+
+    // id 순 키셋 페이지로 (id, 법령명) 조회 (재임베딩 진행용)
+    @Query("SELECT l.id AS id, l.lawName AS sourceKey FROM Law l WHERE l.id > :lastId ORDER BY l.id ASC")
+    List<SourceRowView> findSourceRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // id 범위 (lastId, maxId] 안에서 id 순 키셋 페이지 조회 (벡터화 배치 파티션 reader)
+    List<Law> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long lastId, Long maxId, Limit limit);
+
+    // lastId 이후 id만 조회 (증분 벡터화 범위 계산용)
+    @Query("SELECT l.id FROM Law l WHERE l.id > :lastId ORDER BY l.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    // 조문 색인이 없는 법령 id (조문 색인 도입 전 적재분 일괄 생성용)
+    @Query("SELECT l.id FROM Law l WHERE l.id > :lastId AND l.articlesIndexed = false ORDER BY l.id ASC")
+    List<Long> findArticleUnindexedIdsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    // since 이후 개정본으로 바뀐 법령 id (법령 스냅샷 생성 이후 변경분 판단)
+    @Query("SELECT l.id FROM Law l WHERE l.contentUpdatedAt >= :since")
+    List<Long> findIdsContentUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MAX(l.id) FROM Law l")
+    Long findMaxId();
 }
@@ -1,9 +1,75 @@
 package com.ai.lawyer.domain.law.repository;
 
+import com.ai.lawyer.domain.law.dto.LawJangText;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
+import com.ai.lawyer.domain.law.entity.Law;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
 public interface LawRepositoryCustom {
-    Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest);
+
+    /**
+     * 법령명 검색용 정규화: 공백(' ') 제거 + 소문자 ("근로 기준법"과 "근로기준법"을 같게 취급)
+     * <p>
+     * 법령명 색인과 LIKE 조회(REPLACE(LOWER(법령명), ' ', ''))가 같은 규칙으로 비교하도록 둘 다 이 정규화를 쓴다.
+     */
+    static String normalizeLawName(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    default Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest) {
+        return searchLaws(searchRequest, null);
+    }
+
+    /**
+     * 조건에 맞는 법령 목록 검색
+     *
+     * @param searchRequest 검색 조건
+     * @param lawNameMatches 법령명 색인에서 찾은 법령 id (null이면 정규화한 법령명을 LIKE로 검색)
+     * @return 법령 목록 페이지
+     */
+    Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest, Collection<Long> lawNameMatches);
+
+    /**
+     * 법령들의 장별 본문을 계층(장 -> 조 -> 항 -> 호) 단위 쿼리 4번으로 조회
+     *
+     * @param lawIds 법령 id 목록
+     * @return 법령 id, 장 id 순서의 장별 본문
+     */
+    List<LawJangText> findJangTexts(Collection<Long> lawIds);
+
+    /**
+     * 법령과 모든 하위 엔티티(장 -> 조 -> 항 -> 호)를 계층별 쿼리 1번씩, 총 5번으로 조회해 메모리에서 조립
+     * <p>
+     * 하위 엔티티의 부모(@ManyToOne)는 앞 단계에서 읽은 엔티티를 사용하므로 같은 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param lawId 법령 id
+     * @return 하위 목록이 모두 채워진 법령
+     */
+    Optional<Law> findLawTree(Long lawId);
+
+    /**
+     * 여러 법령의 전체 트리를 계층별 쿼리 1번씩, 총 5번으로 조회 (법령 스냅샷 생성용)
+     *
+     * @param lawIds 법령 id 목록
+     * @return id 순서의 법령 (하위 목록이 모두 채워짐)
+     */
+    List<Law> findLawTrees(Collection<Long> lawIds);
+
+    /**
+     * 조문별 조/항/호 본문을 계층 단위 쿼리 3번으로 조회 (조문 색인 조회용)
+     *
+     * @param joIds 조 id 목록
+     * @return 조 id -> 본문
+     */
+    Map<Long, String> findArticleTexts(Collection<Long> joIds);
 }
@@ -1,7 +1,15 @@
 package com.ai.lawyer.domain.law.repository;
 
+import com.ai.lawyer.domain.law.dto.LawJangText;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
+import com.ai.lawyer.domain.law.entity.Hang;
+import com.ai.lawyer.domain.law.entity.Ho;
+import com.ai.lawyer.domain.law.entity.Jang;
+import com.ai.lawyer.domain.law.entity.Jo;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.QHang;
+import com.ai.lawyer.domain.law.entity.QHo;
 import com.ai.lawyer.domain.law.entity.QJang;
 import com.ai.lawyer.domain.law.entity.QJo;
 import com.ai.lawyer.domain.law.entity.QLaw;
@@ -14,17 +22,21 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import com.querydsl.core.types.dsl.StringTemplate;
 
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -36,14 +48,19 @@ public class LawRepositoryCustomImpl implements LawRepositoryCustom {
     private QLaw law = QLaw.law;
     private QJang jang = QJang.jang;
     private QJo jo = QJo.jo;
+    private QHang hang = QHang.hang;
+    private QHo ho = QHo.ho;
 
     @Override
-    public Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest) {
+    public Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest, Collection<Long> lawNameMatches) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 법령명 조건 (부분 검색)
-        if (StringUtils.hasText(searchRequest.getLawName())) {
-            builder.and(law.getLawName().containsIgnoreCase(searchRequest.getLawName()));
+        // 법령명 조건 (색인에서 찾은 id가 있으면 IN, 없으면 색인과 같이 공백 제거 + 소문자로 부분 검색)
+        String lawName = LawRepositoryCustom.normalizeLawName(searchRequest.getLawName());
+        if (lawNameMatches != null) {
+            builder.and(law.getId().in(lawNameMatches));
+        } else if (!lawName.isEmpty()) {
+            builder.and(Expressions.stringTemplate("replace(lower({0}), ' ', '')", law.getLawName()).contains(lawName));
         }
 
         // 소관부처 조건 (완전 일치)
@@ -82,7 +99,6 @@ public class LawRepositoryCustomImpl implements LawRepositoryCustom {
 
         Pageable pageable = PageRequest.of(searchRequest.getPageNumber(), searchRequest.getPageSize());
 
-
         // DTO 프로젝션 조회
         JPAQuery<LawsDto> query = queryFactory
                 .select(Projections.constructor(
@@ -103,42 +119,258 @@ public class LawRepositoryCustomImpl implements LawRepositoryCustom {
 
         List<LawsDto> content = query.fetch();
 
-        if (content.isEmpty()) {
-            return new PageImpl<>(content, pageable, 0);
+        if (!content.isEmpty()) {
+            // 조회한 법령 ID 목록 추출
+            List<Long> lawIds = content.stream()
+                    .map(LawsDto::getId)
+                    .toList();
+
+            // 페이지의 모든 법령의 첫 번째 조 내용을 한 번에 조회해 세팅
+            Map<Long, String> firstJoContentMap = findFirstJoContents(lawIds);
+            content.forEach(dto -> dto.setFirstJoContent(firstJoContentMap.getOrDefault(dto.getId(), "")));
         }
 
-        // 조회한 법령 ID 목록 추출
-        List<Long> lawIds = content.stream()
-                .map(LawsDto::getId)
-                .toList();
-
-        // 3. 법령별 첫 번째 조 내용 조회 - 반복문으로 각각 조회
-        Map<Long, String> firstJoContentMap = new HashMap<>();
-        for (Long lawId : lawIds) {
-            String firstJoContent = queryFactory
-                    .select(jo.getContent())
-                    .from(jo)
-                    .join(jo.getJang(), jang)
-                    .where(jang.getLaw().getId().eq(lawId))
-                    .orderBy(jang.getId().asc(), jo.getId().asc())
-                    .limit(1)
+        // 전체 개수는 같은 커넥션에서 목록 조회 뒤에 실행하고, 목록만으로 알 수 있으면(마지막 페이지 등) 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long count = queryFactory
+                    .select(law.count())
+                    .from(law)
+                    .where(builder)
                     .fetchOne();
-            firstJoContentMap.put(lawId, firstJoContent);
+            return count != null ? count : 0;
+        });
+    }
+
+    /**
+     * 법령별 첫 번째 조 내용을 그룹 쿼리 1번으로 조회
+     * <p>
+     * 조 순번은 법령 안에서 매겨지므로 순번 0인 조가 첫 조다.
+     * 순번이 생기기 전에 저장된 법령은 모든 조가 순번 0이므로, 그중 가장 작은 id(문서 순서로 저장된 첫 조)를 고른다.
+     */
+    private Map<Long, String> findFirstJoContents(List<Long> lawIds) {
+        QJo firstJo = new QJo("firstJo");
+        QJang firstJoJang = new QJang("firstJoJang");
+
+        List<Tuple> rows = queryFactory
+                .select(jang.getLaw().getId(), jo.getContent())
+                .from(jo)
+                .join(jo.getJang(), jang)
+                .where(jo.getId().in(JPAExpressions
+                        .select(firstJo.getId().min())
+                        .from(firstJo)
+                        .join(firstJo.getJang(), firstJoJang)
+                        .where(firstJoJang.getLaw().getId().in(lawIds), firstJo.getOrdinal().eq(0))
+                        .groupBy(firstJoJang.getLaw().getId())))
+                .fetch();
+
+        Map<Long, String> contents = new HashMap<>();
+        for (Tuple row : rows) {
+            String joContent = row.get(1, String.class);
+            contents.put(row.get(0, Long.class), joContent != null ? joContent : "");
         }
+        return contents;
+    }
 
-        // 4. 조회 결과에 firstJoContent 세팅
-        content.forEach(dto -> {
-            String contentVal = firstJoContentMap.get(dto.getId());
-            dto.setFirstJoContent(contentVal != null ? contentVal : "");
-        });
+    /**
+     * 엔티티를 만들지 않고 계층별 (부모 id, id, 본문) 행만 문서 순서로 조회한 뒤,
+     * 같은 정렬 키를 공유하는 네 목록을 커서로 병합해 장별 본문을 만든다 (법령 크기와 무관하게 쿼리 4번).
+     */
+    @Override
+    public List<LawJangText> findJangTexts(Collection<Long> lawIds) {
+        if (lawIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 전체 개수 조회
-        Long total = queryFactory
-                .select(law.count())
-                .from(law)
-                .where(builder)
-                .fetchOne();
+        List<Tuple> jangRows = queryFactory
+                .select(jang.getLaw().getId(), jang.getId(), jang.getContent())
+                .from(jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jang.getLaw().getId().asc(), jang.getOrdinal().asc(), jang.getId().asc())
+                .fetch();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+        List<Tuple> joRows = queryFactory
+                .select(jang.getId(), jo.getId(), jo.getContent())
+                .from(jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jang.getLaw().getId().asc(), jang.getOrdinal().asc(), jang.getId().asc(),
+                        jo.getOrdinal().asc(), jo.getId().asc())
+                .fetch();
+
+        List<Tuple> hangRows = queryFactory
+                .select(jo.getId(), hang.getId(), hang.getContent())
+                .from(hang)
+                .join(hang.getJo(), jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jang.getLaw().getId().asc(), jang.getOrdinal().asc(), jang.getId().asc(),
+                        jo.getOrdinal().asc(), jo.getId().asc(), hang.getId().asc())
+                .fetch();
+
+        List<Tuple> hoRows = queryFactory
+                .select(hang.getId(), ho.getContent())
+                .from(ho)
+                .join(ho.getHang(), hang)
+                .join(hang.getJo(), jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jang.getLaw().getId().asc(), jang.getOrdinal().asc(), jang.getId().asc(),
+                        jo.getOrdinal().asc(), jo.getId().asc(), hang.getId().asc(), ho.getId().asc())
+                .fetch();
+
+        List<LawJangText> texts = new ArrayList<>(jangRows.size());
+        int joCursor = 0;
+        int hangCursor = 0;
+        int hoCursor = 0;
+        for (Tuple jangRow : jangRows) {
+            Long jangId = jangRow.get(1, Long.class);
+            StringBuilder content = new StringBuilder();
+            appendContent(content, jangRow.get(2, String.class));
+
+            while (joCursor < joRows.size() && jangId.equals(joRows.get(joCursor).get(0, Long.class))) {
+                Tuple joRow = joRows.get(joCursor++);
+                Long joId = joRow.get(1, Long.class);
+                appendContent(content, joRow.get(2, String.class));
+
+                while (hangCursor < hangRows.size() && joId.equals(hangRows.get(hangCursor).get(0, Long.class))) {
+                    Tuple hangRow = hangRows.get(hangCursor++);
+                    Long hangId = hangRow.get(1, Long.class);
+                    appendContent(content, hangRow.get(2, String.class));
+
+                    while (hoCursor < hoRows.size() && hangId.equals(hoRows.get(hoCursor).get(0, Long.class))) {
+                        appendContent(content, hoRows.get(hoCursor++).get(1, String.class));
+                    }
+                }
+            }
+            texts.add(new LawJangText(jangRow.get(0, Long.class), jangId, content.toString()));
+        }
+        return texts;
+    }
+
+    @Override
+    public Optional<Law> findLawTree(Long lawId) {
+        return findLawTrees(List.of(lawId)).stream().findFirst();
+    }
+
+    /**
+     * 하위 계층은 부모 id IN 목록 대신 법령 id 조인으로 조회해, 조/항이 아무리 많아도 IN 절 분할 없이 계층당 쿼리 1번으로 끝난다.
+     * 장/조는 순번, 항/호는 id 순서가 문서 순서다 (순번이 같은 기존 행은 id 순서).
+     * 엔티티의 hashCode(@Data)는 양방향 연관을 따라가므로 부모 id(Long) 기준으로 묶는다.
+     */
+    @Override
+    public List<Law> findLawTrees(Collection<Long> lawIds) {
+        if (lawIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Law> laws = queryFactory
+                .selectFrom(law)
+                .where(law.getId().in(lawIds))
+                .orderBy(law.getId().asc())
+                .fetch();
+        if (laws.isEmpty()) {
+            return laws;
+        }
+
+        List<Jang> jangs = queryFactory
+                .selectFrom(jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jang.getOrdinal().asc(), jang.getId().asc())
+                .fetch();
+
+        List<Jo> jos = queryFactory
+                .selectFrom(jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(jo.getOrdinal().asc(), jo.getId().asc())
+                .fetch();
+
+        List<Hang> hangs = queryFactory
+                .selectFrom(hang)
+                .join(hang.getJo(), jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(hang.getId().asc())
+                .fetch();
+
+        List<Ho> hos = queryFactory
+                .selectFrom(ho)
+                .join(ho.getHang(), hang)
+                .join(hang.getJo(), jo)
+                .join(jo.getJang(), jang)
+                .where(jang.getLaw().getId().in(lawIds))
+                .orderBy(ho.getId().asc())
+                .fetch();
+
+        Map<Long, List<Jang>> jangsByLaw = groupByParent(jangs, child -> child.getLaw().getId());
+        Map<Long, List<Jo>> josByJang = groupByParent(jos, child -> child.getJang().getId());
+        Map<Long, List<Hang>> hangsByJo = groupByParent(hangs, child -> child.getJo().getId());
+        Map<Long, List<Ho>> hosByHang = groupByParent(hos, child -> child.getHang().getId());
+
+        laws.forEach(each -> each.setJangList(jangsByLaw.getOrDefault(each.getId(), new ArrayList<>())));
+        jangs.forEach(each -> each.setJoList(josByJang.getOrDefault(each.getId(), new ArrayList<>())));
+        jos.forEach(each -> each.setHangList(hangsByJo.getOrDefault(each.getId(), new ArrayList<>())));
+        hangs.forEach(each -> each.setHoList(hosByHang.getOrDefault(each.getId(), new ArrayList<>())));
+        return laws;
+    }
+
+    @Override
+    public Map<Long, String> findArticleTexts(Collection<Long> joIds) {
+        if (joIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> joRows = queryFactory
+                .select(jo.getId(), jo.getContent())
+                .from(jo)
+                .where(jo.getId().in(joIds))
+                .fetch();
+
+        List<Tuple> hangRows = queryFactory
+                .select(hang.getJo().getId(), hang.getId(), hang.getContent())
+                .from(hang)
+                .where(hang.getJo().getId().in(joIds))
+                .orderBy(hang.getId().asc())
+                .fetch();
+
+        List<Tuple> hoRows = queryFactory
+                .select(ho.getHang().getId(), ho.getContent())
+                .from(ho)
+                .join(ho.getHang(), hang)
+                .where(hang.getJo().getId().in(joIds))
+                .orderBy(ho.getId().asc())
+                .fetch();
+
+        Map<Long, List<Tuple>> hangsByJo = groupByParent(hangRows, row -> row.get(0, Long.class));
+        Map<Long, List<Tuple>> hosByHang = groupByParent(hoRows, row -> row.get(0, Long.class));
+
+        Map<Long, String> texts = new HashMap<>();
+        for (Tuple joRow : joRows) {
+            Long joId = joRow.get(0, Long.class);
+            StringBuilder content = new StringBuilder();
+            appendContent(content, joRow.get(1, String.class));
+            for (Tuple hangRow : hangsByJo.getOrDefault(joId, List.of())) {
+                appendContent(content, hangRow.get(2, String.class));
+                for (Tuple hoRow : hosByHang.getOrDefault(hangRow.get(1, Long.class), List.of())) {
+                    appendContent(content, hoRow.get(1, String.class));
+                }
+            }
+            texts.put(joId, content.toString());
+        }
+        return texts;
+    }
+
+    private static <T> Map<Long, List<T>> groupByParent(List<T> children, Function<T, Long> parentId) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T child : children) {
+            grouped.computeIfAbsent(parentId.apply(child), key -> new ArrayList<>()).add(child);
+        }
+        return grouped;
+    }
+
+    private static void appendContent(StringBuilder builder, String content) {
+        if (content != null && !content.isBlank()) {
+            builder.append(content).append("\n");
+        }
     }
 }
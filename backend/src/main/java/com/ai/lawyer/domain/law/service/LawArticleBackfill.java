@@ -0,0 +1,143 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import com.ai.lawyer.domain.law.importer.LawImportProperties;
+import com.ai.lawyer.domain.law.repository.LawArticleRepository;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 조문 색인 도입 전에 적재된 법령의 조문 색인을 기동 후 한 번 생성
+ * <p>
+ * 조문키 없이 저장된 조 본문 머리("제750조")로 색인을 만들고, 조문이 없는 법령도 색인 완료로 표시해 다시 읽지 않는다.
+ * 법령마다 별도 트랜잭션에서 먼저 색인 완료 표시를 조건부 UPDATE로 선점하므로, 여러 인스턴스가 동시에 실행해도 한 번만 만든다.
+ */
+@Slf4j
+@Component
+public class LawArticleBackfill {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final LawRepository lawRepository;
+    private final LawArticleRepository lawArticleRepository;
+    private final LawImportProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public LawArticleBackfill(LawRepository lawRepository, LawArticleRepository lawArticleRepository,
+                              LawImportProperties properties, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.lawRepository = lawRepository;
+        this.lawArticleRepository = lawArticleRepository;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isBackfillArticles()) {
+            Thread.ofVirtual().name("law-article-backfill").start(this::backfillQuietly);
+        }
+    }
+
+    /**
+     * 색인 완료 표시가 없는 법령을 id 순서로 모두 색인
+     *
+     * @return 이번 실행에서 색인 완료로 표시한 법령 수
+     */
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+        int indexed = 0;
+        int articles = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> lawIds = lawRepository.findArticleUnindexedIdsAfter(lastId, Limit.of(PAGE_SIZE));
+            if (lawIds.isEmpty()) {
+                break;
+            }
+            for (Long lawId : lawIds) {
+                try {
+                    Integer count = transaction.execute(status -> index(lawId));
+                    if (count != null && count >= 0) {
+                        indexed++;
+                        articles += count;
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    // 개정본 갱신이 같은 법령의 색인을 먼저 만든 경우 (다음 실행 때 다시 확인)
+                    log.warn("조문 색인 생성 건너뜀. 법령 ID: {}, cause: {}", lawId, e.getMessage());
+                }
+            }
+            lastId = lawIds.get(lawIds.size() - 1);
+        }
+        if (indexed > 0) {
+            log.info("기존 법령 조문 색인 생성 완료. 법령 수: {}, 조문 수: {}, 소요 시간: {}ms",
+                    indexed, articles, System.currentTimeMillis() - startTime);
+        }
+        return indexed;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void backfillQuietly() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.error("기존 법령 조문 색인 생성 실패.", e);
+        }
+    }
+
+    /**
+     * 법령 하나 색인 (트랜잭션 안에서 호출)
+     *
+     * @return 만든 조문 수 (다른 인스턴스가 먼저 표시했으면 -1)
+     */
+    private int index(Long lawId) {
+        int claimed = jdbcTemplate.update("UPDATE law SET articles_indexed = TRUE WHERE id = ? AND articles_indexed = FALSE", lawId);
+        if (claimed == 0) {
+            return -1;
+        }
+        // 표시 컬럼이 생기기 전에 조회 시점 색인으로 이미 만들어진 법령은 표시만 함
+        if (lawArticleRepository.existsByLawId(lawId)) {
+            return 0;
+        }
+
+        List<LawArticle> articles = new ArrayList<>();
+        Set<ArticleNumber> numbers = new HashSet<>();
+        List<JoHead> jos = jdbcTemplate.query("SELECT jo.id, jo.content FROM jo JOIN jang ON jo.jang_id = jang.id "
+                        + "WHERE jang.law_id = ? ORDER BY jang.ordinal, jang.id, jo.ordinal, jo.id",
+                (rs, rowNum) -> new JoHead(rs.getLong(1), rs.getString(2)), lawId);
+        for (int ordinal = 0; ordinal < jos.size(); ordinal++) {
+            JoHead jo = jos.get(ordinal);
+            int current = ordinal;
+            ArticleNumber.fromContent(jo.content())
+                    .filter(numbers::add)
+                    .ifPresent(number -> articles.add(LawArticle.builder()
+                            .lawId(lawId)
+                            .articleNumber(number.number())
+                            .articleBranch(number.branch())
+                            .ordinal(current)
+                            .joId(jo.id())
+                            .build()));
+        }
+        lawArticleRepository.saveAll(articles);
+        return articles.size();
+    }
+
+    private record JoHead(long id, String content) {
+    }
+}
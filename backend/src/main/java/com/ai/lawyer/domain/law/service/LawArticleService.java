@@ -0,0 +1,150 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.ArticleNumber;
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import com.ai.lawyer.domain.law.repository.LawArticleRepository;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.snapshot.LawCorpusSnapshot;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 조문 단위 조회 (법령 전체를 읽지 않고 조문 색인으로 바로 찾음)
+ * <p>
+ * 조문 색인 도입 전에 적재된 법령은 LawArticleBackfill이 기동 후 색인을 만들기 전까지 조문을 찾지 못한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LawArticleService {
+
+    private static final int MAX_RANGE = 50;
+    // "민법 제750조", "근로기준법 제23조의2" 형태의 인용
+    private static final Pattern CITATION = Pattern.compile("([가-힣]+(?:법|법률|령|규칙))\\s*(제\\s*\\d+\\s*조(?:\\s*의\\s*\\d+)?)");
+
+    private final LawRepository lawRepository;
+    private final LawArticleRepository lawArticleRepository;
+    private final LawCorpusSnapshot lawCorpusSnapshot;
+
+    /**
+     * 조문 하나 조회
+     *
+     * @param lawId 법령 ID
+     * @param article 조문 번호 ("750", "750-2", "제750조의2")
+     * @throws EntityNotFoundException 법령 또는 조문이 없을 때
+     */
+    @Transactional(readOnly = true)
+    public LawArticleDto getArticle(Long lawId, String article) {
+        ArticleNumber number = parse(article);
+        Law law = findLaw(lawId);
+        LawArticle found = lookup(lawId, number)
+                .orElseThrow(() -> new EntityNotFoundException("조문이 없습니다. 법령 id = " + lawId + ", 조문 = " + number.label()));
+        return toDtos(law, List.of(found)).get(0);
+    }
+
+    /**
+     * 조문 범위 조회 (from, to 포함, 최대 50개)
+     *
+     * @param lawId 법령 ID
+     * @param from 시작 조문 번호
+     * @param to 끝 조문 번호
+     */
+    @Transactional(readOnly = true)
+    public List<LawArticleDto> getArticles(Long lawId, String from, String to) {
+        ArticleNumber start = parse(from);
+        ArticleNumber end = parse(to);
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException("조문 범위가 잘못되었습니다: " + start.label() + " ~ " + end.label());
+        }
+        Law law = findLaw(lawId);
+
+        List<LawArticle> articles = lawArticleRepository
+                .findByLawIdAndArticleNumberBetweenOrderByOrdinalAsc(lawId, start.number(), end.number()).stream()
+                .filter(each -> {
+                    ArticleNumber number = new ArticleNumber(each.getArticleNumber(), each.getArticleBranch());
+                    return number.compareTo(start) >= 0 && number.compareTo(end) <= 0;
+                })
+                .limit(MAX_RANGE)
+                .toList();
+        return toDtos(law, articles);
+    }
+
+    /**
+     * 문장 안의 법령 조문 인용("민법 제750조")을 찾아 본문 조회 (챗봇 참고 자료 보강용)
+     *
+     * @param text 사용자 메시지 등
+     * @param maxArticles 최대 조문 수
+     * @return 찾은 조문 (법령명이나 조문이 없는 인용은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<LawArticleDto> findCitedArticles(String text, int maxArticles) {
+        if (text == null || maxArticles <= 0) {
+            return List.of();
+        }
+        Set<String> seen = new HashSet<>();
+        List<LawArticleDto> results = new ArrayList<>();
+        Matcher matcher = CITATION.matcher(text);
+        while (matcher.find() && results.size() < maxArticles) {
+            String lawName = matcher.group(1);
+            Optional<ArticleNumber> number = ArticleNumber.parse(matcher.group(2));
+            if (number.isEmpty() || !seen.add(lawName + number.get().label())) {
+                continue;
+            }
+            lawRepository.findFirstByLawNameOrderByIdDesc(lawName)
+                    .flatMap(law -> lookup(law.getId(), number.get()).map(article -> toDtos(law, List.of(article)).get(0)))
+                    .ifPresent(results::add);
+        }
+        return results;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Optional<LawArticle> lookup(Long lawId, ArticleNumber number) {
+        return lawArticleRepository.findByLawIdAndArticleNumberAndArticleBranch(lawId, number.number(), number.branch());
+    }
+
+    /**
+     * 본문은 스냅샷에서 순번으로 읽고, 스냅샷에 없는 조문만 DB에서 한 번에 조회
+     */
+    private List<LawArticleDto> toDtos(Law law, List<LawArticle> articles) {
+        Map<Long, String> texts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (LawArticle article : articles) {
+            lawCorpusSnapshot.findArticle(law.getId(), article.getOrdinal())
+                    .ifPresentOrElse(text -> texts.put(article.getJoId(), text), () -> missing.add(article.getJoId()));
+        }
+        if (!missing.isEmpty()) {
+            texts.putAll(lawRepository.findArticleTexts(missing));
+        }
+
+        return articles.stream()
+                .map(article -> LawArticleDto.builder()
+                        .lawId(law.getId())
+                        .lawName(law.getLawName())
+                        .article(new ArticleNumber(article.getArticleNumber(), article.getArticleBranch()).label())
+                        .articleNumber(article.getArticleNumber())
+                        .articleBranch(article.getArticleBranch())
+                        .content(texts.getOrDefault(article.getJoId(), ""))
+                        .build())
+                .toList();
+    }
+
+    private Law findLaw(Long lawId) {
+        return lawRepository.findById(lawId)
+                .orElseThrow(() -> new EntityNotFoundException("법령이 없습니다. 법령 id = " + lawId));
+    }
+
+    private static ArticleNumber parse(String article) {
+        return ArticleNumber.parse(article)
+                .orElseThrow(() -> new IllegalArgumentException("조문 번호 형식이 잘못되었습니다: " + article));
+    }
+}
@@ -0,0 +1,316 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawDocument;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 법령 상세 응답(JSON + gzip)을 법령 id별로 보관하는 캐시
+ * <p>
+ * 법령은 거의 바뀌지 않으므로 엔티티 트리 조회와 Jackson 직렬화는 처음 한 번만 하고,
+ * 이후 요청은 직렬화된 바이트를 그대로 내려준다. 로컬 캐시는 바이트 크기 기준 LRU이며,
+ * Redis 2차 캐시를 켜면 다른 인스턴스가 만든 본문을 DB 조회 없이 가져온다.
+ * 법령을 다시 가져오거나(LawImportedEvent) 개정본으로 갱신하면(LawChangedEvent) 커밋 후 해당 id를 양쪽에서 무효화한다.
+ * <p>
+ * 무효화할 때마다 법령별 버전(로컬은 카운터, Redis는 INCR 키)을 올리고, 조회는 DB를 읽기 전의 버전으로만 저장하므로
+ * 무효화와 겹친 조회가 이전 본문을 다시 넣지 못한다 (Redis 본문 키에 버전이 들어가 이전 버전 키는 TTL로 사라짐).
+ * 로컬 카운터는 법령 id 해시로 나눈 고정 개수라 무효화한 법령이 늘어도 커지지 않으며,
+ * 같은 칸의 다른 법령이 무효화되면 겹친 조회 결과를 저장하지 않고 다음 조회에서 다시 읽을 뿐이다.
+ * 이벤트는 갱신한 인스턴스에서만 받으므로, 다른 인스턴스의 로컬 캐시는 localTtl이 지나면 Redis/DB에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class LawDocumentCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final LawService lawService;
+    private final ObjectMapper objectMapper;
+    private final LawDocumentCacheProperties properties;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    private final Map<Long, Cached> documents = new LinkedHashMap<>(16, 0.75f, true);
+    private final long[] versions = new long[VERSION_STRIPES];  // 법령 id 해시 -> 로컬 무효화 횟수 (documents 잠금 안에서 사용)
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter remoteHitCounter;
+    private final Counter missCounter;
+
+    public LawDocumentCache(LawService lawService, ObjectMapper objectMapper, LawDocumentCacheProperties properties,
+                            ObjectProvider<RedisConnectionFactory> redisConnectionFactory, MeterRegistry meterRegistry) {
+        this.lawService = lawService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.redisTemplate = properties.getRedis().isEnabled() ? redisTemplate(redisConnectionFactory.getIfAvailable()) : null;
+        this.hitCounter = counter(meterRegistry, "local");
+        this.remoteHitCounter = counter(meterRegistry, "redis");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * 법령 상세 응답 조회 (캐시에 없으면 DB에서 트리를 읽어 직렬화한 뒤 저장)
+     *
+     * @param lawId 법령 id
+     * @return 직렬화된 법령 상세 응답
+     * @throws jakarta.persistence.EntityNotFoundException 해당 id의 법령이 없을 때
+     */
+    public LawDocument get(Long lawId) {
+        if (!properties.isEnabled()) {
+            return serialize(lawId);
+        }
+
+        // 버전은 DB를 읽기 전에 읽어야 그 사이 무효화된 본문을 저장하지 않음
+        long localVersion = localVersion(lawId);
+        LawDocument document = getLocal(lawId);
+        if (document != null) {
+            hitCounter.increment();
+            return document;
+        }
+
+        Long remoteVersion = remoteVersion(lawId);
+        document = getRemote(lawId, remoteVersion);
+        if (document != null) {
+            remoteHitCounter.increment();
+        } else {
+            missCounter.increment();
+            document = serialize(lawId);
+            putRemote(lawId, remoteVersion, document);
+        }
+        putLocal(lawId, localVersion, document);
+        return document;
+    }
+
+    /**
+     * 해당 법령의 캐시 항목 제거
+     */
+    public void evict(Long lawId) {
+        synchronized (documents) {
+            versions[stripe(lawId)]++;
+            removeLocal(lawId);
+        }
+        if (redisTemplate != null) {
+            try {
+                Long version = redisTemplate.opsForValue().increment(versionKey(lawId));
+                if (version != null) {
+                    redisTemplate.delete(redisKey(lawId, version - 1));
+                }
+            } catch (RuntimeException e) {
+                log.warn("법령 문서 캐시(Redis) 삭제 실패. lawId: {}, cause: {}", lawId, e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawImported(LawImportedEvent event) {
+        evict(event.lawId());
+        log.debug("법령 문서 캐시 무효화. lawId: {}, 법령명: {}", event.lawId(), event.lawName());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawChanged(LawChangedEvent event) {
+        evict(event.lawId());
+        log.debug("법령 문서 캐시 무효화 (개정본 갱신). lawId: {}, 법령명: {}", event.lawId(), event.lawName());
+    }
+
+    /**
+     * 로컬 캐시가 차지하는 바이트 수
+     */
+    public long localBytes() {
+        synchronized (documents) {
+            return totalBytes;
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private LawDocument serialize(Long lawId) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(lawService.getLawWithAllChildren(lawId));
+            return toDocument(json, gzip(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("법령 직렬화 실패. lawId = " + lawId, e);
+        }
+    }
+
+    private long localVersion(Long lawId) {
+        synchronized (documents) {
+            return versions[stripe(lawId)];
+        }
+    }
+
+    private static int stripe(Long lawId) {
+        return Math.floorMod(Long.hashCode(lawId), VERSION_STRIPES);
+    }
+
+    private LawDocument getLocal(Long lawId) {
+        synchronized (documents) {
+            Cached cached = documents.get(lawId);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.expiresAt() >= 0) {
+                removeLocal(lawId);
+                return null;
+            }
+            return cached.document();
+        }
+    }
+
+    /**
+     * 조회를 시작한 뒤 무효화되지 않았을 때만 저장
+     */
+    private void putLocal(Long lawId, long version, LawDocument document) {
+        if (document.weight() > properties.getMaxBytes()) {
+            return;
+        }
+        synchronized (documents) {
+            if (versions[stripe(lawId)] != version) {
+                return;
+            }
+            Cached previous = documents.put(lawId, new Cached(document, System.nanoTime() + properties.getLocalTtl().toNanos()));
+            totalBytes += document.weight() - (previous != null ? previous.document().weight() : 0);
+
+            // 가장 오래 사용하지 않은 법령부터 제거
+            Iterator<Cached> eldest = documents.values().iterator();
+            while (totalBytes > properties.getMaxBytes() && eldest.hasNext()) {
+                totalBytes -= eldest.next().document().weight();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 제거 (documents 잠금 안에서 호출)
+     */
+    private void removeLocal(Long lawId) {
+        Cached removed = documents.remove(lawId);
+        if (removed != null) {
+            totalBytes -= removed.document().weight();
+        }
+    }
+
+    /**
+     * Redis에 기록된 법령 버전 (한 번도 무효화되지 않았으면 0, Redis를 쓰지 않거나 실패하면 null)
+     */
+    private Long remoteVersion(Long lawId) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            byte[] version = redisTemplate.opsForValue().get(versionKey(lawId));
+            return version != null ? Long.parseLong(new String(version, StandardCharsets.US_ASCII)) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("법령 문서 캐시(Redis) 버전 조회 실패. lawId: {}, cause: {}", lawId, e.getMessage());
+            return null;
+        }
+    }
+
+    private LawDocument getRemote(Long lawId, Long version) {
+        if (version == null) {
+            return null;
+        }
+        try {
+            byte[] gzip = redisTemplate.opsForValue().get(redisKey(lawId, version));
+            return gzip != null ? toDocument(gunzip(gzip), gzip) : null;
+        } catch (RuntimeException | IOException e) {
+            log.warn("법령 문서 캐시(Redis) 조회 실패. lawId: {}, cause: {}", lawId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조회를 시작할 때의 버전 키에 저장 (그 사이 무효화되었으면 아무도 읽지 않는 키에 들어가고 TTL로 사라짐)
+     */
+    private void putRemote(Long lawId, Long version, LawDocument document) {
+        if (version == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(lawId, version), document.gzip(), properties.getRedis().getTtl());
+        } catch (RuntimeException e) {
+            log.warn("법령 문서 캐시(Redis) 저장 실패. lawId: {}, cause: {}", lawId, e.getMessage());
+        }
+    }
+
+    private String redisKey(Long lawId, long version) {
+        return properties.getRedis().getKeyPrefix() + lawId + ":" + version;
+    }
+
+    /**
+     * 법령별 버전 키 (무효화마다 INCR, 만료 없음)
+     */
+    private String versionKey(Long lawId) {
+        return properties.getRedis().getKeyPrefix() + "version:" + lawId;
+    }
+
+    private static LawDocument toDocument(byte[] json, byte[] gzip) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new LawDocument(json, gzip, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    private static RedisTemplate<String, byte[]> redisTemplate(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory == null) {
+            log.warn("RedisConnectionFactory가 없어 법령 문서 캐시는 로컬 캐시만 사용합니다.");
+            return null;
+        }
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private record Cached(LawDocument document, long expiresAt) {
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("law.document.cache")
+                .description("법령 상세 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
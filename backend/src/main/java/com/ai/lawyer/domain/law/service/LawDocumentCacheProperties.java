@@ -0,0 +1,28 @@
+package com.ai.lawyer.domain.law.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law.document-cache")
+@Getter
+@Setter
+public class LawDocumentCacheProperties {
+
+    private boolean enabled = true;                      // false면 매 요청 DB 조회 + 직렬화
+    private long maxBytes = 64L * 1024 * 1024;           // 로컬 캐시 최대 크기 (JSON + gzip 합계)
+    private Duration localTtl = Duration.ofMinutes(10);  // 로컬 항목 유지 시간 (다른 인스턴스가 갱신한 법령을 다시 읽는 주기)
+    private Redis redis = new Redis();
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private boolean enabled = false;        // 인스턴스 간 공유 2차 캐시 (gzip 본문만 저장)
+        private String keyPrefix = "law:document:";
+        private Duration ttl = Duration.ofDays(1);
+    }
+}
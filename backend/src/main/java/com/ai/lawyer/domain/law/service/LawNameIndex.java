@@ -0,0 +1,382 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.repository.LawRepositoryCustom;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 법령명 부분 문자열/접두어 검색용 메모리 내 색인
+ * <p>
+ * 법령명을 공백 제거 + 소문자로 정규화한 뒤 음절 unigram/bigram 역색인과 정렬된 이름 목록(접두어 검색)을 유지한다.
+ * 부분 문자열 검색은 검색어 bigram의 포스팅을 교집합한 뒤 정규화한 이름의 실제 포함 여부로 걸러내므로,
+ * 같은 정규화를 적용하는 LIKE 조회(LawRepositoryCustom.normalizeLawName)와 결과가 같다.
+ * 기동 시 DB의 법령명으로 채우고, 이후 적재분은 LawImportedEvent로 추가하며 개정으로 바뀐 법령명은 LawChangedEvent로 교체한다.
+ * <p>
+ * 이벤트는 적재한 인스턴스에서만 받으므로, 다른 인스턴스의 적재/개정/삭제는 refreshIntervalMillis마다 DB와 맞춰 반영한다.
+ * 그 사이 색인에 없는 법령을 찾지 못하지 않도록 일치 법령이 없으면 LIKE 조회로 넘긴다.
+ */
+@Slf4j
+@Component
+public class LawNameIndex {
+
+    private final LawRepository lawRepository;
+    private final LawNameIndexProperties properties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();            // 법령 id -> 법령명
+    private final Map<String, Postings> grams = new HashMap<>();         // 음절 unigram/bigram -> 법령 id
+    private final TreeMap<String, Postings> byName = new TreeMap<>();    // 정규화한 법령명 -> 법령 id
+
+    private volatile boolean ready;
+
+    public LawNameIndex(LawRepository lawRepository, LawNameIndexProperties properties) {
+        this.lawRepository = lawRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (properties.isEnabled()) {
+            Thread.ofVirtual().name("law-name-index").start(this::loadQuietly);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 법령명 반영
+     */
+    @Scheduled(fixedDelayString = "${custom.law.name-index.refresh-interval-millis:300000}",
+            initialDelayString = "${custom.law.name-index.refresh-interval-millis:300000}")
+    public void refresh() {
+        if (properties.isEnabled() && ready) {
+            loadQuietly();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawImported(LawImportedEvent event) {
+        if (properties.isEnabled()) {
+            add(event.lawId(), event.lawName());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawChanged(LawChangedEvent event) {
+        if (properties.isEnabled() && event.lawInfoChanged()) {
+            rename(event.lawId(), event.lawName());
+        }
+    }
+
+    /**
+     * 법령명 추가 (같은 id는 한 번만 색인)
+     */
+    public void add(Long lawId, String lawName) {
+        String normalized = normalize(lawName);
+        if (lawId == null || normalized.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (entries.putIfAbsent(lawId, new Entry(lawName.trim(), normalized)) != null) {
+                return;
+            }
+            for (String gram : grams(normalized)) {
+                grams.computeIfAbsent(gram, key -> new Postings()).add(lawId);
+            }
+            byName.computeIfAbsent(normalized, key -> new Postings()).add(lawId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 법령명 교체 (색인에 없던 id면 추가, 이름이 비었으면 제거)
+     */
+    public void rename(Long lawId, String lawName) {
+        if (lawId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(lawId);
+            if (previous != null) {
+                if (lawName != null && previous.name().equals(lawName.trim())) {
+                    return;
+                }
+                remove(lawId, previous);
+            }
+            add(lawId, lawName); // 쓰기 잠금은 재진입 가능
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 법령명에 검색어가 포함된 법령 id (id 오름차순)
+     * <p>
+     * 색인이 준비되지 않았거나, 일치 법령이 없거나(다른 인스턴스에서 적재되어 아직 반영 전일 수 있음),
+     * 일치 법령이 너무 많아(maxInClause 초과) IN 조건이 오히려 느린 경우 empty를 반환하며,
+     * 이때 호출하는 쪽은 LIKE 조회를 사용한다.
+     *
+     * @param query 법령명 검색어
+     * @return 일치 법령 id
+     */
+    public Optional<List<Long>> findIds(String query) {
+        String normalized = normalize(query);
+        if (!ready || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            List<Long> ids = matchSubstring(normalized);
+            return ids.isEmpty() || ids.size() > properties.getMaxInClause() ? Optional.empty() : Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자동완성용 법령명 (접두어 일치를 이름순으로 먼저, 그다음 부분 문자열 일치를 짧은 이름순으로)
+     *
+     * @param query 입력 중인 검색어
+     * @param size 최대 반환 수 (maxSuggestions로 제한)
+     * @return 중복 없는 법령명 목록 (색인이 준비되지 않았으면 빈 목록)
+     */
+    public List<String> suggest(String query, int size) {
+        String normalized = normalize(query);
+        int limit = Math.min(Math.max(size, 1), properties.getMaxSuggestions());
+        if (!ready || normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Set<String> names = new LinkedHashSet<>();
+            for (Postings postings : byName.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+                names.add(entries.get(postings.get(0)).name());
+                if (names.size() >= limit) {
+                    return List.copyOf(names);
+                }
+            }
+
+            List<Entry> contained = new ArrayList<>();
+            for (Long lawId : matchSubstring(normalized)) {
+                contained.add(entries.get(lawId));
+            }
+            contained.sort(Comparator.comparingInt((Entry entry) -> entry.normalized().length())
+                    .thenComparing(Entry::normalized));
+            for (Entry entry : contained) {
+                names.add(entry.name());
+                if (names.size() >= limit) {
+                    break;
+                }
+            }
+            return List.copyOf(names);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB의 전체 법령명과 색인 맞추기 (새 법령 추가, 바뀐 이름 교체, DB에 없는 법령 제거)
+     * <p>
+     * 읽는 동안 적재 이벤트로 들어온 법령은 시작 시점 색인에 없었으므로 제거하지 않는다.
+     */
+    public void loadAll() {
+        long startTime = System.currentTimeMillis();
+        Set<Long> missing = entryIds();
+        long lastId = 0L;
+        while (true) {
+            List<SourceRowView> rows = lawRepository.findSourceRowsAfter(lastId, PageRequest.of(0, properties.getPageSize()));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (SourceRowView row : rows) {
+                missing.remove(row.getId());
+                rename(row.getId(), row.getSourceKey());
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+        removeAll(missing);
+        ready = true;
+        log.info("법령명 색인 구성 완료. 법령 수: {}, 제거: {}, 소요 시간: {}ms",
+                size(), missing.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Set<Long> entryIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeAll(Set<Long> lawIds) {
+        if (lawIds.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long lawId : lawIds) {
+                Entry entry = entries.get(lawId);
+                if (entry != null) {
+                    remove(lawId, entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에서 법령 하나 제거 (쓰기 잠금 안에서 호출)
+     */
+    private void remove(Long lawId, Entry entry) {
+        entries.remove(lawId);
+        for (String gram : grams(entry.normalized())) {
+            removePosting(grams, gram, lawId);
+        }
+        removePosting(byName, entry.normalized(), lawId);
+    }
+
+    private static void removePosting(Map<String, Postings> postingsByKey, String key, long lawId) {
+        Postings postings = postingsByKey.get(key);
+        if (postings != null && postings.remove(lawId) && postings.size() == 0) {
+            postingsByKey.remove(key);
+        }
+    }
+
+    private void loadQuietly() {
+        try {
+            loadAll();
+        } catch (RuntimeException e) {
+            log.error("법령명 색인 구성 실패. 법령명 검색은 LIKE 조회를 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 검색어의 모든 bigram을 가진 법령을 가장 짧은 포스팅부터 교집합한 뒤 실제 포함 여부 확인
+     */
+    private List<Long> matchSubstring(String normalized) {
+        List<Postings> lists = new ArrayList<>();
+        for (String gram : normalized.length() == 1 ? List.of(normalized) : bigrams(normalized)) {
+            Postings postings = grams.get(gram);
+            if (postings == null) {
+                return List.of();
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        Postings shortest = lists.get(0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < shortest.size(); i++) {
+            long lawId = shortest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(lawId);
+            }
+            if (inAll && entries.get(lawId).normalized().contains(normalized)) {
+                ids.add(lawId);
+            }
+        }
+        return ids;
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> result = new HashSet<>(bigrams(normalized));
+        for (int i = 0; i < normalized.length(); i++) {
+            result.add(normalized.substring(i, i + 1));
+        }
+        return result;
+    }
+
+    private static List<String> bigrams(String normalized) {
+        List<String> result = new ArrayList<>(Math.max(normalized.length() - 1, 0));
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    /**
+     * LIKE 조회와 같은 정규화 (공백 제거 + 소문자)
+     */
+    static String normalize(String text) {
+        return LawRepositoryCustom.normalizeLawName(text);
+    }
+
+    private record Entry(String name, String normalized) {
+    }
+
+    /**
+     * 정렬된 법령 id 목록 (id는 대부분 증가 순서로 들어오므로 보통 끝에 추가됨)
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        private boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private long get(int index) {
+            return ids[index];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ai.lawyer.domain.law.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law.name-index")
+@Getter
+@Setter
+public class LawNameIndexProperties {
+
+    private boolean enabled = true;     // false면 법령명 검색이 항상 LIKE '%x%' 조회
+    private int pageSize = 1000;        // 기동 시 법령명을 한 번에 읽을 행 수
+    private int maxInClause = 1000;     // 일치 법령이 이보다 많으면 IN 대신 LIKE 조회 (선택도가 낮은 검색어)
+    private int maxSuggestions = 20;    // 자동완성 최대 반환 수
+    private long refreshIntervalMillis = 300_000;   // 다른 인스턴스의 적재/개정/삭제를 DB에서 다시 읽어 반영하는 주기
+}
@@ -4,27 +4,34 @@ package com.ai.lawyer.domain.law.service;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
 import com.ai.lawyer.domain.law.entity.*;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.ai.lawyer.domain.law.importer.LawAmendmentImporter;
+import com.ai.lawyer.domain.law.importer.LawBulkImporter;
+import com.ai.lawyer.domain.law.importer.LawDetailParser;
+import com.ai.lawyer.domain.law.importer.LawFetchResult;
+import com.ai.lawyer.domain.law.importer.LawImportProperties;
+import com.ai.lawyer.domain.law.importer.LawOpenApiFetcher;
+import com.ai.lawyer.domain.law.importer.ParsedLaw;
 import com.ai.lawyer.domain.law.repository.*;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ai.lawyer.domain.law.snapshot.LawCorpusSnapshot;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 @Service
 @AllArgsConstructor
@@ -36,14 +43,16 @@ public class LawService {
     private final JoRepository joRepository;
     private final HangRepository hangRepository;
     private final HoRepository hoRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    // 상수 정의
-    private static final String BASE_URL = "http://www.law.go.kr/DRF";
-    private static final String OC = "noheechul";
-    private static final int DEFAULT_PAGE_SIZE = 100;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private final LawArticleRepository lawArticleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LawCorpusSnapshot lawCorpusSnapshot;
+    private final LawNameIndex lawNameIndex;
+    private final LawDetailParser lawDetailParser;
+    private final LawBulkImporter lawBulkImporter;
+    private final LawAmendmentImporter lawAmendmentImporter;
+    private final LawImportProperties lawImportProperties;
+    private final LawOpenApiFetcher lawOpenApiFetcher;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 조건에 맞는 법령 목록 검색
@@ -52,60 +61,76 @@ public class LawService {
      * @return 검색된 법령 목록 (페이징 처리됨)
      */
     public Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest) {
-        return lawRepository.searchLaws(searchRequest);
+        // 법령명은 색인에서 일치 id를 찾아 나머지 조건과 함께 조회 (색인을 쓸 수 없거나 일치 법령이 없으면 LIKE 조회)
+        List<Long> lawNameMatches = StringUtils.hasText(searchRequest.getLawName())
+                ? lawNameIndex.findIds(searchRequest.getLawName()).orElse(null)
+                : null;
+        return lawRepository.searchLaws(searchRequest, lawNameMatches);
+    }
+
+    /**
+     * 법령명 자동완성
+     *
+     * @param query 입력 중인 검색어
+     * @param size 최대 반환 수
+     * @return 접두어 일치 -> 부분 일치 순서의 법령명
+     */
+    public List<String> suggestLawNames(String query, int size) {
+        return lawNameIndex.suggest(query, size);
     }
 
     /**
      * 법령 ID로 법령과 모든 하위 엔티티를 조회
      *
      * @param lawId 법령 ID
-     * @return Law 엔티티 (Jang, Jo, Hang, Ho 모두 포함)
+     * @return Law 엔티티 (Jang, Jo, Hang, Ho 모두 포함, 쿼리 5번)
      * @throws EntityNotFoundException 해당 ID의 법령이 존재하지 않을 때 예외 발생
      */
+    @Transactional(readOnly = true)
     public Law getLawWithAllChildren(Long lawId) {
-        Law law = lawRepository.findWithJangById(lawId)
+        // 스냅샷에 있으면 DB 조회 없이 반환, 없으면 쿼리 5번으로 조회
+        Law law = lawCorpusSnapshot.findLaw(lawId)
+                .or(() -> lawRepository.findLawTree(lawId))
                 .orElseThrow(() -> new EntityNotFoundException("법령이 없습니다. 법령 id = " + lawId));
 
-        List<Jang> jangs = jangRepository.findByLawId(lawId);
-        law.setJangList(jangs);
-
-        loadChildEntities(jangs);
-
         log.info("법령 상세 정보 조회 완료. 법령 ID: {}", lawId);
         return law;
     }
 
     /**
      * Open API를 통해 법령 데이터를 검색하고 데이터베이스에 저장
+     * <p>
+     * 상세 조회는 동시에 진행하고, 도착한 법령부터 법령마다 별도 트랜잭션으로 저장한다 (개별 실패는 건너뜀).
+     * 이미 저장된 법령(법령ID, 없으면 법령명)이면 새로 저장하지 않고 바뀐 장/조만 갱신한다.
      *
      * @param query 검색 키워드
+     * @return 수집 결과
      * @throws RuntimeException API 호출 또는 저장 중 오류 발생 시 예외 발생
      */
-    @Transactional
-    public void saveLaw(String query) {
+    public LawFetchResult saveLaw(String query) {
         try {
             log.info("법령 검색 및 저장 시작. 키워드: {}", query);
 
-            String lawJson = getLawSearchResponse(query);
-            List<String> lawIdList = extractLawIds(lawJson);
-
-            if (lawIdList.isEmpty()) {
-                log.info("검색 결과가 없습니다. 키워드: {}", query);
-                return;
-            }
-
-            for (String lawId : lawIdList) {
-                try {
-                    String lawDetailJson = getLawDetailResponse(lawId);
-                    saveLawToDatabase(lawDetailJson);
-                } catch (Exception e) {
-                    log.error("법령 저장 실패. 법령 ID: {}", lawId, e);
-                    // 개별 실패는 무시하고 계속 진행
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            LawFetchResult result = lawOpenApiFetcher.fetch(query, parsed -> transaction.executeWithoutResult(status -> {
+                Optional<LawChangedEvent> amended = lawImportProperties.isAmend()
+                        ? lawAmendmentImporter.amend(parsed)
+                        : Optional.empty();
+                if (amended.isPresent()) {
+                    amended.filter(event -> !event.isEmpty()).ifPresent(eventPublisher::publishEvent);
+                    return;
                 }
-            }
+                Law law = saveParsedLaw(parsed);
+                eventPublisher.publishEvent(new LawImportedEvent(law.getId(), law.getLawName()));
+            }));
 
-            log.info("법령 저장 완료. 키워드: {}, 처리된 법령 수: {}", query, lawIdList.size());
+            log.info("법령 저장 완료. 키워드: {}, 검색: {}, 저장: {}, 실패: {}",
+                    query, result.found(), result.imported(), result.failed());
+            return result;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("법령 검색 및 저장이 중단되었습니다.", e);
         } catch (Exception e) {
             log.error("법령 검색 및 저장 실패. 키워드: {}", query, e);
             throw new RuntimeException("법령 검색 및 저장 중 오류가 발생했습니다.", e);
@@ -114,272 +139,76 @@ public class LawService {
 
     // ==================== Private Helper Methods ====================
 
-    /**
-     * 하위 엔티티들을 재귀적으로 로드
-     *
-     * @param jangs 장 엔티티 리스트
-     */
-    private void loadChildEntities(List<Jang> jangs) {
-        for (Jang jang : jangs) {
-            List<Jo> jos = joRepository.findByJangId(jang.getId());
-            jang.setJoList(jos);
-
-            for (Jo jo : jos) {
-                List<Hang> hangs = hangRepository.findByJoId(jo.getId());
-                jo.setHangList(hangs);
-                // Ho는 lazy loading으로 처리되거나 필요시 추가 로드
-            }
-        }
-    }
-
-    /**
-     * Open API에서 법령 검색 결과 조회
-     *
-     * @param query 검색 키워드
-     * @return API 응답 JSON 문자열
-     */
-    private String getLawSearchResponse(String query) {
-        String url = UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawSearch.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "law")
-                .queryParam("type", "JSON")
-                .queryParam("query", query)
-                .queryParam("page", 1)
-                .queryParam("display", DEFAULT_PAGE_SIZE)
-                .build()
-                .toUriString();
-
-        return restTemplate.getForObject(url, String.class);
-    }
-
-    /**
-     * Open API에서 법령 상세 정보 조회
-     *
-     * @param lawId 법령 ID
-     * @return API 응답 JSON 문자열
-     */
-    private String getLawDetailResponse(String lawId) {
-        String url = UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawService.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "law")
-                .queryParam("ID", lawId)
-                .queryParam("type", "JSON")
-                .build()
-                .toUriString();
-
-        return restTemplate.getForObject(url, String.class);
-    }
-
-    /**
-     * 법령 검색 결과 JSON에서 법령 ID 리스트 추출
-     *
-     * @param json API 응답 JSON 문자열
-     * @return 법령 ID 리스트
-     * @throws Exception JSON 파싱 오류 시 예외 발생
-     */
-    private List<String> extractLawIds(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
-        JsonNode lawNode = root.path("LawSearch").path("law");
-
-        if (lawNode.isArray()) {
-            return StreamSupport.stream(lawNode.spliterator(), false)
-                    .map(item -> item.path("법령ID").asText(null))
-                    .filter(StringUtils::hasText)
-                    .collect(Collectors.toList());
-        } else if (lawNode.isObject()) {
-            String lawId = lawNode.path("법령ID").asText(null);
-            return StringUtils.hasText(lawId) ? List.of(lawId) : List.of();
-        }
-
-        return new ArrayList<>();
-    }
-
     /**
      * 법령 상세 정보 JSON을 파싱하여 데이터베이스에 저장
      *
      * @param json API 응답 JSON 문자열
-     * @throws IOException JSON 파싱 오류 시 예외 발생
-     */
-    private void saveLawToDatabase(String json) throws IOException {
-        JsonNode root = objectMapper.readTree(json);
-        JsonNode basic = root.path("법령").path("기본정보");
-
-        // 1. Law 엔티티 저장
-        Law law = createAndSaveLaw(basic);
-
-        // 2. 조문 단위 처리
-        JsonNode articles = root.path("법령").path("조문").path("조문단위");
-        if (articles.isArray()) {
-            processArticles(articles, law);
-        }
-    }
-
-    /**
-     * Law 엔티티 생성 및 저장
-     *
-     * @param basic 법령 기본정보 JSON 노드
      * @return 저장된 Law 엔티티
+     * @throws IOException JSON 파싱 오류 시 예외 발생
      */
-    private Law createAndSaveLaw(JsonNode basic) {
-        Law law = new Law();
-        law.setLawName(basic.path("법령명_한글").asText());
-        law.setLawField(basic.path("법종구분").path("content").asText());
-        law.setMinistry(basic.path("소관부처").path("content").asText());
-        law.setPromulgationNumber(basic.path("공포번호").asText());
-
-        // 날짜 파싱
-        parseAndSetDate(basic.path("공포일자").asText(), law::setPromulgationDate);
-        parseAndSetDate(basic.path("시행일자").asText(), law::setEnforcementDate);
-
-        return lawRepository.save(law);
+    Law saveLawToDatabase(String json) throws IOException {
+        return saveParsedLaw(lawDetailParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
     }
 
-    /**
-     * 날짜 문자열을 파싱하여 LocalDate로 변환
-     *
-     * @param dateStr 날짜 문자열 (yyyyMMdd 형식)
-     * @param setter 날짜 설정 함수
-     */
-    private void parseAndSetDate(String dateStr, java.util.function.Consumer<LocalDate> setter) {
-        if (StringUtils.hasText(dateStr)) {
-            try {
-                setter.accept(LocalDate.parse(dateStr, DATE_FORMATTER));
-            } catch (DateTimeParseException e) {
-                log.warn("날짜 파싱 실패: {}", dateStr);
-            }
-        }
+    private Law saveParsedLaw(ParsedLaw parsed) {
+        // 계층별 다중 행 INSERT (끄면 엔티티마다 저장)
+        return lawImportProperties.isBulk() ? lawBulkImporter.importLaw(parsed) : saveEntities(parsed);
     }
 
     /**
-     * 조문 단위 배열 처리
+     * 파싱한 법령을 엔티티마다 repository.save로 저장 (행마다 INSERT 1번, id는 일괄 적재와 같은 law_id_block에서 받음)
      *
-     * @param articles 조문 단위 JSON 배열
-     * @param law 상위 Law 엔티티
+     * @param parsed 파싱한 법령
+     * @return 저장된 Law 엔티티
      */
-    private void processArticles(JsonNode articles, Law law) {
-        Jang currentJang = createEmptyJang(law);
-
-        for (JsonNode article : articles) {
-            String key = article.path("조문키").asText();
-            String content = article.path("조문내용").asText();
-
-            if (key.endsWith("0")) {
-                // 장(Jang) 처리
-                currentJang = createAndSaveJang(content, law);
-            } else {
-                // 조(Jo) 처리
-                if (currentJang.getContent() == null) {
-                    currentJang = jangRepository.save(currentJang);
-                }
-                Jo jo = createAndSaveJo(content, currentJang);
-                processHangEntities(article.path("항"), jo);
-            }
+    private Law saveEntities(ParsedLaw parsed) {
+        parsed.law().setArticlesIndexed(true);
+        Law law = lawRepository.save(parsed.law());
+
+        List<Jang> jangs = new ArrayList<>(parsed.jangs().size());
+        for (ParsedLaw.Node node : parsed.jangs()) {
+            Jang jang = new Jang();
+            jang.setContent(node.content());
+            jang.setOrdinal(jangs.size());
+            jang.setLaw(law);
+            jangs.add(jangRepository.save(jang));
         }
-    }
-
-    /**
-     * 빈 Jang 엔티티 생성
-     *
-     * @param law 상위 Law 엔티티
-     * @return 생성된 Jang 엔티티
-     */
-    private Jang createEmptyJang(Law law) {
-        Jang jang = new Jang();
-        jang.setContent(null);
-        jang.setLaw(law);
-        return jang;
-    }
-
-    /**
-     * Jang 엔티티 생성 및 저장
-     *
-     * @param content 장 내용
-     * @param law 상위 Law 엔티티
-     * @return 저장된 Jang 엔티티
-     */
-    private Jang createAndSaveJang(String content, Law law) {
-        Jang jang = new Jang();
-        jang.setContent(content);
-        jang.setLaw(law);
-        return jangRepository.save(jang);
-    }
-
-    /**
-     * Jo 엔티티 생성 및 저장
-     *
-     * @param content 조 내용
-     * @param jang 상위 Jang 엔티티
-     * @return 저장된 Jo 엔티티
-     */
-    private Jo createAndSaveJo(String content, Jang jang) {
-        Jo jo = new Jo();
-        jo.setContent(content);
-        jo.setJang(jang);
-        return joRepository.save(jo);
-    }
 
-    /**
-     * 항(Hang) 엔티티들 처리
-     *
-     * @param paragraphs 항 JSON 노드
-     * @param jo 상위 Jo 엔티티
-     */
-    private void processHangEntities(JsonNode paragraphs, Jo jo) {
-        if (paragraphs.isMissingNode()) {
-            return;
+        List<Jo> jos = new ArrayList<>(parsed.jos().size());
+        for (ParsedLaw.Node node : parsed.jos()) {
+            Jo jo = new Jo();
+            jo.setContent(node.content());
+            jo.setOrdinal(jos.size());
+            jo.setJang(jangs.get(node.parent()));
+            jos.add(joRepository.save(jo));
         }
 
-        if (paragraphs.isArray()) {
-            for (JsonNode paragraph : paragraphs) {
-                Hang hang = createAndSaveHang(paragraph, jo);
-                processHoEntities(paragraph.path("호"), hang);
-            }
-        } else if (paragraphs.isObject()) {
-            Hang hang = createAndSaveHang(null, jo);
-            processHoEntities(paragraphs.path("호"), hang);
+        List<Hang> hangs = new ArrayList<>(parsed.hangs().size());
+        for (ParsedLaw.Node node : parsed.hangs()) {
+            Hang hang = new Hang();
+            hang.setContent(node.content());
+            hang.setJo(jos.get(node.parent()));
+            hangs.add(hangRepository.save(hang));
         }
-    }
 
-    /**
-     * Hang 엔티티 생성 및 저장
-     *
-     * @param paragraph 항 JSON 노드 (null 가능)
-     * @param jo 상위 Jo 엔티티
-     * @return 저장된 Hang 엔티티
-     */
-    private Hang createAndSaveHang(JsonNode paragraph, Jo jo) {
-        Hang hang = new Hang();
-
-        if (paragraph != null) {
-            String hangContent = paragraph.path("항내용").isMissingNode()
-                    ? null
-                    : paragraph.path("항내용").asText();
-            hang.setContent(hangContent);
-        } else {
-            hang.setContent(null);
+        for (ParsedLaw.Node node : parsed.hos()) {
+            Ho ho = new Ho();
+            ho.setContent(node.content());
+            ho.setHang(hangs.get(node.parent()));
+            hoRepository.save(ho);
         }
 
-        hang.setJo(jo);
-        return hangRepository.save(hang);
-    }
-
-    /**
-     * 호(Ho) 엔티티들 처리
-     *
-     * @param itemsNode 호 JSON 노드
-     * @param hang 상위 Hang 엔티티
-     */
-    private void processHoEntities(JsonNode itemsNode, Hang hang) {
-        if (itemsNode.isArray()) {
-            for (JsonNode item : itemsNode) {
-                Ho ho = new Ho();
-                ho.setContent(item.path("호내용").asText());
-                ho.setHang(hang);
-                hoRepository.save(ho);
-            }
-        }
+        // 조문키(조번호 + 가지번호)로 만든 조문 색인
+        lawArticleRepository.saveAll(parsed.articles().stream()
+                .map(article -> LawArticle.builder()
+                        .lawId(law.getId())
+                        .articleNumber(article.number().number())
+                        .articleBranch(article.number().branch())
+                        .ordinal(article.jo())
+                        .joId(jos.get(article.jo()).getId())
+                        .build())
+                .toList());
+        return law;
     }
-
-
 }
 
@@ -0,0 +1,241 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 전체 법령을 메모리 맵 스냅샷으로 유지하고, 법령 상세/조문/벡터화 본문 조회를 DB 대신 처리
+ * <p>
+ * 법령 계층은 사실상 읽기 전용 참조 데이터이므로 주기적으로 한 파일로 컴파일해 두고, 기동 시에는 파일을 매핑만 한다.
+ * 스냅샷에 없거나(이후 적재분) 다시 적재된 법령은 빈 결과를 반환하며, 호출하는 쪽이 DB로 조회한다.
+ * <p>
+ * 개정본으로 바뀐 법령은 이 인스턴스에서는 변경 이벤트로 바로, 재기동 후나 다른 인스턴스에서는 law.content_updated_at이
+ * 스냅샷 생성 시각 이후인 법령을 주기적으로 확인해 DB에서 읽는다. 기동 시에는 이 확인이 끝난 뒤에 스냅샷을 사용한다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class LawCorpusSnapshot {
+
+    private final LawRepository lawRepository;
+    private final LawSnapshotProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 인스턴스 간 시계 차이로 변경분을 놓치지 않도록 생성 시각보다 조금 앞부터 확인
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final AtomicReference<Loaded> loaded = new AtomicReference<>();
+    private final Set<Long> invalidated = ConcurrentHashMap.newKeySet(); // 이 인스턴스에서 받은 변경 이벤트
+
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+
+    public LawCorpusSnapshot(LawRepository lawRepository, LawSnapshotProperties properties,
+                             PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.lawRepository = lawRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.hitCounter = Counter.builder("law.snapshot.reads").tag("result", "hit").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("law.snapshot.reads").tag("result", "fallback").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path path = Path.of(properties.getPath());
+        if (Files.exists(path)) {
+            try {
+                long startTime = System.currentTimeMillis();
+                LawSnapshot opened = LawSnapshot.open(path);
+                Loaded current = new Loaded(opened, changedSince(opened));
+                loaded.set(current);
+                log.info("법령 스냅샷 매핑 완료. path: {}, 법령 수: {}, 생성 시각: {}, 이후 개정된 법령: {}, 소요 시간: {}ms",
+                        path, opened.lawCount(), opened.builtAt(), current.changedLawIds().size(),
+                        System.currentTimeMillis() - startTime);
+                return;
+            } catch (IOException e) {
+                log.error("법령 스냅샷 매핑 실패. 다시 생성합니다. path: {}", path, e);
+            } catch (RuntimeException e) {
+                // 이후 개정분을 모르는 스냅샷은 쓰지 않고 다시 생성될 때까지 DB에서 읽음
+                log.error("법령 스냅샷 이후 개정 확인 실패. 다시 생성합니다. path: {}", path, e);
+            }
+        }
+        if (properties.isBuildOnStartup()) {
+            Thread.ofVirtual().name("law-snapshot-build").start(this::rebuildQuietly);
+        }
+    }
+
+    @Scheduled(cron = "${custom.law.snapshot.rebuild-cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        if (properties.isEnabled()) {
+            rebuildQuietly();
+        }
+    }
+
+    /**
+     * 스냅샷 생성 이후 개정된 법령을 DB에서 다시 확인 (다른 인스턴스가 갱신한 법령 반영)
+     */
+    @Scheduled(fixedDelayString = "${custom.law.snapshot.stale-check-interval-millis:30000}",
+            initialDelayString = "${custom.law.snapshot.stale-check-interval-millis:30000}")
+    public void refreshChangedLaws() {
+        Loaded current = loaded.get();
+        if (current == null) {
+            return;
+        }
+        try {
+            Set<Long> changed = changedSince(current.snapshot());
+            // 확인하는 동안 스냅샷이 다시 생성되었으면 새 스냅샷 기준 결과를 유지
+            if (!changed.equals(current.changedLawIds())
+                    && loaded.compareAndSet(current, new Loaded(current.snapshot(), changed))) {
+                log.info("법령 스냅샷 이후 개정된 법령: {}개 (DB에서 조회)", changed.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("법령 스냅샷 이후 개정 확인 실패. cause: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB의 전체 법령으로 스냅샷 파일을 다시 만들고 새 파일로 교체
+     * <p>
+     * 생성 시각은 읽기 시작 시각으로 기록하므로, 생성 중 개정된 법령은 새 스냅샷에서도 DB에서 읽는다.
+     *
+     * @return 스냅샷에 담긴 법령 수
+     */
+    public synchronized int rebuild() throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path path = Path.of(properties.getPath());
+        Set<Long> invalidatedBefore = Set.copyOf(invalidated);
+
+        try (LawSnapshotWriter writer = new LawSnapshotWriter(path)) {
+            long lastId = 0L;
+            while (true) {
+                List<Long> ids = lawRepository.findIdsAfter(lastId, Limit.of(properties.getPageSize()));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                // 페이지마다 트랜잭션을 끝내 영속성 컨텍스트가 전체 법령으로 커지지 않게 함
+                List<Law> laws = readOnlyTransaction.execute(status -> lawRepository.findLawTrees(ids));
+                for (Law law : laws) {
+                    writer.add(law);
+                }
+                lastId = ids.get(ids.size() - 1);
+            }
+            writer.finish(startTime);
+
+            LawSnapshot rebuilt = LawSnapshot.open(path);
+            loaded.set(new Loaded(rebuilt, changedSince(rebuilt)));
+            invalidated.removeAll(invalidatedBefore);
+            log.info("법령 스냅샷 생성 완료. path: {}, 법령 수: {}, 소요 시간: {}ms",
+                    path, writer.lawCount(), System.currentTimeMillis() - startTime);
+            return writer.lawCount();
+        }
+    }
+
+    /**
+     * 법령 전체 트리 (스냅샷에 없으면 empty)
+     */
+    public Optional<Law> findLaw(Long lawId) {
+        return read(lawId, current -> current.law(lawId));
+    }
+
+    /**
+     * 벡터화용 장별 본문 (스냅샷에 없으면 empty)
+     */
+    public Optional<List<LawJangText>> findJangTexts(Long lawId) {
+        return read(lawId, current -> current.jangTexts(lawId));
+    }
+
+    /**
+     * 법령 안에서 ordinal번째(0부터) 조문 본문 (스냅샷에 없으면 empty)
+     */
+    public Optional<String> findArticle(Long lawId, int ordinal) {
+        return read(lawId, current -> current.article(lawId, ordinal));
+    }
+
+    public boolean isLoaded() {
+        return loaded.get() != null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawImported(LawImportedEvent event) {
+        // 다음 스냅샷 생성 전까지는 DB에서 읽도록 표시
+        invalidated.add(event.lawId());
+    }
+
+    // 갱신된 법령을 다시 벡터화하는 리스너보다 먼저 표시해야 장별 본문을 DB에서 읽음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawChanged(LawChangedEvent event) {
+        invalidated.add(event.lawId());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private <T> Optional<T> read(Long lawId, Function<LawSnapshot, Optional<T>> reader) {
+        Loaded current = loaded.get();
+        if (current == null || invalidated.contains(lawId) || current.changedLawIds().contains(lawId)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<T> result = reader.apply(current.snapshot());
+            (result.isPresent() ? hitCounter : fallbackCounter).increment();
+            return result;
+        } catch (RuntimeException e) {
+            fallbackCounter.increment();
+            log.warn("법령 스냅샷 읽기 실패. DB로 조회합니다. lawId: {}, cause: {}", lawId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Set<Long> changedSince(LawSnapshot current) {
+        LocalDateTime since = LocalDateTime.ofInstant(current.builtAt().minus(CLOCK_SKEW), ZoneId.systemDefault());
+        return Set.copyOf(lawRepository.findIdsContentUpdatedSince(since));
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (IOException | RuntimeException e) {
+            log.error("법령 스냅샷 생성 실패. 기존 스냅샷(또는 DB)을 계속 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 매핑한 스냅샷과 그 이후 개정된 법령 id (함께 교체해 읽는 쪽이 어긋난 조합을 보지 않도록 함)
+     */
+    private record Loaded(LawSnapshot snapshot, Set<Long> changedLawIds) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.ai.lawyer.domain.law.snapshot.LawSnapshotFormat.*;
+
+/**
+ * 메모리 맵으로 연 법령 스냅샷 (읽기 전용)
+ * <p>
+ * 파일을 힙으로 복사하지 않고 매핑된 영역에서 필요한 레코드와 문자열만 읽는다.
+ * 위치(position)를 바꾸지 않는 절대 위치 읽기만 사용하므로 여러 스레드가 동시에 읽어도 된다.
+ */
+public final class LawSnapshot {
+
+    private final MappedByteBuffer buffer;
+    private final Instant builtAt;
+    private final int lawCount;
+    private final int lawOffset;
+    private final int jangOffset;
+    private final int joOffset;
+    private final int hangOffset;
+    private final int hoOffset;
+    private final int stringOffset;
+
+    private LawSnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("지원하지 않는 법령 스냅샷 형식입니다.");
+        }
+        this.builtAt = Instant.ofEpochMilli(buffer.getLong(2 * Integer.BYTES));
+        int counts = 2 * Integer.BYTES + Long.BYTES;
+        this.lawCount = buffer.getInt(counts);
+        int jangCount = buffer.getInt(counts + Integer.BYTES);
+        int joCount = buffer.getInt(counts + 2 * Integer.BYTES);
+        int hangCount = buffer.getInt(counts + 3 * Integer.BYTES);
+        int hoCount = buffer.getInt(counts + 4 * Integer.BYTES);
+
+        this.lawOffset = HEADER_BYTES;
+        this.jangOffset = lawOffset + lawCount * LAW_BYTES;
+        this.joOffset = jangOffset + jangCount * NODE_BYTES;
+        this.hangOffset = joOffset + joCount * NODE_BYTES;
+        this.hoOffset = hangOffset + hangCount * NODE_BYTES;
+        this.stringOffset = hoOffset + hoCount * LEAF_BYTES;
+        if (stringOffset > buffer.capacity()) {
+            throw new IOException("법령 스냅샷 파일이 손상되었습니다.");
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑
+     */
+    public static LawSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LawSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int lawCount() {
+        return lawCount;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * 법령 전체 트리 (DB와 연결되지 않은 새 엔티티)
+     */
+    public Optional<Law> law(Long lawId) {
+        int index = findLaw(lawId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int record = lawOffset + index * LAW_BYTES;
+        int field = record + Long.BYTES;
+
+        Law law = new Law();
+        law.setId(lawId);
+        law.setLawName(string(field));
+        law.setLawField(string(field + STRING_REF_BYTES));
+        law.setMinistry(string(field + 2 * STRING_REF_BYTES));
+        law.setPromulgationNumber(string(field + 3 * STRING_REF_BYTES));
+        field += 4 * STRING_REF_BYTES;
+        law.setPromulgationDate(date(buffer.getInt(field)));
+        law.setEnforcementDate(date(buffer.getInt(field + Integer.BYTES)));
+
+        List<Jang> jangs = new ArrayList<>();
+        int[] joOrdinal = {0};
+        forEachChild(record + LAW_BYTES - 2 * Integer.BYTES, jangOffset, NODE_BYTES, jangRecord -> {
+            Jang jang = new Jang();
+            jang.setId(buffer.getLong(jangRecord));
+            jang.setContent(string(jangRecord + Long.BYTES));
+            jang.setOrdinal(jangs.size());
+            jang.setLaw(law);
+            forEachChild(childRef(jangRecord), joOffset, NODE_BYTES, joRecord -> {
+                Jo jo = new Jo();
+                jo.setId(buffer.getLong(joRecord));
+                jo.setContent(string(joRecord + Long.BYTES));
+                jo.setOrdinal(joOrdinal[0]++);
+                jo.setJang(jang);
+                forEachChild(childRef(joRecord), hangOffset, NODE_BYTES, hangRecord -> {
+                    Hang hang = new Hang();
+                    hang.setId(buffer.getLong(hangRecord));
+                    hang.setContent(string(hangRecord + Long.BYTES));
+                    hang.setJo(jo);
+                    forEachChild(childRef(hangRecord), hoOffset, LEAF_BYTES, hoRecord -> {
+                        Ho ho = new Ho();
+                        ho.setId(buffer.getLong(hoRecord));
+                        ho.setContent(string(hoRecord + Long.BYTES));
+                        ho.setHang(hang);
+                        hang.getHoList().add(ho);
+                    });
+                    jo.getHangList().add(hang);
+                });
+                jang.getJoList().add(jo);
+            });
+            jangs.add(jang);
+        });
+        law.setJangList(jangs);
+        return Optional.of(law);
+    }
+
+    /**
+     * 장별 본문 (LawRepositoryCustom.findJangTexts와 같은 형식, 벡터화용)
+     */
+    public Optional<List<LawJangText>> jangTexts(Long lawId) {
+        int index = findLaw(lawId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int record = lawOffset + index * LAW_BYTES;
+        List<LawJangText> texts = new ArrayList<>();
+        forEachChild(record + LAW_BYTES - 2 * Integer.BYTES, jangOffset, NODE_BYTES, jangRecord -> {
+            StringBuilder content = new StringBuilder();
+            appendContent(content, jangRecord + Long.BYTES);
+            forEachChild(childRef(jangRecord), joOffset, NODE_BYTES, joRecord -> appendArticle(content, joRecord));
+            texts.add(new LawJangText(lawId, buffer.getLong(jangRecord), content.toString()));
+        });
+        return Optional.of(texts);
+    }
+
+    /**
+     * 법령 안에서 ordinal번째(0부터) 조문의 조/항/호 본문
+     */
+    public Optional<String> article(Long lawId, int ordinal) {
+        int index = findLaw(lawId);
+        if (index < 0 || ordinal < 0) {
+            return Optional.empty();
+        }
+        // 한 법령의 조 레코드는 연속이므로 첫 장의 첫 조부터 ordinal만큼 이동
+        int record = lawOffset + index * LAW_BYTES;
+        int firstJang = buffer.getInt(record + LAW_BYTES - 2 * Integer.BYTES);
+        int jangCount = buffer.getInt(record + LAW_BYTES - Integer.BYTES);
+        if (jangCount == 0) {
+            return Optional.empty();
+        }
+        int firstJangRecord = jangOffset + firstJang * NODE_BYTES;
+        int lastJangRecord = jangOffset + (firstJang + jangCount - 1) * NODE_BYTES;
+        int firstJo = buffer.getInt(childRef(firstJangRecord));
+        int joCount = buffer.getInt(childRef(lastJangRecord)) + buffer.getInt(childRef(lastJangRecord) + Integer.BYTES) - firstJo;
+        if (ordinal >= joCount) {
+            return Optional.empty();
+        }
+        StringBuilder content = new StringBuilder();
+        appendArticle(content, joOffset + (firstJo + ordinal) * NODE_BYTES);
+        return Optional.of(content.toString());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int findLaw(Long lawId) {
+        if (lawId == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = lawCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long id = buffer.getLong(lawOffset + mid * LAW_BYTES);
+            if (id < lawId) {
+                low = mid + 1;
+            } else if (id > lawId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private void appendArticle(StringBuilder content, int joRecord) {
+        appendContent(content, joRecord + Long.BYTES);
+        forEachChild(childRef(joRecord), hangOffset, NODE_BYTES, hangRecord -> {
+            appendContent(content, hangRecord + Long.BYTES);
+            forEachChild(childRef(hangRecord), hoOffset, LEAF_BYTES, hoRecord -> appendContent(content, hoRecord + Long.BYTES));
+        });
+    }
+
+    private void appendContent(StringBuilder builder, int stringRef) {
+        String content = string(stringRef);
+        if (content != null && !content.isBlank()) {
+            builder.append(content).append("\n");
+        }
+    }
+
+    /**
+     * 노드 레코드의 (첫 하위 번호, 하위 수) 위치
+     */
+    private static int childRef(int nodeRecord) {
+        return nodeRecord + Long.BYTES + STRING_REF_BYTES;
+    }
+
+    private void forEachChild(int childRef, int sectionOffset, int recordBytes, RecordConsumer consumer) {
+        int first = buffer.getInt(childRef);
+        int count = buffer.getInt(childRef + Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(sectionOffset + (first + i) * recordBytes);
+        }
+    }
+
+    private String string(int stringRef) {
+        int length = buffer.getInt(stringRef + Integer.BYTES);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(stringOffset + buffer.getInt(stringRef), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer {
+        void accept(int record);
+    }
+}
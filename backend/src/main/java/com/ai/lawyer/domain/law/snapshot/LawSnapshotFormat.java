@@ -0,0 +1,35 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+/**
+ * 법령 스냅샷 파일 구조
+ * <p>
+ * 헤더 | 법령 레코드 | 장 레코드 | 조 레코드 | 항 레코드 | 호 레코드 | 문자열 영역(UTF-8)
+ * <p>
+ * 레코드는 고정 크기이며 문자열은 (문자열 영역 내 오프셋, 바이트 길이) 참조로 저장한다 (null은 길이 -1).
+ * 법령 레코드는 id 순으로 정렬되어 이진 탐색하고, 상위 레코드는 하위 레코드의 (시작 번호, 개수)를 가진다.
+ * 한 법령의 하위 레코드는 연속으로 저장되므로 법령 하나를 읽을 때 파일의 한 구간만 접근한다.
+ */
+final class LawSnapshotFormat {
+
+    static final int MAGIC = 0x4C415753; // "LAWS"
+    static final int VERSION = 1;
+
+    // magic, version, builtAt(long), 법령/장/조/항/호 수
+    static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES + 5 * Integer.BYTES;
+
+    static final int STRING_REF_BYTES = 2 * Integer.BYTES;
+
+    // id, 법령명/법령분야/소관부처/공포번호, 공포일자/시행일자(epochDay), 첫 장 번호, 장 수
+    static final int LAW_BYTES = Long.BYTES + 4 * STRING_REF_BYTES + 4 * Integer.BYTES;
+
+    // id, 본문, 첫 하위 번호, 하위 수 (장/조/항)
+    static final int NODE_BYTES = Long.BYTES + STRING_REF_BYTES + 2 * Integer.BYTES;
+
+    // id, 본문 (호)
+    static final int LEAF_BYTES = Long.BYTES + STRING_REF_BYTES;
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private LawSnapshotFormat() {
+    }
+}
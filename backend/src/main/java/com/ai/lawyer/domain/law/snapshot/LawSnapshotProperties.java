@@ -0,0 +1,20 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law.snapshot")
+@Getter
+@Setter
+public class LawSnapshotProperties {
+
+    private boolean enabled = true;                     // false면 법령 조회/벡터화가 항상 DB를 사용
+    private String path = "data/law-corpus.snapshot";   // 스냅샷 파일 경로
+    private boolean buildOnStartup = true;              // 기동 시 파일이 없으면 백그라운드에서 생성
+    private String rebuildCron = "0 30 4 * * *";        // 주기적 재생성 (법령 적재 이후 시간대)
+    private int pageSize = 100;                         // 생성 시 한 번에 읽을 법령 수
+    private long staleCheckIntervalMillis = 30000;      // 스냅샷 생성 이후 개정된 법령(다른 인스턴스 갱신분 포함)을 DB에서 확인하는 주기
+}
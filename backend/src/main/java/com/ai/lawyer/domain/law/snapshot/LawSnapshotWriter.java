@@ -0,0 +1,177 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import com.ai.lawyer.domain.law.entity.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+import static com.ai.lawyer.domain.law.snapshot.LawSnapshotFormat.*;
+
+/**
+ * 법령 트리를 id 순으로 받아 스냅샷 파일로 저장
+ * <p>
+ * 레코드는 메모리에 모으고 본문 문자열은 임시 파일로 바로 흘려보내므로, 힙 사용량은 법령 본문 크기와 무관하다.
+ * finish() 시 임시 파일에 전체를 쓴 뒤 원자적으로 교체하므로 생성 중 장애가 나도 이전 스냅샷이 유지된다.
+ */
+final class LawSnapshotWriter implements Closeable {
+
+    private final Path path;
+    private final Path stringsPath;
+    private final DataOutputStream strings;
+    private long stringBytes;
+
+    private final ByteArrayOutputStream lawBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream jangBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream joBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream hangBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream hoBytes = new ByteArrayOutputStream();
+    private final DataOutputStream lawRecords = new DataOutputStream(lawBytes);
+    private final DataOutputStream jangRecords = new DataOutputStream(jangBytes);
+    private final DataOutputStream joRecords = new DataOutputStream(joBytes);
+    private final DataOutputStream hangRecords = new DataOutputStream(hangBytes);
+    private final DataOutputStream hoRecords = new DataOutputStream(hoBytes);
+
+    private int lawCount;
+    private int jangCount;
+    private int joCount;
+    private int hangCount;
+    private int hoCount;
+    private long lastLawId = Long.MIN_VALUE;
+
+    LawSnapshotWriter(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.stringsPath = path.resolveSibling(path.getFileName() + ".strings.tmp");
+        this.strings = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(stringsPath)));
+    }
+
+    /**
+     * 법령 하나 추가 (하위 목록이 모두 채워진 트리, id 오름차순)
+     */
+    void add(Law law) throws IOException {
+        if (law.getId() <= lastLawId) {
+            throw new IllegalArgumentException("법령은 id 오름차순으로 추가해야 합니다: " + law.getId());
+        }
+        lastLawId = law.getId();
+
+        lawRecords.writeLong(law.getId());
+        writeString(lawRecords, law.getLawName());
+        writeString(lawRecords, law.getLawField());
+        writeString(lawRecords, law.getMinistry());
+        writeString(lawRecords, law.getPromulgationNumber());
+        lawRecords.writeInt(epochDay(law.getPromulgationDate()));
+        lawRecords.writeInt(epochDay(law.getEnforcementDate()));
+        lawRecords.writeInt(jangCount);
+        lawRecords.writeInt(law.getJangList().size());
+        lawCount++;
+
+        // 장 레코드를 먼저 연속으로 쓰고, 하위 레코드도 계층별로 연속 배치
+        for (Jang jang : law.getJangList()) {
+            writeNode(jangRecords, jang.getId(), jang.getContent(), joCount, jang.getJoList().size());
+            jangCount++;
+            joCount += jang.getJoList().size();
+        }
+        for (Jang jang : law.getJangList()) {
+            for (Jo jo : jang.getJoList()) {
+                writeNode(joRecords, jo.getId(), jo.getContent(), hangCount, jo.getHangList().size());
+                hangCount += jo.getHangList().size();
+            }
+        }
+        for (Jang jang : law.getJangList()) {
+            for (Jo jo : jang.getJoList()) {
+                for (Hang hang : jo.getHangList()) {
+                    writeNode(hangRecords, hang.getId(), hang.getContent(), hoCount, hang.getHoList().size());
+                    hoCount += hang.getHoList().size();
+                }
+            }
+        }
+        for (Jang jang : law.getJangList()) {
+            for (Jo jo : jang.getJoList()) {
+                for (Hang hang : jo.getHangList()) {
+                    for (Ho ho : hang.getHoList()) {
+                        hoRecords.writeLong(ho.getId());
+                        writeString(hoRecords, ho.getContent());
+                    }
+                }
+            }
+        }
+    }
+
+    int lawCount() {
+        return lawCount;
+    }
+
+    /**
+     * 스냅샷 파일 완성 (임시 파일 -> 원자적 교체)
+     */
+    void finish(long builtAtMillis) throws IOException {
+        strings.close();
+        long total = HEADER_BYTES + (long) lawBytes.size() + jangBytes.size() + joBytes.size()
+                + hangBytes.size() + hoBytes.size() + stringBytes;
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷 파일이 너무 큽니다 (2GB 초과): " + total);
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(builtAtMillis);
+            out.writeInt(lawCount);
+            out.writeInt(jangCount);
+            out.writeInt(joCount);
+            out.writeInt(hangCount);
+            out.writeInt(hoCount);
+            lawBytes.writeTo(out);
+            jangBytes.writeTo(out);
+            joBytes.writeTo(out);
+            hangBytes.writeTo(out);
+            hoBytes.writeTo(out);
+            Files.copy(stringsPath, out);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        strings.close();
+        Files.deleteIfExists(stringsPath);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void writeNode(DataOutputStream records, Long id, String content, int firstChild, int childCount) throws IOException {
+        records.writeLong(id);
+        writeString(records, content);
+        records.writeInt(firstChild);
+        records.writeInt(childCount);
+    }
+
+    private void writeString(DataOutputStream records, String value) throws IOException {
+        if (value == null) {
+            records.writeInt(0);
+            records.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (stringBytes + bytes.length > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷 문자열 영역이 너무 큽니다 (2GB 초과)");
+        }
+        records.writeInt((int) stringBytes);
+        records.writeInt(bytes.length);
+        strings.write(bytes);
+        stringBytes += bytes.length;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DATE;
+    }
+}
@@ -2,11 +2,17 @@ package com.ai.lawyer.domain.lawWord.repository;
 
 import com.ai.lawyer.domain.lawWord.entity.LawWord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LawWordRepository extends JpaRepository<LawWord, Long> {
     Optional<LawWord> findByWord(String word);
+
+    // 용어만 조회 (법률 용어 사전 구성용)
+    @Query("SELECT w.word FROM LawWord w WHERE w.word IS NOT NULL")
+    List<String> findAllWords();
 }
@@ -5,6 +5,7 @@ import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
 import com.ai.lawyer.domain.precedent.entity.Precedent;
 import com.ai.lawyer.domain.precedent.service.PrecedentService;
 import com.ai.lawyer.global.dto.PageResponseDto;
+import com.ai.lawyer.global.pipeline.PrecedentIngestionPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,13 +20,14 @@ import org.springframework.web.bind.annotation.*;
 public class PrecedentController {
 
     private final PrecedentService precedentService;
+    private final PrecedentIngestionPipeline precedentIngestionPipeline;
 
     @GetMapping(value = "/list/save")
-    @Operation(summary = "키워드 관련 판례 데이터 저장(벡엔드 전용 API)", description = "벡엔드 데이터 저장용 API입니다")
+    @Operation(summary = "키워드 관련 판례 데이터 저장(벡엔드 전용 API)", description = "벡엔드 데이터 저장용 API입니다. 저장한 판례는 바로 챗봇 검색에 반영됩니다")
     public ResponseEntity<?> list(
             @RequestParam String query
     ) throws Exception {
-        return ResponseEntity.ok().body(precedentService.searchAndSaveAll(query));
+        return ResponseEntity.ok().body(precedentIngestionPipeline.run(query));
     }
 
     /**
@@ -8,7 +8,7 @@ import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "precedent")
+@Table(name = "precedent", indexes = @Index(name = "idx_precedent_vector_pending", columnList = "vector_pending"))
 public class Precedent {
 
     @Id
@@ -59,4 +59,8 @@ public class Precedent {
     @Lob
     @Column(columnDefinition = "LONGTEXT")
     private String precedentContent; // 판례내용
+
+    @Column(name = "vector_pending", nullable = false)
+    @JsonIgnore
+    private boolean vectorPending; // 수집 파이프라인이 저장했지만 아직 벡터 저장소에 반영하지 못함
 }
@@ -1,9 +1,16 @@
 package com.ai.lawyer.domain.precedent.repository;
 
 import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PrecedentRepository extends JpaRepository<Precedent, Long>, PrecedentRepositoryCustom {
 
@@ -11,4 +18,30 @@ public interface PrecedentRepository extends JpaRepository<Precedent, Long>, Pre
      * 판례일련번호로 존재 여부 확인
      */
     boolean existsByPrecedentNumber(String precedentNumber);
+
+    /**
+     * id 순 키셋 페이지로 (id, 사건번호) 조회 (재임베딩 진행용)
+     */
+    @Query("SELECT p.id AS id, p.caseNumber AS sourceKey FROM Precedent p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<SourceRowView> findSourceRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * id 범위 (lastId, maxId] 안에서 id 순 키셋 페이지 조회 (벡터화 배치 파티션 reader)
+     */
+    List<Precedent> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long lastId, Long maxId, Limit limit);
+
+    /**
+     * lastId 이후 id만 조회 (증분 벡터화 범위 계산용)
+     */
+    @Query("SELECT p.id FROM Precedent p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    @Query("SELECT MAX(p.id) FROM Precedent p")
+    Long findMaxId();
+
+    /**
+     * 수집 파이프라인이 저장했지만 벡터화하지 못한 판례 (파이프라인이 벡터화 전에 중단/실패한 경우 재개용)
+     */
+    @Query("SELECT p FROM Precedent p WHERE p.vectorPending = true ORDER BY p.id ASC")
+    List<Precedent> findVectorPending(Limit limit);
 }
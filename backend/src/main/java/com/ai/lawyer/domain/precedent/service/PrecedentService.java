@@ -4,25 +4,32 @@ import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
 import com.ai.lawyer.domain.precedent.entity.Precedent;
 import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Service
 @AllArgsConstructor
@@ -31,6 +38,7 @@ public class PrecedentService {
 
     private final PrecedentRepository precedentRepository;
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -41,6 +49,23 @@ public class PrecedentService {
     private static final int API_CALL_DELAY = 100; // milliseconds
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    // PrecService 필드 -> Precedent 매핑 (선고일자는 따로 파싱)
+    private static final Map<String, BiConsumer<Precedent, String>> PREC_SERVICE_FIELDS = Map.ofEntries(
+            Map.entry("판례정보일련번호", Precedent::setPrecedentNumber),
+            Map.entry("사건명", Precedent::setCaseName),
+            Map.entry("사건번호", Precedent::setCaseNumber),
+            Map.entry("선고", Precedent::setSentence),
+            Map.entry("법원명", Precedent::setCourtName),
+            Map.entry("법원종류코드", Precedent::setCourtTypeCode),
+            Map.entry("사건종류명", Precedent::setCaseTypeName),
+            Map.entry("사건종류코드", Precedent::setCaseTypeCode),
+            Map.entry("판결유형", Precedent::setTypeOfJudgment),
+            Map.entry("참조판례", Precedent::setReferencePrecedent),
+            Map.entry("판시사항", Precedent::setNotice),
+            Map.entry("판결요지", Precedent::setSummaryOfTheJudgment),
+            Map.entry("참조조문", Precedent::setReferenceArticle),
+            Map.entry("판례내용", Precedent::setPrecedentContent));
+
     /**
      * 주어진 id로 Precedent 조회
      *
@@ -71,8 +96,21 @@ public class PrecedentService {
      * @throws RuntimeException API 호출 또는 JSON 파싱 실패 시 예외 발생
      */
     public List<String> getPrecedentNumbers(String query) {
+        List<String> precedentNumbers = new ArrayList<>();
+        forEachPrecedentNumberPage(query, precedentNumbers::addAll);
+        log.info("판례 일련번호 {}개 조회 완료. 키워드: {}", precedentNumbers.size(), query);
+        return precedentNumbers;
+    }
+
+    /**
+     * 특정 키워드의 판례 일련번호를 검색 결과 페이지 단위로 전달 (수집 파이프라인에서 다음 단계와 겹쳐 실행)
+     *
+     * @param query 검색 키워드
+     * @param pageConsumer 페이지별 판례일련번호 처리 함수
+     * @throws RuntimeException API 호출 또는 JSON 파싱 실패 시 예외 발생
+     */
+    public void forEachPrecedentNumberPage(String query, Consumer<List<String>> pageConsumer) {
         try {
-            List<String> precedentNumbers = new ArrayList<>();
             int page = 1;
             int totalCnt;
 
@@ -85,17 +123,16 @@ public class PrecedentService {
                 totalCnt = precSearch.path("totalCnt").asInt(0);
                 if (totalCnt == 0) {
                     log.info("검색 결과가 없습니다. 키워드: {}", query);
-                    return Collections.emptyList();
+                    return;
                 }
 
+                List<String> precedentNumbers = new ArrayList<>();
                 extractPrecedentNumbers(precSearch.path("prec"), precedentNumbers);
+                pageConsumer.accept(precedentNumbers);
                 page++;
 
             } while ((page - 1) * DEFAULT_PAGE_SIZE < totalCnt);
 
-            log.info("판례 일련번호 {}개 조회 완료. 키워드: {}", precedentNumbers.size(), query);
-            return precedentNumbers;
-
         } catch (Exception e) {
             log.error("판례 일련번호 조회 실패. 키워드: {}", query, e);
             throw new RuntimeException("판례 일련번호 조회 중 오류가 발생했습니다.", e);
@@ -113,10 +150,7 @@ public class PrecedentService {
 
         for (String precedentId : precedentIds) {
             try {
-                String url = buildDetailUrl(precedentId);
-                String json = restTemplate.getForObject(url, String.class);
-
-                Precedent precedent = parseJsonToPrecedent(json);
+                Precedent precedent = fetchPrecedent(precedentId);
                 if (precedent != null) {
                     precedents.add(precedent);
                 }
@@ -138,6 +172,51 @@ public class PrecedentService {
         return precedents;
     }
 
+    /**
+     * 법령 API에서 판례 상세 JSON 조회
+     *
+     * @param precedentId 판례일련번호
+     * @return API 응답 JSON 문자열
+     */
+    public String fetchPrecedentJson(String precedentId) {
+        return restTemplate.getForObject(buildDetailUrl(precedentId), String.class);
+    }
+
+    /**
+     * 법령 API에서 판례 상세를 조회해 응답 스트림을 바로 Precedent로 변환 (응답 문자열을 만들지 않음)
+     *
+     * @param precedentId 판례일련번호
+     * @return 변환된 Precedent 객체 (PrecService가 없으면 null)
+     */
+    public Precedent fetchPrecedent(String precedentId) {
+        return restTemplate.execute(buildDetailUrl(precedentId), HttpMethod.GET, null, response -> {
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                return parseJsonToPrecedent(parser);
+            }
+        });
+    }
+
+    /**
+     * 판례 상세 JSON을 Precedent 엔티티로 변환
+     *
+     * @param json API 응답 JSON 문자열
+     * @return 변환된 Precedent 객체 (PrecService가 없으면 null)
+     * @throws Exception JSON 파싱 오류 시 예외 발생
+     */
+    public Precedent parsePrecedent(String json) throws Exception {
+        return parseJsonToPrecedent(json);
+    }
+
+    /**
+     * 이미 저장된 판례인지 확인 (수집 파이프라인 재실행 시 건너뛰기용)
+     *
+     * @param precedentNumber 판례일련번호
+     * @return 저장 여부
+     */
+    public boolean existsByPrecedentNumber(String precedentNumber) {
+        return precedentRepository.existsByPrecedentNumber(precedentNumber);
+    }
+
     /**
      * 판례 리스트를 데이터베이스에 일괄 저장
      *
@@ -161,6 +240,16 @@ public class PrecedentService {
         }
     }
 
+    /**
+     * 수집 파이프라인이 벡터 저장소에 반영한(또는 반영할 본문이 없는) 판례의 미벡터화 표시 해제
+     *
+     * @param precedentIds 판례 id 목록
+     */
+    public void clearVectorPending(List<Long> precedentIds) {
+        jdbcTemplate.batchUpdate("UPDATE precedent SET vector_pending = FALSE WHERE id = ?",
+                precedentIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
     /**
      * 키워드 검색부터 판례 저장까지 원스톱 처리
      * 1. 키워드로 판례일련번호 리스트 조회
@@ -259,37 +348,76 @@ public class PrecedentService {
      * @throws Exception JSON 파싱 오류 시 예외 발생
      */
     private Precedent parseJsonToPrecedent(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
-        JsonNode precService = root.path("PrecService");
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return parseJsonToPrecedent(parser);
+        }
+    }
 
-        if (precService.isMissingNode()) {
+    /**
+     * JsonParser로 PrecService 필드를 하나씩 읽어 Precedent로 변환 (트리를 만들지 않아 긴 판례내용도 한 번만 복사)
+     *
+     * @param parser 응답 JSON 파서
+     * @return 변환된 Precedent 객체 (PrecService가 없으면 null)
+     * @throws IOException JSON 파싱 오류 시 예외 발생
+     */
+    private Precedent parseJsonToPrecedent(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
             return null;
         }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("PrecService".equals(field)) {
+                return readPrecService(parser);
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
 
+    /**
+     * PrecService 값을 Precedent로 변환 (parser는 값의 첫 토큰에 위치, 없는 필드는 빈 문자열)
+     */
+    private Precedent readPrecService(JsonParser parser) throws IOException {
         Precedent precedent = new Precedent();
-
-        // 기본 정보 매핑
-        precedent.setPrecedentNumber(precService.path("판례정보일련번호").asText(""));
-        precedent.setCaseName(precService.path("사건명").asText(""));
-        precedent.setCaseNumber(precService.path("사건번호").asText(""));
-        precedent.setSentence(precService.path("선고").asText(""));
-        precedent.setCourtName(precService.path("법원명").asText(""));
-        precedent.setCourtTypeCode(precService.path("법원종류코드").asText(""));
-        precedent.setCaseTypeName(precService.path("사건종류명").asText(""));
-        precedent.setCaseTypeCode(precService.path("사건종류코드").asText(""));
-        precedent.setTypeOfJudgment(precService.path("판결유형").asText(""));
-        precedent.setReferencePrecedent(precService.path("참조판례").asText(""));
-        precedent.setNotice(precService.path("판시사항").asText(""));
-        precedent.setSummaryOfTheJudgment(precService.path("판결요지").asText(""));
-        precedent.setReferenceArticle(precService.path("참조조문").asText(""));
-        precedent.setPrecedentContent(precService.path("판례내용").asText(""));
+        PREC_SERVICE_FIELDS.values().forEach(setter -> setter.accept(precedent, ""));
+
+        String sentencingDate = "";
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                BiConsumer<Precedent, String> setter = PREC_SERVICE_FIELDS.get(field);
+                if (setter != null) {
+                    setter.accept(precedent, readText(parser));
+                } else if ("선고일자".equals(field)) {
+                    sentencingDate = readText(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
 
         // 날짜 파싱
-        parseSentencingDate(precService.path("선고일자").asText(""), precedent);
+        parseSentencingDate(sentencingDate, precedent);
 
         return precedent;
     }
 
+    /**
+     * 현재 값을 문자열로 읽음 (JsonNode.asText("")와 같이 null/객체/배열은 빈 문자열)
+     */
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isScalarValue()) {
+            return token == JsonToken.VALUE_NULL ? "" : parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
     /**
      * 문자열 형태의 날짜를 LocalDate로 변환하여 Precedent 객체에 설정
      *
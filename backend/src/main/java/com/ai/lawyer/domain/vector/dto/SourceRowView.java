@@ -0,0 +1,11 @@
+package com.ai.lawyer.domain.vector.dto;
+
+/**
+ * 벡터화 대상 원본 행 (id + 벡터 payload에서 찾을 때 쓰는 키)
+ */
+public interface SourceRowView {
+
+    Long getId();
+
+    String getSourceKey(); // 판례: 사건번호, 법령: 법령명
+}
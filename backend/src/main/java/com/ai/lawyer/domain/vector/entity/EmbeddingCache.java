@@ -0,0 +1,43 @@
+package com.ai.lawyer.domain.vector.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 임베딩 캐시 ((모델, 본문 해시) -> float32 little-endian 벡터)
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "embedding_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_embedding_cache_model_hash", columnNames = {"model", "text_hash"}))
+public class EmbeddingCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String model; // 임베딩 모델 id
+
+    @Column(nullable = false, length = 64)
+    private String textHash; // 청크 본문 SHA-256 (hex)
+
+    private Integer dimensions;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] vector;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
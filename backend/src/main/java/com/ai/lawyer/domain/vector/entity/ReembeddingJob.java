@@ -0,0 +1,63 @@
+package com.ai.lawyer.domain.vector.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 별칭 하나에 대한 재임베딩 작업 (원본 행 id 워터마크로 진행 상황을 기록)
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "reembedding_job", indexes = @Index(name = "idx_reembedding_job_alias_status", columnList = "alias, status"))
+public class ReembeddingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String type; // 문서 type (판례 / 법령)
+
+    private String alias; // 교체할 별칭
+
+    private String sourceCollection; // 시작 시점에 별칭이 가리키던 컬렉션
+
+    private String targetCollection; // 새 모델로 적재 중인 컬렉션
+
+    private String model; // 새 임베딩 모델
+
+    private Integer vectorSize;
+
+    @Enumerated(EnumType.STRING)
+    private ReembeddingStatus status;
+
+    @Builder.Default
+    private Long lastSourceId = 0L; // 처리 완료한 마지막 원본 행 id (판례 id / 법령 id)
+
+    @Builder.Default
+    private Long processedSources = 0L;
+
+    @Builder.Default
+    private Long processedPoints = 0L;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.ai.lawyer.domain.vector.entity;
+
+public enum ReembeddingStatus {
+    RUNNING,    // 새 컬렉션에 적재 중 (재기동 시 워터마크부터 이어서 진행)
+    SWAPPED,    // 별칭 교체 완료
+    FAILED,
+    CANCELLED
+}
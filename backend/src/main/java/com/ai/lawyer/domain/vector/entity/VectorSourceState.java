@@ -0,0 +1,42 @@
+package com.ai.lawyer.domain.vector.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 행별 마지막 벡터화 상태 (본문 해시가 같으면 다시 벡터화하지 않음)
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "vector_source_state",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vector_source_state_source", columnNames = {"source_type", "source_id"}))
+public class VectorSourceState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private VectorSourceType sourceType;
+
+    @Column(nullable = false)
+    private Long sourceId; // 판례 id / 법령 id
+
+    @Column(nullable = false, length = 64)
+    private String contentHash; // 청크 생성에 쓴 본문 + 메타데이터 SHA-256
+
+    private Integer chunkCount;
+
+    @UpdateTimestamp
+    private LocalDateTime vectorizedAt;
+}
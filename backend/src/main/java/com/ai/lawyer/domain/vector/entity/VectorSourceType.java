@@ -0,0 +1,16 @@
+package com.ai.lawyer.domain.vector.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 벡터화 원본 종류 (label은 청크 메타데이터 type 값)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VectorSourceType {
+    PRECEDENT("판례"),
+    LAW("법령");
+
+    private final String label;
+}
@@ -0,0 +1,33 @@
+package com.ai.lawyer.domain.vector.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 종류별 증분 벡터화 워터마크 (이 id 이하 행은 이미 한 번 이상 벡터화됨)
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "vector_sync_watermark")
+public class VectorSyncWatermark {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private VectorSourceType sourceType;
+
+    @Column(nullable = false)
+    private Long lastSourceId;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package com.ai.lawyer.domain.vector.repository;
+
+import com.ai.lawyer.domain.vector.entity.EmbeddingCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmbeddingCacheRepository extends JpaRepository<EmbeddingCache, Long> {
+
+    List<EmbeddingCache> findByModelAndTextHashIn(String model, Collection<String> textHashes);
+}
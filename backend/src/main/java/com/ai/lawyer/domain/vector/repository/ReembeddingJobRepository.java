@@ -0,0 +1,16 @@
+package com.ai.lawyer.domain.vector.repository;
+
+import com.ai.lawyer.domain.vector.entity.ReembeddingJob;
+import com.ai.lawyer.domain.vector.entity.ReembeddingStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReembeddingJobRepository extends JpaRepository<ReembeddingJob, Long> {
+
+    Optional<ReembeddingJob> findFirstByAliasAndStatusOrderByIdDesc(String alias, ReembeddingStatus status);
+
+    Optional<ReembeddingJob> findFirstByTargetCollectionOrderByIdDesc(String targetCollection);
+}
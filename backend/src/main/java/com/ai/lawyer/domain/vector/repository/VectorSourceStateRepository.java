@@ -0,0 +1,30 @@
+package com.ai.lawyer.domain.vector.repository;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VectorSourceStateRepository extends JpaRepository<VectorSourceState, Long> {
+
+    Optional<VectorSourceState> findBySourceTypeAndSourceId(VectorSourceType sourceType, Long sourceId);
+
+    List<VectorSourceState> findBySourceTypeAndSourceIdIn(VectorSourceType sourceType, Collection<Long> sourceIds);
+
+    // 원본 판례가 삭제된 상태 (벡터 삭제 대상)
+    @Query("SELECT s FROM VectorSourceState s WHERE s.sourceType = com.ai.lawyer.domain.vector.entity.VectorSourceType.PRECEDENT " +
+            "AND NOT EXISTS (SELECT 1 FROM Precedent p WHERE p.id = s.sourceId) ORDER BY s.id ASC")
+    List<VectorSourceState> findOrphanedPrecedentStates(Limit limit);
+
+    // 원본 법령이 삭제된 상태 (벡터 삭제 대상)
+    @Query("SELECT s FROM VectorSourceState s WHERE s.sourceType = com.ai.lawyer.domain.vector.entity.VectorSourceType.LAW " +
+            "AND NOT EXISTS (SELECT 1 FROM Law l WHERE l.id = s.sourceId) ORDER BY s.id ASC")
+    List<VectorSourceState> findOrphanedLawStates(Limit limit);
+}
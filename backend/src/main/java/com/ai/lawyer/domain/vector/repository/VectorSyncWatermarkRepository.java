@@ -0,0 +1,10 @@
+package com.ai.lawyer.domain.vector.repository;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.entity.VectorSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VectorSyncWatermarkRepository extends JpaRepository<VectorSyncWatermark, VectorSourceType> {
+}
@@ -1,25 +1,51 @@
 package com.ai.lawyer.global.batch;
 
-/*@Slf4j
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
 @Component
 @EnableScheduling
+@ConditionalOnProperty(name = "batch.scheduler.enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job dataVectorizationJob;
 
-    @Scheduled(cron = "#{${batch.scheduler.run-every-minute} ? '* * * * * *' : '* * 2 * * *'}")
+    // 새로 추가된 행만 벡터화
+    @Scheduled(cron = "#{${batch.scheduler.run-every-minute} ? '0 * * * * *' : '${batch.scheduler.incremental-cron}'}")
     public void runVectorizationJob() {
-        log.info("전체 데이터(판례, 법령) 벡터화 스케줄러 실행...");
+        run(DataVectorizationJobConfig.MODE_INCREMENTAL);
+    }
+
+    // 전체 행의 본문 해시를 비교해 수정된 행 반영
+    @Scheduled(cron = "${batch.scheduler.full-cron}")
+    public void runFullVectorizationJob() {
+        run(DataVectorizationJobConfig.MODE_FULL);
+    }
+
+    private void run(String mode) {
+        log.info("전체 데이터(판례, 법령) 벡터화 스케줄러 실행... mode: {}", mode);
         try {
             JobParameters jobParameters = new JobParametersBuilder()
+                    .addString(DataVectorizationJobConfig.MODE_PARAMETER, mode)
                     .addString("requestDate", LocalDateTime.now().toString())
                     .toJobParameters();
 
             jobLauncher.run(dataVectorizationJob, jobParameters); // Job 실행
         } catch (Exception e) {
-            log.error("전체 데이터 벡터화 배치 작업 실행 중 오류 발생", e);
+            log.error("전체 데이터 벡터화 배치 작업 실행 중 오류 발생. mode: {}", mode, e);
         }
     }
-}*/
+}
@@ -1,29 +1,59 @@
 package com.ai.lawyer.global.batch;
 
-/*@Slf4j
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.domain.vector.repository.VectorSyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 판례/법령 증분 벡터화 Job
+ * <p>
+ * mode=incremental: 워터마크 이후에 추가된 행만 벡터화 (하루 처리량은 batch.page.size.* 로 제한)
+ * mode=full: 전체 행을 다시 읽되 본문 해시가 바뀐 행만 다시 벡터화 (수정된 행 반영)
+ * 판례/법령 Step은 처리 범위를 id 구간으로 나눠 파티션별 워커 스레드에서 키셋 reader로 읽으며,
+ * 파티션마다 마지막으로 읽은 id가 저장되어 실패한 파티션만 이어서 재시작된다.
+ * 마지막 Step에서 원본이 삭제된 청크를 정리한다.
+ */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class DataVectorizationJobConfig {
 
+    public static final String MODE_PARAMETER = "mode";
+    public static final String MODE_INCREMENTAL = "incremental";
+    public static final String MODE_FULL = "full";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
-    private final VectorStore vectorStore;
-
-    private final JangRepository jangRepository;
-    private final JoRepository joRepository;
-    private final HangRepository hangRepository;
-    private final HoRepository hoRepository;
 
-    private final TokenTextSplitter tokenSplitter = TokenTextSplitter.builder()
-            .withChunkSize(800)
-            .withMinChunkSizeChars(0)
-            .withMinChunkLengthToEmbed(5)
-            .withMaxNumChunks(10000)
-            .withKeepSeparator(true)
-            .build();
+    private final PrecedentRepository precedentRepository;
+    private final LawRepository lawRepository;
+    private final VectorSourceStateRepository vectorSourceStateRepository;
+    private final VectorSyncWatermarkRepository watermarkRepository;
 
-    private static final int CHUNK_SIZE = 10; // 배치 처리 시 한 번에 읽어올 데이터 수
+    private final SourceChunker sourceChunker;
+    private final SourceChunksWriter sourceChunksWriter;
+    private final StaleVectorCleanupTasklet staleVectorCleanupTasklet;
 
     @Value("${batch.page.size.precedent}")
     private int precedentPageSize; // 하루에 처리할 판례 수
@@ -31,16 +61,11 @@ public class DataVectorizationJobConfig {
     @Value("${batch.page.size.law}")
     private int lawPageSize; // 하루에 처리할 법령 수
 
-    @Bean
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-thread-");
-        executor.initialize();
-        return executor;
-    }
+    @Value("${batch.vectorization.partitions:4}")
+    private int partitions; // 동시에 처리할 파티션(워커 스레드) 수
+
+    @Value("${batch.vectorization.chunk-size:10}")
+    private int chunkSize; // 한 트랜잭션에서 읽고 저장할 행 수 (임베딩 요청 크기에 영향)
 
     // -------------- 전체 데이터 벡터화 정의 --------------
     @Bean
@@ -48,162 +73,133 @@ public class DataVectorizationJobConfig {
         return new JobBuilder("dataVectorizationJob", jobRepository)
                 .start(precedentVectorizationStep()) // 판례 벡터화 Step 실행
                 .next(lawVectorizationStep())        // 법령 벡터화 Step 실행
+                .next(staleVectorCleanupStep())      // 삭제된 원본의 청크 정리
                 .build();
     }
 
     // -------------- 판례 벡터화 ---------------
     @Bean
     public Step precedentVectorizationStep() {
-        log.info(">>>>>> 판례 벡터화 시작");
         return new StepBuilder("precedentVectorizationStep", jobRepository)
-                .<Precedent, List<Document>>chunk(CHUNK_SIZE, transactionManager)
-                .reader(precedentItemReader())
-                .processor(precedentItemProcessor())
-                .writer(documentItemWriter())
-                .taskExecutor(taskExecutor())
+                .partitioner("precedentVectorizationWorker", precedentPartitioner(null, null))
+                .step(precedentVectorizationWorker())
+                .gridSize(partitions)
+                .taskExecutor(vectorizationTaskExecutor())
+                .listener(new VectorizationStepListener(VectorSourceType.PRECEDENT, "precedentVectorizationWorker",
+                        precedentRepository::findMaxId,
+                        (lastId, limit) -> precedentRepository.findIdsAfter(lastId, Limit.of(limit)),
+                        precedentPageSize, watermarkRepository))
                 .build();
     }
 
     @Bean
-    public JpaPagingItemReader<Precedent> precedentItemReader() {
-        return new JpaPagingItemReaderBuilder<Precedent>()
-                .name("precedentItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .maxItemCount(precedentPageSize)
-                .queryString("SELECT p FROM Precedent p ORDER BY p.id ASC")
+    public Step precedentVectorizationWorker() {
+        return new StepBuilder("precedentVectorizationWorker", jobRepository)
+                .<Precedent, SourceChunks>chunk(chunkSize, transactionManager)
+                .reader(precedentItemReader(null, null))
+                .processor(precedentItemProcessor())
+                .writer(sourceChunksWriter)
                 .build();
     }
 
     @Bean
-    public ItemProcessor<Precedent, List<Document>> precedentItemProcessor() {
-
-        return precedent -> {
-            String content = precedent.getPrecedentContent();
-            if (content == null || content.isBlank()) return null;
-
-            Document originalDoc = new Document(content, Map.of(
-                    "type", "판례",
-                    "caseNumber", precedent.getCaseNumber(),
-                    "court", precedent.getCourtName(),
-                    "caseName", precedent.getCaseName()
-            ));
-
-            List<Document> chunkDocs = tokenSplitter.split(originalDoc);
-            List<Document> finalChunks = new ArrayList<>();
-
-            // 청크별로 메타데이터에 인덱스 추가 -> 구분 용도
-            for (int i = 0; i < chunkDocs.size(); i++) {
-                Document chunk = chunkDocs.get(i);
-                Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
-                newMetadata.put("chunkIndex", i);
-                finalChunks.add(new Document(chunk.getText(), newMetadata));
-            }
-            return finalChunks;
-        };
+    @StepScope
+    public IdRangePartitioner precedentPartitioner(
+            @Value("#{stepExecutionContext['" + VectorizationStepListener.RANGE_START_AFTER_ID_KEY + "']}") Long startAfterId,
+            @Value("#{stepExecutionContext['" + VectorizationStepListener.RANGE_MAX_ID_KEY + "']}") Long maxId) {
+        return new IdRangePartitioner(startAfterId, maxId);
+    }
+
+    @Bean
+    @StepScope
+    public KeysetItemReader<Precedent> precedentItemReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.START_AFTER_ID_KEY + "']}") Long startAfterId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return new KeysetItemReader<>("precedentItemReader",
+                (lastId, limit) -> precedentRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(lastId, maxId, Limit.of(limit)),
+                Precedent::getId, chunkSize, 0, startAfterId);
+    }
+
+    @Bean
+    public ItemProcessor<Precedent, SourceChunks> precedentItemProcessor() {
+        return precedent -> changedOnly(sourceChunker.chunk(precedent));
     }
 
     // -------------- 법령 백터화 ---------------
     @Bean
     public Step lawVectorizationStep() {
-        log.info(">>>>>> 법령 벡터화 시작");
         return new StepBuilder("lawVectorizationStep", jobRepository)
-                .<Law, List<Document>>chunk(CHUNK_SIZE, transactionManager) // 법령은 한 번에 10개씩 처리
-                .reader(lawItemReader())
-                .processor(lawItemProcessor())
-                .writer(documentItemWriter())
-                .taskExecutor(taskExecutor())
+                .partitioner("lawVectorizationWorker", lawPartitioner(null, null))
+                .step(lawVectorizationWorker())
+                .gridSize(partitions)
+                .taskExecutor(vectorizationTaskExecutor())
+                .listener(new VectorizationStepListener(VectorSourceType.LAW, "lawVectorizationWorker",
+                        lawRepository::findMaxId,
+                        (lastId, limit) -> lawRepository.findIdsAfter(lastId, Limit.of(limit)),
+                        lawPageSize, watermarkRepository))
                 .build();
     }
 
     @Bean
-    public JpaPagingItemReader<Law> lawItemReader() {
-        return new JpaPagingItemReaderBuilder<Law>()
-                .name("lawItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .maxItemCount(lawPageSize)
-                .queryString("SELECT l FROM Law l ORDER BY l.id ASC")
+    public Step lawVectorizationWorker() {
+        return new StepBuilder("lawVectorizationWorker", jobRepository)
+                .<Law, SourceChunks>chunk(chunkSize, transactionManager)
+                .reader(lawItemReader(null, null))
+                .processor(lawItemProcessor())
+                .writer(sourceChunksWriter)
                 .build();
     }
 
     @Bean
-    public ItemProcessor<Law, List<Document>> lawItemProcessor() {
-        return law -> {
-            List<Document> finalChunks = new ArrayList<>();
-
-            List<Jang> jangs = jangRepository.findByLaw(law);
-
-            for (Jang jang : jangs) {
-
-                StringBuilder contentBuilder = new StringBuilder();
-
-                contentBuilder.append(law.getLawName()).append("\n");
-
-                if (jang.getContent() != null && !jang.getContent().isBlank()) {
-                    contentBuilder.append(jang.getContent()).append("\n");
-                }
-
-                List<Jo> jos = joRepository.findByJang(jang);
-                for (Jo jo : jos) {
-
-                    if (jo.getContent() != null && !jo.getContent().isBlank()) {
-                        contentBuilder.append(jo.getContent()).append("\n");
-                    }
-
-                    List<Hang> hangs = hangRepository.findByJo(jo);
-                    for (Hang hang : hangs) {
-                        if (hang.getContent() != null && !hang.getContent().isBlank()) {
-                            contentBuilder.append(hang.getContent()).append("\n");
-                        }
-
-                        List<Ho> hos = hoRepository.findByHang(hang);
-                        for (Ho ho : hos) {
-                            if (ho.getContent() != null && !ho.getContent().isBlank()) {
-                                contentBuilder.append(ho.getContent()).append("\n");
-                            }
-                        }
-                    }
-                }
-
-                // === Jang 단위로 문서화 ===
-                String finalContent = contentBuilder.toString();
+    @StepScope
+    public IdRangePartitioner lawPartitioner(
+            @Value("#{stepExecutionContext['" + VectorizationStepListener.RANGE_START_AFTER_ID_KEY + "']}") Long startAfterId,
+            @Value("#{stepExecutionContext['" + VectorizationStepListener.RANGE_MAX_ID_KEY + "']}") Long maxId) {
+        return new IdRangePartitioner(startAfterId, maxId);
+    }
 
-                if (!finalContent.isBlank()) {
-                    Map<String, Object> metadata = new HashMap<>();
-                    metadata.put("type", "법령");
-                    metadata.put("lawName", law.getLawName());
-                    metadata.put("jangId", jang.getId());
+    @Bean
+    @StepScope
+    public KeysetItemReader<Law> lawItemReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.START_AFTER_ID_KEY + "']}") Long startAfterId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return new KeysetItemReader<>("lawItemReader",
+                (lastId, limit) -> lawRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(lastId, maxId, Limit.of(limit)),
+                Law::getId, chunkSize, 0, startAfterId);
+    }
 
-                    Document originalDoc = new Document(finalContent, metadata);
+    @Bean
+    public ItemProcessor<Law, SourceChunks> lawItemProcessor() {
+        return law -> changedOnly(sourceChunker.chunk(law));
+    }
 
-                    List<Document> chunkDocs = tokenSplitter.split(originalDoc);
+    // -------------- 삭제된 원본 정리 ---------------
+    @Bean
+    public Step staleVectorCleanupStep() {
+        return new StepBuilder("staleVectorCleanupStep", jobRepository)
+                .tasklet(staleVectorCleanupTasklet, transactionManager)
+                .build();
+    }
 
-                    for (int i = 0; i < chunkDocs.size(); i++) {
-                        Document chunk = chunkDocs.get(i);
-                        Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
-                        newMetadata.put("chunkIndex", i);
-                        finalChunks.add(new Document(chunk.getText(), newMetadata));
-                    }
-                }
-            }
+    // ==================== Private Helper Methods ====================
 
-            return finalChunks.isEmpty() ? null : finalChunks;
-        };
+    // 파티션 워커 스레드 (Bean으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 빠지므로 Step 전용으로 생성)
+    private TaskExecutor vectorizationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vectorization-");
+        executor.setConcurrencyLimit(partitions);
+        return executor;
     }
 
-    @Bean
-    public ItemWriter<List<Document>> documentItemWriter() {
-        return chunk -> {
-            List<Document> totalDocuments = chunk.getItems().stream()
-                    .flatMap(List::stream)
-                    .collect(Collectors.toList());
-
-            if (!totalDocuments.isEmpty()) {
-                vectorStore.add(totalDocuments);
-                log.info(">>>>>> {}개의 Document 청크를 벡터 저장소에 저장했습니다.", totalDocuments.size());
-            }
-        };
+    // 본문 해시가 마지막 벡터화 때와 같으면 건너뜀 (filterCount로 집계)
+    private SourceChunks changedOnly(SourceChunks chunks) {
+        if (chunks == null) {
+            return null;
+        }
+        boolean unchanged = vectorSourceStateRepository
+                .findBySourceTypeAndSourceId(chunks.sourceType(), chunks.sourceId())
+                .map(VectorSourceState::getContentHash)
+                .filter(chunks.contentHash()::equals)
+                .isPresent();
+        return unchanged ? null : chunks;
     }
-}*/
-
+}
@@ -0,0 +1,59 @@
+package com.ai.lawyer.global.batch;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * id 범위 (startAfterId, maxId]를 gridSize개의 연속 구간으로 나누는 파티셔너
+ * <p>
+ * 각 파티션 ExecutionContext에 startAfterId(제외), maxId(포함)를 담으며, 워커는 이 구간만 키셋으로 읽는다.
+ * id 값 기준으로 나누므로 삭제로 id가 비어 있는 구간은 파티션별 행 수가 조금씩 다를 수 있다.
+ */
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String START_AFTER_ID_KEY = "startAfterId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final long startAfterId;
+    private final long maxId;
+
+    /**
+     * @param startAfterId 이 id 다음 행부터
+     * @param maxId 이 id까지
+     */
+    public IdRangePartitioner(long startAfterId, long maxId) {
+        this.startAfterId = startAfterId;
+        this.maxId = maxId;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        long span = maxId - startAfterId;
+        if (span <= 0) {
+            // 읽을 범위가 없어도 Step 실행 이력이 남도록 빈 파티션 하나를 만든다
+            partitions.put("partition0", range(startAfterId, startAfterId));
+            return partitions;
+        }
+
+        int count = (int) Math.min(Math.max(gridSize, 1), span);
+        long size = span / count;
+        long lower = startAfterId;
+        for (int i = 0; i < count; i++) {
+            long upper = i == count - 1 ? maxId : lower + size;
+            partitions.put("partition" + i, range(lower, upper));
+            lower = upper;
+        }
+        return partitions;
+    }
+
+    private static ExecutionContext range(long startAfterId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(START_AFTER_ID_KEY, startAfterId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ai.lawyer.global.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * id 키셋 페이지 리더 (WHERE id > :lastId ORDER BY id LIMIT :pageSize)
+ * <p>
+ * OFFSET 페이징과 달리 뒤쪽 페이지도 인덱스로 바로 찾아가며, 마지막으로 읽은 id를 ExecutionContext에 저장해
+ * 실패한 Job을 재시작하면 그 다음 행부터 이어서 읽는다.
+ * 파티션 Step에서는 파티션마다 별도 인스턴스(@StepScope)를 만들어 각 워커 스레드가 자기 id 구간만 읽는다.
+ *
+ * @param <T> 읽을 행 타입
+ */
+public class KeysetItemReader<T> implements ItemStreamReader<T> {
+
+    private final String name;
+    private final BiFunction<Long, Integer, List<T>> pageLoader;
+    private final Function<T, Long> idGetter;
+    private final int pageSize;
+    private final int maxItemCount;
+
+    private long lastId;
+    private int readCount;
+    private Iterator<T> page = List.<T>of().iterator();
+    private boolean exhausted;
+
+    /**
+     * @param name ExecutionContext 키 접두사
+     * @param pageLoader (lastId, limit) -> id 오름차순 행 목록
+     * @param idGetter 행 id
+     * @param pageSize 한 번에 조회할 행 수
+     * @param maxItemCount 최대 읽기 행 수 (0 이하면 제한 없음)
+     * @param startAfterId 이 id 다음 행부터 읽음
+     */
+    public KeysetItemReader(String name, BiFunction<Long, Integer, List<T>> pageLoader, Function<T, Long> idGetter,
+                            int pageSize, int maxItemCount, long startAfterId) {
+        this.name = name;
+        this.pageLoader = pageLoader;
+        this.idGetter = idGetter;
+        this.pageSize = pageSize;
+        this.maxItemCount = maxItemCount;
+        this.lastId = startAfterId;
+    }
+
+    @Override
+    public synchronized T read() {
+        if (maxItemCount > 0 && readCount >= maxItemCount) {
+            return null;
+        }
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            int limit = maxItemCount > 0 ? Math.min(pageSize, maxItemCount - readCount) : pageSize;
+            List<T> rows = pageLoader.apply(lastId, limit);
+            exhausted = rows.size() < limit;
+            page = rows.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+        T item = page.next();
+        lastId = idGetter.apply(item);
+        readCount++;
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(lastIdKey())) {
+            lastId = executionContext.getLong(lastIdKey());
+            readCount = executionContext.getInt(readCountKey(), 0);
+        }
+    }
+
+    @Override
+    public synchronized void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(lastIdKey(), lastId);
+        executionContext.putInt(readCountKey(), readCount);
+    }
+
+    /**
+     * 마지막으로 읽은 행 id (읽은 행이 없으면 시작 id)
+     */
+    public synchronized long getLastId() {
+        return lastId;
+    }
+
+    private String lastIdKey() {
+        return name + ".lastId";
+    }
+
+    private String readCountKey() {
+        return name + ".readCount";
+    }
+}
@@ -0,0 +1,84 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.importer.LawImportProperties;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 개정본으로 갱신된 법령을 커밋 후 바로 다시 벡터화
+ * <p>
+ * 증분 벡터화 배치는 마지막으로 처리한 id 이후의 새 법령만 읽으므로, id를 유지한 채 갱신된 법령은 여기서 처리한다.
+ * 청크 id가 법령 전체에서의 순번이라 법령 단위로 다시 쓰지만, 본문이 그대로인 장의 청크는 임베딩 캐시에서 가져오므로
+ * 임베딩 API는 바뀐 장의 청크만 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawVectorRefresher {
+
+    private final LawRepository lawRepository;
+    private final SourceChunker sourceChunker;
+    private final SourceChunksWriter sourceChunksWriter;
+    private final VectorDocumentWriter vectorDocumentWriter;
+    private final VectorSourceStateRepository vectorSourceStateRepository;
+    private final LawImportProperties properties;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLawChanged(LawChangedEvent event) {
+        if (properties.isRefreshVectors() && !event.isEmpty()) {
+            Thread.ofVirtual().name("law-vector-refresh").start(() -> refreshQuietly(event));
+        }
+    }
+
+    /**
+     * 법령 하나의 청크를 다시 만들어 저장하고 남은 청크를 지움 (본문 해시가 그대로면 건너뜀)
+     */
+    public void refresh(Long lawId) throws Exception {
+        Law law = lawRepository.findById(lawId).orElse(null);
+        if (law == null) {
+            log.warn("재벡터화할 법령이 없습니다. 법령 ID: {}", lawId);
+            return;
+        }
+
+        SourceChunks chunks = sourceChunker.chunk(law);
+        if (chunks == null) {
+            // 본문이 있는 장이 모두 없어짐
+            vectorDocumentWriter.deleteBySource(VectorSourceType.LAW.getLabel(), lawId, "lawName", law.getLawName());
+            return;
+        }
+        boolean unchanged = vectorSourceStateRepository
+                .findBySourceTypeAndSourceId(VectorSourceType.LAW, lawId)
+                .map(VectorSourceState::getContentHash)
+                .filter(chunks.contentHash()::equals)
+                .isPresent();
+        if (!unchanged) {
+            sourceChunksWriter.write(new Chunk<>(List.of(chunks)));
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void refreshQuietly(LawChangedEvent event) {
+        try {
+            long startTime = System.currentTimeMillis();
+            refresh(event.lawId());
+            log.info("법령 재벡터화 완료. 법령 ID: {}, 법령명: {}, 변경된 장: {}, 소요 시간: {}ms",
+                    event.lawId(), event.lawName(), event.changedJangIds().size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            // 다음 전체 벡터화 배치에서 해시 비교로 다시 처리됨
+            log.error("법령 재벡터화 실패. 법령 ID: {}, 법령명: {}", event.lawId(), event.lawName(), e);
+        }
+    }
+}
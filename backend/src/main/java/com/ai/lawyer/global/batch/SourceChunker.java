@@ -0,0 +1,131 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.snapshot.LawCorpusSnapshot;
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.global.embedding.EmbeddingCacheStore;
+import com.ai.lawyer.global.qdrant.service.ChunkIds;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 판례/법령 행을 벡터화용 청크로 변환
+ * <p>
+ * 판례는 판례내용 전체를, 법령은 장(Jang) 단위로 조/항/호 본문을 이어 붙인 뒤 토큰 단위로 자른다.
+ * 자르기 전 원문과 메타데이터로 해시를 만들어 변경 여부 판단에 사용한다.
+ * 청크 id는 (type, 원본 id, 원본 내 청크 순번, 임베딩 모델)로 정해지므로 같은 원본을 다시 적재하면 기존 포인트를 덮어쓴다.
+ * 임베딩 모델은 저장할 type 컬렉션의 현재 모델(VectorDocumentWriter.embeddingModelFor)이다.
+ * 법령의 chunkIndex는 장마다 0부터 다시 시작하므로 id에는 법령 전체에서의 순번을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SourceChunker {
+
+    private final LawRepository lawRepository;
+    private final LawCorpusSnapshot lawCorpusSnapshot;
+    private final VectorDocumentWriter vectorDocumentWriter;
+
+    private final TokenTextSplitter tokenSplitter = TokenTextSplitter.builder()
+            .withChunkSize(800)
+            .withMinChunkSizeChars(0)
+            .withMinChunkLengthToEmbed(5)
+            .withMaxNumChunks(10000)
+            .withKeepSeparator(true)
+            .build();
+
+    /**
+     * @return 판례내용이 비어 있으면 null
+     */
+    public SourceChunks chunk(Precedent precedent) {
+        String content = precedent.getPrecedentContent();
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("type", VectorSourceType.PRECEDENT.getLabel());
+        metadata.put("caseNumber", precedent.getCaseNumber());
+        metadata.put("court", precedent.getCourtName());
+        metadata.put("caseName", precedent.getCaseName());
+        metadata.put(VectorDocumentWriter.SOURCE_ID_KEY, precedent.getId());
+
+        Document original = new Document(content, metadata);
+        return new SourceChunks(VectorSourceType.PRECEDENT, precedent.getId(), hash(List.of(original)),
+                "caseNumber", precedent.getCaseNumber(), withPointIds(VectorSourceType.PRECEDENT, precedent.getId(), split(original)));
+    }
+
+    /**
+     * @return 본문이 있는 장이 없으면 null
+     */
+    public SourceChunks chunk(Law law) {
+        List<Document> originals = new ArrayList<>();
+
+        // 장 -> 조 -> 항 -> 호 본문은 스냅샷에서 읽고, 스냅샷에 없으면 법령 크기와 무관하게 쿼리 4번으로 조회
+        List<LawJangText> jangTexts = lawCorpusSnapshot.findJangTexts(law.getId())
+                .orElseGet(() -> lawRepository.findJangTexts(List.of(law.getId())));
+        for (LawJangText jangText : jangTexts) {
+            // === Jang 단위로 문서화 ===
+            String finalContent = law.getLawName() + "\n" + jangText.content();
+            if (!finalContent.isBlank()) {
+                Map<String, Object> metadata = new HashMap<>();
+                metadata.put("type", VectorSourceType.LAW.getLabel());
+                metadata.put("lawName", law.getLawName());
+                metadata.put("jangId", jangText.jangId());
+                metadata.put(VectorDocumentWriter.SOURCE_ID_KEY, law.getId());
+                originals.add(new Document(finalContent, metadata));
+            }
+        }
+
+        if (originals.isEmpty()) {
+            return null;
+        }
+        List<Document> chunks = new ArrayList<>();
+        originals.forEach(original -> chunks.addAll(split(original)));
+        return new SourceChunks(VectorSourceType.LAW, law.getId(), hash(originals), "lawName", law.getLawName(),
+                withPointIds(VectorSourceType.LAW, law.getId(), chunks));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private List<Document> split(Document original) {
+        List<Document> chunkDocs = tokenSplitter.split(original);
+        List<Document> finalChunks = new ArrayList<>(chunkDocs.size());
+
+        // 청크별로 메타데이터에 인덱스 추가 -> 구분 용도
+        for (int i = 0; i < chunkDocs.size(); i++) {
+            Document chunk = chunkDocs.get(i);
+            Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
+            newMetadata.put("chunkIndex", i);
+            finalChunks.add(new Document(chunk.getText(), newMetadata));
+        }
+        return finalChunks;
+    }
+
+    private List<Document> withPointIds(VectorSourceType type, long sourceId, List<Document> chunks) {
+        String model = vectorDocumentWriter.embeddingModelFor(type.getLabel()).getModelId();
+        List<Document> identified = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            Document chunk = chunks.get(i);
+            identified.add(new Document(ChunkIds.pointId(type.getLabel(), sourceId, i, model), chunk.getText(), chunk.getMetadata()));
+        }
+        return identified;
+    }
+
+    // 메타데이터는 키 순서와 무관하게 같은 해시가 나오도록 정렬해서 포함
+    private static String hash(List<Document> originals) {
+        StringBuilder builder = new StringBuilder();
+        for (Document original : originals) {
+            builder.append(new TreeMap<>(original.getMetadata())).append('\u0000')
+                    .append(original.getText()).append('\u0001');
+        }
+        return EmbeddingCacheStore.hash(builder.toString());
+    }
+}
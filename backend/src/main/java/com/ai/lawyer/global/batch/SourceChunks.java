@@ -0,0 +1,20 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+
+/**
+ * 원본 행 하나에서 만든 청크 묶음
+ *
+ * @param sourceType 원본 종류
+ * @param sourceId 원본 행 id
+ * @param contentHash 청크 생성에 쓴 본문 + 메타데이터 해시
+ * @param sourceKey sourceId가 없던 기존 포인트를 찾기 위한 payload 필드 (caseNumber / lawName)
+ * @param sourceKeyValue sourceKey 값
+ * @param documents 청크 문서
+ */
+public record SourceChunks(VectorSourceType sourceType, Long sourceId, String contentHash,
+                           String sourceKey, String sourceKeyValue, List<Document> documents) {
+}
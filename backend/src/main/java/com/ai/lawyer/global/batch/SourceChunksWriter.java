@@ -0,0 +1,95 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변경된 원본 행의 청크를 저장(같은 id는 덮어씀)하고, 새 청크 목록에 없는 기존 청크를 지운 뒤 벡터화 상태를 갱신
+ * <p>
+ * 청크 id가 결정적이므로 재시도해도 중복 포인트가 생기지 않으며, 저장 후 삭제하므로 갱신 중에도 원본이 검색에서 빠지지 않는다.
+ * 저장한 청크 수는 Step ExecutionContext의 chunkCount에 누적된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SourceChunksWriter implements ItemWriter<SourceChunks> {
+
+    public static final String CHUNK_COUNT_KEY = "chunkCount";
+
+    private final VectorDocumentWriter vectorDocumentWriter;
+    private final VectorSourceStateRepository vectorSourceStateRepository;
+
+    @Override
+    public void write(Chunk<? extends SourceChunks> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Document> documents = new ArrayList<>();
+        chunk.forEach(item -> documents.addAll(item.documents()));
+        vectorDocumentWriter.write(documents);
+
+        // 원본이 줄어 청크 수가 줄었거나 임의 id로 저장된 기존 청크 정리
+        for (SourceChunks item : chunk) {
+            Set<String> keepIds = item.documents().stream().map(Document::getId).collect(Collectors.toSet());
+            vectorDocumentWriter.deleteBySource(item.sourceType().getLabel(), item.sourceId(),
+                    item.sourceKey(), item.sourceKeyValue(), keepIds);
+        }
+        saveStates(chunk.getItems());
+
+        addChunkCount(documents.size());
+        log.info(">>>>>> 원본 {}건, {}개의 Document 청크를 벡터 저장소에 저장했습니다.", chunk.size(), documents.size());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void saveStates(List<? extends SourceChunks> items) {
+        Map<VectorSourceType, List<SourceChunks>> byType = items.stream()
+                .collect(Collectors.groupingBy(SourceChunks::sourceType));
+
+        List<VectorSourceState> states = new ArrayList<>();
+        byType.forEach((type, typeItems) -> {
+            Map<Long, VectorSourceState> existing = vectorSourceStateRepository
+                    .findBySourceTypeAndSourceIdIn(type, typeItems.stream().map(SourceChunks::sourceId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(VectorSourceState::getSourceId, Function.identity()));
+
+            for (SourceChunks item : typeItems) {
+                VectorSourceState state = existing.getOrDefault(item.sourceId(), VectorSourceState.builder()
+                        .sourceType(type)
+                        .sourceId(item.sourceId())
+                        .build());
+                state.setContentHash(item.contentHash());
+                state.setChunkCount(item.documents().size());
+                states.add(state);
+            }
+        });
+        vectorSourceStateRepository.saveAll(states);
+    }
+
+    private static void addChunkCount(int count) {
+        var context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return;
+        }
+        StepExecution stepExecution = context.getStepExecution();
+        synchronized (stepExecution) {
+            stepExecution.getExecutionContext().putLong(CHUNK_COUNT_KEY,
+                    stepExecution.getExecutionContext().getLong(CHUNK_COUNT_KEY, 0L) + count);
+        }
+    }
+}
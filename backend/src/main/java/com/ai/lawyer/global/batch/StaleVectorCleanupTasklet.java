@@ -0,0 +1,57 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원본 판례/법령이 삭제된 청크 정리
+ * <p>
+ * 벡터화 상태는 남아 있는데 원본 행이 없는 경우 해당 청크와 상태를 함께 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleVectorCleanupTasklet implements Tasklet {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final VectorSourceStateRepository vectorSourceStateRepository;
+    private final VectorDocumentWriter vectorDocumentWriter;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        List<VectorSourceState> orphaned = new ArrayList<>(vectorSourceStateRepository.findOrphanedPrecedentStates(Limit.of(PAGE_SIZE)));
+        if (orphaned.size() < PAGE_SIZE) {
+            orphaned.addAll(vectorSourceStateRepository.findOrphanedLawStates(Limit.of(PAGE_SIZE - orphaned.size())));
+        }
+
+        long removedChunks = 0;
+        for (VectorSourceState state : orphaned) {
+            removedChunks += vectorDocumentWriter.deleteBySource(state.getSourceType().getLabel(), state.getSourceId(), null, null).size();
+        }
+        vectorSourceStateRepository.deleteAll(orphaned);
+
+        var context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        context.putLong("removedSources", context.getLong("removedSources", 0L) + orphaned.size());
+        context.putLong("removedChunks", context.getLong("removedChunks", 0L) + removedChunks);
+        contribution.incrementWriteCount(orphaned.size());
+
+        if (!orphaned.isEmpty()) {
+            log.info(">>>>>> 원본이 삭제된 {}건의 청크 {}개를 정리했습니다.", orphaned.size(), removedChunks);
+        }
+        // 한 페이지씩 트랜잭션을 나눠 반복
+        return orphaned.size() < PAGE_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.global.qdrant.service.VectorDeduplicator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기존 컬렉션의 중복 청크 정리 Job (일회성)
+ * <p>
+ * 실행: --spring.batch.job.enabled=true --spring.batch.job.name=vectorDedupeJob
+ */
+@Configuration
+@RequiredArgsConstructor
+public class VectorDedupeJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final VectorDeduplicator vectorDeduplicator;
+
+    @Bean
+    public Job vectorDedupeJob() {
+        return new JobBuilder("vectorDedupeJob", jobRepository)
+                .start(vectorDedupeStep())
+                .build();
+    }
+
+    @Bean
+    public Step vectorDedupeStep() {
+        return new StepBuilder("vectorDedupeStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    long removed = vectorDeduplicator.deduplicate();
+                    contribution.incrementWriteCount(removed);
+                    chunkContext.getStepContext().getStepExecution().getExecutionContext().putLong("removedChunks", removed);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.entity.VectorSyncWatermark;
+import com.ai.lawyer.domain.vector.repository.VectorSyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 파티션 벡터화 Step(manager)의 처리 범위 계산 + 처리량 기록 + 증분 워터마크 갱신
+ * <p>
+ * 처리 범위는 Step 시작 시 한 번 계산해 ExecutionContext에 저장하므로 재시작해도 같은 범위를 파티셔너에 넘긴다.
+ * 처리량(행/초, 청크/초)은 Step ExecutionContext에 저장되어 배치 메타 DB(BATCH_STEP_EXECUTION_CONTEXT)에서 실행별로 조회할 수 있다.
+ * 워터마크는 모든 파티션이 정상 완료된 경우에만 범위 끝 id로 올린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class VectorizationStepListener implements StepExecutionListener {
+
+    public static final String RANGE_START_AFTER_ID_KEY = "rangeStartAfterId";
+    public static final String RANGE_MAX_ID_KEY = "rangeMaxId";
+
+    private final VectorSourceType sourceType;
+    private final String workerStepName;
+    private final Supplier<Long> maxId;
+    private final BiFunction<Long, Integer, List<Long>> idsAfter;
+    private final int incrementalLimit;
+    private final VectorSyncWatermarkRepository watermarkRepository;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (context.containsKey(RANGE_MAX_ID_KEY)) {
+            return;
+        }
+
+        // mode=full: 전체 행 / mode=incremental: 워터마크 이후 최대 incrementalLimit개 행
+        boolean full = DataVectorizationJobConfig.MODE_FULL.equals(
+                stepExecution.getJobParameters().getString(DataVectorizationJobConfig.MODE_PARAMETER));
+        long startAfterId = full ? 0 : watermark().getLastSourceId();
+        long endId = startAfterId;
+        if (!full && incrementalLimit > 0) {
+            List<Long> ids = idsAfter.apply(startAfterId, incrementalLimit);
+            if (!ids.isEmpty()) {
+                endId = ids.get(ids.size() - 1);
+            }
+        } else {
+            Long max = maxId.get();
+            endId = max != null ? Math.max(max, startAfterId) : startAfterId;
+        }
+
+        context.putLong(RANGE_START_AFTER_ID_KEY, startAfterId);
+        context.putLong(RANGE_MAX_ID_KEY, endId);
+        log.info(">>>>>> {} 벡터화 범위: ({}, {}]", sourceType.getLabel(), startAfterId, endId);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        LocalDateTime start = stepExecution.getStartTime();
+        double seconds = start != null ? Math.max(Duration.between(start, LocalDateTime.now()).toMillis(), 1) / 1000.0 : 0;
+        long chunks = stepExecution.getJobExecution().getStepExecutions().stream()
+                .filter(execution -> execution.getStepName().startsWith(workerStepName + ":"))
+                .mapToLong(execution -> execution.getExecutionContext().getLong(SourceChunksWriter.CHUNK_COUNT_KEY, 0L))
+                .sum();
+
+        context.putLong(SourceChunksWriter.CHUNK_COUNT_KEY, chunks);
+        context.putDouble("elapsedSeconds", seconds);
+        context.putDouble("rowsPerSecond", seconds > 0 ? stepExecution.getReadCount() / seconds : 0);
+        context.putDouble("chunksPerSecond", seconds > 0 ? chunks / seconds : 0);
+        context.putLong("unchangedCount", stepExecution.getFilterCount());
+
+        log.info(">>>>>> {} 벡터화 완료. 읽음: {}, 변경: {}, 변경 없음: {}, 청크: {}, 소요 시간: {}s",
+                sourceType.getLabel(), stepExecution.getReadCount(), stepExecution.getWriteCount(),
+                stepExecution.getFilterCount(), chunks, String.format("%.1f", seconds));
+
+        if (stepExecution.getStatus() == BatchStatus.COMPLETED && context.containsKey(RANGE_MAX_ID_KEY)) {
+            long endId = context.getLong(RANGE_MAX_ID_KEY);
+            VectorSyncWatermark watermark = watermark();
+            // 전체 모드는 처음부터 다시 읽으므로 워터마크를 되돌리지 않는다
+            if (endId > watermark.getLastSourceId()) {
+                watermark.setLastSourceId(endId);
+                watermarkRepository.save(watermark);
+            }
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    private VectorSyncWatermark watermark() {
+        return watermarkRepository.findById(sourceType)
+                .orElseGet(() -> VectorSyncWatermark.builder().sourceType(sourceType).lastSourceId(0L).build());
+    }
+}
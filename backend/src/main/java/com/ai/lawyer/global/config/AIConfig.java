@@ -1,11 +1,18 @@
 package com.ai.lawyer.global.config;
 
+import com.ai.lawyer.global.embedding.BatchingEmbeddingModel;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.embedding.EmbeddingBatchProperties;
+import com.ai.lawyer.global.embedding.EmbeddingCacheProperties;
+import com.ai.lawyer.global.embedding.EmbeddingCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.memory.ChatMemoryRepository;
 import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.ollama.OllamaEmbeddingModel;
 import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -17,8 +24,22 @@ public class AIConfig {
 
     @Bean
     @Primary
-    public EmbeddingModel primaryOllamaEmbeddingModel(OllamaEmbeddingModel ollamaEmbeddingModel) {
-        return ollamaEmbeddingModel;
+    public EmbeddingModel primaryOllamaEmbeddingModel(OllamaEmbeddingModel ollamaEmbeddingModel,
+                                                      EmbeddingBatchProperties embeddingBatchProperties,
+                                                      MeterRegistry meterRegistry) {
+        // 동시 질의 임베딩을 모아서 한 번에 호출하는 디스패처를 앞단에 둔다
+        return new BatchingEmbeddingModel(ollamaEmbeddingModel, embeddingBatchProperties, meterRegistry);
+    }
+
+    @Bean
+    public CachingEmbeddingModel documentEmbeddingModel(OllamaEmbeddingModel ollamaEmbeddingModel,
+                                                        EmbeddingCacheStore embeddingCacheStore,
+                                                        EmbeddingCacheProperties embeddingCacheProperties,
+                                                        @Value("${spring.ai.ollama.embedding.options.model}") String model,
+                                                        MeterRegistry meterRegistry) {
+        // 벡터화 쓰기 경로 전용: 본문이 바뀌지 않은 청크는 저장된 임베딩을 재사용
+        return new CachingEmbeddingModel(ollamaEmbeddingModel, embeddingCacheStore, model,
+                embeddingCacheProperties.isEnabled(), meterRegistry);
     }
 
     @Bean
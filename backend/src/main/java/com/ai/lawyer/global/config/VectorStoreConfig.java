@@ -0,0 +1,81 @@
+package com.ai.lawyer.global.config;
+
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
+import com.ai.lawyer.global.vectorstore.FailoverVectorStore;
+import com.ai.lawyer.global.vectorstore.FallbackVectorStorePostProcessor;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import com.ai.lawyer.global.vectorstore.LocalVectorStoreProperties;
+import com.ai.lawyer.global.vectorstore.VectorQuantizationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.qdrant.client.QdrantClient;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 벡터 저장소 선택
+ * <p>
+ * - spring.ai.vectorstore.type=hnsw (local-vector 프로파일): Qdrant 대신 프로세스 내 HNSW 저장소 사용
+ * - custom.ai.vectorstore.fallback.enabled=true: Qdrant를 기본으로 쓰되 장애 시 로컬 복제본으로 검색
+ * - custom.ai.vectorstore.qdrant.partition.enabled=true: 판례/법령을 별도 컬렉션(별칭)으로 나누어 저장/검색
+ */
+@Configuration
+public class VectorStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "hnsw")
+    public HnswVectorStore vectorStore(EmbeddingModel embeddingModel, LocalVectorStoreProperties properties,
+                                       VectorQuantizationProperties quantization, MeterRegistry meterRegistry) {
+        HnswVectorStore vectorStore = new HnswVectorStore(embeddingModel, properties.getHnsw(), quantization,
+                Path.of(properties.getHnsw().getPath()), false);
+        vectorStore.registerMetrics(meterRegistry, "primary");
+        return vectorStore;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "custom.ai.vectorstore.fallback.enabled", havingValue = "true")
+    public static FallbackVectorStorePostProcessor fallbackVectorStorePostProcessor(ObjectProvider<EmbeddingModel> embeddingModel,
+                                                                                    ObjectProvider<LocalVectorStoreProperties> properties,
+                                                                                    ObjectProvider<VectorQuantizationProperties> quantization,
+                                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 의존성은 감쌀 때 지연 조회
+        return new FallbackVectorStorePostProcessor(embeddingModel, properties, quantization, meterRegistry);
+    }
+
+    @Bean
+    public VectorStoreRouter vectorStoreRouter(VectorStore vectorStore, EmbeddingModel embeddingModel,
+                                               QdrantPartitionProperties partition,
+                                               ObjectProvider<QdrantClient> qdrantClient,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        QdrantClient client = qdrantClient.getIfAvailable();
+        if (!partition.isEnabled() || client == null) {
+            return VectorStoreRouter.single(vectorStore);
+        }
+
+        // 복제본은 type 필터로 같은 결과를 내므로 type별 저장소에도 그대로 사용 (재임베딩 후 교체하는 저장소도 동일)
+        UnaryOperator<VectorStore> decorator = vectorStore instanceof FailoverVectorStore failover
+                ? store -> new FailoverVectorStore(store, failover.getReplica(), meterRegistry.getObject())
+                : UnaryOperator.identity();
+
+        Map<String, VectorStore> partitions = new LinkedHashMap<>();
+        partition.aliasesByType().forEach((type, alias) -> {
+            // 컬렉션/별칭은 QdrantInitializer와 마이그레이션 작업이 관리
+            VectorStore store = QdrantVectorStore.builder(client, embeddingModel)
+                    .collectionName(alias)
+                    .initializeSchema(false)
+                    .build();
+            partitions.put(type, decorator.apply(store));
+        });
+        return new VectorStoreRouter(vectorStore, partitions, decorator);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관측한 임베딩 지연/실패에 따라 배치 크기(토큰)를 조절 (AIMD)
+ * <p>
+ * 목표 지연 안에 끝나면 increaseTokens만큼 늘리고, 목표를 넘기거나 실패하면 decreaseFactor를 곱해 줄인다.
+ * 같은 임베딩 서버를 쓰는 모든 벡터화 워커가 하나의 크기를 공유한다.
+ */
+@Component
+public class AdaptiveBatchSizer {
+
+    private final EmbeddingWriteProperties properties;
+    private final Timer latencyTimer;
+    private final Counter failureCounter;
+    private int currentTokens;
+
+    public AdaptiveBatchSizer(EmbeddingWriteProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.currentTokens = clamp(properties.getInitialTokens());
+        this.latencyTimer = Timer.builder("embedding.write.latency")
+                .description("벡터화 배치 임베딩 소요 시간")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("embedding.write.failures")
+                .description("벡터화 배치 임베딩 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("embedding.write.batch.tokens", this, AdaptiveBatchSizer::currentTokens)
+                .description("현재 벡터화 배치 크기 (토큰)")
+                .register(meterRegistry);
+    }
+
+    public synchronized int currentTokens() {
+        return currentTokens;
+    }
+
+    /**
+     * @param latencyMillis 배치 임베딩 소요 시간
+     */
+    public synchronized void onSuccess(long latencyMillis) {
+        latencyTimer.record(latencyMillis, TimeUnit.MILLISECONDS);
+        if (latencyMillis <= properties.getTargetLatencyMillis()) {
+            currentTokens = clamp(currentTokens + properties.getIncreaseTokens());
+        } else {
+            currentTokens = clamp((int) (currentTokens * properties.getDecreaseFactor()));
+        }
+    }
+
+    public synchronized void onFailure() {
+        failureCounter.increment();
+        currentTokens = clamp((int) (currentTokens * properties.getDecreaseFactor()));
+    }
+
+    private int clamp(int tokens) {
+        return Math.max(properties.getMinTokens(), Math.min(properties.getMaxTokens(), tokens));
+    }
+}
@@ -0,0 +1,250 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 동시에 들어오는 단건 질의 임베딩을 짧은 시간 동안 모아 한 번의 배치 호출로 보내는 EmbeddingModel
+ * <p>
+ * 채팅 질의처럼 {@link #embed(String)} 로 들어오는 요청만 배치 대상이며,
+ * 벡터화 배치처럼 이미 여러 건을 묶어 보내는 {@link #call(EmbeddingRequest)} 는 그대로 위임한다.
+ */
+@Slf4j
+public class BatchingEmbeddingModel implements EmbeddingModel, DisposableBean {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingBatchProperties properties;
+
+    private final BlockingQueue<PendingEmbedding> queue;
+    private final ExecutorService batchExecutor;
+    private final Semaphore inFlightBatches;
+    private final Thread dispatcherThread;
+    private volatile boolean running = true;
+
+    // 측정 지표
+    private final Counter requestCounter;
+    private final Counter bypassCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchLatencyTimer;
+    private final Timer queueWaitTimer;
+
+    public BatchingEmbeddingModel(EmbeddingModel delegate, EmbeddingBatchProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        this.inFlightBatches = new Semaphore(properties.getMaxConcurrentBatches());
+        this.batchExecutor = Executors.newFixedThreadPool(properties.getMaxConcurrentBatches(), runnable -> {
+            Thread thread = new Thread(runnable, "embedding-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.requestCounter = Counter.builder("embedding.query.requests")
+                .description("배치 디스패처로 들어온 질의 임베딩 요청 수")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder("embedding.query.bypassed")
+                .description("대기열 초과로 배치 없이 바로 호출된 요청 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("embedding.batch.size")
+                .description("한 번의 임베딩 호출에 묶인 질의 수")
+                .register(meterRegistry);
+        this.batchLatencyTimer = Timer.builder("embedding.batch.latency")
+                .description("배치 임베딩 호출 소요 시간")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("embedding.queue.wait")
+                .description("요청이 배치로 묶이기까지 대기한 시간")
+                .register(meterRegistry);
+        Gauge.builder("embedding.queue.depth", queue, BlockingQueue::size)
+                .description("배치 대기 중인 질의 수")
+                .register(meterRegistry);
+
+        this.dispatcherThread = new Thread(this::dispatchLoop, "embedding-dispatcher");
+        this.dispatcherThread.setDaemon(true);
+        if (properties.isEnabled()) {
+            this.dispatcherThread.start();
+        }
+    }
+
+    // ==================== EmbeddingModel ====================
+
+    @Override
+    public float[] embed(String text) {
+        if (!properties.isEnabled()) {
+            return delegate.embed(text);
+        }
+        try {
+            return embedAsync(text).get(properties.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("임베딩 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("임베딩 요청 시간이 초과되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("임베딩 요청 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        return delegate.call(request);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return delegate.embed(document);
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    /**
+     * 질의 텍스트를 배치 대기열에 넣고 결과 Future 반환
+     *
+     * @param text 임베딩할 질의 텍스트
+     * @return 임베딩 결과 Future
+     */
+    public CompletableFuture<float[]> embedAsync(String text) {
+        requestCounter.increment();
+        PendingEmbedding pending = new PendingEmbedding(text, System.nanoTime(), new CompletableFuture<>());
+
+        if (!properties.isEnabled() || !running || !queue.offer(pending)) {
+            // 배치 비활성화, 대기열 초과, 종료 중이면 배치 없이 바로 호출
+            bypassCounter.increment();
+            try {
+                pending.future().complete(delegate.embed(text));
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+            }
+        } else if (!running && queue.remove(pending)) {
+            // 종료 직후 대기열에 들어가 아무도 꺼내지 않을 요청
+            failAll(List.of(pending));
+        }
+        return pending.future();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        dispatcherThread.interrupt();
+        try {
+            // 디스패처가 모아 두고 제출하지 못한 배치를 실패 처리할 때까지 대기
+            dispatcherThread.join(properties.getTimeoutMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        batchExecutor.shutdown();
+
+        List<PendingEmbedding> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 첫 요청이 도착하면 최대 대기 시간 또는 최대 배치 크기까지 요청을 모아 배치로 전송
+     */
+    private void dispatchLoop() {
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMillis());
+
+        while (running) {
+            List<PendingEmbedding> batch = new ArrayList<>(properties.getMaxBatchSize());
+            try {
+                PendingEmbedding first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+                        break;
+                    }
+                    PendingEmbedding next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 동시 배치 수 제한 -> 임베딩 서버 과부하 방지
+                inFlightBatches.acquire();
+                try {
+                    batchExecutor.execute(() -> {
+                        try {
+                            executeBatch(batch);
+                        } finally {
+                            inFlightBatches.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlightBatches.release();
+                    batch.forEach(pending -> pending.future().completeExceptionally(e));
+                }
+            } catch (InterruptedException e) {
+                // 대기열에서 꺼냈지만 제출하지 못한 배치 -> 호출자가 시간 초과까지 기다리지 않도록 바로 실패 처리
+                Thread.currentThread().interrupt();
+                failAll(batch);
+                return;
+            }
+        }
+    }
+
+    private void failAll(List<PendingEmbedding> pendings) {
+        IllegalStateException exception = new IllegalStateException("임베딩 디스패처가 종료되었습니다.");
+        pendings.forEach(pending -> pending.future().completeExceptionally(exception));
+    }
+
+    private void executeBatch(List<PendingEmbedding> batch) {
+        long now = System.nanoTime();
+        batch.forEach(pending -> queueWaitTimer.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+
+        // 같은 배치 안의 동일한 질의는 한 번만 임베딩
+        Map<String, List<PendingEmbedding>> byText = new LinkedHashMap<>();
+        for (PendingEmbedding pending : batch) {
+            byText.computeIfAbsent(pending.text(), key -> new ArrayList<>()).add(pending);
+        }
+        List<String> texts = new ArrayList<>(byText.keySet());
+        batchSizeSummary.record(texts.size());
+
+        try {
+            List<float[]> embeddings = batchLatencyTimer.recordCallable(() -> delegate.embed(texts));
+            if (embeddings == null || embeddings.size() != texts.size()) {
+                throw new IllegalStateException("임베딩 결과 수가 요청 수와 일치하지 않습니다.");
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                float[] embedding = embeddings.get(i);
+                byText.get(texts.get(i)).forEach(pending -> pending.future().complete(embedding));
+            }
+        } catch (Exception e) {
+            log.warn("배치 임베딩 호출 실패. 배치 크기: {}", texts.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingEmbedding(String text, long enqueuedAt, CompletableFuture<float[]> future) {
+    }
+}
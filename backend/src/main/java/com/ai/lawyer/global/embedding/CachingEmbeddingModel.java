@@ -0,0 +1,104 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.*;
+
+/**
+ * 청크 임베딩을 (모델, 본문 해시) 기준으로 영구 캐시하는 EmbeddingModel
+ * <p>
+ * 벡터화/재색인처럼 같은 청크를 반복해서 임베딩하는 쓰기 경로 전용이며,
+ * 캐시에 없는 본문만 묶어서 모델을 호출하므로 변경되지 않은 청크는 DB 조회 비용만 든다.
+ * 질의 임베딩은 대부분 한 번뿐이므로 이 모델을 거치지 않는다.
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheStore cacheStore;
+    private final String modelId;
+    private final boolean enabled;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * @param delegate 실제 임베딩 모델
+     * @param cacheStore 캐시 저장소
+     * @param modelId 캐시 키에 쓰는 모델 id (모델을 바꾸면 캐시가 섞이지 않도록 모델명 사용)
+     * @param enabled false면 항상 모델 호출
+     * @param meterRegistry 메트릭 등록
+     */
+    public CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCacheStore cacheStore, String modelId,
+                                 boolean enabled, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cacheStore = cacheStore;
+        this.modelId = modelId;
+        this.enabled = enabled;
+        this.hitCounter = Counter.builder("embedding.cache.hits")
+                .tag("model", modelId)
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("embedding.cache.misses")
+                .tag("model", modelId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        if (!enabled) {
+            return delegate.call(request);
+        }
+        List<String> texts = request.getInstructions();
+        List<String> hashes = texts.stream().map(EmbeddingCacheStore::hash).toList();
+        Map<String, float[]> cached = cacheStore.getAll(modelId, hashes);
+
+        // 캐시에 없는 본문만 (중복 제거 후) 모델 호출
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            if (!cached.containsKey(hashes.get(i))) {
+                missing.putIfAbsent(hashes.get(i), texts.get(i));
+            }
+        }
+        long misses = hashes.stream().filter(hash -> !cached.containsKey(hash)).count();
+        hitCounter.increment(texts.size() - misses);
+        missCounter.increment(misses);
+
+        if (!missing.isEmpty()) {
+            List<String> missingHashes = new ArrayList<>(missing.keySet());
+            EmbeddingResponse response = delegate.call(new EmbeddingRequest(new ArrayList<>(missing.values()), request.getOptions()));
+            Map<String, float[]> computed = new HashMap<>();
+            for (Embedding embedding : response.getResults()) {
+                computed.put(missingHashes.get(embedding.getIndex()), embedding.getOutput());
+            }
+            cacheStore.putAll(modelId, computed);
+            cached.putAll(computed);
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(texts.size());
+        for (int i = 0; i < hashes.size(); i++) {
+            embeddings.add(new Embedding(cached.get(hashes.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getText());
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    public String getModelId() {
+        return modelId;
+    }
+}
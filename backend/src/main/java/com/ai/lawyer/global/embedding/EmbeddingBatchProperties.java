@@ -0,0 +1,20 @@
+package com.ai.lawyer.global.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.ai.embedding.batch")
+@Getter
+@Setter
+public class EmbeddingBatchProperties {
+
+    private boolean enabled = true;          // false면 요청마다 바로 임베딩 모델 호출
+    private int maxBatchSize = 32;           // 한 번에 묶어서 보낼 최대 질의 수
+    private long maxWaitMillis = 5;          // 첫 요청 이후 배치를 모으는 최대 대기 시간
+    private int maxConcurrentBatches = 2;    // 동시에 임베딩 서버로 보낼 수 있는 배치 수 (처리량 제한)
+    private int queueCapacity = 1024;        // 대기열이 가득 차면 배치 없이 바로 호출
+    private long timeoutMillis = 10000;      // 호출자가 결과를 기다리는 최대 시간
+}
@@ -0,0 +1,16 @@
+package com.ai.lawyer.global.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.ai.embedding.cache")
+@Getter
+@Setter
+public class EmbeddingCacheProperties {
+
+    private boolean enabled = true;      // false면 청크 임베딩을 항상 모델로 계산
+    private int lookupBatchSize = 500;   // 한 번의 IN 조회에 넣을 해시 수
+}
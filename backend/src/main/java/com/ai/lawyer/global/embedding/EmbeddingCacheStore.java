@@ -0,0 +1,98 @@
+package com.ai.lawyer.global.embedding;
+
+import com.ai.lawyer.domain.vector.repository.EmbeddingCacheRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * (모델, 청크 본문 해시) -> 임베딩 영구 저장소
+ * <p>
+ * 벡터는 float32 little-endian 바이트 배열로 저장해 JSON 대비 크기와 변환 비용을 줄인다.
+ * 저장은 호출자(벡터화 청크) 트랜잭션과 분리된 새 트랜잭션에서 INSERT IGNORE로 하므로,
+ * 다른 파티션이 같은 키를 먼저 저장해도 호출자 트랜잭션이 롤백 전용으로 바뀌지 않는다.
+ */
+@Component
+public class EmbeddingCacheStore {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO embedding_cache (model, text_hash, dimensions, vector, created_at) "
+            + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private final EmbeddingCacheRepository embeddingCacheRepository;
+    private final EmbeddingCacheProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public EmbeddingCacheStore(EmbeddingCacheRepository embeddingCacheRepository, EmbeddingCacheProperties properties,
+                               JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.embeddingCacheRepository = embeddingCacheRepository;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 캐시된 임베딩 조회
+     *
+     * @param model 임베딩 모델 id
+     * @param textHashes 본문 해시 목록
+     * @return 해시 -> 임베딩 (없는 해시는 포함하지 않음)
+     */
+    public Map<String, float[]> getAll(String model, Collection<String> textHashes) {
+        Map<String, float[]> found = new HashMap<>();
+        List<String> hashes = new ArrayList<>(new LinkedHashSet<>(textHashes));
+        for (int from = 0; from < hashes.size(); from += properties.getLookupBatchSize()) {
+            List<String> batch = hashes.subList(from, Math.min(from + properties.getLookupBatchSize(), hashes.size()));
+            embeddingCacheRepository.findByModelAndTextHashIn(model, batch)
+                    .forEach(entry -> found.put(entry.getTextHash(), decode(entry.getVector())));
+        }
+        return found;
+    }
+
+    /**
+     * 새 임베딩 저장 (이미 저장된 키는 건너뜀)
+     */
+    public void putAll(String model, Map<String, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = embeddings.entrySet().stream()
+                .map(entry -> new Object[]{model, entry.getKey(), entry.getValue().length, encode(entry.getValue())})
+                .toList();
+        newTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+    }
+
+    /**
+     * 청크 본문 SHA-256 (hex)
+     */
+    public static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ai.lawyer.global.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.ai.embedding.write")
+@Getter
+@Setter
+public class EmbeddingWriteProperties {
+
+    private int initialTokens = 4096;       // 시작 배치 크기 (토큰)
+    private int minTokens = 256;            // 최소 배치 크기 (청크 하나가 이보다 커도 단독 배치로 보냄)
+    private int maxTokens = 16384;          // 최대 배치 크기
+    private int increaseTokens = 512;       // 목표 지연 안에 끝나면 늘릴 크기
+    private double decreaseFactor = 0.5;    // 목표 지연 초과/실패 시 곱할 비율
+    private long targetLatencyMillis = 2000; // 배치 임베딩 목표 지연
+    private int maxRetries = 3;             // 청크 하나 단위까지 나눈 뒤의 재시도 횟수
+    private boolean pipelined = true;       // 이전 배치 저장과 다음 배치 임베딩을 겹쳐 실행
+}
@@ -0,0 +1,28 @@
+package com.ai.lawyer.global.pipeline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.ingestion")
+@Getter
+@Setter
+public class IngestionPipelineProperties {
+
+    private int queueCapacity = 64;                               // 단계 사이 대기열 크기
+    private long maxWaitMillis = 500;                             // 묶음 단계가 모자란 묶음을 처리하기까지 기다릴 시간
+    private int fetchWorkers = 4;                                 // 상세 조회 동시 호출 수
+    private double fetchRequestsPerSecond = 10;                   // 모든 워커를 합한 상세 조회 초당 요청 수 (Open API 호출 한도)
+    private int fetchMaxAttempts = 3;                             // 시간 초과/5xx/429 재시도 포함 최대 시도 횟수
+    private Duration fetchRetryBackoff = Duration.ofMillis(500);  // 재시도 대기 기준 (시도마다 2배 + 무작위)
+    private int parseWorkers = 2;
+    private int persistBatchSize = 20;                            // 한 트랜잭션에 저장할 판례 수
+    private int chunkWorkers = 2;
+    private int writeWorkers = 2;                                 // 임베딩 + 벡터 저장 동시 처리 수
+    private int writeBatchSize = 10;                              // 한 번에 임베딩할 판례 수
+    private int resumeLimit = 1000;                               // 시작 시 다시 벡터화할 (이 파이프라인이 저장했지만 벡터화하지 못한) 판례 최대 수
+}
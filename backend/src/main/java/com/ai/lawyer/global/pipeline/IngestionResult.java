@@ -0,0 +1,16 @@
+package com.ai.lawyer.global.pipeline;
+
+/**
+ * 판례 수집 파이프라인 실행 결과
+ *
+ * @param query 검색 키워드
+ * @param skipped 이미 저장돼 있어 건너뛴 판례 수
+ * @param fetched 상세 조회한 판례 수
+ * @param persisted 저장한 판례 수
+ * @param vectorized 벡터 저장소에 반영한 판례 수 (재개분 포함)
+ * @param failed 단계별 실패 항목 수 합계
+ * @param elapsedMillis 소요 시간
+ */
+public record IngestionResult(String query, long skipped, long fetched, long persisted, long vectorized,
+                              long failed, long elapsedMillis) {
+}
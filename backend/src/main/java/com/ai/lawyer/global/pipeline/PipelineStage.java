@@ -0,0 +1,202 @@
+package com.ai.lawyer.global.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한 입력 대기열 + 워커 N개로 구성된 파이프라인 단계
+ * <p>
+ * 대기열이 가득 차면 앞 단계의 put()이 막혀 자연스럽게 속도가 맞춰진다(backpressure).
+ * 워커는 최대 batchSize개까지 모아 처리하며, 앞 단계가 느려 batchSize가 차지 않아도 maxWait이 지나면 모인 만큼 처리한다.
+ * 항목 처리 실패는 기록만 하고 다음 항목을 계속 처리하며, 모든 워커가 끝나면 다음 단계를 닫는다.
+ *
+ * @param <I> 입력 타입
+ * @param <O> 출력 타입
+ */
+@Slf4j
+public class PipelineStage<I, O> {
+
+    private static final Object END = new Object();
+
+    private final String name;
+    private final int workers;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final BlockingQueue<Object> input;
+    private final Handler<I, O> handler;
+    private final PipelineStage<O, ?> next;
+    private final Sink<O> downstream;
+
+    private final AtomicInteger activeWorkers;
+    private final CountDownLatch finished;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * @param name 단계 이름 (스레드/지표 태그)
+     * @param workers 동시 처리 워커 수
+     * @param capacity 입력 대기열 크기
+     * @param batchSize 한 번에 처리할 최대 항목 수
+     * @param maxWaitMillis batchSize가 차지 않았을 때 기다릴 최대 시간
+     * @param handler 처리 함수
+     * @param next 다음 단계 (마지막 단계면 null)
+     */
+    public PipelineStage(String name, int workers, int capacity, int batchSize, long maxWaitMillis,
+                         Handler<I, O> handler, PipelineStage<O, ?> next, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.workers = Math.max(workers, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxWaitMillis = maxWaitMillis;
+        this.input = new ArrayBlockingQueue<>(capacity);
+        this.handler = handler;
+        this.next = next;
+        this.downstream = next != null ? next::put : item -> { };
+        this.activeWorkers = new AtomicInteger(this.workers);
+        this.finished = new CountDownLatch(1);
+
+        this.processedCounter = Counter.builder("ingestion.stage.processed")
+                .description("파이프라인 단계별 처리 항목 수")
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ingestion.stage.failed")
+                .description("파이프라인 단계별 실패 항목 수")
+                .tag("stage", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 워커 시작
+     */
+    public void start(ExecutorService executor) {
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    /**
+     * 항목 추가 (대기열이 가득 차면 빌 때까지 대기)
+     */
+    public void put(I item) throws InterruptedException {
+        input.put(item);
+    }
+
+    /**
+     * 입력 종료 (대기 중인 항목을 모두 처리한 뒤 워커가 끝남)
+     */
+    public void close() throws InterruptedException {
+        for (int i = 0; i < workers; i++) {
+            input.put(END);
+        }
+    }
+
+    /**
+     * 이 단계의 모든 워커가 끝날 때까지 대기
+     */
+    public void await() throws InterruptedException {
+        finished.await();
+    }
+
+    /**
+     * 이 단계의 모든 워커가 끝날 때까지 최대 timeout만큼 대기
+     *
+     * @return 시간 안에 끝났으면 true
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public int getQueueDepth() {
+        return input.size();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    @SuppressWarnings("unchecked")
+    private void work() {
+        Thread.currentThread().setName("ingest-" + name);
+        List<I> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                Object item = batch.isEmpty() ? input.take() : input.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+                if (item == END) {
+                    flush(batch);
+                    break;
+                }
+                if (item != null) {
+                    batch.add((I) item);
+                }
+                if (item == null || batch.size() >= batchSize) {
+                    flush(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("파이프라인 단계 중단: {}", name);
+        } finally {
+            if (activeWorkers.decrementAndGet() == 0) {
+                closeNext();
+                finished.countDown();
+            }
+        }
+    }
+
+    private void closeNext() {
+        if (next == null) {
+            return;
+        }
+        try {
+            next.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<I> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            handler.handle(List.copyOf(batch), downstream);
+            processed.addAndGet(batch.size());
+            processedCounter.increment(batch.size());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            failedCounter.increment(batch.size());
+            log.warn("파이프라인 단계 처리 실패: {}, 항목 수: {}, cause: {}", name, batch.size(), e.getMessage(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 단계 처리 함수 (batch 안의 항목을 처리하고 결과를 sink로 다음 단계에 넘김)
+     */
+    @FunctionalInterface
+    public interface Handler<I, O> {
+        void handle(List<I> batch, Sink<O> sink) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Sink<O> {
+        void put(O item) throws InterruptedException;
+    }
+}
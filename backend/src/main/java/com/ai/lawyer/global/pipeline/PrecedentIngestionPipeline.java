@@ -0,0 +1,221 @@
+package com.ai.lawyer.global.pipeline;
+
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import com.ai.lawyer.global.batch.SourceChunker;
+import com.ai.lawyer.global.batch.SourceChunks;
+import com.ai.lawyer.global.batch.SourceChunksWriter;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open API 판례 수집부터 벡터 저장까지 이어지는 스트리밍 파이프라인
+ * <p>
+ * 검색(일련번호) -> 상세 조회 -> 파싱 -> 저장 -> 청크 -> 임베딩/벡터 저장 단계가 크기 제한 대기열로 연결되어
+ * 단계마다 독립된 워커 수로 동시에 처리되며, 뒤 단계가 느리면 앞 단계가 기다린다.
+ * 수집한 판례는 야간 배치를 기다리지 않고 수집 직후 챗봇 검색에 반영된다.
+ * 상세 조회는 모든 워커(와 동시 실행)가 하나의 RateLimiter를 거치며, 시간 초과/5xx/429 응답은 지수 대기 + 무작위 지연 후 다시 시도한다.
+ * <p>
+ * 체크포인트는 DB에 남는 결과를 그대로 사용한다.
+ * 이미 저장된 판례일련번호는 상세 조회하지 않고, 이 파이프라인이 저장하면서 남긴 미벡터화 표시(vector_pending)는
+ * 벡터 저장소에 반영한 뒤 지우므로, 표시가 남은 판례만 다음 실행 시작 시 다시 벡터화한다.
+ * (다른 경로로 저장된 판례의 벡터화는 벡터화 배치가 맡는다.)
+ */
+@Slf4j
+@Component
+public class PrecedentIngestionPipeline {
+
+    private final PrecedentService precedentService;
+    private final PrecedentRepository precedentRepository;
+    private final SourceChunker sourceChunker;
+    private final SourceChunksWriter sourceChunksWriter;
+    private final IngestionPipelineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter fetchRateLimiter;
+
+    public PrecedentIngestionPipeline(PrecedentService precedentService, PrecedentRepository precedentRepository,
+                                      SourceChunker sourceChunker, SourceChunksWriter sourceChunksWriter,
+                                      IngestionPipelineProperties properties, MeterRegistry meterRegistry) {
+        this.precedentService = precedentService;
+        this.precedentRepository = precedentRepository;
+        this.sourceChunker = sourceChunker;
+        this.sourceChunksWriter = sourceChunksWriter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.fetchRateLimiter = RateLimiter.create(properties.getFetchRequestsPerSecond());
+    }
+
+    /**
+     * 키워드로 판례를 수집해 저장하고 벡터 저장소까지 반영
+     *
+     * @param query 검색 키워드
+     * @return 실행 결과
+     */
+    public IngestionResult run(String query) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        log.info("판례 수집 파이프라인 시작. 키워드: {}", query);
+
+        int capacity = properties.getQueueCapacity();
+        long maxWait = properties.getMaxWaitMillis();
+
+        // 마지막 단계부터 만들어 앞 단계에 연결
+        PipelineStage<SourceChunks, Void> write = new PipelineStage<>("write", properties.getWriteWorkers(), capacity,
+                properties.getWriteBatchSize(), maxWait,
+                (batch, sink) -> {
+                    sourceChunksWriter.write(new Chunk<>(batch));
+                    precedentService.clearVectorPending(batch.stream().map(SourceChunks::sourceId).toList());
+                }, null, meterRegistry);
+        PipelineStage<Precedent, SourceChunks> chunk = new PipelineStage<>("chunk", properties.getChunkWorkers(), capacity, 1, maxWait,
+                (batch, sink) -> {
+                    List<Long> empty = new ArrayList<>();
+                    for (Precedent precedent : batch) {
+                        SourceChunks chunks = sourceChunker.chunk(precedent);
+                        if (chunks != null) {
+                            sink.put(chunks);
+                        } else {
+                            empty.add(precedent.getId());
+                        }
+                    }
+                    // 판례내용이 없어 벡터화할 것이 없는 판례는 다시 시도하지 않음
+                    if (!empty.isEmpty()) {
+                        precedentService.clearVectorPending(empty);
+                    }
+                }, write, meterRegistry);
+        PipelineStage<Precedent, Precedent> persist = new PipelineStage<>("persist", 1, capacity,
+                properties.getPersistBatchSize(), maxWait,
+                (batch, sink) -> {
+                    // 벡터 저장소에 반영하기 전에 중단/실패하면 다음 실행에서 이어서 벡터화하도록 표시해 저장
+                    batch.forEach(precedent -> precedent.setVectorPending(true));
+                    for (Precedent saved : precedentService.savePrecedents(batch)) {
+                        sink.put(saved);
+                    }
+                }, chunk, meterRegistry);
+        PipelineStage<String, Precedent> parse = new PipelineStage<>("parse", properties.getParseWorkers(), capacity, 1, maxWait,
+                (batch, sink) -> {
+                    for (String json : batch) {
+                        Precedent precedent = precedentService.parsePrecedent(json);
+                        if (precedent != null) {
+                            sink.put(precedent);
+                        }
+                    }
+                }, persist, meterRegistry);
+        PipelineStage<String, String> fetch = new PipelineStage<>("fetch", properties.getFetchWorkers(), capacity, 1, maxWait,
+                (batch, sink) -> {
+                    for (String precedentNumber : batch) {
+                        sink.put(fetchPrecedentJson(precedentNumber));
+                    }
+                }, parse, meterRegistry);
+
+        AtomicLong skipped = new AtomicLong();
+        long resumed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PipelineStage<?, ?> stage : List.of(write, chunk, persist, parse, fetch)) {
+                stage.start(executor);
+            }
+
+            // 이전 실행에서 저장까지만 끝난 판례는 청크 단계부터 이어서 처리 (검색 결과에 다시 나와도 저장돼 있어 건너뜀)
+            resumed = resumeUnvectorized(chunk);
+
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+            try {
+                precedentService.forEachPrecedentNumberPage(query, page -> {
+                    for (String precedentNumber : page) {
+                        if (!seen.add(precedentNumber) || precedentService.existsByPrecedentNumber(precedentNumber)) {
+                            skipped.incrementAndGet();
+                            continue;
+                        }
+                        try {
+                            fetch.put(precedentNumber);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("판례 수집 파이프라인 중단", e);
+                        }
+                    }
+                });
+            } finally {
+                fetch.close();
+            }
+            write.await();
+        }
+
+        IngestionResult result = new IngestionResult(query, skipped.get(), fetch.getProcessedCount(),
+                persist.getProcessedCount(), write.getProcessedCount(),
+                fetch.getFailedCount() + parse.getFailedCount() + persist.getFailedCount()
+                        + chunk.getFailedCount() + write.getFailedCount(),
+                System.currentTimeMillis() - startTime);
+        log.info("판례 수집 파이프라인 완료. {}, 재개: {}", result, resumed);
+        return result;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 이 파이프라인이 저장했지만 벡터화하지 못한 판례를 청크 단계에 넣음
+     */
+    private long resumeUnvectorized(PipelineStage<Precedent, SourceChunks> chunk) throws InterruptedException {
+        List<Precedent> pending = precedentRepository.findVectorPending(Limit.of(properties.getResumeLimit()));
+        for (Precedent precedent : pending) {
+            chunk.put(precedent);
+        }
+        return pending.size();
+    }
+
+    /**
+     * 호출 한도 안에서 판례 상세 JSON 조회 (시간 초과/5xx/429는 fetchMaxAttempts까지 재시도)
+     */
+    private String fetchPrecedentJson(String precedentNumber) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            fetchRateLimiter.acquire();
+            // RateLimiter는 대기 중 인터럽트를 무시하고 플래그만 복원함
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            try {
+                return precedentService.fetchPrecedentJson(precedentNumber);
+            } catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests e) {
+                if (attempt >= properties.getFetchMaxAttempts()) {
+                    throw e;
+                }
+                long waitMillis = backoffMillis(attempt, e);
+                log.warn("판례 상세 조회 실패. {}ms 후 재시도 ({}/{}). 판례일련번호: {}, cause: {}",
+                        waitMillis, attempt, properties.getFetchMaxAttempts(), precedentNumber, e.getMessage());
+                Thread.sleep(waitMillis);
+            }
+        }
+    }
+
+    /**
+     * 기준 * 2^(시도-1)의 절반 + 무작위 절반 (429에 Retry-After가 있으면 그보다 짧지 않게)
+     */
+    private long backoffMillis(int attempt, RestClientException e) {
+        long backoff = properties.getFetchRetryBackoff().toMillis() << (attempt - 1);
+        long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+
+        if (e instanceof HttpClientErrorException.TooManyRequests tooManyRequests && tooManyRequests.getResponseHeaders() != null) {
+            String retryAfter = tooManyRequests.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null && retryAfter.chars().allMatch(Character::isDigit)) {
+                return Math.max(jittered, Long.parseLong(retryAfter) * 1000);
+            }
+        }
+        return jittered;
+    }
+}
@@ -0,0 +1,200 @@
+package com.ai.lawyer.global.qdrant.collection;
+
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.vectorstore.QuantizationType;
+import com.ai.lawyer.global.vectorstore.VectorQuantizationProperties;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Collections;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Qdrant 컬렉션/별칭 생성과 설정 정정
+ * <p>
+ * 모든 컬렉션은 같은 벡터 크기, 코사인 거리, 양자화 설정으로 만들어진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QdrantCollectionManager {
+
+    private final QdrantClient qdrantClient;
+    private final VectorQuantizationProperties quantization;
+    private final QdrantPartitionProperties partition;
+
+    @Value("${spring.ai.vectorstore.qdrant.collection-name}")
+    private String collectionName;
+
+    @Value("${spring.ai.vectorstore.qdrant.vector-size}")
+    private Long vectorSize;
+
+    /**
+     * 기본(단일) 컬렉션 이름
+     */
+    public String getDefaultCollection() {
+        return collectionName;
+    }
+
+    /**
+     * 컬렉션이 없으면 만들고, 있으면 양자화 설정을 맞춘다
+     *
+     * @param name 컬렉션 이름
+     * @return 새로 만들었으면 true
+     */
+    public boolean ensureCollection(String name) throws ExecutionException, InterruptedException {
+        return ensureCollection(name, vectorSize.intValue());
+    }
+
+    /**
+     * 벡터 크기를 지정해 컬렉션 생성 (임베딩 모델 교체 시 새 모델 차원으로 만든다)
+     *
+     * @param name 컬렉션 이름
+     * @param size 벡터 차원
+     * @return 새로 만들었으면 true
+     */
+    public boolean ensureCollection(String name, int size) throws ExecutionException, InterruptedException {
+        if (qdrantClient.collectionExistsAsync(name).get()) {
+            log.info("'{}' 컬렉션이 이미 존재합니다.", name);
+            reconcileQuantization(name);
+            return false;
+        }
+
+        log.info("'{}' 컬렉션이 존재하지 않아 새로 생성 중 (양자화: {})", name, quantization.getType());
+        Collections.CreateCollection.Builder request = Collections.CreateCollection.newBuilder()
+                .setCollectionName(name)
+                .setVectorsConfig(Collections.VectorsConfig.newBuilder()
+                        .setParams(Collections.VectorParams.newBuilder()
+                                .setSize(size)
+                                .setDistance(Collections.Distance.Cosine)
+                                .setOnDisk(isOriginalsOnDisk())));
+        if (quantization.getType() != QuantizationType.NONE) {
+            request.setQuantizationConfig(quantizationConfig());
+        }
+        qdrantClient.createCollectionAsync(request.build()).get();
+        log.info("'{}' 컬렉션 생성 완료", name);
+        return true;
+    }
+
+    /**
+     * 별칭 -> 실제 컬렉션
+     */
+    public Map<String, String> aliases() throws ExecutionException, InterruptedException {
+        Map<String, String> aliases = new HashMap<>();
+        qdrantClient.listAliasesAsync().get()
+                .forEach(alias -> aliases.put(alias.getAliasName(), alias.getCollectionName()));
+        return aliases;
+    }
+
+    /**
+     * 별칭이 없을 때만 생성 (이미 있으면 가리키는 컬렉션을 바꾸지 않음)
+     */
+    public void ensureAlias(String alias, String target) throws ExecutionException, InterruptedException {
+        if (aliases().containsKey(alias)) {
+            return;
+        }
+        qdrantClient.createAliasAsync(alias, target).get();
+        log.info("별칭 생성: {} -> {}", alias, target);
+    }
+
+    /**
+     * 별칭이 가리키는 컬렉션을 교체 (삭제와 생성을 한 요청으로 보내 검색이 끊기지 않음)
+     *
+     * @return 이전에 가리키던 컬렉션 (없었으면 null)
+     */
+    public String switchAlias(String alias, String target) throws ExecutionException, InterruptedException {
+        String previous = aliases().get(alias);
+        List<Collections.AliasOperations> operations = new ArrayList<>();
+        if (previous != null) {
+            operations.add(Collections.AliasOperations.newBuilder()
+                    .setDeleteAlias(Collections.DeleteAlias.newBuilder().setAliasName(alias))
+                    .build());
+        }
+        operations.add(Collections.AliasOperations.newBuilder()
+                .setCreateAlias(Collections.CreateAlias.newBuilder().setAliasName(alias).setCollectionName(target))
+                .build());
+        qdrantClient.updateAliasesAsync(operations).get();
+        log.info("별칭 교체: {} -> {} (이전: {})", alias, target, previous);
+        return previous;
+    }
+
+    /**
+     * 검색 대상 실제 컬렉션 목록 (분리 모드이면 별칭이 가리키는 컬렉션, 중복 제거)
+     */
+    public List<String> searchableCollections() throws ExecutionException, InterruptedException {
+        if (!partition.isEnabled()) {
+            return List.of(collectionName);
+        }
+        Map<String, String> aliases = aliases();
+        Set<String> collections = new LinkedHashSet<>();
+        for (String alias : partition.aliasesByType().values()) {
+            collections.add(aliases.getOrDefault(alias, collectionName));
+        }
+        return new ArrayList<>(collections);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 기존 컬렉션의 양자화 설정이 다르면 변경 (Qdrant가 백그라운드에서 양자화 벡터를 다시 만든다)
+     */
+    private void reconcileQuantization(String name) throws InterruptedException, ExecutionException {
+        Collections.CollectionInfo info = qdrantClient.getCollectionInfoAsync(name).get();
+        Collections.QuantizationConfig current = info.getConfig().getQuantizationConfig();
+        QuantizationType currentType = current.hasScalar() ? QuantizationType.INT8
+                : current.hasBinary() ? QuantizationType.BINARY : QuantizationType.NONE;
+
+        if (currentType == quantization.getType()) {
+            return;
+        }
+        log.info("'{}' 컬렉션 양자화 변경: {} -> {}", name, currentType, quantization.getType());
+
+        Collections.QuantizationConfigDiff.Builder diff = Collections.QuantizationConfigDiff.newBuilder();
+        switch (quantization.getType()) {
+            case INT8 -> diff.setScalar(scalarQuantization());
+            case BINARY -> diff.setBinary(binaryQuantization());
+            case NONE -> diff.setDisabled(Collections.Disabled.getDefaultInstance());
+        }
+        qdrantClient.updateCollectionAsync(Collections.UpdateCollection.newBuilder()
+                .setCollectionName(name)
+                .setQuantizationConfig(diff)
+                .setVectorsConfig(Collections.VectorsConfigDiff.newBuilder()
+                        .setParams(Collections.VectorParamsDiff.newBuilder().setOnDisk(isOriginalsOnDisk())))
+                .build()).get();
+    }
+
+    private Collections.QuantizationConfig quantizationConfig() {
+        Collections.QuantizationConfig.Builder config = Collections.QuantizationConfig.newBuilder();
+        if (quantization.getType() == QuantizationType.INT8) {
+            config.setScalar(scalarQuantization());
+        } else {
+            config.setBinary(binaryQuantization());
+        }
+        return config.build();
+    }
+
+    private Collections.ScalarQuantization scalarQuantization() {
+        return Collections.ScalarQuantization.newBuilder()
+                .setType(Collections.QuantizationType.Int8)
+                .setQuantile(quantization.getQuantile())
+                .setAlwaysRam(quantization.isAlwaysRam())
+                .build();
+    }
+
+    private Collections.BinaryQuantization binaryQuantization() {
+        return Collections.BinaryQuantization.newBuilder()
+                .setAlwaysRam(quantization.isAlwaysRam())
+                .build();
+    }
+
+    // 양자화를 쓰면 원본 벡터는 디스크(mmap)에 두고 재채점 시에만 읽는다
+    private boolean isOriginalsOnDisk() {
+        return quantization.getType() != QuantizationType.NONE && quantization.isOriginalsOnDisk();
+    }
+}
@@ -1,46 +1,61 @@
 package com.ai.lawyer.global.qdrant.initializer;
 
-import io.qdrant.client.QdrantClient;
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.qdrant.schema.QdrantSchemaManager;
+import com.ai.lawyer.global.qdrant.schema.QdrantSchemaProperties;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
 @RequiredArgsConstructor
 public class QdrantInitializer {
 
-    private final QdrantClient qdrantClient;
+    private final QdrantCollectionManager collectionManager;
+    private final QdrantSchemaManager qdrantSchemaManager;
+    private final QdrantSchemaProperties schemaProperties;
+    private final QdrantPartitionProperties partition;
 
-    @Value("${spring.ai.vectorstore.qdrant.collection-name}")
-    private String collectionName;
-
-    @Value("${spring.ai.vectorstore.qdrant.vector-size}")
-    private Long vectorSize;
+    @Value("${custom.ai.vectorstore.fallback.enabled:false}")
+    private boolean fallbackEnabled;
 
     @PostConstruct
-    private void existQdrantCollection() throws InterruptedException, ExecutionException {
-        var collections = qdrantClient.listCollectionsAsync().get();
-        boolean collectionExists = collections.stream()
-                .anyMatch(collection -> collection.equals(collectionName));
-
-        if (!collectionExists) {
-            log.info("'{}' 컬렉션이 존재하지 않아 새로 생성 중", collectionName);
-            qdrantClient.createCollectionAsync(
-                    collectionName,
-                    io.qdrant.client.grpc.Collections.VectorParams.newBuilder()
-                            .setSize(vectorSize.intValue())
-                            .setDistance(io.qdrant.client.grpc.Collections.Distance.Cosine)
-                            .build()
-            ).get();
-            log.info("'{}' 컬렉션 생성 완료", collectionName);
-        } else {
-            log.info("'{}' 컬렉션이 이미 존재합니다.", collectionName);
+    private void initialize() throws InterruptedException, ExecutionException {
+        try {
+            existQdrantCollection();
+        } catch (ExecutionException | RuntimeException e) {
+            if (!fallbackEnabled) {
+                throw e;
+            }
+            // 복제본이 있으면 Qdrant 없이도 기동하고 검색은 복제본으로 처리
+            log.warn("Qdrant 연결 실패. 로컬 복제본으로 검색합니다. cause: {}", e.getMessage());
         }
     }
 
+    private void existQdrantCollection() throws InterruptedException, ExecutionException {
+        String collectionName = collectionManager.getDefaultCollection();
+        collectionManager.ensureCollection(collectionName);
+
+        // 분리 모드를 처음 켜면 별칭이 기존 단일 컬렉션을 가리키게 하여 마이그레이션 전에도 검색되도록 한다
+        if (partition.isEnabled()) {
+            for (String alias : partition.aliasesByType().values()) {
+                collectionManager.ensureAlias(alias, collectionName);
+            }
+        }
+
+        // payload 인덱스는 컬렉션 크기에 따라 오래 걸리므로 기동을 막지 않고 백그라운드에서 맞춘다
+        if (schemaProperties.isReconcileOnStartup()) {
+            for (String collection : collectionManager.searchableCollections()) {
+                qdrantSchemaManager.reconcileAsync(collection);
+            }
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.ai.lawyer.global.qdrant.lexical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 법률 문서용 n-gram 분석기
+ * <p>
+ * 한글은 형태소 분석 없이 음절 bigram으로 쪼개고, 영문/숫자는 단어 단위로 유지한다.
+ * 조문("제750조", "제3조의2")과 사건번호("2020다12345")는 공백 유무와 관계없이 하나의 토큰으로 추가해 정확 일치를 보장한다.
+ */
+public final class KoreanNgramAnalyzer {
+
+    private static final Pattern ARTICLE_PATTERN = Pattern.compile("제\\s*(\\d+)\\s*조(?:\\s*의\\s*(\\d+))?");
+    private static final Pattern CASE_NUMBER_PATTERN = Pattern.compile("(\\d{2,4})\\s*([가-힣]{1,3})\\s*(\\d{1,7})");
+
+    private KoreanNgramAnalyzer() {
+    }
+
+    /**
+     * 텍스트를 색인/검색 토큰으로 분석
+     *
+     * @param text 원문
+     * @return 토큰 목록 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        // 1. 조문/사건번호 정확 일치 토큰
+        Matcher article = ARTICLE_PATTERN.matcher(text);
+        while (article.find()) {
+            tokens.add("제" + article.group(1) + "조" + (article.group(2) != null ? "의" + article.group(2) : ""));
+        }
+        Matcher caseNumber = CASE_NUMBER_PATTERN.matcher(text);
+        while (caseNumber.find()) {
+            tokens.add(caseNumber.group(1) + caseNumber.group(2) + caseNumber.group(3));
+        }
+
+        // 2. 한글 음절 bigram, 영문/숫자 단어
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addBigrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase());
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 한글 구간을 음절 bigram으로 분리 (한 글자 구간은 unigram)
+     */
+    static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int j = start; j + 2 <= end; j++) {
+            tokens.add(text.substring(j, j + 2));
+        }
+    }
+
+    static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
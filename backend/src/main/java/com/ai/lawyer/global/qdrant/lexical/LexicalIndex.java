@@ -0,0 +1,270 @@
+package com.ai.lawyer.global.qdrant.lexical;
+
+import org.springframework.ai.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 벡터 저장소와 같은 청크를 담는 메모리 내 어휘 색인 (BM25)
+ * <p>
+ * 벡터 검색이 놓치는 조문/사건번호 정확 일치를 보완하기 위해 사용하며,
+ * 같은 id로 다시 추가하면 기존 문서를 대체한다.
+ * 삭제/대체된 문서는 삭제 표시만 해 두고, 삭제 표시가 일정 비율을 넘으면 내부 문서 번호와 포스팅을 압축한다.
+ */
+@Component
+public class LexicalIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double COMPACT_DEAD_RATIO = 0.25; // 삭제 표시 비율이 넘으면 압축
+    private static final int COMPACT_MIN_DEAD = 1024;      // 작은 색인에서 잦은 압축 방지
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Entry> entries = new ArrayList<>();          // 내부 문서 번호 -> 문서 (삭제 시 null)
+    private final Map<String, Integer> idToIndex = new HashMap<>();  // 문서 id -> 내부 문서 번호
+    private final Map<String, Postings> postings = new HashMap<>();  // 토큰 -> 포스팅 목록
+    private long totalLength;
+    private int liveCount;
+
+    private volatile boolean ready;
+
+    /**
+     * 문서 추가 (같은 id가 있으면 대체)
+     *
+     * @param documents 색인할 청크 문서 목록
+     */
+    public void addAll(Collection<Document> documents) {
+        lock.writeLock().lock();
+        try {
+            for (Document document : documents) {
+                removeInternal(document.getId());
+
+                List<String> tokens = KoreanNgramAnalyzer.analyze(document.getText());
+                Map<String, Integer> frequencies = new HashMap<>();
+                tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+                int docIndex = entries.size();
+                entries.add(new Entry(document, tokens.size(), frequencies.keySet().toArray(String[]::new)));
+                idToIndex.put(document.getId(), docIndex);
+                frequencies.forEach((token, freq) ->
+                        postings.computeIfAbsent(token, key -> new Postings()).add(docIndex, freq));
+
+                totalLength += tokens.size();
+                liveCount++;
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     *
+     * @param ids 삭제할 문서 id 목록
+     */
+    public void removeAll(Collection<String> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::removeInternal);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 기준 상위 문서 검색
+     *
+     * @param query 검색어
+     * @param filterKey 메타데이터 필터 키 (null이면 필터 없음)
+     * @param filterValue 메타데이터 필터 값
+     * @param topK 반환할 최대 문서 수
+     * @return 점수 내림차순 문서 목록 (score에 BM25 점수 설정)
+     */
+    public List<Document> search(String query, String filterKey, Object filterValue, int topK) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return Collections.emptyList();
+            }
+            double averageLength = (double) totalLength / liveCount;
+            Map<Integer, Double> scores = new HashMap<>();
+            Map<Integer, Boolean> filterCache = new HashMap<>();
+
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                // 문서 빈도는 살아 있는 문서만 센다 (삭제 표시된 문서까지 세면 IDF가 음수가 될 수 있음)
+                double idf = Math.log(1 + (liveCount - termPostings.live + 0.5) / (termPostings.live + 0.5));
+
+                for (int i = 0; i < termPostings.size; i++) {
+                    int docIndex = termPostings.docs[i];
+                    Entry entry = entries.get(docIndex);
+                    if (entry == null || !filterCache.computeIfAbsent(docIndex,
+                            key -> matches(entry.document(), filterKey, filterValue))) {
+                        continue;
+                    }
+                    int tf = termPostings.freqs[i];
+                    double norm = tf + K1 * (1 - B + B * entry.length() / averageLength);
+                    scores.merge(docIndex, idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+                    .limit(topK)
+                    .map(scored -> {
+                        Document document = entries.get(scored.getKey()).document();
+                        return Document.builder()
+                                .id(document.getId())
+                                .text(document.getText())
+                                .metadata(document.getMetadata())
+                                .score(scored.getValue())
+                                .build();
+                    })
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시를 포함한 내부 문서 번호 수
+     */
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 적재 완료 여부 (완료 전에는 하이브리드 검색이 벡터 검색만 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void removeInternal(String id) {
+        Integer docIndex = idToIndex.remove(id);
+        if (docIndex == null) {
+            return;
+        }
+        Entry removed = entries.set(docIndex, null);
+        if (removed != null) {
+            totalLength -= removed.length();
+            liveCount--;
+            for (String term : removed.terms()) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null && --termPostings.live == 0) {
+                    // 살아 있는 문서가 없는 토큰은 포스팅째 제거
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 삭제 표시가 쌓이면 살아 있는 문서만 앞으로 당겨 내부 문서 번호를 다시 매기고 포스팅에서 삭제된 문서를 제거
+     */
+    private void compactIfNeeded() {
+        int dead = entries.size() - liveCount;
+        if (dead < COMPACT_MIN_DEAD || dead < entries.size() * COMPACT_DEAD_RATIO) {
+            return;
+        }
+
+        int[] remap = new int[entries.size()];
+        List<Entry> live = new ArrayList<>(liveCount);
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry == null) {
+                remap[i] = -1;
+                continue;
+            }
+            remap[i] = live.size();
+            idToIndex.put(entry.document().getId(), live.size());
+            live.add(entry);
+        }
+        entries.clear();
+        entries.addAll(live);
+        postings.values().removeIf(termPostings -> termPostings.compact(remap));
+    }
+
+    private static boolean matches(Document document, String filterKey, Object filterValue) {
+        if (filterKey == null) {
+            return true;
+        }
+        Object value = document.getMetadata().get(filterKey);
+        return value != null && String.valueOf(value).equals(String.valueOf(filterValue));
+    }
+
+    private record Entry(Document document, int length, String[] terms) {
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int live; // 살아 있는 문서 수 (문서 빈도)
+
+        private void add(int docIndex, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = docIndex;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        /**
+         * 삭제된 문서를 빼고 새 내부 문서 번호로 변환
+         *
+         * @return 남은 문서가 없으면 true
+         */
+        private boolean compact(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int docIndex = remap[docs[i]];
+                if (docIndex >= 0) {
+                    docs[kept] = docIndex;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            docs = Arrays.copyOf(docs, Math.max(kept, 4));
+            freqs = Arrays.copyOf(freqs, Math.max(kept, 4));
+            return kept == 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ai.lawyer.global.qdrant.lexical;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health 에 어휘 색인 적재 상태를 보고
+ * <p>
+ * 적재 전에도 벡터 검색만으로 동작하므로 상태는 UP으로 두고, 하이브리드 검색이 꺼져 있는지(vector-only)를 상세에 표시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LexicalIndexHealthIndicator implements HealthIndicator {
+
+    private final LexicalIndex lexicalIndex;
+
+    @Value("${custom.ai.retrieval.hybrid.enabled:true}")
+    private boolean hybridEnabled;
+
+    @Override
+    public Health health() {
+        boolean ready = lexicalIndex.isReady();
+        return Health.up()
+                .withDetail("ready", ready)
+                .withDetail("mode", hybridEnabled && ready ? "hybrid" : "vector-only")
+                .withDetail("documents", lexicalIndex.size())
+                .build();
+    }
+}
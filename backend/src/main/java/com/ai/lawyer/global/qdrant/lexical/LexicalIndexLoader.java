@@ -0,0 +1,77 @@
+package com.ai.lawyer.global.qdrant.lexical;
+
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.service.QdrantPointScanner;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기동 후 Qdrant 컬렉션의 청크를 읽어 어휘 색인을 채우는 로더
+ * <p>
+ * 컨텍스트 기동을 막지 않도록 별도 스레드에서 적재하며, 적재가 끝나기 전까지 검색은 벡터 검색만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LexicalIndexLoader {
+
+    private static final int SCAN_PAGE_SIZE = 256;
+
+    private final ObjectProvider<QdrantPointScanner> qdrantPointScanner;
+    private final ObjectProvider<QdrantCollectionManager> qdrantCollectionManager;
+    private final VectorStore vectorStore;
+    private final LexicalIndex lexicalIndex;
+
+    @Value("${custom.ai.retrieval.hybrid.enabled:true}")
+    private boolean hybridEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!hybridEnabled) {
+            return;
+        }
+        CompletableFuture.runAsync(this::load);
+    }
+
+    /**
+     * 컬렉션 전체를 순회하며 어휘 색인 적재 (로컬 HNSW 저장소를 쓰는 경우 저장소 문서로 적재)
+     */
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            long count = 0;
+            QdrantPointScanner scanner = qdrantPointScanner.getIfAvailable();
+            QdrantCollectionManager collectionManager = qdrantCollectionManager.getIfAvailable();
+            if (scanner != null && collectionManager != null) {
+                for (String collection : collectionManager.searchableCollections()) {
+                    count += scanner.scan(collection, false, SCAN_PAGE_SIZE, points ->
+                            lexicalIndex.addAll(points.stream().map(QdrantPointScanner::toDocument).toList()));
+                }
+            } else if (vectorStore instanceof HnswVectorStore hnswVectorStore) {
+                List<Document> documents = hnswVectorStore.documents();
+                lexicalIndex.addAll(documents);
+                count = documents.size();
+            } else {
+                return;
+            }
+            lexicalIndex.markReady();
+            log.info("어휘 색인 적재 완료. 청크 수: {}, 소요 시간: {}ms", count, System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("어휘 색인 적재 중 인터럽트 발생");
+        } catch (Exception e) {
+            log.error("어휘 색인 적재 실패. 하이브리드 검색 없이 벡터 검색만 사용합니다.", e);
+        }
+    }
+}
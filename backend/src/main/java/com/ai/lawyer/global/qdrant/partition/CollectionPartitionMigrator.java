@@ -0,0 +1,181 @@
+package com.ai.lawyer.global.qdrant.partition;
+
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.schema.QdrantSchemaManager;
+import com.ai.lawyer.global.qdrant.service.QdrantPointScanner;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Points.Filter;
+import io.qdrant.client.grpc.Points.PointId;
+import io.qdrant.client.grpc.Points.PointStruct;
+import io.qdrant.client.grpc.Points.RetrievedPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+import static io.qdrant.client.VectorsFactory.vectors;
+
+/**
+ * 단일 컬렉션(legal_cases)의 판례/법령 포인트를 type별 컬렉션으로 옮기는 무중단 마이그레이션
+ * <p>
+ * 1. type별 새 컬렉션 생성 + payload 인덱스 생성
+ * 2. 복사하는 동안 새로 저장되는 문서는 새 컬렉션에도 저장 (이중 저장)
+ * 3. 기존 컬렉션에서 해당 type 포인트를 벡터째 복사 (재임베딩 없음, 이중 저장으로 이미 들어간 포인트는 건너뜀)
+ * 4. 별칭을 새 컬렉션으로 원자적으로 교체
+ * <p>
+ * 검색은 내내 별칭(기존 컬렉션)으로 처리되므로 중단이 없고, 중간에 실패하면 별칭을 바꾸지 않아 다시 실행하면 된다.
+ * 기존 컬렉션은 삭제하지 않으며, 두 type 모두 옮긴 뒤 직접 삭제한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CollectionPartitionMigrator {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final QdrantClient qdrantClient;
+    private final QdrantCollectionManager collectionManager;
+    private final QdrantSchemaManager schemaManager;
+    private final QdrantPointScanner scanner;
+    private final QdrantPartitionProperties partition;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final EmbeddingModel embeddingModel;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (partition.isEnabled() && partition.isMigrateOnStartup()) {
+            CompletableFuture.runAsync(this::migrateAll);
+        }
+    }
+
+    /**
+     * 아직 기존 컬렉션을 가리키는 모든 type 별칭을 마이그레이션
+     */
+    public List<MigrationResult> migrateAll() {
+        List<MigrationResult> results = new ArrayList<>();
+        for (String type : partition.aliasesByType().keySet()) {
+            try {
+                migrate(type).ifPresent(results::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return results;
+            } catch (Exception e) {
+                log.error("'{}' 컬렉션 분리 실패. 별칭은 기존 컬렉션을 그대로 가리킵니다.", type, e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * type 하나를 새 컬렉션으로 옮긴 뒤 별칭 교체
+     *
+     * @param type 문서 type (판례 / 법령)
+     * @return 마이그레이션 결과 (이미 분리되어 있으면 empty)
+     */
+    public Optional<MigrationResult> migrate(String type) throws ExecutionException, InterruptedException {
+        if (!partition.isEnabled()) {
+            throw new IllegalStateException("컬렉션 분리 모드가 비활성화되어 있습니다.");
+        }
+        String alias = partition.aliasesByType().get(type);
+        if (alias == null) {
+            throw new IllegalArgumentException("알 수 없는 문서 type: " + type);
+        }
+        String legacy = collectionManager.getDefaultCollection();
+        String source = collectionManager.aliases().getOrDefault(alias, legacy);
+        if (!source.equals(legacy)) {
+            log.info("'{}' 별칭은 이미 '{}' 컬렉션을 가리킵니다. 건너뜁니다.", alias, source);
+            return Optional.empty();
+        }
+
+        long startTime = System.currentTimeMillis();
+        String target = alias + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        collectionManager.ensureCollection(target);
+        schemaManager.reconcile(target);
+
+        VectorStore targetStore = QdrantVectorStore.builder(qdrantClient, embeddingModel)
+                .collectionName(target)
+                .initializeSchema(false)
+                .build();
+        vectorStoreRouter.startDualWrite(type, new VectorStoreRouter.DualWriteTarget(target, targetStore, true));
+        try {
+            AtomicLong copied = new AtomicLong();
+            AtomicLong skipped = new AtomicLong();
+            Filter typeFilter = Filter.newBuilder().addMust(matchKeyword(VectorStoreRouter.TYPE_KEY, type)).build();
+            scanner.scan(source, typeFilter, true, partition.getMigrationPageSize(), points -> {
+                int written = copyPage(target, points);
+                copied.addAndGet(written);
+                skipped.addAndGet(points.size() - written);
+            });
+
+            collectionManager.switchAlias(alias, target);
+            MigrationResult result = new MigrationResult(type, source, target, copied.get(), skipped.get(),
+                    System.currentTimeMillis() - startTime);
+            log.info("'{}' 컬렉션 분리 완료: {}", type, result);
+            return Optional.of(result);
+        } finally {
+            vectorStoreRouter.stopDualWrite(type);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 페이지의 포인트를 id, 벡터, payload 그대로 복사 (대상에 이미 있는 id는 이중 저장된 최신본이므로 건너뜀)
+     */
+    private int copyPage(String target, List<RetrievedPoint> points) {
+        try {
+            List<PointId> ids = points.stream().map(RetrievedPoint::getId).toList();
+            Set<PointId> existing = new HashSet<>();
+            qdrantClient.retrieveAsync(target, ids, false, false, null).get()
+                    .forEach(point -> existing.add(point.getId()));
+
+            List<PointStruct> copies = new ArrayList<>(points.size());
+            for (RetrievedPoint point : points) {
+                if (existing.contains(point.getId())) {
+                    continue;
+                }
+                copies.add(PointStruct.newBuilder()
+                        .setId(point.getId())
+                        .setVectors(vectors(point.getVectors().getVector().getDataList()))
+                        .putAllPayload(point.getPayloadMap())
+                        .build());
+            }
+            if (!copies.isEmpty()) {
+                qdrantClient.upsertAsync(target, copies).get();
+            }
+            return copies.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 복사 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("'" + target + "' 컬렉션으로 포인트 복사 실패", e);
+        }
+    }
+
+    /**
+     * @param type 문서 type
+     * @param source 복사 원본 컬렉션
+     * @param target 새 컬렉션 (별칭이 가리키게 됨)
+     * @param copied 복사한 포인트 수
+     * @param skipped 이중 저장으로 이미 있어 건너뛴 포인트 수
+     * @param elapsedMillis 소요 시간
+     */
+    public record MigrationResult(String type, String source, String target,
+                                  long copied, long skipped, long elapsedMillis) {
+    }
+}
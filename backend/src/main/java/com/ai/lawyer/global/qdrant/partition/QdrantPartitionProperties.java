@@ -0,0 +1,41 @@
+package com.ai.lawyer.global.qdrant.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 판례/법령 청크를 별도 컬렉션(별칭)으로 나누는 설정
+ * <p>
+ * 검색과 저장은 항상 별칭으로 하고, 별칭이 가리키는 실제 컬렉션은 마이그레이션 시 원자적으로 교체된다.
+ * 처음 활성화하면 두 별칭 모두 기존 단일 컬렉션을 가리키므로 마이그레이션 전에도 그대로 동작한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "custom.ai.vectorstore.qdrant.partition")
+@Getter
+@Setter
+public class QdrantPartitionProperties {
+
+    public static final String PRECEDENT = "판례";
+    public static final String LAW = "법령";
+
+    private boolean enabled = false;
+    private String precedentAlias = "legal_precedents";
+    private String lawAlias = "legal_laws";
+    private boolean migrateOnStartup = false;   // 기동 후 백그라운드에서 단일 컬렉션 -> 분리 컬렉션 복사
+    private int migrationPageSize = 256;
+
+    /**
+     * 문서 type -> 별칭
+     */
+    public Map<String, String> aliasesByType() {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        aliases.put(PRECEDENT, precedentAlias);
+        aliases.put(LAW, lawAlias);
+        return aliases;
+    }
+}
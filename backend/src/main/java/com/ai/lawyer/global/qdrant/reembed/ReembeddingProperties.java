@@ -0,0 +1,33 @@
+package com.ai.lawyer.global.qdrant.reembed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임베딩 모델 교체를 위한 재임베딩 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "custom.ai.vectorstore.reembedding")
+@Getter
+@Setter
+public class ReembeddingProperties {
+
+    private boolean enabled = false;      // 기동 후 백그라운드에서 재임베딩 시작/재개
+    private String model;                 // 새 Ollama 임베딩 모델
+    private int vectorSize = 1024;        // 새 모델 벡터 차원
+    private double pointsPerSecond = 20;  // 초당 임베딩할 청크 수 상한 (운영 임베딩 요청 보호)
+    private int sourcePageSize = 100;     // 한 번에 읽을 원본 행 수 (진행 상황 저장 단위)
+    private int embeddingBatchSize = 16;
+    private boolean swapOnComplete = true; // false면 완료 후에도 이중 저장/비교 검색만 유지하고 별칭은 그대로 둔다
+    private long modelSyncIntervalMillis = 10000; // 다른 인스턴스가 교체한 별칭의 모델을 검색에 반영하는 주기
+    private DualRead dualRead = new DualRead();
+
+    @Getter
+    @Setter
+    public static class DualRead {
+        private boolean enabled = false;  // 재임베딩 중 일부 검색을 새 컬렉션에도 보내 결과 비교
+        private double sampleRate = 0.05;
+    }
+}
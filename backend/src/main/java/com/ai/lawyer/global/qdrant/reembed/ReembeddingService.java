@@ -0,0 +1,393 @@
+package com.ai.lawyer.global.qdrant.reembed;
+
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import com.ai.lawyer.domain.vector.entity.ReembeddingJob;
+import com.ai.lawyer.domain.vector.entity.ReembeddingStatus;
+import com.ai.lawyer.domain.vector.repository.ReembeddingJobRepository;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.embedding.EmbeddingCacheProperties;
+import com.ai.lawyer.global.embedding.EmbeddingCacheStore;
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.qdrant.schema.QdrantSchemaManager;
+import com.ai.lawyer.global.qdrant.service.QdrantPointScanner;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
+import com.ai.lawyer.global.vectorstore.ShadowReadVectorStore;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points.Filter;
+import io.qdrant.client.grpc.Points.PointId;
+import io.qdrant.client.grpc.Points.PointStruct;
+import io.qdrant.client.grpc.Points.RetrievedPoint;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.ollama.OllamaEmbeddingModel;
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.qdrant.client.ConditionFactory.filter;
+import static io.qdrant.client.ConditionFactory.isEmpty;
+import static io.qdrant.client.ConditionFactory.match;
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+import static io.qdrant.client.VectorsFactory.vectors;
+
+/**
+ * 운영 검색을 유지한 채 새 임베딩 모델로 컬렉션을 다시 만드는 재임베딩 작업
+ * <p>
+ * type(판례/법령)별 별칭마다 새 컬렉션을 만들고, 원본 행(판례 id / 법령 id) 순서로 기존 청크를 새 모델로 임베딩해 채운다.
+ * 진행 중에는 새로 저장되는 청크를 새 컬렉션에도 저장하고(이중 저장), 설정 시 일부 검색을 새 컬렉션에도 보내 결과를 비교한다.
+ * 모든 원본 행을 처리하면 별칭을 원자적으로 교체하고 해당 type 검색 저장소와 문서 임베딩 모델을 새 모델로 바꾼다.
+ * <p>
+ * 진행 상황은 reembedding_job 테이블에 원본 행 id 워터마크로 저장되어 재기동 시 이어서 진행하며,
+ * 임베딩 속도는 pointsPerSecond로 제한해 운영 질의 임베딩이 밀리지 않도록 한다.
+ * 컬렉션을 만든 모델은 reembedding_job 테이블에 남으므로, 모든 인스턴스가 주기적으로 별칭이 가리키는 컬렉션의 모델을 확인해
+ * 다른 인스턴스가 교체한 별칭도 새 모델로 검색한다.
+ * 별칭 교체 후에는 spring.ai.ollama.embedding.options.model과 vector-size를 새 모델로 바꿔 배포해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReembeddingService {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int ERROR_MESSAGE_LENGTH = 1000;
+
+    private final QdrantClient qdrantClient;
+    private final QdrantCollectionManager collectionManager;
+    private final QdrantSchemaManager schemaManager;
+    private final QdrantPointScanner scanner;
+    private final QdrantPartitionProperties partition;
+    private final ReembeddingProperties properties;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final ReembeddingJobRepository reembeddingJobRepository;
+    private final PrecedentRepository precedentRepository;
+    private final LawRepository lawRepository;
+    private final OllamaApi ollamaApi;
+    private final EmbeddingCacheStore embeddingCacheStore;
+    private final EmbeddingCacheProperties embeddingCacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reembedding");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, String> appliedModels = new ConcurrentHashMap<>(); // type -> 검색에 쓰는 모델
+    private final Set<String> runningTypes = ConcurrentHashMap.newKeySet();        // 이 인스턴스에서 재임베딩 중인 type
+
+    @Value("${spring.ai.ollama.embedding.options.model}")
+    private String configuredModel;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!partition.isEnabled()) {
+            if (properties.isEnabled()) {
+                log.warn("재임베딩은 별칭 교체를 위해 컬렉션 분리 모드(custom.ai.vectorstore.qdrant.partition.enabled)가 필요합니다.");
+            }
+            return;
+        }
+        syncSwappedModels();
+        if (properties.isEnabled()) {
+            for (String type : partition.aliasesByType().keySet()) {
+                executor.execute(() -> run(type));
+            }
+        }
+    }
+
+    /**
+     * type 하나를 새 모델로 재임베딩 (진행 중인 작업이 있으면 워터마크부터 이어서 진행)
+     *
+     * @param type 문서 type (판례 / 법령)
+     * @return 작업 상태
+     */
+    public ReembeddingJob run(String type) {
+        String alias = partition.aliasesByType().get(type);
+        if (alias == null) {
+            throw new IllegalArgumentException("알 수 없는 문서 type: " + type);
+        }
+        if (properties.getModel() == null || properties.getModel().isBlank()) {
+            throw new IllegalStateException("재임베딩 모델(custom.ai.vectorstore.reembedding.model)이 설정되지 않았습니다.");
+        }
+
+        ReembeddingJob job;
+        try {
+            job = prepareJob(type, alias);
+        } catch (Exception e) {
+            log.error("'{}' 재임베딩 준비 실패", alias, e);
+            throw new IllegalStateException("재임베딩 준비 실패: " + alias, e);
+        }
+
+        EmbeddingModel model = embeddingModel(job.getModel());
+        // 청크 임베딩은 캐시를 거쳐 같은 모델로 다시 만들 때(재시도, 재색인)는 모델을 호출하지 않음
+        CachingEmbeddingModel documentModel = documentModel(job.getModel(), model);
+        runningTypes.add(type);
+        VectorStore live = vectorStoreRouter.forType(type);
+        vectorStoreRouter.startDualWrite(type, new VectorStoreRouter.DualWriteTarget(job.getTargetCollection(),
+                qdrantStore(job.getTargetCollection(), model), job.getModel().equals(appliedModel(type))));
+        if (properties.getDualRead().isEnabled()) {
+            vectorStoreRouter.replace(type, new ShadowReadVectorStore(live, qdrantStore(job.getTargetCollection(), model),
+                    properties.getDualRead().getSampleRate(), meterRegistry, type));
+        }
+
+        boolean keepShadow = false;
+        try {
+            fill(job, documentModel);
+            if (properties.isSwapOnComplete()) {
+                collectionManager.switchAlias(alias, job.getTargetCollection());
+                // 검색 저장소는 기동 시와 같은 방식으로 감싸고, 이후 저장하는 청크도 새 모델로 임베딩
+                vectorStoreRouter.replace(type, qdrantStore(alias, model),
+                        job.getModel().equals(configuredModel) ? null : documentModel);
+                appliedModels.put(type, job.getModel());
+                job.setStatus(ReembeddingStatus.SWAPPED);
+                job.setFinishedAt(LocalDateTime.now());
+                log.info("'{}' 재임베딩 완료. 별칭 교체: {} -> {}, 원본 행: {}, 청크: {}", type, alias,
+                        job.getTargetCollection(), job.getProcessedSources(), job.getProcessedPoints());
+            } else {
+                keepShadow = true;
+                log.info("'{}' 재임베딩 적재 완료. 별칭 교체 대기 (swap-on-complete=false)", type);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("'{}' 재임베딩 중단. 재기동 시 이어서 진행합니다.", type);
+        } catch (Exception e) {
+            job.setStatus(ReembeddingStatus.FAILED);
+            job.setErrorMessage(truncate(e.getMessage()));
+            job.setFinishedAt(LocalDateTime.now());
+            log.error("'{}' 재임베딩 실패. 별칭은 기존 컬렉션을 그대로 가리킵니다.", type, e);
+        } finally {
+            if (!keepShadow) {
+                vectorStoreRouter.stopDualWrite(type);
+                if (job.getStatus() != ReembeddingStatus.SWAPPED) {
+                    vectorStoreRouter.replace(type, live);
+                }
+            }
+            reembeddingJobRepository.save(job);
+            runningTypes.remove(type);
+        }
+        return job;
+    }
+
+    /**
+     * 별칭이 가리키는 컬렉션을 만든 모델로 type별 검색 저장소를 맞춤
+     * <p>
+     * 별칭 교체는 작업을 실행한 인스턴스에서만 일어나므로, 나머지 인스턴스는 이 주기 확인으로 새 모델을 적용한다.
+     * 재임베딩 작업이 만든 컬렉션이 아니면(최초 컬렉션, 분리 마이그레이션) 설정된 모델을 사용한다.
+     */
+    @Scheduled(fixedDelayString = "${custom.ai.vectorstore.reembedding.model-sync-interval-millis:10000}",
+            initialDelayString = "${custom.ai.vectorstore.reembedding.model-sync-interval-millis:10000}")
+    public void syncSwappedModels() {
+        if (!partition.isEnabled()) {
+            return;
+        }
+        try {
+            Map<String, String> aliases = collectionManager.aliases();
+            partition.aliasesByType().forEach((type, alias) -> {
+                String current = aliases.get(alias);
+                if (current == null || runningTypes.contains(type)) {
+                    return;
+                }
+                String model = reembeddingJobRepository.findFirstByTargetCollectionOrderByIdDesc(current)
+                        .map(ReembeddingJob::getModel)
+                        .orElse(configuredModel);
+                if (model.equals(appliedModel(type))) {
+                    return;
+                }
+                EmbeddingModel embeddingModel = embeddingModel(model);
+                vectorStoreRouter.replace(type, qdrantStore(alias, embeddingModel),
+                        model.equals(configuredModel) ? null : documentModel(model, embeddingModel));
+                appliedModels.put(type, model);
+                if (!model.equals(configuredModel)) {
+                    log.warn("'{}' 별칭은 '{}' 모델로 재임베딩되었습니다. 임베딩 모델 설정을 갱신하세요. (현재 설정: {})",
+                            alias, model, configuredModel);
+                } else {
+                    log.info("'{}' 별칭 검색 모델을 설정된 모델({})로 맞췄습니다.", alias, model);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("재임베딩 모델 확인 실패. cause: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 같은 모델로 진행 중인 작업을 이어받거나 새 컬렉션을 만들어 작업 생성
+     */
+    private ReembeddingJob prepareJob(String type, String alias) throws ExecutionException, InterruptedException {
+        Optional<ReembeddingJob> running = reembeddingJobRepository.findFirstByAliasAndStatusOrderByIdDesc(alias, ReembeddingStatus.RUNNING);
+        if (running.isPresent() && running.get().getModel().equals(properties.getModel())) {
+            ReembeddingJob job = running.get();
+            log.info("'{}' 재임베딩 재개. 워터마크: {}, 처리한 청크: {}", alias, job.getLastSourceId(), job.getProcessedPoints());
+            return job;
+        }
+        running.ifPresent(previous -> {
+            previous.setStatus(ReembeddingStatus.CANCELLED);
+            previous.setFinishedAt(LocalDateTime.now());
+            reembeddingJobRepository.save(previous);
+        });
+
+        String source = collectionManager.aliases().getOrDefault(alias, collectionManager.getDefaultCollection());
+        String target = alias + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        collectionManager.ensureCollection(target, properties.getVectorSize());
+        schemaManager.reconcile(target);
+
+        log.info("'{}' 재임베딩 시작. {} -> {} (모델: {})", alias, source, target, properties.getModel());
+        return reembeddingJobRepository.save(ReembeddingJob.builder()
+                .type(type)
+                .alias(alias)
+                .sourceCollection(source)
+                .targetCollection(target)
+                .model(properties.getModel())
+                .vectorSize(properties.getVectorSize())
+                .status(ReembeddingStatus.RUNNING)
+                .build());
+    }
+
+    /**
+     * 워터마크 이후 원본 행을 페이지 단위로 처리하고 페이지마다 진행 상황 저장
+     */
+    private void fill(ReembeddingJob job, EmbeddingModel model) throws ExecutionException, InterruptedException {
+        RateLimiter rateLimiter = RateLimiter.create(properties.getPointsPerSecond());
+        List<SourceRowView> rows;
+        do {
+            rows = sourceRows(job.getType(), job.getLastSourceId());
+            for (SourceRowView row : rows) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                job.setProcessedPoints(job.getProcessedPoints() + reembedSource(job, row, model, rateLimiter));
+                job.setLastSourceId(row.getId());
+                job.setProcessedSources(job.getProcessedSources() + 1);
+            }
+            reembeddingJobRepository.save(job);
+        } while (rows.size() == properties.getSourcePageSize());
+    }
+
+    private List<SourceRowView> sourceRows(String type, Long lastSourceId) {
+        PageRequest page = PageRequest.of(0, properties.getSourcePageSize());
+        return QdrantPartitionProperties.PRECEDENT.equals(type)
+                ? precedentRepository.findSourceRowsAfter(lastSourceId, page)
+                : lawRepository.findSourceRowsAfter(lastSourceId, page);
+    }
+
+    /**
+     * 원본 행 하나의 청크를 새 모델로 임베딩해 새 컬렉션에 저장 (id, payload 유지)
+     * <p>
+     * 청크는 sourceId payload로 찾는다. 사건번호/법령명은 유일하지 않으므로 sourceId가 없는 기존 청크에만 사용한다.
+     *
+     * @return 새로 저장한 청크 수
+     */
+    private long reembedSource(ReembeddingJob job, SourceRowView row, EmbeddingModel model, RateLimiter rateLimiter)
+            throws ExecutionException, InterruptedException {
+        Filter.Builder sourceMatch = Filter.newBuilder().addShould(match(VectorDocumentWriter.SOURCE_ID_KEY, row.getId()));
+        if (row.getSourceKey() != null) {
+            String keyField = QdrantPartitionProperties.PRECEDENT.equals(job.getType()) ? "caseNumber" : "lawName";
+            sourceMatch.addShould(filter(Filter.newBuilder()
+                    .addMust(matchKeyword(keyField, row.getSourceKey()))
+                    .addMust(isEmpty(VectorDocumentWriter.SOURCE_ID_KEY))
+                    .build()));
+        }
+        Filter filter = Filter.newBuilder()
+                .addMust(matchKeyword(VectorStoreRouter.TYPE_KEY, job.getType()))
+                .addMust(filter(sourceMatch.build()))
+                .build();
+
+        List<RetrievedPoint> points = new ArrayList<>();
+        scanner.scan(job.getSourceCollection(), filter, false, properties.getEmbeddingBatchSize(), points::addAll);
+        if (points.isEmpty()) {
+            return 0;
+        }
+
+        // 이중 저장으로 이미 새 모델 벡터가 있거나, 중단 전에 처리한 청크는 건너뜀
+        Set<PointId> existing = new HashSet<>();
+        qdrantClient.retrieveAsync(job.getTargetCollection(), points.stream().map(RetrievedPoint::getId).toList(),
+                false, false, null).get().forEach(point -> existing.add(point.getId()));
+        List<RetrievedPoint> pending = points.stream().filter(point -> !existing.contains(point.getId())).toList();
+
+        long written = 0;
+        for (int from = 0; from < pending.size(); from += properties.getEmbeddingBatchSize()) {
+            List<RetrievedPoint> batch = pending.subList(from, Math.min(from + properties.getEmbeddingBatchSize(), pending.size()));
+            rateLimiter.acquire(batch.size());
+
+            List<float[]> embeddings = model.embed(batch.stream().map(ReembeddingService::content).toList());
+            List<PointStruct> upserts = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                upserts.add(PointStruct.newBuilder()
+                        .setId(batch.get(i).getId())
+                        .setVectors(vectors(embeddings.get(i)))
+                        .putAllPayload(batch.get(i).getPayloadMap())
+                        .build());
+            }
+            qdrantClient.upsertAsync(job.getTargetCollection(), upserts).get();
+            written += upserts.size();
+        }
+        return written;
+    }
+
+    private EmbeddingModel embeddingModel(String model) {
+        return OllamaEmbeddingModel.builder()
+                .ollamaApi(ollamaApi)
+                .defaultOptions(OllamaOptions.builder().model(model).build())
+                .build();
+    }
+
+    private CachingEmbeddingModel documentModel(String modelName, EmbeddingModel model) {
+        return new CachingEmbeddingModel(model, embeddingCacheStore, modelName, embeddingCacheProperties.isEnabled(), meterRegistry);
+    }
+
+    private String appliedModel(String type) {
+        return appliedModels.getOrDefault(type, configuredModel);
+    }
+
+    private VectorStore qdrantStore(String collection, EmbeddingModel model) {
+        return QdrantVectorStore.builder(qdrantClient, model)
+                .collectionName(collection)
+                .initializeSchema(false)
+                .build();
+    }
+
+    private static String content(RetrievedPoint point) {
+        JsonWithInt.Value content = point.getPayloadMap().get(QdrantPointScanner.CONTENT_PAYLOAD_KEY);
+        return content != null ? content.getStringValue() : "";
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+    }
+}
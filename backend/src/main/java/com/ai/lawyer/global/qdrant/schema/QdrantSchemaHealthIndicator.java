@@ -0,0 +1,35 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/health 에 컬렉션별 payload 인덱스 차이를 보고
+ * <p>
+ * 인덱스가 없어도 검색은 동작하므로 상태는 UP으로 두고 상세에만 표시한다.
+ */
+@Component("qdrantSchema")
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QdrantSchemaHealthIndicator implements HealthIndicator {
+
+    private final QdrantSchemaManager qdrantSchemaManager;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        qdrantSchemaManager.getLastReports().forEach((collection, drift) -> details.put(collection, Map.of(
+                "drift", drift.hasDrift(),
+                "missing", drift.missing(),
+                "mismatched", drift.mismatched(),
+                "unmanaged", drift.unmanaged(),
+                "checkedAt", drift.checkedAt().toString())));
+        return Health.up().withDetails(details).build();
+    }
+}
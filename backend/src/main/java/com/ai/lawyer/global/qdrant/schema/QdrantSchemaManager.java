@@ -0,0 +1,152 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Collections.CollectionInfo;
+import io.qdrant.client.grpc.Collections.PayloadSchemaInfo;
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Qdrant 컬렉션 payload 인덱스를 선언(QdrantSchemaProperties)대로 맞추는 스키마 관리자
+ * <p>
+ * type / caseNumber 필터 검색이 컬렉션 크기에 비례해 느려지지 않도록 keyword / integer 인덱스를 만든다.
+ * 인덱스 생성은 컬렉션 크기에 따라 오래 걸릴 수 있으므로 기동을 막지 않도록 비동기로 수행하고,
+ * 차이(drift)는 로그, 메트릭(qdrant.schema.drift), health 상세로 보고한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QdrantSchemaManager {
+
+    private final QdrantClient qdrantClient;
+    private final QdrantSchemaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SchemaDrift> lastReports = new ConcurrentHashMap<>();
+
+    /**
+     * 백그라운드에서 스키마 정정
+     *
+     * @param collectionName 컬렉션 이름
+     * @return 정정 후 남은 차이 (실패 시 null)
+     */
+    public CompletableFuture<SchemaDrift> reconcileAsync(String collectionName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return reconcile(collectionName);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (Exception e) {
+                log.error("'{}' 컬렉션 payload 인덱스 정정 실패", collectionName, e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 누락된 인덱스를 만들고, 타입이 다른 인덱스는 (설정 시) 다시 만든 뒤 남은 차이를 반환
+     */
+    public SchemaDrift reconcile(String collectionName) throws ExecutionException, InterruptedException {
+        SchemaDrift drift = inspect(collectionName);
+        if (drift.hasDrift()) {
+            log.warn("'{}' 컬렉션 payload 인덱스 차이 발견. 누락: {}, 타입 불일치: {}",
+                    collectionName, drift.missing(), drift.mismatched());
+        }
+        if (!drift.unmanaged().isEmpty()) {
+            log.info("'{}' 컬렉션에 선언되지 않은 payload 인덱스: {}", collectionName, drift.unmanaged());
+        }
+
+        for (String field : drift.missing()) {
+            createIndex(collectionName, field);
+        }
+        if (properties.isDropMismatched()) {
+            for (String field : drift.mismatched().keySet()) {
+                log.warn("'{}' 컬렉션 payload 인덱스 재생성: {} ({} -> {})", collectionName, field,
+                        drift.mismatched().get(field), properties.getPayloadIndexes().get(field));
+                qdrantClient.deletePayloadIndexAsync(collectionName, field, true, null, null).get();
+                createIndex(collectionName, field);
+            }
+        } else if (!drift.mismatched().isEmpty()) {
+            log.warn("'{}' 컬렉션 타입이 다른 payload 인덱스는 그대로 둡니다 (drop-mismatched=false). 필드: {}",
+                    collectionName, drift.mismatched().keySet());
+        }
+
+        SchemaDrift remaining = drift.hasDrift() ? inspect(collectionName) : drift;
+        if (remaining.hasDrift()) {
+            log.warn("'{}' 컬렉션 payload 인덱스 차이가 남아 있습니다. 누락: {}, 타입 불일치: {}",
+                    collectionName, remaining.missing(), remaining.mismatched());
+        } else {
+            log.info("'{}' 컬렉션 payload 인덱스 확인 완료: {}", collectionName, properties.getPayloadIndexes().keySet());
+        }
+        return remaining;
+    }
+
+    /**
+     * 현재 컬렉션 상태와 선언을 비교 (변경하지 않음)
+     */
+    public SchemaDrift inspect(String collectionName) throws ExecutionException, InterruptedException {
+        CollectionInfo info = qdrantClient.getCollectionInfoAsync(collectionName).get();
+        Map<String, PayloadSchemaInfo> current = info.getPayloadSchemaMap();
+
+        List<String> missing = new ArrayList<>();
+        Map<String, PayloadSchemaType> mismatched = new LinkedHashMap<>();
+        properties.getPayloadIndexes().forEach((field, type) -> {
+            PayloadSchemaInfo existing = current.get(field);
+            if (existing == null) {
+                missing.add(field);
+            } else if (existing.getDataType() != type) {
+                mismatched.put(field, existing.getDataType());
+            }
+        });
+        List<String> unmanaged = current.keySet().stream()
+                .filter(field -> !properties.getPayloadIndexes().containsKey(field))
+                .sorted()
+                .toList();
+
+        SchemaDrift drift = new SchemaDrift(collectionName, missing, mismatched, unmanaged, LocalDateTime.now());
+        record(drift);
+        return drift;
+    }
+
+    /**
+     * 컬렉션별 마지막 확인 결과
+     */
+    public Map<String, SchemaDrift> getLastReports() {
+        return Collections.unmodifiableMap(lastReports);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void createIndex(String collectionName, String field) throws ExecutionException, InterruptedException {
+        PayloadSchemaType type = properties.getPayloadIndexes().get(field);
+        long startTime = System.currentTimeMillis();
+        qdrantClient.createPayloadIndexAsync(collectionName, field, type, null, true, null, null).get();
+        log.info("'{}' 컬렉션 payload 인덱스 생성: {} ({}), 소요 시간: {}ms",
+                collectionName, field, type, System.currentTimeMillis() - startTime);
+    }
+
+    private void record(SchemaDrift drift) {
+        if (lastReports.put(drift.collectionName(), drift) == null) {
+            Gauge.builder("qdrant.schema.drift", lastReports, reports -> {
+                        SchemaDrift last = reports.get(drift.collectionName());
+                        return last != null ? last.missing().size() + last.mismatched().size() : 0;
+                    })
+                    .description("선언과 다른 payload 인덱스 수")
+                    .tag("collection", drift.collectionName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Qdrant 컬렉션에 있어야 하는 payload 인덱스 선언
+ */
+@Component
+@ConfigurationProperties(prefix = "custom.ai.vectorstore.qdrant.schema")
+@Getter
+@Setter
+public class QdrantSchemaProperties {
+
+    private boolean reconcileOnStartup = true;   // 기동 후 백그라운드에서 인덱스 생성/정정
+    private boolean dropMismatched = false;      // true면 타입이 다른 인덱스를 삭제 후 다시 생성 (운영 인덱스 재구성, 명시적으로 켤 때만)
+    private Map<String, PayloadSchemaType> payloadIndexes = defaultPayloadIndexes();
+
+    private static Map<String, PayloadSchemaType> defaultPayloadIndexes() {
+        Map<String, PayloadSchemaType> indexes = new LinkedHashMap<>();
+        indexes.put("type", PayloadSchemaType.Keyword);
+        indexes.put("caseNumber", PayloadSchemaType.Keyword);
+        indexes.put("lawName", PayloadSchemaType.Keyword);
+        indexes.put("chunkIndex", PayloadSchemaType.Integer);
+        indexes.put("jangId", PayloadSchemaType.Integer);
+        indexes.put("sourceId", PayloadSchemaType.Integer);
+        return indexes;
+    }
+}
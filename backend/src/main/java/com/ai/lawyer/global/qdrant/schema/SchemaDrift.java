@@ -0,0 +1,27 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선언된 payload 인덱스와 실제 컬렉션 상태의 차이
+ *
+ * @param collectionName 컬렉션 이름
+ * @param missing 선언되었지만 없는 인덱스
+ * @param mismatched 타입이 다른 인덱스 (필드 -> 실제 타입)
+ * @param unmanaged 선언되지 않았지만 존재하는 인덱스 (변경하지 않고 보고만 함)
+ * @param checkedAt 확인 시각
+ */
+public record SchemaDrift(String collectionName,
+                          List<String> missing,
+                          Map<String, PayloadSchemaType> mismatched,
+                          List<String> unmanaged,
+                          LocalDateTime checkedAt) {
+
+    public boolean hasDrift() {
+        return !missing.isEmpty() || !mismatched.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 결정적 청크(포인트) id
+ * <p>
+ * (원본 종류, 원본 id, 청크 순번, 임베딩 모델)이 같으면 항상 같은 UUID가 나오므로
+ * 재시도/재실행 시 중복 포인트가 생기지 않고 같은 포인트를 덮어쓴다.
+ */
+public final class ChunkIds {
+
+    private ChunkIds() {
+    }
+
+    /**
+     * @param type 문서 type (판례 / 법령)
+     * @param sourceId 원본 행 id
+     * @param chunkOrdinal 원본 내 청크 순번 (0부터)
+     * @param model 임베딩 모델
+     * @return UUID(v3) 문자열
+     */
+    public static String pointId(String type, long sourceId, int chunkOrdinal, String model) {
+        String key = type + ":" + sourceId + ":" + chunkOrdinal + ":" + model;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
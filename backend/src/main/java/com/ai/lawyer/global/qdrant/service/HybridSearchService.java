@@ -0,0 +1,118 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벡터 유사도 검색과 어휘(BM25) 검색을 병렬로 수행하고 RRF로 합치는 하이브리드 검색
+ * <p>
+ * "민법 제750조", "2020다12345" 처럼 정확 일치가 중요한 질의를 벡터 검색만으로는 놓치는 문제를 보완한다.
+ * 어휘 색인은 인스턴스마다 메모리에 적재하므로, 적재가 끝나기 전(기동 직후, 새 인스턴스)에는 RRF 없이 벡터 검색 결과만 반환한다.
+ * 이때는 retrieval.hybrid.search{mode=vector_only} 카운터와 /actuator/health 의 lexicalIndex 항목으로 드러난다.
+ */
+@Slf4j
+@Service
+public class HybridSearchService {
+
+    private final VectorStoreRouter vectorStoreRouter;
+    private final LexicalIndex lexicalIndex;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hybridCounter;
+    private final Counter vectorOnlyCounter;
+
+    private final boolean enabled;
+    private final int candidateK;
+    private final int rrfK;
+
+    public HybridSearchService(VectorStoreRouter vectorStoreRouter,
+                               LexicalIndex lexicalIndex,
+                               MeterRegistry meterRegistry,
+                               @Value("${custom.ai.retrieval.hybrid.enabled:true}") boolean enabled,
+                               @Value("${custom.ai.retrieval.hybrid.candidate-k:20}") int candidateK,
+                               @Value("${custom.ai.retrieval.hybrid.rrf-k:60}") int rrfK) {
+        this.vectorStoreRouter = vectorStoreRouter;
+        this.lexicalIndex = lexicalIndex;
+        this.enabled = enabled;
+        this.candidateK = candidateK;
+        this.rrfK = rrfK;
+        this.hybridCounter = counter(meterRegistry, "hybrid");
+        this.vectorOnlyCounter = counter(meterRegistry, "vector_only");
+    }
+
+    /**
+     * 메타데이터 필터(key = value)를 적용한 하이브리드 검색
+     *
+     * @param query 검색어
+     * @param key 필터 키
+     * @param value 필터 값
+     * @param topK 반환할 최대 문서 수
+     * @return RRF 순위 문서 목록 (어휘 색인이 준비되지 않았으면 벡터 검색 결과)
+     */
+    public List<Document> search(String query, String key, String value, int topK) {
+        if (!isHybridActive()) {
+            if (enabled) {
+                vectorOnlyCounter.increment();
+                log.debug("어휘 색인 적재 전이라 벡터 검색만 사용합니다.");
+            }
+            return vectorSearch(query, key, value, topK);
+        }
+        hybridCounter.increment();
+
+        int candidates = Math.max(topK, candidateK);
+        CompletableFuture<List<Document>> vectorLeg =
+                CompletableFuture.supplyAsync(() -> vectorSearch(query, key, value, candidates), executor);
+        CompletableFuture<List<Document>> lexicalLeg =
+                CompletableFuture.supplyAsync(() -> lexicalIndex.search(query, key, value, candidates), executor)
+                        .exceptionally(throwable -> {
+                            log.warn("어휘 검색 실패. 벡터 검색 결과만 사용합니다.", throwable);
+                            return Collections.emptyList();
+                        });
+
+        return ReciprocalRankFusion.fuse(List.of(vectorLeg.join(), lexicalLeg.join()), rrfK, topK);
+    }
+
+    /**
+     * RRF 융합을 사용하는지 여부 (하이브리드 검색이 켜져 있고 어휘 색인 적재가 끝난 경우)
+     */
+    public boolean isHybridActive() {
+        return enabled && lexicalIndex.isReady();
+    }
+
+    /**
+     * 기존 경로: 벡터 유사도 검색만 수행
+     */
+    public List<Document> vectorSearch(String query, String key, String value, int topK) {
+        SearchRequest request = SearchRequest.builder()
+                .query(query).topK(topK)
+                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key(key), new Filter.Value(value)))
+                .build();
+        List<Document> documents = vectorStoreRouter.forFilter(key, value).similaritySearch(request);
+        return documents != null ? documents : Collections.emptyList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("retrieval.hybrid.search")
+                .description("하이브리드 검색 경로 (어휘 색인 적재 전이면 vector_only)")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
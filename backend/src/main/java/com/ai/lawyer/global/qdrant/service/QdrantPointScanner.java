@@ -0,0 +1,142 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.WithPayloadSelectorFactory;
+import io.qdrant.client.WithVectorsSelectorFactory;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points.Filter;
+import io.qdrant.client.grpc.Points.PointId;
+import io.qdrant.client.grpc.Points.RetrievedPoint;
+import io.qdrant.client.grpc.Points.ScrollPoints;
+import io.qdrant.client.grpc.Points.ScrollResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Qdrant 컬렉션 전체를 페이지 단위로 순회하는 헬퍼
+ * <p>
+ * 어휘 색인 구성, 컬렉션 복사 등 전체 포인트를 읽어야 하는 작업에서 공통으로 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "qdrant", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QdrantPointScanner {
+
+    // Spring AI QdrantVectorStore가 본문을 저장하는 payload 키
+    public static final String CONTENT_PAYLOAD_KEY = "doc_content";
+
+    private final QdrantClient qdrantClient;
+
+    /**
+     * 컬렉션의 모든 포인트를 페이지 단위로 순회
+     *
+     * @param collectionName 컬렉션 이름
+     * @param withVectors 벡터 포함 여부
+     * @param pageSize 페이지 크기
+     * @param pageConsumer 페이지별 포인트 처리 함수
+     * @return 순회한 포인트 수
+     */
+    public long scan(String collectionName, boolean withVectors, int pageSize,
+                     Consumer<List<RetrievedPoint>> pageConsumer) throws ExecutionException, InterruptedException {
+        return scan(collectionName, null, withVectors, pageSize, pageConsumer);
+    }
+
+    /**
+     * 필터를 만족하는 포인트만 페이지 단위로 순회
+     *
+     * @param collectionName 컬렉션 이름
+     * @param filter payload 필터 (null이면 전체)
+     * @param withVectors 벡터 포함 여부
+     * @param pageSize 페이지 크기
+     * @param pageConsumer 페이지별 포인트 처리 함수
+     * @return 순회한 포인트 수
+     */
+    public long scan(String collectionName, Filter filter, boolean withVectors, int pageSize,
+                     Consumer<List<RetrievedPoint>> pageConsumer) throws ExecutionException, InterruptedException {
+        long total = 0;
+        PointId offset = null;
+
+        do {
+            ScrollPoints.Builder request = ScrollPoints.newBuilder()
+                    .setCollectionName(collectionName)
+                    .setLimit(pageSize)
+                    .setWithPayload(WithPayloadSelectorFactory.enable(true))
+                    .setWithVectors(WithVectorsSelectorFactory.enable(withVectors));
+            if (filter != null) {
+                request.setFilter(filter);
+            }
+            if (offset != null) {
+                request.setOffset(offset);
+            }
+
+            ScrollResponse response = qdrantClient.scrollAsync(request.build()).get();
+            if (!response.getResultList().isEmpty()) {
+                pageConsumer.accept(response.getResultList());
+                total += response.getResultCount();
+            }
+            offset = response.hasNextPageOffset() ? response.getNextPageOffset() : null;
+        } while (offset != null);
+
+        log.debug("'{}' 컬렉션 포인트 {}개 순회 완료", collectionName, total);
+        return total;
+    }
+
+    /**
+     * Qdrant 포인트를 Spring AI Document로 변환 (본문은 doc_content, 나머지 payload는 메타데이터)
+     *
+     * @param point Qdrant 포인트
+     * @return 변환된 Document
+     */
+    public static Document toDocument(RetrievedPoint point) {
+        Map<String, Object> metadata = new HashMap<>();
+        point.getPayloadMap().forEach((key, value) -> {
+            Object converted = toJava(value);
+            if (!CONTENT_PAYLOAD_KEY.equals(key) && converted != null) {
+                metadata.put(key, converted);
+            }
+        });
+
+        JsonWithInt.Value content = point.getPayloadMap().get(CONTENT_PAYLOAD_KEY);
+        return Document.builder()
+                .id(pointId(point.getId()))
+                .text(content != null ? content.getStringValue() : "")
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * PointId를 문자열로 변환
+     */
+    public static String pointId(PointId id) {
+        return id.hasUuid() ? id.getUuid() : String.valueOf(id.getNum());
+    }
+
+    /**
+     * Qdrant payload 값을 자바 객체로 변환
+     */
+    public static Object toJava(JsonWithInt.Value value) {
+        return switch (value.getKindCase()) {
+            case STRING_VALUE -> value.getStringValue();
+            case INTEGER_VALUE -> value.getIntegerValue();
+            case DOUBLE_VALUE -> value.getDoubleValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case LIST_VALUE -> value.getListValue().getValuesList().stream()
+                    .map(QdrantPointScanner::toJava)
+                    .toList();
+            case STRUCT_VALUE -> {
+                Map<String, Object> struct = new LinkedHashMap<>();
+                value.getStructValue().getFieldsMap().forEach((key, nested) -> struct.put(key, toJava(nested)));
+                yield struct;
+            }
+            default -> null;
+        };
+    }
+}
@@ -1,9 +1,9 @@
 package com.ai.lawyer.global.qdrant.service;
 
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.stereotype.Service;
 
@@ -17,15 +17,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class QdrantService {
 
-    private final VectorStore vectorStore;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final HybridSearchService hybridSearchService;
 
     public List<Document> searchDocument(String query, String key, String value) {
 
-        SearchRequest findCaseNumberRequest = SearchRequest.builder()
-                .query(query).topK(1)
-                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key(key), new Filter.Value(value)))
-                .build();
-        List<Document> mostSimilarDocuments = vectorStore.similaritySearch(findCaseNumberRequest);
+        // 가장 관련 있는 청크 1개 -> 벡터 + 어휘 검색을 RRF로 합쳐 조문/사건번호 정확 일치도 반영
+        List<Document> mostSimilarDocuments = hybridSearchService.search(query, key, value, 1);
 
 
         if (mostSimilarDocuments.isEmpty()) {
@@ -40,7 +38,9 @@ public class QdrantService {
                 .query(query).topK(100)
                 .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("caseNumber"), new Filter.Value(targetCaseNumber)))
                 .build();
-        List<Document> allChunksOfCase = new ArrayList<>(vectorStore.similaritySearch(fetchAllChunksRequest));
+        // 사건번호는 판례에만 있으므로 판례 저장소에서 조회
+        List<Document> allChunksOfCase = new ArrayList<>(vectorStoreRouter.forType(QdrantPartitionProperties.PRECEDENT)
+                .similaritySearch(fetchAllChunksRequest));
 
         if (allChunksOfCase.isEmpty()) {
             return Collections.emptyList();
@@ -0,0 +1,53 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import org.springframework.ai.document.Document;
+
+import java.util.*;
+
+/**
+ * 여러 검색 결과 순위를 Reciprocal Rank Fusion(RRF)으로 합치는 유틸리티
+ * <p>
+ * 점수 척도가 다른 벡터 유사도와 BM25 점수를 직접 비교하지 않고, 순위만으로 1 / (k + rank) 를 합산한다.
+ */
+public final class ReciprocalRankFusion {
+
+    public static final int DEFAULT_K = 60;
+
+    private ReciprocalRankFusion() {
+    }
+
+    /**
+     * 순위 목록들을 RRF 점수로 병합
+     *
+     * @param rankings 각 검색 경로의 결과 (앞쪽일수록 높은 순위)
+     * @param k RRF 상수 (클수록 하위 순위의 영향이 커짐)
+     * @param topK 반환할 최대 문서 수
+     * @return RRF 점수 내림차순 문서 목록 (score에 RRF 점수 설정)
+     */
+    public static List<Document> fuse(List<List<Document>> rankings, int k, int topK) {
+        Map<String, Double> scores = new HashMap<>();
+        Map<String, Document> documents = new LinkedHashMap<>();
+
+        for (List<Document> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                Document document = ranking.get(rank);
+                scores.merge(document.getId(), 1.0 / (k + rank + 1), Double::sum);
+                documents.putIfAbsent(document.getId(), document);
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(topK)
+                .map(scored -> {
+                    Document document = documents.get(scored.getKey());
+                    return Document.builder()
+                            .id(document.getId())
+                            .text(document.getText())
+                            .metadata(document.getMetadata())
+                            .score(scored.getValue())
+                            .build();
+                })
+                .toList();
+    }
+}
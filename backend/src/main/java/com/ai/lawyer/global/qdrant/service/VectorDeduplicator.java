@@ -0,0 +1,121 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.embedding.EmbeddingCacheStore;
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Points.PointId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 임의 id로 여러 번 저장된 중복 청크 정리 (일회성)
+ * <p>
+ * (type, 사건번호/법령명, jangId, chunkIndex, 본문 해시)가 같은 청크를 중복으로 보고 하나만 남긴다.
+ * sourceId가 있는 청크(결정적 id로 저장된 청크)를 우선 남기며, 실행 후 전체 모드 벡터화를 돌리면 남은 청크도 결정적 id로 바뀐다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorDeduplicator {
+
+    private static final int SCAN_PAGE_SIZE = 256;
+    private static final int DELETE_BATCH_SIZE = 256;
+
+    private final ObjectProvider<QdrantClient> qdrantClient;
+    private final ObjectProvider<QdrantPointScanner> qdrantPointScanner;
+    private final ObjectProvider<QdrantCollectionManager> qdrantCollectionManager;
+    private final VectorStore vectorStore;
+    private final LexicalIndex lexicalIndex;
+
+    /**
+     * 중복 청크 삭제
+     *
+     * @return 삭제한 청크 수
+     */
+    public long deduplicate() throws ExecutionException, InterruptedException {
+        QdrantClient client = qdrantClient.getIfAvailable();
+        QdrantPointScanner scanner = qdrantPointScanner.getIfAvailable();
+        QdrantCollectionManager collectionManager = qdrantCollectionManager.getIfAvailable();
+
+        long removed = 0;
+        if (client != null && scanner != null && collectionManager != null) {
+            for (String collection : collectionManager.searchableCollections()) {
+                removed += deduplicate(client, scanner, collection);
+            }
+        } else if (vectorStore instanceof HnswVectorStore hnswVectorStore) {
+            List<String> duplicates = duplicates(hnswVectorStore.documents());
+            hnswVectorStore.delete(duplicates);
+            lexicalIndex.removeAll(duplicates);
+            removed = duplicates.size();
+        }
+        log.info("중복 청크 정리 완료. 삭제: {}개", removed);
+        return removed;
+    }
+
+    /**
+     * 중복 청크 id (sourceId가 있는 청크를 우선 남기고, 같으면 먼저 나온 청크를 남김)
+     *
+     * @param documents 전체 청크
+     * @return 삭제할 청크 id
+     */
+    static List<String> duplicates(Collection<Document> documents) {
+        Map<String, Document> kept = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (Document document : documents) {
+            Document previous = kept.putIfAbsent(identity(document), document);
+            if (previous == null) {
+                continue;
+            }
+            if (!hasSourceId(previous) && hasSourceId(document)) {
+                kept.put(identity(document), document);
+                duplicates.add(previous.getId());
+            } else {
+                duplicates.add(document.getId());
+            }
+        }
+        return duplicates;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private long deduplicate(QdrantClient client, QdrantPointScanner scanner, String collection)
+            throws ExecutionException, InterruptedException {
+        Map<String, PointId> pointIds = new HashMap<>();
+        List<Document> documents = new ArrayList<>();
+        scanner.scan(collection, false, SCAN_PAGE_SIZE, points -> points.forEach(point -> {
+            Document document = QdrantPointScanner.toDocument(point);
+            // 본문은 해시로만 비교하므로 메모리를 아끼기 위해 해시만 보관
+            documents.add(new Document(document.getId(), EmbeddingCacheStore.hash(document.getText()), document.getMetadata()));
+            pointIds.put(document.getId(), point.getId());
+        }));
+
+        List<String> duplicates = duplicates(documents);
+        for (int from = 0; from < duplicates.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = duplicates.subList(from, Math.min(from + DELETE_BATCH_SIZE, duplicates.size()));
+            client.deleteAsync(collection, batch.stream().map(pointIds::get).toList()).get();
+            lexicalIndex.removeAll(batch);
+        }
+        log.info("'{}' 컬렉션 중복 청크 {}개 삭제 (전체 {}개)", collection, duplicates.size(), documents.size());
+        return duplicates.size();
+    }
+
+    private static String identity(Document document) {
+        Map<String, Object> metadata = document.getMetadata();
+        Object source = Objects.requireNonNullElse(metadata.get("caseNumber"), metadata.getOrDefault("lawName", ""));
+        return metadata.get(VectorStoreRouter.TYPE_KEY) + "|" + source + "|" + metadata.get("jangId") + "|"
+                + metadata.get("chunkIndex") + "|" + EmbeddingCacheStore.hash(document.getText());
+    }
+
+    private static boolean hasSourceId(Document document) {
+        return document.getMetadata().get(VectorDocumentWriter.SOURCE_ID_KEY) != null;
+    }
+}
@@ -0,0 +1,357 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.embedding.AdaptiveBatchSizer;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.embedding.EmbeddingWriteProperties;
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import com.ai.lawyer.global.vectorstore.MetadataFilterEvaluator;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points;
+import io.qdrant.client.grpc.Points.PointStruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static io.qdrant.client.ConditionFactory.filter;
+import static io.qdrant.client.ConditionFactory.hasId;
+import static io.qdrant.client.ConditionFactory.isEmpty;
+import static io.qdrant.client.ConditionFactory.match;
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+import static io.qdrant.client.PointIdFactory.id;
+import static io.qdrant.client.ValueFactory.value;
+import static io.qdrant.client.VectorsFactory.vectors;
+
+/**
+ * 벡터화 작업의 청크 저장 경로
+ * <p>
+ * 임베딩은 캐시 모델(documentEmbeddingModel)로 계산해 변경되지 않은 청크는 모델을 다시 호출하지 않고,
+ * 재임베딩으로 별칭을 교체한 type은 라우터에 기록된 그 컬렉션의 모델로 임베딩한다.
+ * 배치 크기는 관측한 지연/실패에 따라 AdaptiveBatchSizer가 조절한다.
+ * 계산된 벡터를 Qdrant(type별 별칭 또는 기본 컬렉션) 또는 로컬 HNSW 저장소에 그대로 저장한다.
+ * payload 형식은 Spring AI QdrantVectorStore와 같다 (본문은 doc_content, 메타데이터는 최상위 필드).
+ * 저장/삭제한 청크는 어휘 색인에도 바로 반영하고, 마이그레이션/재임베딩으로 이중 저장 중인 새 컬렉션에도 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorDocumentWriter {
+
+    // 원본 행 id payload 키 (판례 id / 법령 id)
+    public static final String SOURCE_ID_KEY = "sourceId";
+    private static final int DELETE_SCAN_PAGE_SIZE = 256;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final CachingEmbeddingModel documentEmbeddingModel;
+    private final VectorStore vectorStore;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final ObjectProvider<QdrantClient> qdrantClient;
+    private final ObjectProvider<QdrantPointScanner> qdrantPointScanner;
+    private final QdrantPartitionProperties partition;
+    private final LexicalIndex lexicalIndex;
+    private final AdaptiveBatchSizer batchSizer;
+    private final EmbeddingWriteProperties writeProperties;
+
+    private final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+    private final ExecutorService storeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${spring.ai.vectorstore.qdrant.collection-name}")
+    private String collectionName;
+
+    /**
+     * 청크 임베딩 후 저장 (같은 id는 덮어씀)
+     * <p>
+     * 청크를 현재 배치 크기(토큰) 단위로 다시 묶어 임베딩하며, 이전 배치 저장과 다음 배치 임베딩을 겹쳐 실행한다.
+     * 임베딩이 실패하면 배치를 반으로 나눠 다시 시도하고, 청크 하나도 실패하면 maxRetries만큼 재시도한다.
+     *
+     * @param documents 저장할 청크
+     */
+    public void write(List<Document> documents) throws ExecutionException, InterruptedException {
+        if (documents.isEmpty()) {
+            return;
+        }
+        QdrantClient client = qdrantClient.getIfAvailable();
+        if (client == null && !(vectorStore instanceof HnswVectorStore)) {
+            // 계산된 벡터를 직접 넣을 수 없는 저장소는 저장소가 임베딩까지 처리
+            vectorStoreRouter.add(documents);
+            lexicalIndex.addAll(documents);
+            return;
+        }
+
+        // 저장될 컬렉션의 모델이 다른 type끼리는 한 배치로 묶지 않음
+        Map<CachingEmbeddingModel, List<Document>> byModel = new LinkedHashMap<>();
+        for (Document document : documents) {
+            byModel.computeIfAbsent(embeddingModelFor(typeOf(document)), key -> new ArrayList<>()).add(document);
+        }
+
+        Future<?> pendingStore = CompletableFuture.completedFuture(null);
+        for (Map.Entry<CachingEmbeddingModel, List<Document>> group : byModel.entrySet()) {
+            List<Document> groupDocuments = group.getValue();
+            int from = 0;
+            while (from < groupDocuments.size()) {
+                int to = batchEnd(groupDocuments, from, batchSizer.currentTokens());
+                List<Document> batch = groupDocuments.subList(from, to);
+                List<float[]> embeddings = embed(group.getKey(), batch, 0);
+
+                pendingStore.get();
+                if (writeProperties.isPipelined()) {
+                    pendingStore = storeExecutor.submit(() -> {
+                        store(client, batch, embeddings);
+                        return null;
+                    });
+                } else {
+                    store(client, batch, embeddings);
+                }
+                from = to;
+            }
+        }
+        pendingStore.get();
+    }
+
+    /**
+     * type 청크를 임베딩할 모델 (별칭 교체 후에는 현재 별칭이 가리키는 컬렉션의 모델)
+     * <p>
+     * 청크 id와 임베딩 캐시 키에도 이 모델명을 쓴다.
+     *
+     * @param type 문서 type (판례 / 법령, null이면 기본 모델)
+     */
+    public CachingEmbeddingModel embeddingModelFor(String type) {
+        return vectorStoreRouter.documentModel(type).orElse(documentEmbeddingModel);
+    }
+
+    /**
+     * 원본 행 하나의 청크 삭제
+     * <p>
+     * sourceId가 없던 기존 포인트도 지우도록 원본을 식별하는 기존 payload 필드(사건번호, 법령명)도 함께 조건으로 쓴다.
+     * 법령명/사건번호는 유일하지 않으므로 이 조건은 sourceId가 없는 포인트에만 적용해 같은 이름의 다른 행 청크는 남긴다.
+     *
+     * @param type 문서 type (판례 / 법령)
+     * @param sourceId 원본 행 id
+     * @param sourceKey 원본 식별 payload 필드 (null이면 sourceId만 사용)
+     * @param sourceKeyValue 원본 식별 값
+     * @return 삭제한 청크 id
+     */
+    public List<String> deleteBySource(String type, long sourceId, String sourceKey, String sourceKeyValue)
+            throws ExecutionException, InterruptedException {
+        return deleteBySource(type, sourceId, sourceKey, sourceKeyValue, Set.of());
+    }
+
+    /**
+     * 원본 행 하나의 청크 중 keepIds에 없는 청크 삭제 (재청킹 후 남은 높은 순번의 청크, 임의 id로 저장된 기존 청크)
+     *
+     * @param type 문서 type (판례 / 법령)
+     * @param sourceId 원본 행 id
+     * @param sourceKey 원본 식별 payload 필드 (null이면 sourceId만 사용)
+     * @param sourceKeyValue 원본 식별 값
+     * @param keepIds 남겨 둘 청크 id
+     * @return 삭제한 청크 id
+     */
+    public List<String> deleteBySource(String type, long sourceId, String sourceKey, String sourceKeyValue, Set<String> keepIds)
+            throws ExecutionException, InterruptedException {
+        QdrantClient client = qdrantClient.getIfAvailable();
+        QdrantPointScanner scanner = qdrantPointScanner.getIfAvailable();
+        List<String> ids = new ArrayList<>();
+
+        if (client != null && scanner != null) {
+            Points.Filter.Builder sourceMatch = Points.Filter.newBuilder().addShould(match(SOURCE_ID_KEY, sourceId));
+            if (sourceKey != null && sourceKeyValue != null) {
+                sourceMatch.addShould(filter(Points.Filter.newBuilder()
+                        .addMust(matchKeyword(sourceKey, sourceKeyValue))
+                        .addMust(isEmpty(SOURCE_ID_KEY))
+                        .build()));
+            }
+            Points.Filter filter = Points.Filter.newBuilder()
+                    .addMust(matchKeyword(VectorStoreRouter.TYPE_KEY, type))
+                    .addMust(filter(sourceMatch.build()))
+                    .build();
+            String collection = collectionFor(type);
+            List<Points.PointId> stale = new ArrayList<>();
+            scanner.scan(collection, filter, false, DELETE_SCAN_PAGE_SIZE, points -> points.forEach(point -> {
+                String pointId = QdrantPointScanner.pointId(point.getId());
+                if (!keepIds.contains(pointId)) {
+                    ids.add(pointId);
+                    stale.add(point.getId());
+                }
+            }));
+            if (!stale.isEmpty()) {
+                client.deleteAsync(collection, stale).get();
+            }
+            deleteFromDualWriteTarget(client, type, filter, keepIds);
+        } else if (vectorStore instanceof HnswVectorStore hnswVectorStore) {
+            Filter.Expression typeMatch = new Filter.Expression(Filter.ExpressionType.EQ,
+                    new Filter.Key(VectorStoreRouter.TYPE_KEY), new Filter.Value(type));
+            hnswVectorStore.documents().stream()
+                    .filter(document -> MetadataFilterEvaluator.test(typeMatch, document.getMetadata()))
+                    .filter(document -> isSourceChunk(document.getMetadata(), sourceId, sourceKey, sourceKeyValue))
+                    .map(Document::getId)
+                    .filter(id -> !keepIds.contains(id))
+                    .forEach(ids::add);
+            hnswVectorStore.delete(ids);
+        }
+
+        lexicalIndex.removeAll(ids);
+        return ids;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        storeExecutor.shutdown();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    // from부터 토큰 합이 maxTokens를 넘기 직전까지 (최소 청크 하나)
+    private int batchEnd(List<Document> documents, int from, int maxTokens) {
+        int tokens = 0;
+        int to = from;
+        while (to < documents.size()) {
+            int documentTokens = tokenCountEstimator.estimate(documents.get(to).getText());
+            if (to > from && tokens + documentTokens > maxTokens) {
+                break;
+            }
+            tokens += documentTokens;
+            to++;
+        }
+        return to;
+    }
+
+    private List<float[]> embed(CachingEmbeddingModel model, List<Document> batch, int attempt) throws InterruptedException {
+        long startTime = System.nanoTime();
+        try {
+            List<float[]> embeddings = model.embed(batch.stream().map(Document::getText).toList());
+            batchSizer.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return embeddings;
+        } catch (RuntimeException e) {
+            batchSizer.onFailure();
+            if (batch.size() > 1) {
+                // 시간 초과/요청 크기 초과에 대비해 반으로 나눠 다시 시도
+                int middle = batch.size() / 2;
+                List<float[]> embeddings = new ArrayList<>(embed(model, batch.subList(0, middle), attempt));
+                embeddings.addAll(embed(model, batch.subList(middle, batch.size()), attempt));
+                return embeddings;
+            }
+            if (attempt >= writeProperties.getMaxRetries()) {
+                throw e;
+            }
+            log.warn("청크 임베딩 실패. {}번째 재시도. id: {}, cause: {}", attempt + 1, batch.get(0).getId(), e.getMessage());
+            Thread.sleep(RETRY_BACKOFF_MILLIS << attempt);
+            return embed(model, batch, attempt + 1);
+        }
+    }
+
+    private void store(QdrantClient client, List<Document> batch, List<float[]> embeddings)
+            throws ExecutionException, InterruptedException {
+        if (client != null) {
+            Map<String, List<PointStruct>> byCollection = new LinkedHashMap<>();
+            List<Document> reembed = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Document document = batch.get(i);
+                PointStruct point = toPoint(document, embeddings.get(i));
+                byCollection.computeIfAbsent(collectionFor(document), key -> new ArrayList<>()).add(point);
+
+                // 이중 저장 대상이 같은 모델이면 계산한 벡터를 그대로 넣고, 다른 모델일 때만 대상 저장소가 다시 임베딩
+                Optional<VectorStoreRouter.DualWriteTarget> target = vectorStoreRouter.dualWriteTarget(typeOf(document));
+                if (target.isPresent() && target.get().sameModel()) {
+                    byCollection.computeIfAbsent(target.get().collection(), key -> new ArrayList<>()).add(point);
+                } else if (target.isPresent()) {
+                    reembed.add(document);
+                }
+            }
+            for (Map.Entry<String, List<PointStruct>> entry : byCollection.entrySet()) {
+                client.upsertAsync(entry.getKey(), entry.getValue()).get();
+            }
+            vectorStoreRouter.addToDualWriteTargets(reembed);
+        } else {
+            ((HnswVectorStore) vectorStore).add(batch, embeddings);
+            vectorStoreRouter.addToDualWriteTargets(batch);
+        }
+        lexicalIndex.addAll(batch);
+    }
+
+    /**
+     * 이중 저장 중인 새 컬렉션에서도 같은 조건의 청크 삭제 (별칭 교체 후 지운 청크가 되살아나지 않도록)
+     */
+    private void deleteFromDualWriteTarget(QdrantClient client, String type, Points.Filter filter, Set<String> keepIds)
+            throws ExecutionException, InterruptedException {
+        Optional<VectorStoreRouter.DualWriteTarget> target = vectorStoreRouter.dualWriteTarget(type);
+        if (target.isEmpty()) {
+            return;
+        }
+        Points.Filter.Builder targetFilter = filter.toBuilder();
+        if (!keepIds.isEmpty()) {
+            targetFilter.addMustNot(hasId(keepIds.stream().map(keepId -> id(UUID.fromString(keepId))).toList()));
+        }
+        client.deleteAsync(target.get().collection(), targetFilter.build()).get();
+    }
+
+    /**
+     * sourceId가 있으면 sourceId로, 없는 기존 청크만 원본 식별 필드로 비교
+     */
+    private static boolean isSourceChunk(Map<String, Object> metadata, long sourceId, String sourceKey, String sourceKeyValue) {
+        Object chunkSourceId = metadata.get(SOURCE_ID_KEY);
+        if (chunkSourceId != null) {
+            return chunkSourceId instanceof Number number
+                    ? number.longValue() == sourceId
+                    : String.valueOf(sourceId).equals(chunkSourceId.toString());
+        }
+        return sourceKey != null && sourceKeyValue != null && sourceKeyValue.equals(String.valueOf(metadata.get(sourceKey)));
+    }
+
+    private static String typeOf(Document document) {
+        Object type = document.getMetadata().get(VectorStoreRouter.TYPE_KEY);
+        return type != null ? type.toString() : null;
+    }
+
+    private String collectionFor(Document document) {
+        return collectionFor(typeOf(document));
+    }
+
+    private String collectionFor(String type) {
+        if (!partition.isEnabled() || type == null) {
+            return collectionName;
+        }
+        return partition.aliasesByType().getOrDefault(type, collectionName);
+    }
+
+    private static PointStruct toPoint(Document document, float[] embedding) {
+        Map<String, JsonWithInt.Value> payload = new HashMap<>();
+        document.getMetadata().forEach((key, metadataValue) -> {
+            if (metadataValue != null) {
+                payload.put(key, toValue(metadataValue));
+            }
+        });
+        payload.put(QdrantPointScanner.CONTENT_PAYLOAD_KEY, value(document.getText()));
+
+        return PointStruct.newBuilder()
+                .setId(id(UUID.fromString(document.getId())))
+                .setVectors(vectors(embedding))
+                .putAllPayload(payload)
+                .build();
+    }
+
+    private static JsonWithInt.Value toValue(Object metadataValue) {
+        if (metadataValue instanceof Integer || metadataValue instanceof Long) {
+            return value(((Number) metadataValue).longValue());
+        }
+        if (metadataValue instanceof Number number) {
+            return value(number.doubleValue());
+        }
+        if (metadataValue instanceof Boolean bool) {
+            return value(bool);
+        }
+        return value(metadataValue.toString());
+    }
+}
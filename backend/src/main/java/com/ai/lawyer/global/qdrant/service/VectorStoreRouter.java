@@ -0,0 +1,186 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 문서 type(판례/법령)에 따라 벡터 저장소를 고르는 라우터
+ * <p>
+ * 분리 모드가 꺼져 있으면 모든 요청을 기본 저장소로 보낸다.
+ * 분리 모드에서는 type별 저장소(Qdrant 별칭)로 보내 검색 그래프가 다른 type 문서와 섞이지 않게 한다.
+ * 검색 시 type 필터는 그대로 유지하므로 별칭이 아직 단일 컬렉션을 가리키거나 복제본으로 전환되어도 결과가 같다.
+ * 재임베딩으로 별칭을 교체한 type은 새 저장소와 함께 그 컬렉션의 임베딩 모델도 기록해, 쓰기 경로가 같은 모델로 임베딩하도록 한다.
+ */
+@Slf4j
+public class VectorStoreRouter {
+
+    public static final String TYPE_KEY = "type";
+
+    private final VectorStore defaultStore;
+    private final Map<String, VectorStore> partitions;
+    private final UnaryOperator<VectorStore> decorator;
+    private final Map<String, DualWriteTarget> dualWrites = new ConcurrentHashMap<>();
+    private final Map<String, CachingEmbeddingModel> models = new ConcurrentHashMap<>(); // type -> 설정과 다른 문서 임베딩 모델
+
+    /**
+     * @param defaultStore 기본 저장소
+     * @param partitions type -> 저장소 (비어 있으면 분리하지 않음)
+     */
+    public VectorStoreRouter(VectorStore defaultStore, Map<String, VectorStore> partitions) {
+        this(defaultStore, partitions, UnaryOperator.identity());
+    }
+
+    /**
+     * @param defaultStore 기본 저장소
+     * @param partitions type -> 저장소 (이미 decorator를 적용한 저장소)
+     * @param decorator type별 저장소를 감싸는 함수 (복제본 장애 전환 등, 교체할 저장소에도 같은 방식으로 적용)
+     */
+    public VectorStoreRouter(VectorStore defaultStore, Map<String, VectorStore> partitions, UnaryOperator<VectorStore> decorator) {
+        this.defaultStore = defaultStore;
+        this.partitions = new ConcurrentHashMap<>(partitions);
+        this.decorator = decorator;
+    }
+
+    /**
+     * 분리 없이 기본 저장소만 사용하는 라우터
+     */
+    public static VectorStoreRouter single(VectorStore vectorStore) {
+        return new VectorStoreRouter(vectorStore, Map.of());
+    }
+
+    public boolean isPartitioned() {
+        return !partitions.isEmpty();
+    }
+
+    /**
+     * type에 해당하는 저장소 (없으면 기본 저장소)
+     */
+    public VectorStore forType(String type) {
+        return type != null ? partitions.getOrDefault(type, defaultStore) : defaultStore;
+    }
+
+    /**
+     * 검색 필터(key = value)에 해당하는 저장소
+     */
+    public VectorStore forFilter(String key, String value) {
+        return TYPE_KEY.equals(key) ? forType(value) : defaultStore;
+    }
+
+    /**
+     * 문서를 type별 저장소에 나누어 저장 (마이그레이션 중이면 새 컬렉션에도 저장)
+     */
+    public void add(List<Document> documents) {
+        Map<String, List<Document>> byType = new LinkedHashMap<>();
+        for (Document document : documents) {
+            Object type = document.getMetadata().get(TYPE_KEY);
+            byType.computeIfAbsent(type != null ? type.toString() : null, key -> new ArrayList<>()).add(document);
+        }
+
+        byType.forEach((type, group) -> forType(type).add(group));
+        addToDualWriteTargets(documents);
+    }
+
+    /**
+     * 이중 저장 중인 type 문서만 새 컬렉션에 저장 (기본 저장은 호출자가 직접 한 경우)
+     */
+    public void addToDualWriteTargets(List<Document> documents) {
+        if (dualWrites.isEmpty()) {
+            return;
+        }
+        Map<String, List<Document>> byType = new LinkedHashMap<>();
+        for (Document document : documents) {
+            Object type = document.getMetadata().get(TYPE_KEY);
+            if (type != null && dualWrites.containsKey(type.toString())) {
+                byType.computeIfAbsent(type.toString(), key -> new ArrayList<>()).add(document);
+            }
+        }
+        byType.forEach((type, group) -> {
+            DualWriteTarget target = dualWrites.get(type);
+            if (target != null) {
+                target.store().add(group);
+            }
+        });
+    }
+
+    /**
+     * type 문서를 이중 저장 중인 대상 (계산된 벡터를 직접 저장하거나 삭제를 함께 보낼 때 사용)
+     */
+    public Optional<DualWriteTarget> dualWriteTarget(String type) {
+        return type != null ? Optional.ofNullable(dualWrites.get(type)) : Optional.empty();
+    }
+
+    /**
+     * 기동 시 type별 저장소에 적용한 것과 같은 방식으로 저장소를 감쌈
+     */
+    public VectorStore decorate(VectorStore store) {
+        return decorator.apply(store);
+    }
+
+    /**
+     * type별 저장소 교체 (비교 검색 저장소 적용/해제처럼 임베딩 모델이 그대로인 경우)
+     *
+     * @return 이전 저장소 (분리 모드가 아니거나 없는 type이면 null)
+     */
+    public VectorStore replace(String type, VectorStore store) {
+        if (!partitions.containsKey(type)) {
+            return null;
+        }
+        return partitions.put(type, store);
+    }
+
+    /**
+     * 별칭 교체 후 type별 저장소와 문서 임베딩 모델을 함께 교체
+     *
+     * @param store 새 모델로 검색하는 저장소 (decorate 적용 전)
+     * @param documentModel 새 모델 문서 임베딩 (null이면 설정된 기본 모델 사용)
+     * @return 이전 저장소 (분리 모드가 아니거나 없는 type이면 null)
+     */
+    public VectorStore replace(String type, VectorStore store, CachingEmbeddingModel documentModel) {
+        if (!partitions.containsKey(type)) {
+            return null;
+        }
+        if (documentModel != null) {
+            models.put(type, documentModel);
+        } else {
+            models.remove(type);
+        }
+        return partitions.put(type, decorate(store));
+    }
+
+    /**
+     * type 문서를 임베딩할 모델 (별칭 교체로 설정과 다른 모델을 쓰는 type만 값이 있음)
+     */
+    public Optional<CachingEmbeddingModel> documentModel(String type) {
+        return type != null ? Optional.ofNullable(models.get(type)) : Optional.empty();
+    }
+
+    /**
+     * 마이그레이션 동안 해당 type 문서를 새 컬렉션에도 저장 (삭제도 함께 반영)
+     */
+    public void startDualWrite(String type, DualWriteTarget target) {
+        dualWrites.put(type, target);
+        log.info("'{}' 문서 이중 저장 시작 -> {}", type, target.collection());
+    }
+
+    public void stopDualWrite(String type) {
+        if (dualWrites.remove(type) != null) {
+            log.info("'{}' 문서 이중 저장 종료", type);
+        }
+    }
+
+    /**
+     * 이중 저장 대상
+     *
+     * @param collection 새 컬렉션 이름
+     * @param store 새 컬렉션 저장소 (새 컬렉션의 임베딩 모델로 임베딩)
+     * @param sameModel 기본 저장소와 같은 임베딩 모델이면 true (이미 계산된 벡터를 그대로 저장)
+     */
+    public record DualWriteTarget(String collection, VectorStore store, boolean sameModel) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기본 저장소(Qdrant) 검색이 실패하면 로컬 HNSW 복제본으로 검색하는 VectorStore
+ * <p>
+ * 쓰기는 항상 기본 저장소로만 보내며, 복제본은 FallbackReplicaSynchronizer가 주기적으로 다시 채운다.
+ */
+@Slf4j
+public class FailoverVectorStore implements VectorStore {
+
+    private final VectorStore primary;
+    private final HnswVectorStore replica;
+    private final Counter fallbackCounter;
+
+    public FailoverVectorStore(VectorStore primary, HnswVectorStore replica, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.fallbackCounter = Counter.builder("vectorstore.fallback")
+                .description("기본 벡터 저장소 장애로 복제본에서 처리한 검색 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        primary.add(documents);
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        primary.delete(idList);
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        primary.delete(filterExpression);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        try {
+            return primary.similaritySearch(request);
+        } catch (RuntimeException e) {
+            if (replica.size() == 0) {
+                throw e;
+            }
+            log.warn("기본 벡터 저장소 검색 실패. 로컬 복제본으로 검색합니다. cause: {}", e.getMessage());
+            fallbackCounter.increment();
+            return replica.similaritySearch(request);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return primary.getName();
+    }
+
+    @Override
+    public <T> Optional<T> getNativeClient() {
+        return primary.getNativeClient();
+    }
+
+    public VectorStore getPrimary() {
+        return primary;
+    }
+
+    public HnswVectorStore getReplica() {
+        return replica;
+    }
+}
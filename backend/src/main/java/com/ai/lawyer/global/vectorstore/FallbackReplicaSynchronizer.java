@@ -0,0 +1,101 @@
+package com.ai.lawyer.global.vectorstore;
+
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.service.QdrantPointScanner;
+import io.qdrant.client.grpc.Points.RetrievedPoint;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Qdrant 컬렉션을 로컬 HNSW 복제본으로 복사
+ * <p>
+ * 저장된 벡터를 그대로 가져오므로 임베딩을 다시 계산하지 않는다.
+ * 동기화 도중 Qdrant가 중단되면 기존 복제본(마지막 스냅샷)을 그대로 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.ai.vectorstore.fallback.enabled", havingValue = "true")
+public class FallbackReplicaSynchronizer {
+
+    private static final int SCAN_PAGE_SIZE = 256;
+
+    private final VectorStore vectorStore;
+    private final ObjectProvider<QdrantPointScanner> qdrantPointScanner;
+    private final ObjectProvider<QdrantCollectionManager> qdrantCollectionManager;
+    private final LocalVectorStoreProperties properties;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vectorstore-replica-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleSync() {
+        LocalVectorStoreProperties.Fallback fallback = properties.getFallback();
+        long interval = fallback.getSyncIntervalMinutes();
+        long initialDelay = fallback.isSyncOnStartup() ? 0 : interval;
+
+        if (interval > 0) {
+            scheduler.scheduleWithFixedDelay(this::sync, initialDelay, interval, TimeUnit.MINUTES);
+        } else if (fallback.isSyncOnStartup()) {
+            scheduler.execute(this::sync);
+        }
+    }
+
+    /**
+     * Qdrant 컬렉션 전체를 읽어 복제본을 교체
+     */
+    public void sync() {
+        QdrantPointScanner scanner = qdrantPointScanner.getIfAvailable();
+        QdrantCollectionManager collectionManager = qdrantCollectionManager.getIfAvailable();
+        if (!(vectorStore instanceof FailoverVectorStore failover) || scanner == null || collectionManager == null) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            HnswVectorStore.Rebuild rebuild = failover.getReplica().rebuild();
+            long count = 0;
+            for (String collection : collectionManager.searchableCollections()) {
+                count += scanner.scan(collection, true, SCAN_PAGE_SIZE, points -> {
+                    for (RetrievedPoint point : points) {
+                        rebuild.add(QdrantPointScanner.toDocument(point), toVector(point));
+                    }
+                });
+            }
+            rebuild.commit();
+            log.info("벡터 저장소 복제본 동기화 완료. 포인트 수: {}, 소요 시간: {}ms", count, System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("벡터 저장소 복제본 동기화 실패. 기존 복제본을 유지합니다. cause: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static float[] toVector(RetrievedPoint point) {
+        List<Float> data = point.getVectors().getVector().getDataList();
+        float[] vector = new float[data.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = data.get(i);
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.nio.file.Path;
+
+/**
+ * 자동 구성된 Qdrant VectorStore 빈을 FailoverVectorStore로 감싸는 후처리기
+ * <p>
+ * 복제본을 별도 VectorStore 빈으로 등록하면 Qdrant 자동 구성(@ConditionalOnMissingBean)이 꺼지므로,
+ * 복제본은 빈이 아닌 래퍼 내부 객체로 만든다.
+ */
+@RequiredArgsConstructor
+public class FallbackVectorStorePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<EmbeddingModel> embeddingModel;
+    private final ObjectProvider<LocalVectorStoreProperties> properties;
+    private final ObjectProvider<VectorQuantizationProperties> quantization;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof VectorStore primary) || bean instanceof HnswVectorStore || bean instanceof FailoverVectorStore) {
+            return bean;
+        }
+        LocalVectorStoreProperties settings = properties.getObject();
+        HnswVectorStore replica = new HnswVectorStore(embeddingModel.getObject(), settings.getHnsw(), quantization.getObject(),
+                Path.of(settings.getFallback().getPath()), true);
+        replica.registerMetrics(meterRegistry.getObject(), "replica");
+        return new FailoverVectorStore(primary, replica, meterRegistry.getObject());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ai.lawyer.global.vectorstore;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * 원본(정규화된) float 벡터 저장소
+ * <p>
+ * 스냅샷에서 복원할 때는 메모리 맵 영역을 그대로 참조해(힙 복사 없음) 필요한 페이지만 OS가 읽어 오고,
+ * 이후 추가된 벡터만 힙 배열에 보관한다. 매핑 영역 하나는 2GB를 넘을 수 없으므로 노드 단위로 나눈 여러 영역을 참조한다.
+ */
+final class FloatVectors {
+
+    private final int dimensions;
+    private final FloatBuffer[] mapped;
+    private final int nodesPerRegion;
+    private final int mappedCount;
+    private float[] heap;
+    private int heapCount;
+
+    FloatVectors(int dimensions) {
+        this(dimensions, new FloatBuffer[0], 1, 0);
+    }
+
+    private FloatVectors(int dimensions, FloatBuffer[] mapped, int nodesPerRegion, int mappedCount) {
+        this.dimensions = dimensions;
+        this.mapped = mapped;
+        this.nodesPerRegion = nodesPerRegion;
+        this.mappedCount = mappedCount;
+        this.heap = new float[dimensions * 16];
+    }
+
+    /**
+     * 메모리 맵 영역을 참조하는 저장소 생성
+     *
+     * @param mapped 노드 순서대로 연속 저장된 벡터 영역 목록 (마지막 영역을 빼면 영역마다 nodesPerRegion개)
+     * @param nodesPerRegion 영역 하나에 담긴 벡터 수
+     * @param count 전체 영역에 담긴 벡터 수
+     */
+    static FloatVectors mapped(int dimensions, FloatBuffer[] mapped, int nodesPerRegion, int count) {
+        return new FloatVectors(dimensions, mapped, nodesPerRegion, count);
+    }
+
+    void add(float[] vector) {
+        int required = (heapCount + 1) * dimensions;
+        if (heap.length < required) {
+            heap = Arrays.copyOf(heap, Math.max(required, heap.length * 2));
+        }
+        System.arraycopy(vector, 0, heap, heapCount * dimensions, dimensions);
+        heapCount++;
+    }
+
+    float dot(float[] query, int node) {
+        float dot = 0;
+        if (node < mappedCount) {
+            FloatBuffer region = mapped[node / nodesPerRegion];
+            int base = node % nodesPerRegion * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                dot += query[i] * region.get(base + i);
+            }
+        } else {
+            int base = (node - mappedCount) * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                dot += query[i] * heap[base + i];
+            }
+        }
+        return dot;
+    }
+
+    float[] get(int node) {
+        float[] vector = new float[dimensions];
+        if (node < mappedCount) {
+            mapped[node / nodesPerRegion].get(node % nodesPerRegion * dimensions, vector);
+        } else {
+            System.arraycopy(heap, (node - mappedCount) * dimensions, vector, 0, dimensions);
+        }
+        return vector;
+    }
+
+    long heapBytes() {
+        return (long) heap.length * Float.BYTES;
+    }
+}
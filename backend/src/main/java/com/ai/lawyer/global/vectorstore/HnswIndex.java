@@ -0,0 +1,323 @@
+package com.ai.lawyer.global.vectorstore;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * 코사인 유사도 기반 HNSW 그래프 색인
+ * <p>
+ * 벡터는 정규화 후 VectorStorage(float / int8 / binary)에 저장하고, 이웃 목록은 노드별 int 배열로 관리한다.
+ * 양자화 시 그래프 탐색은 양자화 거리로 하고, 원본이 있으면 후보를 oversampling 배 더 뽑아 원본 거리로 재채점한다.
+ * 삭제는 표시만 하며(검색 결과에서 제외) 그래프 탐색 경로로는 계속 사용한다.
+ * 삭제 표시가 쌓이면 호출자(HnswVectorStore)가 살아 있는 노드만으로 새 색인을 구성해 교체한다.
+ * 동기화는 호출자(HnswVectorStore)가 담당한다.
+ */
+final class HnswIndex {
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final double oversampling;
+    private final Random random = new Random(42);
+
+    VectorStorage storage;
+    int[][][] links;        // links[node][level] = 이웃 노드 번호 목록 (길이 = 이웃 수)
+    BitSet deleted = new BitSet();
+    int size;
+    int entryPoint = -1;
+    int maxLevel = -1;
+
+    HnswIndex(int dimensions, int m, int efConstruction) {
+        this(dimensions, m, efConstruction, VectorStorage.create(QuantizationType.NONE, dimensions, null), 1);
+    }
+
+    /**
+     * @param storage 벡터 저장 방식
+     * @param oversampling 재채점 시 추가로 뽑을 후보 배수 (원본이 없으면 무시)
+     */
+    HnswIndex(int dimensions, int m, int efConstruction, VectorStorage storage, double oversampling) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.storage = storage;
+        this.oversampling = Math.max(1, oversampling);
+        this.links = new int[16][][];
+    }
+
+    /**
+     * 양자화 설정에 맞는 빈 색인 생성
+     */
+    static HnswIndex create(int dimensions, LocalVectorStoreProperties.Hnsw settings, VectorQuantizationProperties quantization) {
+        boolean keepOriginals = quantization.getType() == QuantizationType.NONE || quantization.isRescore();
+        VectorStorage storage = VectorStorage.create(quantization.getType(), dimensions,
+                keepOriginals ? new FloatVectors(dimensions) : null);
+        return new HnswIndex(dimensions, settings.getM(), settings.getEfConstruction(), storage, quantization.getOversampling());
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    int m() {
+        return m;
+    }
+
+    /**
+     * 벡터 추가
+     *
+     * @param vector 원본 벡터 (내부에서 정규화한 복사본 저장)
+     * @return 노드 번호
+     */
+    int add(float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다. expected=" + dimensions + ", actual=" + vector.length);
+        }
+        float[] normalized = normalize(vector);
+        int node = size;
+        ensureCapacity(node + 1);
+        storage.add(normalized, true);
+        return link(node, normalized);
+    }
+
+    /**
+     * 저장소에 추가된 새 노드를 그래프에 연결
+     */
+    private int link(int node, float[] normalized) {
+        VectorStorage.Scorer scorer = storage.exactScorer(normalized);
+
+        int level = (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        links[node] = new int[level + 1][];
+        Arrays.fill(links[node], new int[0]);
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedyClosest(scorer, current, layer);
+        }
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(scorer, current, efConstruction, layer, null);
+            int maxNeighbors = layer == 0 ? maxM0 : m;
+            int[] neighbors = candidates.stream().limit(m).mapToInt(Candidate::node).toArray();
+            links[node][layer] = neighbors;
+            for (int neighbor : neighbors) {
+                connect(neighbor, node, layer, maxNeighbors);
+            }
+            current = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+        return node;
+    }
+
+    void markDeleted(int node) {
+        deleted.set(node);
+    }
+
+    boolean isDeleted(int node) {
+        return deleted.get(node);
+    }
+
+    /**
+     * 삭제 표시된 노드 수
+     */
+    int deletedCount() {
+        return deleted.cardinality();
+    }
+
+    /**
+     * 노드의 정규화된 벡터 (원본이 없으면 양자화 값을 복원한 근사 벡터)
+     */
+    float[] vector(int node) {
+        return storage.vector(node);
+    }
+
+    /**
+     * 근사 최근접 이웃 검색
+     *
+     * @param query 질의 벡터
+     * @param topK 반환할 최대 노드 수
+     * @param ef 탐색 후보 수 (클수록 정확하지만 느림)
+     * @param filter 결과로 허용할 노드 조건 (null이면 삭제되지 않은 모든 노드)
+     * @return 유사도 내림차순 후보 목록
+     */
+    List<Candidate> search(float[] query, int topK, int ef, IntPredicate filter) {
+        if (entryPoint < 0) {
+            return Collections.emptyList();
+        }
+        VectorStorage.Scorer scorer = storage.scorer(normalize(query));
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            current = greedyClosest(scorer, current, layer);
+        }
+        IntPredicate accept = node -> !deleted.get(node) && (filter == null || filter.test(node));
+
+        if (!(storage instanceof VectorStorage.Full) && storage.hasOriginals()) {
+            // 양자화 거리로 후보를 넉넉히 뽑은 뒤 원본 벡터로 재채점
+            int candidates = (int) Math.ceil(topK * oversampling);
+            List<Candidate> rescored = searchLayer(scorer, current, Math.max(ef, candidates), 0, accept).stream()
+                    .limit(candidates)
+                    .map(candidate -> new Candidate(candidate.node(), scorer.exactDistance(candidate.node())))
+                    .sorted(Comparator.comparingDouble(Candidate::distance))
+                    .toList();
+            return rescored.size() > topK ? rescored.subList(0, topK) : rescored;
+        }
+        List<Candidate> results = searchLayer(scorer, current, Math.max(ef, topK), 0, accept);
+        return results.size() > topK ? results.subList(0, topK) : results;
+    }
+
+    /**
+     * 조건에 맞는 노드만 전수 비교 (필터가 매우 선택적일 때 그래프 탐색보다 빠르고 정확함)
+     */
+    List<Candidate> exactSearch(float[] query, int topK, IntPredicate filter) {
+        VectorStorage.Scorer scorer = storage.scorer(normalize(query));
+        PriorityQueue<Candidate> best = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+        for (int node = 0; node < size; node++) {
+            if (deleted.get(node) || (filter != null && !filter.test(node))) {
+                continue;
+            }
+            best.add(new Candidate(node, scorer.exactDistance(node)));
+            if (best.size() > topK) {
+                best.poll();
+            }
+        }
+        List<Candidate> results = new ArrayList<>(best);
+        results.sort(Comparator.comparingDouble(Candidate::distance));
+        return results;
+    }
+
+    /**
+     * 벡터 + 이웃 목록이 차지하는 힙 메모리 근사치 (메모리 맵 영역 제외)
+     */
+    long heapBytes() {
+        long bytes = storage.heapBytes();
+        for (int node = 0; node < size; node++) {
+            for (int[] layer : links[node]) {
+                bytes += 16 + (long) layer.length * Integer.BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int greedyClosest(VectorStorage.Scorer scorer, int start, int layer) {
+        int current = start;
+        float currentDistance = scorer.distance(current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : neighbors(current, layer)) {
+                float d = scorer.distance(neighbor);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Candidate> searchLayer(VectorStorage.Scorer scorer, int entry, int ef, int layer, IntPredicate accept) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+
+        Candidate first = new Candidate(entry, scorer.distance(entry));
+        visited.set(entry);
+        candidates.add(first);
+        if (accept == null || accept.test(entry)) {
+            results.add(first);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (results.size() >= ef && closest.distance() > results.peek().distance()) {
+                break;
+            }
+            for (int neighbor : neighbors(closest.node(), layer)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float d = scorer.distance(neighbor);
+                if (results.size() < ef || d < results.peek().distance()) {
+                    candidates.add(new Candidate(neighbor, d));
+                    if (accept == null || accept.test(neighbor)) {
+                        results.add(new Candidate(neighbor, d));
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        return sorted;
+    }
+
+    private void connect(int node, int neighbor, int layer, int maxNeighbors) {
+        int[] current = links[node][layer];
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = neighbor;
+        if (extended.length > maxNeighbors) {
+            // 가장 가까운 이웃만 남김
+            VectorStorage.Scorer scorer = storage.exactScorer(storage.vector(node));
+            extended = Arrays.stream(extended).boxed()
+                    .sorted(Comparator.comparingDouble(scorer::distance))
+                    .limit(maxNeighbors)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        links[node][layer] = extended;
+    }
+
+    private int[] neighbors(int node, int layer) {
+        int[][] nodeLinks = links[node];
+        return layer < nodeLinks.length ? nodeLinks[layer] : new int[0];
+    }
+
+    private void ensureCapacity(int nodes) {
+        if (links.length < nodes) {
+            links = Arrays.copyOf(links, Math.max(nodes, links.length * 2));
+        }
+    }
+
+    static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = norm > 0 ? (float) (vector[i] / norm) : 0;
+        }
+        return normalized;
+    }
+
+    /**
+     * 검색 후보 (distance = 1 - 코사인 유사도)
+     */
+    record Candidate(int node, float distance) {
+
+        double similarity() {
+            return 1 - distance;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.ai.lawyer.global.vectorstore;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.ai.document.Document;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HNSW 색인을 메모리 맵 파일로 저장/복원
+ * <p>
+ * 파일 구조: 헤더 | 벡터(float) | 노드별 이웃 목록 | 노드별 문서(id, 본문, 메타데이터 JSON)
+ * 재기동 시 임베딩을 다시 계산하지 않고 파일을 그대로 매핑해 읽는다.
+ * 양자화 값은 저장하지 않고 복원 시 원본 벡터에서 다시 계산하므로, 설정만 바꿔 재기동하면 양자화 방식을 바꿀 수 있다.
+ * 양자화 + 재채점 + originalsOnDisk 설정이면 원본 벡터는 힙으로 복사하지 않고 매핑된 영역을 그대로 참조한다.
+ * 저장은 임시 파일에 쓴 뒤 원자적으로 교체하므로 저장 중 장애가 나도 이전 스냅샷이 유지된다.
+ * 매핑 영역 하나는 2GB를 넘을 수 없으므로 파일을 여러 영역으로 나눠 차례로 매핑한다.
+ */
+final class HnswIndexFile {
+
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 7 * Integer.BYTES;
+    private static final int REGION_BYTES = 1 << 30; // 매핑 영역 하나의 최대 크기 (MappedByteBuffer는 2GB 미만만 가능)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private HnswIndexFile() {
+    }
+
+    /**
+     * 스냅샷 저장
+     *
+     * @param path 저장 경로
+     * @param index HNSW 색인
+     * @param documents 노드 번호별 문서 (삭제된 노드는 null)
+     */
+    static void write(Path path, HnswIndex index, List<Document> documents) throws IOException {
+        write(path, index, documents, REGION_BYTES);
+    }
+
+    static void write(Path path, HnswIndex index, List<Document> documents, int regionBytes) throws IOException {
+        int size = index.size;
+        byte[][] encoded = new byte[size][];
+        long total = HEADER_BYTES + (long) size * index.dimensions() * Float.BYTES;
+
+        for (int node = 0; node < size; node++) {
+            total += 1 + Integer.BYTES;
+            for (int[] layer : index.links[node]) {
+                total += Integer.BYTES + (long) layer.length * Integer.BYTES;
+            }
+            encoded[node] = encode(index.isDeleted(node) ? null : documents.get(node));
+            total += Integer.BYTES + encoded[node].length;
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Regions out = new Regions(channel, FileChannel.MapMode.READ_WRITE, total, regionBytes);
+            out.require(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putInt(index.dimensions()).putInt(index.m())
+                    .putInt(size).putInt(index.entryPoint).putInt(index.maxLevel);
+
+            int vectorBytes = index.dimensions() * Float.BYTES;
+            for (int node = 0; node < size; node++) {
+                ByteBuffer buffer = out.require(vectorBytes);
+                buffer.asFloatBuffer().put(index.storage.vector(node));
+                buffer.position(buffer.position() + vectorBytes);
+            }
+
+            for (int node = 0; node < size; node++) {
+                out.require(1 + Integer.BYTES).put((byte) (index.isDeleted(node) ? 1 : 0)).putInt(index.links[node].length);
+                for (int[] layer : index.links[node]) {
+                    ByteBuffer buffer = out.require(Integer.BYTES * (1 + layer.length)).putInt(layer.length);
+                    for (int neighbor : layer) {
+                        buffer.putInt(neighbor);
+                    }
+                }
+            }
+            for (byte[] document : encoded) {
+                out.require(Integer.BYTES + document.length).putInt(document.length).put(document);
+            }
+            out.finish();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 복원
+     *
+     * @param path 저장 경로
+     * @param settings HNSW 설정 (이후 추가되는 노드에 사용)
+     * @param quantization 양자화 설정
+     * @return 복원된 색인과 문서 목록
+     */
+    static Loaded read(Path path, LocalVectorStoreProperties.Hnsw settings, VectorQuantizationProperties quantization) throws IOException {
+        return read(path, settings, quantization, REGION_BYTES);
+    }
+
+    static Loaded read(Path path, LocalVectorStoreProperties.Hnsw settings, VectorQuantizationProperties quantization,
+                       int regionBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Regions in = new Regions(channel, FileChannel.MapMode.READ_ONLY, channel.size(), regionBytes);
+            ByteBuffer header = in.require(HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("지원하지 않는 색인 파일 형식입니다: " + path);
+            }
+            int dimensions = header.getInt();
+            int m = header.getInt();
+            int size = header.getInt();
+
+            int entryPoint = header.getInt();
+            int maxLevel = header.getInt();
+
+            // 벡터 영역은 노드 경계로 나눠 영역별로 매핑 (원본을 디스크에 둘 때 그대로 참조)
+            int vectorBytes = dimensions * Float.BYTES;
+            int nodesPerRegion = Math.max(1, regionBytes / vectorBytes);
+            FloatBuffer[] vectorRegions = new FloatBuffer[(size + nodesPerRegion - 1) / nodesPerRegion];
+            for (int region = 0; region < vectorRegions.length; region++) {
+                int count = Math.min(nodesPerRegion, size - region * nodesPerRegion);
+                vectorRegions[region] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + (long) region * nodesPerRegion * vectorBytes, (long) count * vectorBytes).asFloatBuffer();
+            }
+            in.skip((long) size * vectorBytes);
+
+            QuantizationType type = quantization.getType();
+            boolean mapOriginals = type != QuantizationType.NONE && quantization.isRescore() && quantization.isOriginalsOnDisk();
+            boolean keepOriginals = type == QuantizationType.NONE || quantization.isRescore();
+            FloatVectors originals = mapOriginals ? FloatVectors.mapped(dimensions, vectorRegions, nodesPerRegion, size)
+                    : keepOriginals ? new FloatVectors(dimensions) : null;
+            VectorStorage storage = VectorStorage.create(type, dimensions, originals);
+
+            float[] vector = new float[dimensions];
+            for (int node = 0; node < size; node++) {
+                vectorRegions[node / nodesPerRegion].get(node % nodesPerRegion * dimensions, vector);
+                storage.add(vector, !mapOriginals);
+            }
+
+            HnswIndex index = new HnswIndex(dimensions, m, settings.getEfConstruction(), storage, quantization.getOversampling());
+            index.entryPoint = entryPoint;
+            index.maxLevel = maxLevel;
+            index.size = size;
+            index.links = new int[Math.max(size, 16)][][];
+
+            for (int node = 0; node < size; node++) {
+                ByteBuffer buffer = in.require(1 + Integer.BYTES);
+                if (buffer.get() == 1) {
+                    index.markDeleted(node);
+                }
+                int[][] layers = new int[buffer.getInt()][];
+                for (int layer = 0; layer < layers.length; layer++) {
+                    layers[layer] = new int[in.require(Integer.BYTES).getInt()];
+                    in.require(layers[layer].length * Integer.BYTES).asIntBuffer().get(layers[layer]);
+                    in.skip((long) layers[layer].length * Integer.BYTES);
+                }
+                index.links[node] = layers;
+            }
+
+            List<Document> documents = new ArrayList<>(size);
+            for (int node = 0; node < size; node++) {
+                byte[] bytes = new byte[in.require(Integer.BYTES).getInt()];
+                in.require(bytes.length).get(bytes);
+                documents.add(decode(bytes));
+            }
+            return new Loaded(index, documents);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static byte[] encode(Document document) throws IOException {
+        if (document == null) {
+            return new byte[0];
+        }
+        byte[] id = document.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] text = (document.getText() != null ? document.getText() : "").getBytes(StandardCharsets.UTF_8);
+        byte[] metadata = OBJECT_MAPPER.writeValueAsBytes(document.getMetadata());
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES + id.length + text.length + metadata.length);
+        buffer.putInt(id.length).put(id).putInt(text.length).put(text).putInt(metadata.length).put(metadata);
+        return buffer.array();
+    }
+
+    private static Document decode(byte[] bytes) throws IOException {
+        if (bytes.length == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        String id = readString(buffer);
+        String text = readString(buffer);
+        byte[] metadata = new byte[buffer.getInt()];
+        buffer.get(metadata);
+        return Document.builder()
+                .id(id)
+                .text(text)
+                .metadata(OBJECT_MAPPER.readValue(metadata, METADATA_TYPE))
+                .build();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    record Loaded(HnswIndex index, List<Document> documents) {
+    }
+
+    /**
+     * 파일을 최대 regionBytes 크기의 영역으로 나눠 차례로 매핑하며 순차 읽기/쓰기
+     * <p>
+     * 요청한 크기가 현재 영역에 남아 있지 않으면 현재 위치부터 새 영역을 매핑하므로, 한 번에 요청하는 크기는 regionBytes 이하여야 한다.
+     */
+    private static final class Regions {
+
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long limit;
+        private final int regionBytes;
+        private MappedByteBuffer buffer;
+        private long base; // 현재 영역의 파일 내 시작 위치
+
+        private Regions(FileChannel channel, FileChannel.MapMode mode, long limit, int regionBytes) {
+            this.channel = channel;
+            this.mode = mode;
+            this.limit = limit;
+            this.regionBytes = regionBytes;
+        }
+
+        /**
+         * 현재 위치부터 bytes 바이트를 읽거나 쓸 수 있는 버퍼 반환 (버퍼의 position을 옮기며 사용)
+         */
+        private ByteBuffer require(int bytes) throws IOException {
+            if (buffer == null || buffer.remaining() < bytes) {
+                long position = position();
+                if (position + bytes > limit) {
+                    throw new IOException("색인 파일이 손상되었습니다. position: " + position + ", 필요: " + bytes);
+                }
+                finish();
+                buffer = channel.map(mode, position, Math.min(Math.max(regionBytes, bytes), limit - position));
+                base = position;
+            }
+            return buffer;
+        }
+
+        private void skip(long bytes) {
+            long target = position() + bytes;
+            if (buffer != null && target - base <= buffer.limit()) {
+                buffer.position((int) (target - base));
+            } else {
+                buffer = null;
+                base = target;
+            }
+        }
+
+        private long position() {
+            return base + (buffer != null ? buffer.position() : 0);
+        }
+
+        private void finish() {
+            if (buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+                buffer.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 프로세스 내 HNSW 그래프 기반 VectorStore
+ * <p>
+ * Qdrant 없이 로컬 개발/CI에서 실제 검색을 수행하거나, Qdrant 장애 시 읽기 전용 복제본으로 사용한다.
+ * 메타데이터 필터(type, caseNumber 등)는 값별 노드 목록으로 만족하는 노드를 구해 그래프 탐색 중 적용하며,
+ * 필터를 만족하는 문서가 적으면 전수 비교로 전환한다.
+ * 변경분은 주기적으로 메모리 맵 파일에 저장되어 재기동 시 임베딩 없이 바로 복원된다.
+ * 삭제/대체된 노드는 표시만 해 두었다가, 삭제 표시 비율이 compactDeletedRatio를 넘으면 살아 있는 문서만으로 색인을 다시 구성한다.
+ */
+@Slf4j
+public class HnswVectorStore implements VectorStore, DisposableBean {
+
+    private final EmbeddingModel embeddingModel;
+    private final LocalVectorStoreProperties.Hnsw settings;
+    private final VectorQuantizationProperties quantization;
+    private final Path path;
+    private final boolean readOnly;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock persistLock = new ReentrantLock(); // 주기 저장, 재구성 커밋, 종료 시 저장이 같은 임시 파일에 동시에 쓰지 않도록
+    private final ScheduledExecutorService flusher;
+    private State state;    // 생성자에서 초기화 (State가 settings를 사용)
+    private volatile boolean dirty;
+
+    /**
+     * @param embeddingModel 문서/질의 임베딩 모델 (Qdrant 적재 시와 같은 모델이어야 함)
+     * @param settings HNSW 설정
+     * @param quantization 벡터 양자화 설정
+     * @param path 스냅샷 파일 경로 (null이면 저장하지 않음)
+     * @param readOnly true면 add/delete를 거부하고 rebuild()로만 내용을 교체 (복제본 용도)
+     */
+    public HnswVectorStore(EmbeddingModel embeddingModel, LocalVectorStoreProperties.Hnsw settings,
+                           VectorQuantizationProperties quantization, Path path, boolean readOnly) {
+        this.embeddingModel = embeddingModel;
+        this.settings = settings;
+        this.quantization = quantization;
+        this.path = path;
+        this.readOnly = readOnly;
+        this.state = new State();
+        load();
+
+        if (path != null && settings.getFlushIntervalSeconds() > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "hnsw-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushIfDirty,
+                    settings.getFlushIntervalSeconds(), settings.getFlushIntervalSeconds(), TimeUnit.SECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        checkWritable();
+        if (documents.isEmpty()) {
+            return;
+        }
+        add(documents, embeddingModel.embed(documents.stream().map(Document::getText).toList()));
+    }
+
+    /**
+     * 이미 계산된 임베딩으로 문서 추가 (임베딩 캐시를 거친 벡터화 쓰기 경로용)
+     *
+     * @param documents 문서 목록
+     * @param embeddings 문서 순서와 같은 임베딩 목록
+     */
+    public void add(List<Document> documents, List<float[]> embeddings) {
+        checkWritable();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++) {
+                state.upsert(documents.get(i), embeddings.get(i));
+            }
+            compactIfNeeded();
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        checkWritable();
+        lock.writeLock().lock();
+        try {
+            idList.forEach(state::remove);
+            compactIfNeeded();
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        List<String> ids;
+        lock.readLock().lock();
+        try {
+            if (state.index == null) {
+                return;
+            }
+            ids = select(filterExpression).stream()
+                    .mapToObj(node -> state.documents.get(node).getId())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        delete(ids);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        float[] query = embeddingModel.embed(request.getQuery());
+
+        lock.readLock().lock();
+        try {
+            if (state.index == null) {
+                return Collections.emptyList();
+            }
+            List<HnswIndex.Candidate> candidates = search(query, request.getTopK(), request.getFilterExpression());
+
+            List<Document> results = new ArrayList<>(candidates.size());
+            for (HnswIndex.Candidate candidate : candidates) {
+                if (candidate.similarity() < request.getSimilarityThreshold()) {
+                    continue;
+                }
+                Document document = state.documents.get(candidate.node());
+                results.add(Document.builder()
+                        .id(document.getId())
+                        .text(document.getText())
+                        .metadata(document.getMetadata())
+                        .score(candidate.similarity())
+                        .build());
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return readOnly ? "HnswVectorStore(replica)" : "HnswVectorStore";
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.idToNode.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터와 그래프가 차지하는 힙 메모리 근사치 (메모리 맵 영역 제외)
+     */
+    public long heapBytes() {
+        lock.readLock().lock();
+        try {
+            return state.index != null ? state.index.heapBytes() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 노드 중 삭제 표시된 노드 비율 (0이면 압축할 것이 없음)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return state.deletedRatio();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 수/삭제 표시 비율 게이지 등록
+     *
+     * @param role 저장소 구분 태그 (primary, replica)
+     */
+    public void registerMetrics(MeterRegistry meterRegistry, String role) {
+        Gauge.builder("vectorstore.hnsw.documents", this, HnswVectorStore::size)
+                .description("HNSW 저장소 문서 수")
+                .tag("store", role)
+                .register(meterRegistry);
+        Gauge.builder("vectorstore.hnsw.deleted.ratio", this, HnswVectorStore::deletedRatio)
+                .description("HNSW 색인 노드 중 삭제 표시된 비율 (compactDeletedRatio를 넘으면 재구성)")
+                .tag("store", role)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 저장된 모든 문서 (어휘 색인 적재 등에 사용)
+     */
+    public List<Document> documents() {
+        lock.readLock().lock();
+        try {
+            return state.documents.stream().filter(Objects::nonNull).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이미 계산된 벡터로 전체 내용을 교체하는 작업 시작 (복제본 동기화용)
+     * <p>
+     * 새 색인은 기존 색인과 별도로 구성되며, commit() 시점에 한 번에 교체되므로 그동안 검색은 기존 색인을 사용한다.
+     */
+    public Rebuild rebuild() {
+        return new Rebuild();
+    }
+
+    /**
+     * 변경분을 스냅샷 파일에 저장
+     */
+    public void persist() {
+        if (path == null) {
+            return;
+        }
+        persistLock.lock();
+        lock.readLock().lock();
+        try {
+            if (state.index == null) {
+                return;
+            }
+            dirty = false;
+            long startTime = System.currentTimeMillis();
+            HnswIndexFile.write(path, state.index, state.documents);
+            log.debug("HNSW 색인 저장 완료. path: {}, 문서 수: {}, 소요 시간: {}ms",
+                    path, state.idToNode.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("HNSW 색인 저장 실패. path: {}", path, e);
+        } finally {
+            lock.readLock().unlock();
+            persistLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            // 진행 중인 주기 저장은 인터럽트하지 않고(파일 채널이 닫힘) 끝날 때까지 대기
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(60, TimeUnit.SECONDS)) {
+                    log.warn("HNSW 색인 주기 저장이 종료 대기 시간 안에 끝나지 않았습니다. path: {}", path);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushIfDirty();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private List<HnswIndex.Candidate> search(float[] query, int topK, Filter.Expression filter) {
+        if (filter == null) {
+            return state.index.search(query, topK, settings.getEfSearch(), null);
+        }
+
+        BitSet matching = select(filter);
+        IntPredicate accept = matching::get;
+
+        // 사건번호처럼 선택적인 필터는 그래프 탐색보다 전수 비교가 빠르고 정확함
+        if (matching.cardinality() <= settings.getExactSearchThreshold()) {
+            return state.index.exactSearch(query, topK, accept);
+        }
+        return state.index.search(query, topK, settings.getEfSearch(), accept);
+    }
+
+    /**
+     * 필터를 만족하는 살아 있는 노드 (읽기 잠금 안에서 호출)
+     */
+    private BitSet select(Filter.Expression filter) {
+        BitSet live = new BitSet(state.index.size);
+        live.set(0, state.index.size);
+        live.andNot(state.index.deleted);
+        return state.postings.select(filter, live, node -> state.documents.get(node).getMetadata());
+    }
+
+    private void load() {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            HnswIndexFile.Loaded loaded = HnswIndexFile.read(path, settings, quantization);
+            State restored = new State();
+            restored.index = loaded.index();
+            restored.documents = new ArrayList<>(loaded.documents());
+            for (int node = 0; node < restored.documents.size(); node++) {
+                Document document = restored.documents.get(node);
+                if (document != null) {
+                    restored.idToNode.put(document.getId(), node);
+                    restored.postings.add(node, document.getMetadata());
+                }
+            }
+            this.state = restored;
+            compactIfNeeded();
+            log.info("HNSW 색인 복원 완료. path: {}, 문서 수: {}, 소요 시간: {}ms",
+                    path, restored.idToNode.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            log.error("HNSW 색인 복원 실패. 빈 색인으로 시작합니다. path: {}", path, e);
+        }
+    }
+
+    /**
+     * 삭제 표시가 일정 수/비율을 넘으면 살아 있는 문서만으로 색인을 다시 구성 (쓰기 잠금 안에서 호출)
+     * <p>
+     * 저장된 벡터를 그대로 옮기므로 임베딩은 다시 계산하지 않는다.
+     */
+    private void compactIfNeeded() {
+        if (state.index == null) {
+            return;
+        }
+        int dead = state.index.deletedCount();
+        if (dead < settings.getCompactMinDeleted() || state.deletedRatio() < settings.getCompactDeletedRatio()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        State compacted = new State();
+        for (int node = 0; node < state.documents.size(); node++) {
+            Document document = state.documents.get(node);
+            if (document != null) {
+                compacted.upsert(document, state.index.vector(node));
+            }
+        }
+        state = compacted;
+        log.info("HNSW 색인 압축 완료. 제거한 노드 수: {}, 문서 수: {}, 소요 시간: {}ms",
+                dead, compacted.idToNode.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void flushIfDirty() {
+        if (dirty) {
+            persist();
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("읽기 전용 벡터 저장소입니다: " + getName());
+        }
+    }
+
+    /**
+     * 색인 + 노드별 문서 + 문서 id 매핑
+     */
+    private final class State {
+        private HnswIndex index;
+        private List<Document> documents = new ArrayList<>();
+        private final Map<String, Integer> idToNode = new HashMap<>();
+        private final MetadataPostings postings = new MetadataPostings(settings.getFilterIndexFields());
+
+        private void upsert(Document document, float[] vector) {
+            if (index == null) {
+                index = HnswIndex.create(vector.length, settings, quantization);
+            }
+            remove(document.getId());
+            int node = index.add(vector);
+            documents.add(Document.builder()
+                    .id(document.getId())
+                    .text(document.getText())
+                    .metadata(document.getMetadata())
+                    .build());
+            idToNode.put(document.getId(), node);
+            postings.add(node, document.getMetadata());
+        }
+
+        private double deletedRatio() {
+            return index == null || index.size == 0 ? 0 : (double) index.deletedCount() / index.size;
+        }
+
+        private void remove(String id) {
+            Integer node = idToNode.remove(id);
+            if (node != null) {
+                index.markDeleted(node);
+                documents.set(node, null);
+            }
+        }
+    }
+
+    /**
+     * 전체 교체 작업
+     */
+    public final class Rebuild {
+
+        private final State next = new State();
+
+        private Rebuild() {
+        }
+
+        public void add(Document document, float[] vector) {
+            next.upsert(document, vector);
+        }
+
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                state = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            persist();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ai.lawyer.global.vectorstore;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "custom.ai.vectorstore")
+@Getter
+@Setter
+public class LocalVectorStoreProperties {
+
+    private Hnsw hnsw = new Hnsw();
+    private Fallback fallback = new Fallback();
+
+    @Getter
+    @Setter
+    public static class Hnsw {
+        private String path = "./data/vectorstore/legal_cases.hnsw";  // 메모리 맵 스냅샷 파일
+        private int m = 16;                        // 노드당 이웃 수 (0층은 2배)
+        private int efConstruction = 200;          // 색인 구성 시 탐색 후보 수
+        private int efSearch = 64;                 // 검색 시 탐색 후보 수
+        private int exactSearchThreshold = 2000;   // 필터를 만족하는 문서가 이 이하이면 전수 비교
+        private long flushIntervalSeconds = 60;    // 변경분을 파일에 저장하는 주기 (0이면 종료 시에만)
+        private List<String> filterIndexFields = List.of("type", "caseNumber"); // 값별 노드 목록을 유지할 필터 필드
+        private double compactDeletedRatio = 0.3;  // 삭제 표시 비율이 이 이상이면 살아 있는 문서로 색인 재구성
+        private int compactMinDeleted = 1000;      // 삭제 표시가 이 수 미만이면 비율과 무관하게 압축하지 않음
+    }
+
+    @Getter
+    @Setter
+    public static class Fallback {
+        private boolean enabled = false;           // Qdrant 장애 시 로컬 읽기 전용 복제본으로 검색
+        private String path = "./data/vectorstore/legal_cases-replica.hnsw";
+        private boolean syncOnStartup = true;      // 기동 후 Qdrant 컬렉션을 복제본으로 복사
+        private long syncIntervalMinutes = 60;     // 복제본 재동기화 주기 (0이면 기동 시에만)
+    }
+}
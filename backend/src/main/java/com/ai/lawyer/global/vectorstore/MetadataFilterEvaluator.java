@@ -0,0 +1,93 @@
+package com.ai.lawyer.global.vectorstore;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Spring AI 필터 표현식을 문서 메타데이터에 직접 적용
+ * <p>
+ * EQ / NE / GT / GTE / LT / LTE / IN / NIN / AND / OR / NOT 을 지원한다.
+ * 숫자는 숫자끼리, 그 외 값은 문자열로 비교한다 (예: chunkIndex 1 == 1L).
+ */
+public final class MetadataFilterEvaluator {
+
+    private MetadataFilterEvaluator() {
+    }
+
+    /**
+     * @param expression 필터 표현식 (null이면 항상 true)
+     * @param metadata 문서 메타데이터
+     * @return 조건 만족 여부
+     */
+    public static boolean test(Filter.Expression expression, Map<String, Object> metadata) {
+        if (expression == null) {
+            return true;
+        }
+        return switch (expression.type()) {
+            case AND -> evaluate(expression.left(), metadata) && evaluate(expression.right(), metadata);
+            case OR -> evaluate(expression.left(), metadata) || evaluate(expression.right(), metadata);
+            case NOT -> !evaluate(expression.left(), metadata);
+            case EQ -> compare(expression, metadata, result -> result == 0);
+            case NE -> !compare(expression, metadata, result -> result == 0);
+            case GT -> compare(expression, metadata, result -> result > 0);
+            case GTE -> compare(expression, metadata, result -> result >= 0);
+            case LT -> compare(expression, metadata, result -> result < 0);
+            case LTE -> compare(expression, metadata, result -> result <= 0);
+            case IN -> contains(expression, metadata);
+            case NIN -> !contains(expression, metadata);
+            default -> throw new IllegalArgumentException("지원하지 않는 필터 연산입니다: " + expression.type());
+        };
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static boolean evaluate(Filter.Operand operand, Map<String, Object> metadata) {
+        if (operand instanceof Filter.Group group) {
+            return test(group.content(), metadata);
+        }
+        if (operand instanceof Filter.Expression expression) {
+            return test(expression, metadata);
+        }
+        throw new IllegalArgumentException("논리 연산의 피연산자는 표현식이어야 합니다: " + operand);
+    }
+
+    /**
+     * 값 비교 (메타데이터 키가 없으면 어떤 조건도 만족하지 않는 것으로 처리)
+     */
+    private static boolean compare(Filter.Expression expression, Map<String, Object> metadata, IntPredicate condition) {
+        Object actual = metadata.get(key(expression));
+        Object expected = ((Filter.Value) expression.right()).value();
+        return actual != null && condition.test(compareValues(actual, expected));
+    }
+
+    private static boolean contains(Filter.Expression expression, Map<String, Object> metadata) {
+        Object actual = metadata.get(key(expression));
+        Object expected = ((Filter.Value) expression.right()).value();
+        if (actual == null) {
+            return false;
+        }
+        if (expected instanceof Collection<?> values) {
+            return values.stream().anyMatch(value -> compareValues(actual, value) == 0);
+        }
+        return compareValues(actual, expected) == 0;
+    }
+
+    private static int compareValues(Object actual, Object expected) {
+        if (actual instanceof Number a && expected instanceof Number b) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return String.valueOf(actual).compareTo(String.valueOf(expected));
+    }
+
+    static String key(Filter.Expression expression) {
+        String key = ((Filter.Key) expression.left()).key();
+        // 문자열 필터("'type' == '판례'")로 만든 키는 따옴표가 붙어 있을 수 있음
+        if (key.length() >= 2 && (key.startsWith("'") && key.endsWith("'") || key.startsWith("\"") && key.endsWith("\""))) {
+            return key.substring(1, key.length() - 1);
+        }
+        return key;
+    }
+}
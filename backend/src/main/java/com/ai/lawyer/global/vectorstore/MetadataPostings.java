@@ -0,0 +1,171 @@
+package com.ai.lawyer.global.vectorstore;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * 메타데이터 필드 값별 노드 목록 (필터 검색 시 전체 문서를 훑지 않고 조건을 만족하는 노드를 바로 구함)
+ * <p>
+ * 노드 번호는 추가 순서로만 늘어나므로 값별 목록은 정렬된 int 배열로 시작하고,
+ * type처럼 값을 가진 노드가 많아지면 비트셋으로 바꾼다. 삭제된 노드는 목록에서 빼지 않고 후보(살아 있는 노드)와의 교집합으로 거른다.
+ * 색인하지 않은 필드나 범위 비교는 이미 좁혀진 후보에 대해서만 메타데이터를 직접 평가한다.
+ */
+final class MetadataPostings {
+
+    private static final int DENSE_MIN_SIZE = 64;
+
+    private final Set<String> fields;
+    private final Map<String, Map<String, Posting>> postings = new HashMap<>();
+
+    /**
+     * @param fields 값별 노드 목록을 만들 메타데이터 필드
+     */
+    MetadataPostings(Collection<String> fields) {
+        this.fields = Set.copyOf(fields);
+    }
+
+    void add(int node, Map<String, Object> metadata) {
+        for (String field : fields) {
+            Object value = metadata.get(field);
+            if (value != null) {
+                postings.computeIfAbsent(field, key -> new HashMap<>())
+                        .computeIfAbsent(String.valueOf(value), key -> new Posting())
+                        .add(node);
+            }
+        }
+    }
+
+    /**
+     * 필터를 만족하는 노드 선택
+     *
+     * @param expression 필터 표현식
+     * @param candidates 후보 노드 (변경하지 않음)
+     * @param metadataOf 노드별 메타데이터 (색인하지 않은 조건 평가용)
+     * @return 후보 중 조건을 만족하는 노드
+     */
+    BitSet select(Filter.Expression expression, BitSet candidates, IntFunction<Map<String, Object>> metadataOf) {
+        return switch (expression.type()) {
+            case AND -> {
+                Filter.Expression left = operand(expression.left());
+                Filter.Expression right = operand(expression.right());
+                // 색인된 조건을 먼저 적용해 나머지 조건은 좁혀진 후보에만 평가
+                if (!isIndexed(left) && isIndexed(right)) {
+                    yield select(left, select(right, candidates, metadataOf), metadataOf);
+                }
+                yield select(right, select(left, candidates, metadataOf), metadataOf);
+            }
+            case OR -> {
+                BitSet result = select(operand(expression.left()), candidates, metadataOf);
+                result.or(select(operand(expression.right()), candidates, metadataOf));
+                yield result;
+            }
+            case NOT -> {
+                BitSet result = (BitSet) candidates.clone();
+                result.andNot(select(operand(expression.left()), candidates, metadataOf));
+                yield result;
+            }
+            default -> isIndexed(expression)
+                    ? lookup(expression, candidates)
+                    : scan(expression, candidates, metadataOf);
+        };
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 색인된 필드의 EQ / IN 조건인지 확인
+     * <p>
+     * 숫자끼리는 수치로 비교하므로(1 == 1.0) 문자열 키로 찾을 수 있는 숫자가 아닌 값만 대상으로 한다.
+     */
+    private boolean isIndexed(Filter.Expression expression) {
+        if (expression.type() != Filter.ExpressionType.EQ && expression.type() != Filter.ExpressionType.IN) {
+            return false;
+        }
+        if (!(expression.left() instanceof Filter.Key) || !fields.contains(MetadataFilterEvaluator.key(expression))) {
+            return false;
+        }
+        return values(expression).stream().noneMatch(value -> value == null || value instanceof Number);
+    }
+
+    private BitSet lookup(Filter.Expression expression, BitSet candidates) {
+        BitSet result = new BitSet();
+        Map<String, Posting> byValue = postings.getOrDefault(MetadataFilterEvaluator.key(expression), Map.of());
+        for (Object value : values(expression)) {
+            Posting posting = byValue.get(String.valueOf(value));
+            if (posting != null) {
+                posting.collect(candidates, result);
+            }
+        }
+        return result;
+    }
+
+    private static BitSet scan(Filter.Expression expression, BitSet candidates, IntFunction<Map<String, Object>> metadataOf) {
+        BitSet result = new BitSet();
+        for (int node = candidates.nextSetBit(0); node >= 0; node = candidates.nextSetBit(node + 1)) {
+            if (MetadataFilterEvaluator.test(expression, metadataOf.apply(node))) {
+                result.set(node);
+            }
+        }
+        return result;
+    }
+
+    private static Collection<?> values(Filter.Expression expression) {
+        Object value = ((Filter.Value) expression.right()).value();
+        return value instanceof Collection<?> collection ? collection : Collections.singletonList(value);
+    }
+
+    private static Filter.Expression operand(Filter.Operand operand) {
+        if (operand instanceof Filter.Group group) {
+            return group.content();
+        }
+        if (operand instanceof Filter.Expression expression) {
+            return expression;
+        }
+        throw new IllegalArgumentException("논리 연산의 피연산자는 표현식이어야 합니다: " + operand);
+    }
+
+    /**
+     * 한 값을 가진 노드 목록 (드물면 int 배열, 많아지면 비트셋)
+     */
+    private static final class Posting {
+        private int[] nodes = new int[4];
+        private int size;
+        private BitSet bits;
+
+        private void add(int node) {
+            if (bits != null) {
+                bits.set(node);
+                return;
+            }
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            nodes[size++] = node;
+
+            // 노드 32개 중 1개 이상이 이 값을 가지면 비트셋이 int 배열보다 작음
+            if (size >= DENSE_MIN_SIZE && (long) size * Integer.SIZE > node) {
+                bits = new BitSet(node + 1);
+                for (int i = 0; i < size; i++) {
+                    bits.set(nodes[i]);
+                }
+                nodes = null;
+            }
+        }
+
+        private void collect(BitSet candidates, BitSet result) {
+            if (bits != null) {
+                BitSet matched = (BitSet) bits.clone();
+                matched.and(candidates);
+                result.or(matched);
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                if (candidates.get(nodes[i])) {
+                    result.set(nodes[i]);
+                }
+            }
+        }
+    }
+}
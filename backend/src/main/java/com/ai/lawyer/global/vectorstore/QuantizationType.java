@@ -0,0 +1,10 @@
+package com.ai.lawyer.global.vectorstore;
+
+/**
+ * 벡터 양자화 방식
+ */
+public enum QuantizationType {
+    NONE,   // float32 그대로 저장
+    INT8,   // 차원당 1바이트 (약 1/4 크기)
+    BINARY  // 차원당 1비트 (약 1/32 크기), 원본 벡터로 재채점 권장
+}
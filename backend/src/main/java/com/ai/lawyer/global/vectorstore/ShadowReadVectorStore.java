@@ -0,0 +1,103 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 저장소 결과를 그대로 반환하면서, 일부 검색을 새 저장소(재임베딩 컬렉션)에도 보내 결과를 비교하는 VectorStore
+ * <p>
+ * 비교는 응답 이후 별도 스레드에서 수행하며, 두 결과의 상위 문서 id 겹침 비율을 vectorstore.shadow.overlap으로 기록한다.
+ */
+@Slf4j
+public class ShadowReadVectorStore implements VectorStore {
+
+    @Getter
+    private final VectorStore primary;
+    private final VectorStore shadow;
+    private final double sampleRate;
+    private final DistributionSummary overlap;
+    private final Counter shadowErrors;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param primary 실제 응답에 쓰는 저장소
+     * @param shadow 비교 대상 저장소
+     * @param sampleRate 비교할 검색 비율 (0 ~ 1)
+     * @param meterRegistry 메트릭 등록
+     * @param type 문서 type (메트릭 태그)
+     */
+    public ShadowReadVectorStore(VectorStore primary, VectorStore shadow, double sampleRate,
+                                 MeterRegistry meterRegistry, String type) {
+        this.primary = primary;
+        this.shadow = shadow;
+        this.sampleRate = sampleRate;
+        this.overlap = DistributionSummary.builder("vectorstore.shadow.overlap")
+                .description("기본 저장소와 새 저장소 검색 결과의 상위 문서 겹침 비율")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.shadowErrors = Counter.builder("vectorstore.shadow.errors")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        primary.add(documents);
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        primary.delete(idList);
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        primary.delete(filterExpression);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        List<Document> results = primary.similaritySearch(request);
+        if (results != null && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            executor.execute(() -> compare(request, results));
+        }
+        return results;
+    }
+
+    @Override
+    public String getName() {
+        return "ShadowRead(" + primary.getName() + ")";
+    }
+
+    private void compare(SearchRequest request, List<Document> expected) {
+        try {
+            Set<String> shadowIds = shadow.similaritySearch(request).stream()
+                    .map(Document::getId)
+                    .collect(Collectors.toSet());
+            if (expected.isEmpty()) {
+                return;
+            }
+            long hits = expected.stream().filter(document -> shadowIds.contains(document.getId())).count();
+            double ratio = (double) hits / expected.size();
+            overlap.record(ratio);
+            log.debug("새 저장소 비교 검색. 겹침 비율: {}, query: {}", ratio, request.getQuery());
+        } catch (RuntimeException e) {
+            shadowErrors.increment();
+            log.debug("새 저장소 비교 검색 실패. cause: {}", e.getMessage());
+        }
+    }
+}
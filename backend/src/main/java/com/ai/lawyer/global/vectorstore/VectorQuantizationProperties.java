@@ -0,0 +1,23 @@
+package com.ai.lawyer.global.vectorstore;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 벡터 양자화 설정 (프로세스 내 HNSW 색인과 Qdrant 컬렉션에 공통 적용)
+ */
+@Component
+@ConfigurationProperties(prefix = "custom.ai.vectorstore.quantization")
+@Getter
+@Setter
+public class VectorQuantizationProperties {
+
+    private QuantizationType type = QuantizationType.NONE;
+    private boolean rescore = true;            // 양자화 후보를 원본 벡터로 재채점 (false면 원본을 보관하지 않음)
+    private double oversampling = 3.0;         // 재채점할 후보 배수 (topK * oversampling)
+    private boolean originalsOnDisk = true;    // 원본 벡터를 힙 대신 메모리 맵 파일/디스크에 둠
+    private float quantile = 0.99f;            // Qdrant int8 양자화 범위 계산 분위수
+    private boolean alwaysRam = true;          // Qdrant 양자화 벡터를 항상 메모리에 유지
+}
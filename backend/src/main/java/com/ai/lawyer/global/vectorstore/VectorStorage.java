@@ -0,0 +1,274 @@
+package com.ai.lawyer.global.vectorstore;
+
+import java.util.Arrays;
+
+/**
+ * HNSW 노드 벡터 저장 방식 (float / int8 / binary)
+ * <p>
+ * 그래프 탐색은 distance()(양자화 값)로, 최종 순위는 exactDistance()(원본이 있으면 원본)로 계산한다.
+ * 모든 벡터는 정규화된 상태로 전달되며 distance = 1 - 코사인 유사도 척도를 따른다.
+ */
+abstract class VectorStorage {
+
+    protected final int dimensions;
+    protected final FloatVectors originals;  // 재채점용 원본 (없으면 null)
+    protected int size;
+
+    protected VectorStorage(int dimensions, FloatVectors originals) {
+        this.dimensions = dimensions;
+        this.originals = originals;
+    }
+
+    /**
+     * @param type 양자화 방식
+     * @param dimensions 벡터 차원
+     * @param originals 원본 벡터 저장소 (NONE이면 필수, 그 외에는 재채점하지 않을 경우 null)
+     */
+    static VectorStorage create(QuantizationType type, int dimensions, FloatVectors originals) {
+        return switch (type) {
+            case NONE -> new Full(dimensions, originals != null ? originals : new FloatVectors(dimensions));
+            case INT8 -> new Int8(dimensions, originals);
+            case BINARY -> new Binary(dimensions, originals);
+        };
+    }
+
+    /**
+     * 벡터 추가 (원본 저장소가 메모리 맵에서 복원된 경우 원본은 이미 들어 있으므로 양자화 값만 추가)
+     */
+    final void add(float[] normalized, boolean appendOriginal) {
+        if (originals != null && appendOriginal) {
+            originals.add(normalized);
+        }
+        addQuantized(normalized);
+        size++;
+    }
+
+    boolean hasOriginals() {
+        return originals != null;
+    }
+
+    /**
+     * 파일 저장/이웃 정리에 사용할 벡터 (원본이 없으면 양자화 값을 복원한 근사 벡터)
+     */
+    float[] vector(int node) {
+        return originals != null ? originals.get(node) : dequantize(node);
+    }
+
+    abstract Scorer scorer(float[] normalizedQuery);
+
+    /**
+     * 원본 거리만 쓰는 계산기 (그래프 구성용: 원본이 있으면 양자화 오차 없이 이웃을 고른다)
+     */
+    Scorer exactScorer(float[] normalizedQuery) {
+        Scorer scorer = scorer(normalizedQuery);
+        if (originals == null) {
+            return scorer;
+        }
+        return new Scorer() {
+            @Override
+            public float distance(int node) {
+                return scorer.exactDistance(node);
+            }
+
+            @Override
+            public float exactDistance(int node) {
+                return scorer.exactDistance(node);
+            }
+        };
+    }
+
+    /**
+     * 벡터 저장에 사용하는 힙 메모리 (메모리 맵 영역 제외)
+     */
+    long heapBytes() {
+        return originals != null ? originals.heapBytes() : 0;
+    }
+
+    protected abstract void addQuantized(float[] normalized);
+
+    protected abstract float[] dequantize(int node);
+
+    /**
+     * 질의 하나에 대한 거리 계산기
+     */
+    interface Scorer {
+
+        float distance(int node);
+
+        float exactDistance(int node);
+    }
+
+    // ==================== 구현 ====================
+
+    static final class Full extends VectorStorage {
+
+        private Full(int dimensions, FloatVectors originals) {
+            super(dimensions, originals);
+        }
+
+        @Override
+        Scorer scorer(float[] query) {
+            return new Scorer() {
+                @Override
+                public float distance(int node) {
+                    return 1 - originals.dot(query, node);
+                }
+
+                @Override
+                public float exactDistance(int node) {
+                    return distance(node);
+                }
+            };
+        }
+
+        @Override
+        protected void addQuantized(float[] normalized) {
+        }
+
+        @Override
+        protected float[] dequantize(int node) {
+            return originals.get(node);
+        }
+    }
+
+    /**
+     * 벡터별 스케일(최대 절댓값 / 127)을 쓰는 int8 스칼라 양자화
+     * <p>
+     * 질의는 float 그대로 두고 저장 벡터만 양자화하는 비대칭 방식이라 정확도 손실이 작다.
+     */
+    static final class Int8 extends VectorStorage {
+
+        private byte[] codes;
+        private float[] scales;
+
+        private Int8(int dimensions, FloatVectors originals) {
+            super(dimensions, originals);
+            this.codes = new byte[dimensions * 16];
+            this.scales = new float[16];
+        }
+
+        @Override
+        Scorer scorer(float[] query) {
+            return new Scorer() {
+                @Override
+                public float distance(int node) {
+                    int base = node * dimensions;
+                    float dot = 0;
+                    for (int i = 0; i < dimensions; i++) {
+                        dot += query[i] * codes[base + i];
+                    }
+                    return 1 - dot * scales[node];
+                }
+
+                @Override
+                public float exactDistance(int node) {
+                    return originals != null ? 1 - originals.dot(query, node) : distance(node);
+                }
+            };
+        }
+
+        @Override
+        protected void addQuantized(float[] normalized) {
+            if (scales.length <= size) {
+                scales = Arrays.copyOf(scales, scales.length * 2);
+                codes = Arrays.copyOf(codes, scales.length * dimensions);
+            }
+            float maxAbs = 0;
+            for (float value : normalized) {
+                maxAbs = Math.max(maxAbs, Math.abs(value));
+            }
+            float scale = maxAbs > 0 ? maxAbs / 127 : 1;
+            int base = size * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                codes[base + i] = (byte) Math.round(normalized[i] / scale);
+            }
+            scales[size] = scale;
+        }
+
+        @Override
+        protected float[] dequantize(int node) {
+            float[] vector = new float[dimensions];
+            int base = node * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] = codes[base + i] * scales[node];
+            }
+            return vector;
+        }
+
+        @Override
+        long heapBytes() {
+            return super.heapBytes() + codes.length + (long) scales.length * Float.BYTES;
+        }
+    }
+
+    /**
+     * 부호 비트만 저장하는 이진 양자화 (해밍 거리로 각도를 근사)
+     */
+    static final class Binary extends VectorStorage {
+
+        private final int words;
+        private long[] bits;
+
+        private Binary(int dimensions, FloatVectors originals) {
+            super(dimensions, originals);
+            this.words = (dimensions + 63) / 64;
+            this.bits = new long[words * 16];
+        }
+
+        @Override
+        Scorer scorer(float[] query) {
+            long[] queryBits = toBits(query);
+            return new Scorer() {
+                @Override
+                public float distance(int node) {
+                    int base = node * words;
+                    int hamming = 0;
+                    for (int i = 0; i < words; i++) {
+                        hamming += Long.bitCount(queryBits[i] ^ bits[base + i]);
+                    }
+                    // 부호가 다른 비율 -> 각도 근사 -> 1 - cos
+                    return (float) (1 - Math.cos(Math.PI * hamming / dimensions));
+                }
+
+                @Override
+                public float exactDistance(int node) {
+                    return originals != null ? 1 - originals.dot(query, node) : distance(node);
+                }
+            };
+        }
+
+        @Override
+        protected void addQuantized(float[] normalized) {
+            if (bits.length < (size + 1) * words) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+            System.arraycopy(toBits(normalized), 0, bits, size * words, words);
+        }
+
+        @Override
+        protected float[] dequantize(int node) {
+            float[] vector = new float[dimensions];
+            float magnitude = (float) (1 / Math.sqrt(dimensions));
+            for (int i = 0; i < dimensions; i++) {
+                boolean positive = (bits[node * words + i / 64] & (1L << (i % 64))) != 0;
+                vector[i] = positive ? magnitude : -magnitude;
+            }
+            return vector;
+        }
+
+        @Override
+        long heapBytes() {
+            return super.heapBytes() + (long) bits.length * Long.BYTES;
+        }
+
+        private long[] toBits(float[] vector) {
+            long[] result = new long[words];
+            for (int i = 0; i < dimensions; i++) {
+                if (vector[i] > 0) {
+                    result[i / 64] |= 1L << (i % 64);
+                }
+            }
+            return result;
+        }
+    }
+}
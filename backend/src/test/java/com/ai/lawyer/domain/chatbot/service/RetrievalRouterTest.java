@@ -0,0 +1,89 @@
+package com.ai.lawyer.domain.chatbot.service;
+
+import com.ai.lawyer.domain.chatbot.dto.RetrievalRoute;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.lawWord.repository.LawWordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetrievalRouter 테스트")
+class RetrievalRouterTest {
+
+    @Mock
+    private LawRepository lawRepository;
+
+    @Mock
+    private LawWordRepository lawWordRepository;
+
+    private RetrievalRouter retrievalRouter;
+
+    @BeforeEach
+    void setUp() {
+        given(lawRepository.findAllLawNames()).willReturn(List.of("민법", "주택임대차보호법"));
+        given(lawWordRepository.findAllWords()).willReturn(List.of("선박"));
+
+        LegalTermDictionary dictionary = new LegalTermDictionary(lawRepository, lawWordRepository);
+        dictionary.refresh();
+
+        retrievalRouter = new RetrievalRouter(dictionary, new LegalIntentClassifier(null, false),
+                new SimpleMeterRegistry(), true, 10, 40);
+    }
+
+    @Test
+    @DisplayName("법률과 무관한 메시지는 검색을 생략한다")
+    void nonLegalMessage_SkipsRetrieval() {
+        assertThat(retrievalRouter.route("오늘 날씨 어때?", false)).isEqualTo(RetrievalRoute.NONE);
+        assertThat(retrievalRouter.route("안녕하세요", false)).isEqualTo(RetrievalRoute.NONE);
+    }
+
+    @Test
+    @DisplayName("사건번호만 언급하면 판례만 검색한다")
+    void caseNumber_RoutesToCases() {
+        assertThat(retrievalRouter.route("2020다12345 판결 내용 알려줘", false)).isEqualTo(RetrievalRoute.CASES);
+        assertThat(retrievalRouter.route("2019도 1234 사건 요지가 궁금해요", false)).isEqualTo(RetrievalRoute.CASES);
+        assertThat(retrievalRouter.route("2015헌마123 결정 알려줘", false)).isEqualTo(RetrievalRoute.CASES);
+    }
+
+    @Test
+    @DisplayName("날짜/금액/기간은 사건번호로 보지 않는다")
+    void datesAmountsAndPeriods_AreNotCaseNumbers() {
+        assertThat(retrievalRouter.route("2023년 5월에 임대차 계약을 했는데 집주인이 연락이 안 돼요", false))
+                .isNotEqualTo(RetrievalRoute.CASES);
+        assertThat(retrievalRouter.route("12월 25일까지 밀린 월급을 못 받았어요", false))
+                .isNotEqualTo(RetrievalRoute.CASES);
+        assertThat(retrievalRouter.route("보증금 5000만원 2년 계약인데 중간에 나가도 되나요?", false))
+                .isNotEqualTo(RetrievalRoute.CASES);
+        assertThat(retrievalRouter.route("근무한 지 3년 6개월 됐는데 퇴직금은 얼마인가요?", false))
+                .isNotEqualTo(RetrievalRoute.CASES);
+    }
+
+    @Test
+    @DisplayName("조문을 인용하면 법령만 검색한다")
+    void article_RoutesToLaws() {
+        assertThat(retrievalRouter.route("민법 제750조 내용이 뭐야?", false)).isEqualTo(RetrievalRoute.LAWS);
+    }
+
+    @Test
+    @DisplayName("일반 법률 질문은 판례와 법령을 모두 검색한다")
+    void generalLegalQuestion_RoutesToBoth() {
+        assertThat(retrievalRouter.route("집주인이 전세 보증금을 돌려주지 않아요", false)).isEqualTo(RetrievalRoute.BOTH);
+    }
+
+    @Test
+    @DisplayName("이전 대화가 있는 짧은 후속 질문은 이전 검색 결과를 재사용한다")
+    void followUp_ReusesPreviousDocuments() {
+        assertThat(retrievalRouter.route("그럼 위자료도 받을 수 있나요?", true)).isEqualTo(RetrievalRoute.REUSE_PREVIOUS);
+        assertThat(retrievalRouter.route("그럼 위자료도 받을 수 있나요?", false)).isEqualTo(RetrievalRoute.BOTH);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ai.lawyer.domain.law.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LawController 테스트")
+class LawControllerTest {
+
+    @Test
+    @DisplayName("Accept-Encoding의 q값을 따라 gzip 허용 여부를 판단한다")
+    void acceptsGzip_FollowsQualityValues() {
+        assertThat(LawController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(LawController.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(LawController.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(LawController.acceptsGzip("x-gzip")).isTrue();
+
+        assertThat(LawController.acceptsGzip(null)).isFalse();
+        assertThat(LawController.acceptsGzip("identity")).isFalse();
+        assertThat(LawController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(LawController.acceptsGzip("gzip; q=0.000, deflate")).isFalse();
+        assertThat(LawController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(LawController.acceptsGzip("*;q=0")).isFalse();
+        assertThat(LawController.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ai.lawyer.domain.law.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ArticleNumber 테스트")
+class ArticleNumberTest {
+
+    @Test
+    @DisplayName("조문키에서 조 번호와 가지 번호를 추출한다")
+    void fromArticleKey() {
+        assertThat(ArticleNumber.fromArticleKey("0750001")).contains(new ArticleNumber(750, 0));
+        assertThat(ArticleNumber.fromArticleKey("0010021")).contains(new ArticleNumber(10, 2));
+        assertThat(ArticleNumber.fromArticleKey("000100")).isEmpty();
+        assertThat(ArticleNumber.fromArticleKey("0000001")).isEmpty();
+        assertThat(ArticleNumber.fromArticleKey(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 값과 조 본문 머리의 여러 표기를 해석한다")
+    void parseAndFromContent() {
+        assertThat(ArticleNumber.parse("750")).contains(new ArticleNumber(750, 0));
+        assertThat(ArticleNumber.parse("10-2")).contains(new ArticleNumber(10, 2));
+        assertThat(ArticleNumber.parse("제 10조의 2")).contains(new ArticleNumber(10, 2));
+        assertThat(ArticleNumber.parse("제750조(불법행위)")).isEmpty();
+        assertThat(ArticleNumber.fromContent("제750조(불법행위의 내용) 고의 또는 과실로")).contains(new ArticleNumber(750, 0));
+        assertThat(ArticleNumber.fromContent("제23조의2(해고의 예고)")).contains(new ArticleNumber(23, 2));
+        assertThat(ArticleNumber.fromContent("① 사용자는")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가지 번호까지 고려해 정렬하고 조문 표기로 변환한다")
+    void compareAndLabel() {
+        assertThat(new ArticleNumber(10, 2)).isGreaterThan(new ArticleNumber(10, 0)).isLessThan(new ArticleNumber(11, 0));
+        assertThat(new ArticleNumber(750, 0).label()).isEqualTo("제750조");
+        assertThat(new ArticleNumber(10, 2).label()).isEqualTo("제10조의2");
+    }
+}
@@ -0,0 +1,65 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.ai.lawyer.domain.law.entity.Jo;
+import com.ai.lawyer.domain.law.repository.JoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령 id 구간 예약 테스트")
+class LawIdAllocatorTest {
+
+    @Autowired
+    private LawIdAllocator lawIdAllocator;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("구간 예약과 엔티티 저장이 번갈아 일어나도 id가 겹치지 않고 예약 구간으로 INSERT할 수 있다")
+    void allocate_InterleavedWithEntitySave() {
+        Jo before = joRepository.saveAndFlush(jo("예약 전 저장"));
+        long first = lawIdAllocator.allocate(Map.of(LawBulkImporter.JO, 3)).get(LawBulkImporter.JO);
+        Jo after = joRepository.saveAndFlush(jo("예약 후 저장"));
+
+        assertThat(before.getId()).isNotBetween(first, first + 2);
+        assertThat(after.getId()).isNotBetween(first, first + 2).isNotEqualTo(before.getId());
+
+        // 일괄 적재처럼 예약한 id로 INSERT (엔티티 저장이 구간을 가져갔으면 키 충돌)
+        for (long id = first; id < first + 3; id++) {
+            jdbcTemplate.update("INSERT INTO jo (id, jang_id, content, ordinal) VALUES (?, NULL, ?, 0)", id, "예약 " + id);
+        }
+        Jo last = joRepository.saveAndFlush(jo("INSERT 후 저장"));
+        assertThat(last.getId()).isNotBetween(first, first + 2);
+    }
+
+    @Test
+    @DisplayName("0개는 예약하지 않는다")
+    void allocate_SkipsEmptyCounts() {
+        Map<String, Long> firstIds = lawIdAllocator.allocate(Map.of(LawBulkImporter.JO, 2, LawBulkImporter.HO, 0));
+
+        assertThat(firstIds).containsOnlyKeys(LawBulkImporter.JO);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Jo jo(String content) {
+        Jo jo = new Jo();
+        jo.setContent(content);
+        return jo;
+    }
+}
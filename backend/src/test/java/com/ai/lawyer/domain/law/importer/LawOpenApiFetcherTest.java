@@ -0,0 +1,219 @@
+package com.ai.lawyer.domain.law.importer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("LawOpenApiFetcher 테스트")
+class LawOpenApiFetcherTest {
+
+    private static final long DETAIL_DELAY_MILLIS = 200;
+
+    private HttpServer server;
+    private LawOpenApiProperties properties;
+
+    // 스텁 서버 상태
+    private volatile List<String> searchIds = List.of();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long detailDelayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/DRF/lawSearch.do", this::handleSearch);
+        server.createContext("/DRF/lawService.do", this::handleDetail);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        properties = new LawOpenApiProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/DRF");
+        properties.setRequestsPerSecond(1000);
+        properties.setBurst(100);
+        properties.setRetryBackoff(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("상세 조회는 concurrency개까지 동시에 진행되어 순차 조회보다 빠르다")
+    void fetch_Concurrent() throws InterruptedException {
+        searchIds = ids(8);
+        detailDelayMillis = DETAIL_DELAY_MILLIS;
+        properties.setConcurrency(4);
+
+        List<String> importedNames = new ArrayList<>();
+        LawFetchResult result = new LawOpenApiFetcher(properties, new LawDetailParser())
+                .fetch("테스트", parsed -> importedNames.add(parsed.law().getLawName()));
+
+        assertThat(result.found()).isEqualTo(8);
+        assertThat(result.imported()).isEqualTo(8);
+        assertThat(result.failed()).isZero();
+        assertThat(importedNames).containsExactlyInAnyOrderElementsOf(searchIds.stream().map(id -> "법령" + id).toList());
+        assertThat(maxInFlight.get()).isBetween(2, 4);
+        assertThat(result.elapsedMillis()).isLessThan(8 * DETAIL_DELAY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("동시 조회여도 초당 요청 수를 넘지 않는다")
+    void fetch_RateLimited() throws InterruptedException {
+        searchIds = ids(10);
+        properties.setRequestsPerSecond(20);
+        properties.setBurst(1);
+
+        LawFetchResult result = new LawOpenApiFetcher(properties, new LawDetailParser()).fetch("테스트", parsed -> {
+        });
+
+        // 검색 1 + 상세 10 = 요청 11개, 50ms 간격
+        assertThat(result.imported()).isEqualTo(10);
+        assertThat(result.elapsedMillis()).isGreaterThanOrEqualTo(450);
+    }
+
+    @Test
+    @DisplayName("5xx는 maxAttempts까지 재시도하고, 4xx와 JSON이 아닌 응답은 재시도하지 않고 실패로 센다")
+    void fetch_Retry() throws InterruptedException {
+        searchIds = List.of("flaky", "down", "missing", "html");
+        properties.setMaxAttempts(3);
+
+        LawFetchResult result = new LawOpenApiFetcher(properties, new LawDetailParser()).fetch("테스트", parsed -> {
+        });
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(requestCounts.get("flaky")).hasValue(2);
+        assertThat(requestCounts.get("down")).hasValue(3);
+        assertThat(requestCounts.get("missing")).hasValue(1);
+        assertThat(requestCounts.get("html")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("시간 초과도 재시도한다")
+    void fetch_RetryOnTimeout() throws InterruptedException {
+        searchIds = List.of("slow");
+        properties.setReadTimeout(Duration.ofMillis(100));
+        properties.setMaxAttempts(2);
+        detailDelayMillis = 300;
+
+        LawFetchResult result = new LawOpenApiFetcher(properties, new LawDetailParser()).fetch("테스트", parsed -> {
+        });
+
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(requestCounts.get("slow")).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("저장 실패는 실패로 세고 나머지 법령은 계속 저장한다")
+    void fetch_ImporterFailure() throws InterruptedException {
+        searchIds = ids(5);
+
+        LawFetchResult result = new LawOpenApiFetcher(properties, new LawDetailParser()).fetch("테스트", parsed -> {
+            if (parsed.law().getLawName().equals("법령3")) {
+                throw new IllegalStateException("저장 실패");
+            }
+        });
+
+        assertThat(result.imported()).isEqualTo(4);
+        assertThat(result.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상세 조회 작업이 Error로 끝나도 실패로 세고 기다리지 않고 끝난다")
+    void fetch_ErrorInDetail() {
+        searchIds = List.of("1", "broken", "3");
+        properties.setConcurrency(1);
+        LawDetailParser parser = new LawDetailParser() {
+            @Override
+            public ParsedLaw parse(InputStream json) throws IOException {
+                ParsedLaw parsed = super.parse(json);
+                if (parsed.law().getLawName().equals("법령broken")) {
+                    throw new AssertionError("파서 오류");
+                }
+                return parsed;
+            }
+        };
+
+        LawFetchResult result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> new LawOpenApiFetcher(properties, parser).fetch("테스트", parsed -> {
+                }));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static List<String> ids(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(String::valueOf).toList();
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        String laws = searchIds.stream()
+                .map(id -> "{\"법령ID\":\"" + id + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        respond(exchange, 200, "{\"LawSearch\":{\"law\":" + laws + "}}");
+    }
+
+    private void handleDetail(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getQuery().replaceAll(".*ID=([^&]*).*", "$1");
+        int count = requestCounts.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (detailDelayMillis > 0) {
+                Thread.sleep(detailDelayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        switch (id) {
+            case "flaky" -> respond(exchange, count == 1 ? 503 : 200, detail(id));
+            case "down" -> respond(exchange, 503, "{}");
+            case "missing" -> respond(exchange, 404, "{}");
+            case "html" -> respond(exchange, 200, "<html>점검 중</html>");
+            default -> respond(exchange, 200, detail(id));
+        }
+    }
+
+    private static String detail(String id) {
+        return "{\"법령\":{\"기본정보\":{\"법령명_한글\":\"법령" + id + "\",\"공포일자\":\"20240102\"}}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            // 시간 초과로 클라이언트가 먼저 끊은 경우
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.Hang;
+import com.ai.lawyer.domain.law.entity.Ho;
+import com.ai.lawyer.domain.law.entity.Jang;
+import com.ai.lawyer.domain.law.entity.Jo;
+import com.ai.lawyer.domain.law.entity.Law;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령 장별 본문 조회 테스트")
+class LawJangTextsTest {
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private JangRepository jangRepository;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private HangRepository hangRepository;
+
+    @Autowired
+    private HoRepository hoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("집합 쿼리 4번으로 만든 장별 본문이 엔티티를 계층마다 조회해 만든 본문과 같다")
+    void findJangTexts_MatchesPerEntityAssembly() {
+        Law labor = saveLaw("근로기준법");
+        Law civil = saveLaw("민법");
+
+        // 장/조는 순번과 id 순서가 다르도록 뒤 순번부터 저장하고, 두 법령의 행을 섞어서 저장
+        Jang contract = saveJang(labor, 1, "제2장 근로계약");
+        Jang civilFirst = saveJang(civil, 0, "제1편 총칙");
+        Jang preamble = saveJang(labor, 0, null); // 첫 장 제목 전에 나오는 조를 담는 장
+        saveJang(labor, 2, "제3장 임금");         // 조가 없는 장
+
+        saveJo(contract, 4, "제3조(근로조건)");
+        Jo definitions = saveJo(contract, 3, "제2조(정의)");
+        Hang terms = saveHang(definitions, "① 이 법에서 사용하는 용어");
+        saveHo(terms, "1. 근로자");
+        saveHo(terms, null);
+        saveHo(terms, "   ");
+        saveHo(terms, "2. 사용자");
+        Hang blankHang = saveHang(definitions, "");
+        saveHo(blankHang, "가. 그 밖의 용어");
+
+        saveJo(civilFirst, 0, "제1조(법원)");
+        saveJo(preamble, 1, " ");
+        Jo purpose = saveJo(preamble, 0, "제1조(목적)");
+        saveHang(purpose, "① 이 법은 근로조건의 기준을 정한다");
+        saveJo(preamble, 2, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<LawJangText> texts = lawRepository.findJangTexts(List.of(civil.getId(), labor.getId()));
+
+        List<LawJangText> expected = new ArrayList<>();
+        lawRepository.findAllById(List.of(labor.getId(), civil.getId())).stream()
+                .sorted(Comparator.comparing(Law::getId))
+                .forEach(law -> expected.addAll(assemblePerEntity(law)));
+        assertThat(texts).isEqualTo(expected);
+
+        List<LawJangText> laborTexts = texts.stream().filter(text -> text.lawId().equals(labor.getId())).toList();
+        assertThat(laborTexts).extracting(LawJangText::content).containsExactly(
+                "제1조(목적)\n① 이 법은 근로조건의 기준을 정한다\n",
+                "제2장 근로계약\n제2조(정의)\n① 이 법에서 사용하는 용어\n1. 근로자\n2. 사용자\n가. 그 밖의 용어\n제3조(근로조건)\n",
+                "제3장 임금\n");
+        assertThat(lawRepository.findJangTexts(List.of())).isEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 변경 전 벡터화 프로세서처럼 장 -> 조 -> 항 -> 호 엔티티를 부모마다 조회해 본문을 만듦
+     * (장/조는 순번, 항/호는 id 순서가 문서 순서)
+     */
+    private List<LawJangText> assemblePerEntity(Law law) {
+        List<LawJangText> texts = new ArrayList<>();
+        List<Jang> jangs = jangRepository.findByLaw(law).stream()
+                .sorted(Comparator.comparingInt(Jang::getOrdinal).thenComparing(Jang::getId))
+                .toList();
+        for (Jang jang : jangs) {
+            StringBuilder content = new StringBuilder();
+            append(content, jang.getContent());
+            List<Jo> jos = joRepository.findByJang(jang).stream()
+                    .sorted(Comparator.comparingInt(Jo::getOrdinal).thenComparing(Jo::getId))
+                    .toList();
+            for (Jo jo : jos) {
+                append(content, jo.getContent());
+                for (Hang hang : hangRepository.findByJo(jo).stream().sorted(Comparator.comparing(Hang::getId)).toList()) {
+                    append(content, hang.getContent());
+                    for (Ho ho : hoRepository.findByHang(hang).stream().sorted(Comparator.comparing(Ho::getId)).toList()) {
+                        append(content, ho.getContent());
+                    }
+                }
+            }
+            texts.add(new LawJangText(law.getId(), jang.getId(), content.toString()));
+        }
+        return texts;
+    }
+
+    private static void append(StringBuilder builder, String content) {
+        if (content != null && !content.isBlank()) {
+            builder.append(content).append("\n");
+        }
+    }
+
+    private Law saveLaw(String lawName) {
+        Law law = new Law();
+        law.setLawName(lawName);
+        return lawRepository.save(law);
+    }
+
+    private Jang saveJang(Law law, int ordinal, String content) {
+        Jang jang = new Jang();
+        jang.setLaw(law);
+        jang.setOrdinal(ordinal);
+        jang.setContent(content);
+        return jangRepository.save(jang);
+    }
+
+    private Jo saveJo(Jang jang, int ordinal, String content) {
+        Jo jo = new Jo();
+        jo.setJang(jang);
+        jo.setOrdinal(ordinal);
+        jo.setContent(content);
+        return joRepository.save(jo);
+    }
+
+    private Hang saveHang(Jo jo, String content) {
+        Hang hang = new Hang();
+        hang.setJo(jo);
+        hang.setContent(content);
+        return hangRepository.save(hang);
+    }
+
+    private void saveHo(Hang hang, String content) {
+        Ho ho = new Ho();
+        ho.setHang(hang);
+        ho.setContent(content);
+        hoRepository.save(ho);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
+import com.ai.lawyer.domain.law.dto.LawsDto;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.service.LawNameIndex;
+import com.ai.lawyer.domain.law.service.LawNameIndexProperties;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령명 검색 테스트")
+class LawNameSearchTest {
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("법령명 색인으로 찾은 결과와 LIKE 조회 결과가 공백/대소문자와 무관하게 같다")
+    void searchLaws_IndexAndLikeAgree() {
+        for (String lawName : List.of("근로기준법", "근로기준법 시행령", "개인정보 보호법", "개인정보보호법 시행규칙",
+                "민법", "ESG 경영 지원법", "esg경영 지원법 시행령")) {
+            Law law = new Law();
+            law.setLawName(lawName);
+            lawRepository.save(law);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        LawNameIndex index = new LawNameIndex(lawRepository, new LawNameIndexProperties());
+        index.loadAll();
+
+        for (String query : List.of("근로 기준", "기준법시행령", "정보 보호", "개인정보보호법", "Esg 경영", "esg경영지원", "법")) {
+            List<Long> indexed = index.findIds(query).orElseThrow();
+            assertThat(lawIds(lawRepository.searchLaws(searchRequest(query), indexed).getContent()))
+                    .as(query)
+                    .isNotEmpty()
+                    .isEqualTo(lawIds(lawRepository.searchLaws(searchRequest(query), null).getContent()));
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static LawSearchRequestDto searchRequest(String lawName) {
+        return LawSearchRequestDto.builder()
+                .lawName(lawName)
+                .pageNumber(0)
+                .pageSize(100)
+                .build();
+    }
+
+    private static List<Long> lawIds(List<LawsDto> laws) {
+        return laws.stream().map(LawsDto::getId).sorted().toList();
+    }
+}
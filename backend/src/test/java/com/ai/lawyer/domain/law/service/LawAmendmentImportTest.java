@@ -0,0 +1,239 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.importer.LawAmendmentImporter;
+import com.ai.lawyer.domain.law.importer.LawDetailParser;
+import com.ai.lawyer.domain.law.importer.ParsedLaw;
+import com.ai.lawyer.domain.law.repository.JoRepository;
+import com.ai.lawyer.domain.law.repository.LawArticleRepository;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령 개정본 갱신 테스트")
+class LawAmendmentImportTest {
+
+    private static final String LAW_API_ID = "009999";
+
+    @Autowired
+    private LawService lawService;
+
+    @Autowired
+    private LawAmendmentImporter lawAmendmentImporter;
+
+    @Autowired
+    private LawDetailParser lawDetailParser;
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private LawArticleRepository lawArticleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("바뀐 조만 갱신하고 법령 id와 나머지 조 id는 그대로 둔다")
+    void amend_ChangedJoOnly() throws Exception {
+        ObjectNode root = fixture("개정법", LAW_API_ID);
+        Long lawId = lawService.saveLawToDatabase(root.toString()).getId();
+        List<Long> joIdsBefore = joIds(lawId);
+
+        // 제3조 본문 개정
+        ((ObjectNode) units(root).get(3)).put("조문내용", "제3조(목적) 이 법은 개정된 테스트를 목적으로 한다.");
+        amended(root, "12346");
+        LawChangedEvent event = lawAmendmentImporter.amend(parse(root)).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(event.lawId()).isEqualTo(lawId);
+        assertThat(event.lawInfoChanged()).isTrue();
+        assertThat(event.changedJoIds()).containsExactly(joIdsBefore.get(2));
+        assertThat(event.removedJoIds()).isEmpty();
+        assertThat(event.removedJangIds()).isEmpty();
+        assertThat(joIds(lawId)).isEqualTo(joIdsBefore);
+        assertThat(lawRepository.findById(lawId).orElseThrow().getPromulgationNumber()).isEqualTo("12346");
+        assertThat(lawRepository.findAll()).filteredOn(law -> "개정법".equals(law.getLawName())).hasSize(1);
+        assertSameAsFreshImport(lawId, root);
+    }
+
+    @Test
+    @DisplayName("중간에 장/조가 추가되어도 뒤의 장/조는 id를 유지하고 순번으로 문서 순서를 유지한다")
+    void amend_InsertedJangKeepsDocumentOrder() throws Exception {
+        ObjectNode root = fixture("장추가법", LAW_API_ID);
+        Long lawId = lawService.saveLawToDatabase(root.toString()).getId();
+        List<Long> joIdsBefore = joIds(lawId);
+
+        // 제1장(제2조~제4조)과 제2장 사이에 새 장과 제4조의2 추가
+        ArrayNode units = units(root);
+        units.insert(5, objectMapper.createObjectNode()
+                .put("조문키", "0004020")
+                .put("조문내용", "제1장의2 신설 장"));
+        units.insert(6, objectMapper.createObjectNode()
+                .put("조문키", "0004021")
+                .put("조문내용", "제4조의2(신설) 새로 추가된 조문이다."));
+        amended(root, "12346");
+        LawChangedEvent event = lawAmendmentImporter.amend(parse(root)).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> joIdsAfter = joIds(lawId);
+        assertThat(joIdsAfter).hasSize(8);
+        assertThat(joIdsAfter.subList(0, 4)).isEqualTo(joIdsBefore.subList(0, 4));
+        assertThat(joIdsAfter.subList(5, 8)).isEqualTo(joIdsBefore.subList(4, 7));
+        assertThat(event.changedJoIds()).containsExactly(joIdsAfter.get(4));
+        assertThat(event.removedJoIds()).isEmpty();
+        assertThat(event.changedJangIds()).hasSize(1);
+        assertThat(event.removedJangIds()).isEmpty();
+        assertSameAsFreshImport(lawId, root);
+    }
+
+    @Test
+    @DisplayName("삭제된 조는 항/호와 함께 지우고 조문 색인을 다시 만든다")
+    void amend_RemovedJo() throws Exception {
+        ObjectNode root = fixture("삭제법", LAW_API_ID);
+        Long lawId = lawService.saveLawToDatabase(root.toString()).getId();
+        List<Long> joIdsBefore = joIds(lawId);
+
+        units(root).remove(7); // 제6조
+        amended(root, "12346");
+        LawChangedEvent event = lawAmendmentImporter.amend(parse(root)).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(event.removedJoIds()).containsExactly(joIdsBefore.get(5));
+        assertThat(event.changedJoIds()).isEmpty();
+        assertThat(joRepository.existsById(joIdsBefore.get(5))).isFalse();
+        assertSameAsFreshImport(lawId, root);
+    }
+
+    @Test
+    @DisplayName("법령ID와 공포번호, 시행일자가 같으면 같은 공포본으로 보고 아무것도 바꾸지 않는다")
+    void amend_SamePromulgation() throws Exception {
+        ObjectNode root = fixture("동일법", LAW_API_ID);
+        Long lawId = lawService.saveLawToDatabase(root.toString()).getId();
+        List<String> before = articleIndex(lawId);
+
+        LawChangedEvent event = lawAmendmentImporter.amend(parse(root)).orElseThrow();
+
+        assertThat(event.lawId()).isEqualTo(lawId);
+        assertThat(event.isEmpty()).isTrue();
+        assertThat(articleIndex(lawId)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("법령ID 없이 저장된 법령은 법령명으로 찾아 갱신하고 법령ID를 채운다")
+    void amend_LegacyLawMatchedByName() throws Exception {
+        Long lawId = lawService.saveLawToDatabase(fixture("기존법", null).toString()).getId();
+
+        ObjectNode root = fixture("기존법", LAW_API_ID);
+        LawChangedEvent event = lawAmendmentImporter.amend(parse(root)).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(event.lawId()).isEqualTo(lawId);
+        assertThat(event.lawInfoChanged()).isTrue();
+        assertThat(event.changedJoIds()).isEmpty();
+        assertThat(lawRepository.findFirstByLawApiIdOrderByIdDesc(LAW_API_ID)).map(Law::getId).hasValue(lawId);
+    }
+
+    @Test
+    @DisplayName("저장된 적 없는 법령이면 갱신하지 않는다")
+    void amend_NewLaw() throws Exception {
+        assertThat(lawAmendmentImporter.amend(parse(fixture("신규법", "008888")))).isEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 조문단위: 제1조, 제1장, 제2조~제4조, 제2장, 제5조~제7조
+     */
+    private ObjectNode fixture(String lawName, String lawApiId) throws Exception {
+        ObjectNode root = (ObjectNode) objectMapper.readTree(LawDetailFixture.json(lawName, 2, 3, 2, 1));
+        if (lawApiId != null) {
+            basicInfo(root).put("법령ID", lawApiId);
+        }
+        return root;
+    }
+
+    private static ArrayNode units(ObjectNode root) {
+        return (ArrayNode) root.path("법령").path("조문").path("조문단위");
+    }
+
+    private static void amended(ObjectNode root, String promulgationNumber) {
+        basicInfo(root).put("공포번호", promulgationNumber);
+    }
+
+    private static ObjectNode basicInfo(ObjectNode root) {
+        return (ObjectNode) root.path("법령").path("기본정보");
+    }
+
+    private ParsedLaw parse(ObjectNode root) throws Exception {
+        return lawDetailParser.parse(new ByteArrayInputStream(root.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 갱신한 법령과 개정본을 새로 저장한 법령의 트리, 조문 색인 비교
+     */
+    private void assertSameAsFreshImport(Long lawId, ObjectNode root) throws Exception {
+        Long freshId = lawService.saveLawToDatabase(root.toString()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Law amended = lawRepository.findLawTree(lawId).orElseThrow();
+        Law fresh = lawRepository.findLawTree(freshId).orElseThrow();
+        assertThat(objectMapper.writeValueAsString(amended)).isEqualTo(objectMapper.writeValueAsString(fresh));
+        assertThat(articleIndex(lawId)).isEqualTo(articleIndex(freshId));
+    }
+
+    /**
+     * 조문 순번 순서의 조 id
+     */
+    private List<Long> joIds(Long lawId) {
+        return articles(lawId).stream().map(LawArticle::getJoId).toList();
+    }
+
+    /**
+     * (조 번호, 가지 번호, 순번, 조 본문) 목록
+     */
+    private List<String> articleIndex(Long lawId) {
+        return articles(lawId).stream()
+                .map(article -> article.getArticleNumber() + "-" + article.getArticleBranch() + "#" + article.getOrdinal()
+                        + " " + joRepository.findById(article.getJoId()).orElseThrow().getContent())
+                .toList();
+    }
+
+    private List<LawArticle> articles(Long lawId) {
+        return lawArticleRepository.findAll().stream()
+                .filter(article -> article.getLawId().equals(lawId))
+                .sorted(Comparator.comparingInt(LawArticle::getOrdinal))
+                .toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.entity.Jang;
+import com.ai.lawyer.domain.law.entity.Jo;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import com.ai.lawyer.domain.law.repository.JangRepository;
+import com.ai.lawyer.domain.law.repository.JoRepository;
+import com.ai.lawyer.domain.law.repository.LawArticleRepository;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("기존 법령 조문 색인 생성 테스트")
+class LawArticleBackfillTest {
+
+    @Autowired
+    private LawArticleBackfill lawArticleBackfill;
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private JangRepository jangRepository;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private LawArticleRepository lawArticleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("조 본문 머리로 색인을 만들고, 조문이 없는 법령도 색인 완료로 표시해 다시 처리하지 않는다")
+    void backfill_IndexesOnceAndMarksEmptyLaws() {
+        Long lawId = saveLegacyLaw("색인법", "제1조(목적) 이 법은", "제2조의2(정의)", "제2조의2(중복)", "부칙");
+        Long emptyId = saveLegacyLaw("조문없는법", "부칙");
+        entityManager.flush();
+        entityManager.clear();
+
+        lawArticleBackfill.backfill();
+        entityManager.clear();
+
+        assertThat(articles(lawId)).containsExactly("1-0#0", "2-2#1");
+        assertThat(articles(emptyId)).isEmpty();
+        assertThat(lawRepository.findById(lawId).orElseThrow().isArticlesIndexed()).isTrue();
+        assertThat(lawRepository.findById(emptyId).orElseThrow().isArticlesIndexed()).isTrue();
+        assertThat(lawArticleBackfill.backfill()).isZero();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Long saveLegacyLaw(String lawName, String... joContents) {
+        Law law = new Law();
+        law.setLawName(lawName);
+        law = lawRepository.save(law);
+
+        Jang jang = new Jang();
+        jang.setLaw(law);
+        jang = jangRepository.save(jang);
+
+        for (String content : joContents) {
+            Jo jo = new Jo();
+            jo.setContent(content);
+            jo.setJang(jang);
+            joRepository.save(jo);
+        }
+        return law.getId();
+    }
+
+    /**
+     * (조 번호-가지 번호#순번) 목록
+     */
+    private List<String> articles(Long lawId) {
+        return lawArticleRepository.findAll().stream()
+                .filter(article -> article.getLawId().equals(lawId))
+                .sorted(Comparator.comparingInt(LawArticle::getOrdinal))
+                .map(article -> article.getArticleNumber() + "-" + article.getArticleBranch() + "#" + article.getOrdinal())
+                .toList();
+    }
+}
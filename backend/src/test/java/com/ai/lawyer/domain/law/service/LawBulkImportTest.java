@@ -0,0 +1,118 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawArticle;
+import com.ai.lawyer.domain.law.importer.LawImportProperties;
+import com.ai.lawyer.domain.law.repository.JoRepository;
+import com.ai.lawyer.domain.law.repository.LawArticleRepository;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령 일괄 적재 테스트")
+class LawBulkImportTest {
+
+    @Autowired
+    private LawService lawService;
+
+    @Autowired
+    private LawImportProperties importProperties;
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private LawArticleRepository lawArticleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        importProperties.setBulk(true);
+        importProperties.setBatchRows(500);
+    }
+
+    @Test
+    @DisplayName("다중 행 INSERT 적재는 엔티티별 저장과 같은 법령 트리와 조문 색인을 만든다")
+    void bulkImport_SameTreeAsEntitySave() throws Exception {
+        importProperties.setBatchRows(7);
+        String json = LawDetailFixture.json("일괄적재법", 3, 4, 3, 2);
+
+        // 일괄 적재가 예약한 id 이후로 IDENTITY가 이어지도록 일괄 적재를 먼저 실행
+        importProperties.setBulk(true);
+        Long bulkId = lawService.saveLawToDatabase(json).getId();
+        importProperties.setBulk(false);
+        Long entityId = lawService.saveLawToDatabase(json).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Law bulk = lawRepository.findLawTree(bulkId).orElseThrow();
+        Law saved = lawRepository.findLawTree(entityId).orElseThrow();
+
+        assertThat(bulk.getJangList()).hasSize(4);
+        assertThat(objectMapper.writeValueAsString(bulk)).isEqualTo(objectMapper.writeValueAsString(saved));
+        assertThat(articleIndex(bulkId)).isEqualTo(articleIndex(entityId)).hasSize(13);
+    }
+
+    @Test
+    @DisplayName("기본정보가 조문보다 뒤에 와도 같은 법령 트리를 저장한다")
+    void bulkImport_BasicInfoAfterArticles() throws Exception {
+        String json = LawDetailFixture.json("순서법", 2, 3, 2, 1);
+        ObjectNode root = (ObjectNode) objectMapper.readTree(json);
+        ObjectNode law = (ObjectNode) root.get("법령");
+        law.set("기본정보", law.remove("기본정보")); // 맨 뒤로 이동
+
+        Long inOrderId = lawService.saveLawToDatabase(json).getId();
+        Long reorderedId = lawService.saveLawToDatabase(root.toString()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Law inOrder = lawRepository.findLawTree(inOrderId).orElseThrow();
+        Law reordered = lawRepository.findLawTree(reorderedId).orElseThrow();
+
+        assertThat(reordered.getLawName()).isEqualTo("순서법");
+        assertThat(objectMapper.writeValueAsString(reordered)).isEqualTo(objectMapper.writeValueAsString(inOrder));
+        assertThat(articleIndex(reorderedId)).isEqualTo(articleIndex(inOrderId));
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * (조 번호, 가지 번호, 순번, 조 본문) 목록
+     */
+    private List<String> articleIndex(Long lawId) {
+        return lawArticleRepository.findAll().stream()
+                .filter(article -> article.getLawId().equals(lawId))
+                .sorted(Comparator.comparingInt(LawArticle::getOrdinal))
+                .map(this::describe)
+                .toList();
+    }
+
+    private String describe(LawArticle article) {
+        String content = joRepository.findById(article.getJoId()).orElseThrow().getContent();
+        return article.getArticleNumber() + "-" + article.getArticleBranch() + "#" + article.getOrdinal() + " " + content;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Open API 법령 상세(lawService.do) 응답 형식의 테스트 데이터
+ * <p>
+ * 첫 장 이전의 조, 항내용이 없는 항, 객체 하나로 온 항도 포함한다.
+ */
+final class LawDetailFixture {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private LawDetailFixture() {
+    }
+
+    static String json(String lawName, int jangCount, int joPerJang, int hangPerJo, int hoPerHang) {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        ObjectNode law = root.putObject("법령");
+        ObjectNode basic = law.putObject("기본정보");
+        basic.put("법령명_한글", lawName);
+        basic.putObject("법종구분").put("content", "법률");
+        basic.putObject("소관부처").put("content", "법무부");
+        basic.put("공포번호", "12345");
+        basic.put("공포일자", "20240102");
+        basic.put("시행일자", "20240701");
+
+        ArrayNode units = law.putObject("조문").putArray("조문단위");
+        int joNumber = 1;
+        addJo(units, joNumber++, false, hangPerJo, hoPerHang);
+        for (int j = 1; j <= jangCount; j++) {
+            units.addObject()
+                    .put("조문키", String.format("%04d%02d0", joNumber, 0))
+                    .put("조문내용", "제" + j + "장 테스트 장");
+            for (int k = 0; k < joPerJang; k++) {
+                addJo(units, joNumber++, k == 0, hangPerJo, hoPerHang);
+            }
+        }
+        return root.toString();
+    }
+
+    private static void addJo(ArrayNode units, int joNumber, boolean singleHang, int hangPerJo, int hoPerHang) {
+        ObjectNode unit = units.addObject()
+                .put("조문키", String.format("%04d%02d1", joNumber, joNumber % 7 == 0 ? 2 : 0))
+                .put("조문내용", "제" + joNumber + "조(목적) 이 법은 테스트를 목적으로 한다.");
+
+        if (singleHang) {
+            ObjectNode hang = unit.putObject("항");
+            addHos(hang, hoPerHang);
+            return;
+        }
+        ArrayNode hangs = unit.putArray("항");
+        for (int h = 1; h <= hangPerJo; h++) {
+            ObjectNode hang = hangs.addObject();
+            if (h < hangPerJo) {
+                hang.put("항내용", "  ① 제" + joNumber + "조 제" + h + "항 내용");
+            }
+            addHos(hang, hoPerHang);
+        }
+    }
+
+    private static void addHos(ObjectNode hang, int hoPerHang) {
+        ArrayNode hos = hang.putArray("호");
+        for (int o = 1; o <= hoPerHang; o++) {
+            hos.addObject().put("호내용", "    " + o + ". 호 내용");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawDocument;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LawDocumentCache 테스트")
+class LawDocumentCacheTest {
+
+    private LawService lawService;
+    private LawDocumentCacheProperties properties;
+    private LawDocumentCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lawService = mock(LawService.class);
+        when(lawService.getLawWithAllChildren(anyLong())).thenAnswer(invocation -> law(invocation.getArgument(0)));
+        properties = new LawDocumentCacheProperties();
+        cache = new LawDocumentCache(lawService, new ObjectMapper().findAndRegisterModules(), properties,
+                mock(ObjectProvider.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 조회/직렬화 없이 같은 본문과 ETag를 반환한다")
+    void get_CachesSerializedDocument() throws Exception {
+        LawDocument first = cache.get(1L);
+        LawDocument second = cache.get(1L);
+
+        verify(lawService, times(1)).getLawWithAllChildren(1L);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json())).contains("\"lawName\":\"민법 1\"", "\"enforcementDate\"");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(first.json());
+        }
+    }
+
+    @Test
+    @DisplayName("법령을 다시 가져오면 해당 법령 캐시만 무효화된다")
+    void lawImported_EvictsOnlyThatLaw() {
+        cache.get(1L);
+        cache.get(2L);
+
+        cache.onLawImported(new LawImportedEvent(1L, "민법 1"));
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(lawService, times(2)).getLawWithAllChildren(1L);
+        verify(lawService, times(1)).getLawWithAllChildren(2L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 법령부터 제거한다")
+    void maxBytes_EvictsLeastRecentlyUsed() {
+        long oneDocument = cache.get(1L).weight();
+        cache.evict(1L);
+        properties.setMaxBytes(oneDocument * 2 + oneDocument / 2);
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);  // 2번이 가장 오래 사용하지 않은 항목이 됨
+        cache.get(3L);
+
+        assertThat(cache.localBytes()).isLessThanOrEqualTo(properties.getMaxBytes());
+        cache.get(1L);
+        cache.get(2L);
+        verify(lawService, times(2)).getLawWithAllChildren(1L);
+        verify(lawService, times(2)).getLawWithAllChildren(2L);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 무효화되면 읽은 본문을 캐시에 넣지 않는다")
+    void evictDuringLoad_DoesNotCacheStaleDocument() {
+        AtomicBoolean evicted = new AtomicBoolean();
+        when(lawService.getLawWithAllChildren(1L)).thenAnswer(invocation -> {
+            Law stale = law(1L);
+            // 이전 본문을 읽은 뒤 개정본 커밋 + 무효화가 끼어든 경우
+            if (evicted.compareAndSet(false, true)) {
+                cache.evict(1L);
+            }
+            return stale;
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(lawService, times(2)).getLawWithAllChildren(1L);
+    }
+
+    @Test
+    @DisplayName("무효화한 법령이 많아도 무효화 이후 조회는 다시 캐시된다")
+    void evictMany_StillCachesAfterwards() {
+        for (long lawId = 1; lawId <= 10_000; lawId++) {
+            cache.evict(lawId);
+        }
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(5000L);
+        cache.get(5000L);
+
+        verify(lawService, times(1)).getLawWithAllChildren(1L);
+        verify(lawService, times(1)).getLawWithAllChildren(5000L);
+    }
+
+    @Test
+    @DisplayName("로컬 항목은 유지 시간이 지나면 다시 조회한다")
+    void localTtl_ReloadsExpiredDocument() {
+        properties.setLocalTtl(Duration.ZERO);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(lawService, times(2)).getLawWithAllChildren(1L);
+        assertThat(cache.localBytes()).isPositive();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Law law(Long id) {
+        Law law = new Law();
+        law.setId(id);
+        law.setLawName("민법 " + id);
+        law.setEnforcementDate(LocalDate.of(2024, 1, 1));
+        return law;
+    }
+}
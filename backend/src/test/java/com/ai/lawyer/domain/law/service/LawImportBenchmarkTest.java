@@ -0,0 +1,105 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.importer.LawImportProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티별 save vs 계층별 다중 행 INSERT 법령 적재 비교 (H2, 큰 법령 1건)
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*LawImportBenchmarkTest'
+ * <p>
+ * 문장 수는 H2 QUERY_STATISTICS의 INSERT 실행 횟수이며 id 예약 문장은 제외한다.
+ * H2의 SET 명령은 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("법령 적재 벤치마크")
+class LawImportBenchmarkTest {
+
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private LawService lawService;
+
+    @Autowired
+    private LawImportProperties importProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterAll
+    void tearDown() {
+        importProperties.setBulk(true);
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+    }
+
+    @Test
+    @DisplayName("엔티티별 save / 다중 행 INSERT의 문장 수와 소요 시간")
+    void compareImport() {
+        // 장 20 x 조 30 x 항 3 x 호 4 = 행 약 9,000개
+        String json = LawDetailFixture.json("벤치마크법", 20, 30, 3, 4);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        System.out.printf("%-8s %12s %10s%n", "mode", "statements", "avg ms");
+        Map<Boolean, Long> statements = new LinkedHashMap<>();
+        for (boolean bulk : new boolean[]{false, true}) {
+            importProperties.setBulk(bulk);
+            transaction.executeWithoutResult(status -> save(json)); // 워밍업
+
+            long totalNanos = 0;
+            long insertCount = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                resetStatistics();
+                long start = System.nanoTime();
+                transaction.executeWithoutResult(status -> save(json));
+                totalNanos += System.nanoTime() - start;
+                insertCount = insertStatements();
+            }
+
+            System.out.printf("%-8s %12d %10.1f%n", bulk ? "bulk" : "entity", insertCount, totalNanos / 1e6 / ROUNDS);
+            statements.put(bulk, insertCount);
+        }
+
+        assertThat(statements.get(true)).isLessThan(statements.get(false) / 100);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void save(String json) {
+        try {
+            lawService.saveLawToDatabase(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void resetStatistics() {
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+    }
+
+    private long insertStatements() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(EXECUTION_COUNT), 0) FROM INFORMATION_SCHEMA.QUERY_STATISTICS "
+                + "WHERE UPPER(SQL_STATEMENT) LIKE 'INSERT INTO%' AND UPPER(SQL_STATEMENT) NOT LIKE '%LAW_ID_BLOCK%'", Long.class);
+    }
+}
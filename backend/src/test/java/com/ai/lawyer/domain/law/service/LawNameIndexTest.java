@@ -0,0 +1,150 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.event.LawChangedEvent;
+import com.ai.lawyer.domain.law.event.LawImportedEvent;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LawNameIndex 테스트")
+class LawNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "민법", "민사소송법", "민사집행법", "근로기준법", "근로기준법 시행령", "근로자퇴직급여 보장법",
+            "형법", "형사소송법", "상법", "도로교통법", "개인정보 보호법", "주택임대차보호법", "법");
+
+    private final List<SourceRowView> rows = new ArrayList<>();
+    private LawNameIndexProperties properties;
+    private LawNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < NAMES.size(); i++) {
+            rows.add(new Row((long) i + 1, NAMES.get(i)));
+        }
+        LawRepository lawRepository = mock(LawRepository.class);
+        when(lawRepository.findSourceRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int pageSize = invocation.<Pageable>getArgument(1).getPageSize();
+            return rows.stream().filter(row -> row.getId() > lastId).limit(pageSize).toList();
+        });
+
+        properties = new LawNameIndexProperties();
+        properties.setPageSize(5);
+        index = new LawNameIndex(lawRepository, properties);
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색 결과는 공백 제거 + 소문자로 정규화한 LIKE '%x%'와 같다")
+    void findIds_SameAsLike() {
+        index.loadAll();
+
+        for (String query : List.of("법", "민사", "기준법", "근로 기준", "보호법", "소송", "형", "법시행")) {
+            assertThat(index.findIds(query)).as(query).contains(like(query));
+        }
+    }
+
+    @Test
+    @DisplayName("자동완성은 접두어 일치를 먼저, 그다음 짧은 부분 일치를 반환한다")
+    void suggest_PrefixThenSubstring() {
+        index.loadAll();
+
+        assertThat(index.suggest("민사", 10)).containsExactly("민사소송법", "민사집행법");
+        assertThat(index.suggest("근로", 2)).containsExactly("근로기준법", "근로기준법 시행령");
+        assertThat(index.suggest("소송", 10)).containsExactly("민사소송법", "형사소송법");
+    }
+
+    @Test
+    @DisplayName("색인 구성 전이거나 일치 법령이 없거나 너무 많으면 LIKE 조회로 넘긴다")
+    void findIds_FallsBackToLike() {
+        assertThat(index.findIds("민법")).isEmpty();
+
+        index.loadAll();
+        properties.setMaxInClause(3);
+
+        assertThat(index.findIds("없는법령")).isEmpty();
+        assertThat(index.findIds("법")).isEmpty();
+        assertThat(index.findIds("민법")).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("적재 이벤트로 들어온 법령은 바로 검색된다")
+    void lawImported_AddsName() {
+        index.loadAll();
+
+        index.onLawImported(new LawImportedEvent(100L, "중대재해 처벌 등에 관한 법률"));
+
+        assertThat(index.findIds("중대재해처벌")).contains(List.of(100L));
+        assertThat(index.suggest("중대", 5)).containsExactly("중대재해 처벌 등에 관한 법률");
+    }
+
+    @Test
+    @DisplayName("개정으로 법령명이 바뀌면 이전 이름은 검색되지 않고 새 이름으로 검색된다")
+    void lawChanged_ReplacesName() {
+        index.loadAll();
+
+        index.onLawChanged(new LawChangedEvent(7L, "형사법", true, Set.of(), Set.of(), Set.of(), Set.of()));
+
+        assertThat(index.findIds("형법")).isEmpty();
+        assertThat(index.findIds("형사법")).contains(List.of(7L));
+        assertThat(index.suggest("형사", 10)).containsExactly("형사법", "형사소송법");
+        assertThat(index.size()).isEqualTo(NAMES.size());
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 다른 인스턴스에서 추가/개명/삭제된 법령을 DB와 맞춘다")
+    void loadAll_SyncsWithDatabase() {
+        index.loadAll();
+
+        rows.set(0, new Row(1L, "민법전"));
+        rows.removeIf(row -> row.getId() == 9L);
+        rows.add(new Row(100L, "신규법"));
+        index.loadAll();
+
+        assertThat(index.findIds("민법전")).contains(List.of(1L));
+        assertThat(index.suggest("민", 10)).containsExactly("민법전", "민사소송법", "민사집행법");
+        assertThat(index.findIds("상법")).isEmpty();
+        assertThat(index.findIds("신규")).contains(List.of(100L));
+        assertThat(index.size()).isEqualTo(NAMES.size());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static List<Long> like(String query) {
+        String needle = query.replace(" ", "").toLowerCase(Locale.ROOT);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < NAMES.size(); i++) {
+            if (NAMES.get(i).replace(" ", "").toLowerCase(Locale.ROOT).contains(needle)) {
+                ids.add((long) i + 1);
+            }
+        }
+        return ids;
+    }
+
+    private record Row(Long id, String sourceKey) implements SourceRowView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getSourceKey() {
+            return sourceKey;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
+import com.ai.lawyer.domain.law.dto.LawsDto;
+import com.ai.lawyer.domain.law.entity.*;
+import com.ai.lawyer.domain.law.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("법령 조회 쿼리 수 테스트")
+class LawServiceQueryCountTest {
+
+    @Autowired
+    private LawService lawService;
+
+    @Autowired
+    private LawRepository lawRepository;
+
+    @Autowired
+    private JangRepository jangRepository;
+
+    @Autowired
+    private JoRepository joRepository;
+
+    @Autowired
+    private HangRepository hangRepository;
+
+    @Autowired
+    private HoRepository hoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("법령 크기와 무관하게 직렬화까지 쿼리 5번으로 전체 트리를 조회한다")
+    void getLawWithAllChildren_FiveQueries() throws Exception {
+        Long lawId = saveLaw(4, 5, 3, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Law law = lawService.getLawWithAllChildren(lawId);
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(law));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(json.path("jangList")).hasSize(4);
+        assertThat(json.path("jangList").get(0).path("joList")).hasSize(5);
+        assertThat(json.path("jangList").get(0).path("joList").get(0).path("content").asText()).isEqualTo("제1조");
+        assertThat(json.path("jangList").get(3).path("joList").get(4).path("hangList")).hasSize(3);
+        assertThat(json.path("jangList").get(3).path("joList").get(4).path("hangList").get(2).path("hoList")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("법령 목록 검색은 페이지 크기와 무관하게 목록/첫 조문/개수 쿼리 3번으로 끝나고, 개수는 같은 트랜잭션에서 센다")
+    void searchLaws_ThreeQueries() {
+        for (int i = 0; i < 5; i++) {
+            saveLaw(2, 2, 1, 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<LawsDto> page = lawService.searchLaws(searchRequest("테스트", 0, 2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).hasSize(2)
+                .allSatisfy(law -> assertThat(law.getFirstJoContent()).isEqualTo("제1조"));
+    }
+
+    @Test
+    @DisplayName("목록만으로 전체 개수를 알 수 있으면 개수 쿼리를 생략한다")
+    void searchLaws_SkipsCountOnLastPage() {
+        for (int i = 0; i < 5; i++) {
+            saveLaw(2, 2, 1, 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<LawsDto> page = lawService.searchLaws(searchRequest("테스트", 0, 10));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("첫 조문은 id가 아니라 조 순번으로 고른다")
+    void searchLaws_FirstJoByOrdinal() {
+        Long lawId = saveLaw(1, 2, 0, 0);
+        // 개정으로 맨 앞에 추가된 조 (id는 기존 조보다 크고 순번은 0)
+        Jang jang = jangRepository.findAll().stream()
+                .filter(each -> each.getLaw().getId().equals(lawId))
+                .findFirst().orElseThrow();
+        for (Jo each : joRepository.findAll()) {
+            if (each.getJang().getId().equals(jang.getId())) {
+                each.setOrdinal(each.getOrdinal() + 1);
+            }
+        }
+        Jo inserted = new Jo();
+        inserted.setContent("제0조");
+        inserted.setJang(jang);
+        joRepository.save(inserted);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<LawsDto> page = lawService.searchLaws(searchRequest("테스트", 0, 10));
+
+        assertThat(page.getContent()).singleElement()
+                .satisfies(law -> assertThat(law.getFirstJoContent()).isEqualTo("제0조"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static LawSearchRequestDto searchRequest(String lawName, int pageNumber, int pageSize) {
+        LawSearchRequestDto request = new LawSearchRequestDto();
+        request.setLawName(lawName);
+        request.setPageNumber(pageNumber);
+        request.setPageSize(pageSize);
+        return request;
+    }
+
+    private Long saveLaw(int jangCount, int joPerJang, int hangPerJo, int hoPerHang) {
+        Law law = new Law();
+        law.setLawName("테스트법");
+        law = lawRepository.save(law);
+
+        int joNumber = 1;
+        for (int j = 1; j <= jangCount; j++) {
+            Jang jang = new Jang();
+            jang.setContent("제" + j + "장");
+            jang.setOrdinal(j - 1);
+            jang.setLaw(law);
+            jang = jangRepository.save(jang);
+
+            for (int k = 0; k < joPerJang; k++) {
+                Jo jo = new Jo();
+                jo.setOrdinal(joNumber - 1);
+                jo.setContent("제" + joNumber++ + "조");
+                jo.setJang(jang);
+                jo = joRepository.save(jo);
+
+                for (int h = 1; h <= hangPerJo; h++) {
+                    Hang hang = new Hang();
+                    hang.setContent("제" + h + "항");
+                    hang.setJo(jo);
+                    hang = hangRepository.save(hang);
+
+                    for (int o = 1; o <= hoPerHang; o++) {
+                        Ho ho = new Ho();
+                        ho.setContent(o + ". 호");
+                        ho.setHang(hang);
+                        hoRepository.save(ho);
+                    }
+                }
+            }
+        }
+        return law.getId();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import com.ai.lawyer.domain.law.entity.Jang;
+import com.ai.lawyer.domain.law.entity.Jo;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LawCorpusSnapshot 테스트")
+class LawCorpusSnapshotTest {
+
+    private static final long BUILT_AT = Instant.parse("2026-10-01T00:00:00Z").toEpochMilli();
+
+    @TempDir
+    Path tempDir;
+
+    private LawRepository lawRepository;
+    private LawCorpusSnapshot lawCorpusSnapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = tempDir.resolve("law.snapshot");
+        try (LawSnapshotWriter writer = new LawSnapshotWriter(path)) {
+            writer.add(law(3L, "민법"));
+            writer.add(law(7L, "근로기준법"));
+            writer.finish(BUILT_AT);
+        }
+
+        LawSnapshotProperties properties = new LawSnapshotProperties();
+        properties.setPath(path.toString());
+        properties.setBuildOnStartup(false);
+        lawRepository = mock(LawRepository.class);
+        lawCorpusSnapshot = new LawCorpusSnapshot(lawRepository, properties, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("재기동 시 스냅샷 생성 이후 개정된 법령은 DB에 기록된 변경 시각으로 찾아 DB에서 읽는다")
+    void load_SkipsLawsAmendedAfterBuild() {
+        when(lawRepository.findIdsContentUpdatedSince(any())).thenReturn(List.of(7L));
+
+        lawCorpusSnapshot.load();
+
+        assertThat(lawCorpusSnapshot.isLoaded()).isTrue();
+        assertThat(lawCorpusSnapshot.findLaw(7L)).isEmpty();
+        assertThat(lawCorpusSnapshot.findJangTexts(7L)).isEmpty();
+        assertThat(lawCorpusSnapshot.findLaw(3L)).map(Law::getLawName).contains("민법");
+        // 시계 차이를 고려해 생성 시각보다 1분 앞부터 확인
+        verify(lawRepository).findIdsContentUpdatedSince(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(BUILT_AT).minusSeconds(60), ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 개정한 법령은 주기 확인 이후 DB에서 읽는다")
+    void refreshChangedLaws_PicksUpOtherInstanceAmendments() {
+        when(lawRepository.findIdsContentUpdatedSince(any())).thenReturn(List.of(), List.of(3L));
+        lawCorpusSnapshot.load();
+        assertThat(lawCorpusSnapshot.findArticle(3L, 0)).isPresent();
+
+        lawCorpusSnapshot.refreshChangedLaws();
+
+        assertThat(lawCorpusSnapshot.findArticle(3L, 0)).isEmpty();
+        assertThat(lawCorpusSnapshot.findArticle(7L, 0)).isPresent();
+    }
+
+    @Test
+    @DisplayName("이후 개정 여부를 확인하지 못하면 스냅샷을 쓰지 않고 DB에서 읽는다")
+    void load_WithoutChangeCheck_FallsBackToDatabase() {
+        when(lawRepository.findIdsContentUpdatedSince(any())).thenThrow(new IllegalStateException("db down"));
+
+        lawCorpusSnapshot.load();
+
+        assertThat(lawCorpusSnapshot.isLoaded()).isFalse();
+        assertThat(lawCorpusSnapshot.findLaw(3L)).isEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Law law(Long id, String name) {
+        Jo jo = new Jo();
+        jo.setId(id * 100);
+        jo.setContent("제1조(목적)");
+        Jang jang = new Jang();
+        jang.setId(id * 10);
+        jang.setJoList(List.of(jo));
+
+        Law law = new Law();
+        law.setId(id);
+        law.setLawName(name);
+        law.setJangList(List.of(jang));
+        return law;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ai.lawyer.domain.law.snapshot;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LawSnapshot 테스트")
+class LawSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("스냅샷에서 법령 트리, 장별 본문, 조문을 복원한다")
+    void writeAndRead() throws Exception {
+        Path path = tempDir.resolve("law.snapshot");
+        try (LawSnapshotWriter writer = new LawSnapshotWriter(path)) {
+            writer.add(law(3L, "민법"));
+            writer.add(law(7L, "근로기준법"));
+            writer.finish(1_000L);
+        }
+
+        LawSnapshot snapshot = LawSnapshot.open(path);
+
+        assertThat(snapshot.lawCount()).isEqualTo(2);
+        Law law = snapshot.law(7L).orElseThrow();
+        assertThat(law.getLawName()).isEqualTo("근로기준법");
+        assertThat(law.getMinistry()).isNull();
+        assertThat(law.getEnforcementDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(law.getPromulgationDate()).isNull();
+        assertThat(law.getJangList()).extracting(Jang::getContent).containsExactly(null, "제2장 근로계약");
+        assertThat(law.getJangList().get(1).getJoList()).extracting(Jo::getContent).containsExactly("제2조(정의)", "제3조(근로조건)");
+        assertThat(law.getJangList().get(1).getJoList().get(0).getHangList().get(0).getHoList())
+                .extracting(Ho::getContent).containsExactly("1. 근로자", "2. 사용자");
+
+        List<LawJangText> texts = snapshot.jangTexts(7L).orElseThrow();
+        assertThat(texts).extracting(LawJangText::jangId).containsExactly(70L, 71L);
+        assertThat(texts.get(0).content()).isEqualTo("제1조(목적)\n");
+        assertThat(texts.get(1).content()).isEqualTo("제2장 근로계약\n제2조(정의)\n① 이 법에서 사용하는 용어\n1. 근로자\n2. 사용자\n제3조(근로조건)\n");
+
+        assertThat(snapshot.article(7L, 1)).contains("제2조(정의)\n① 이 법에서 사용하는 용어\n1. 근로자\n2. 사용자\n");
+        assertThat(snapshot.article(3L, 2)).contains("제3조(근로조건)\n");
+        assertThat(snapshot.article(3L, 3)).isEmpty();
+        assertThat(snapshot.law(5L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("법령은 id 오름차순으로만 추가할 수 있다")
+    void add_RequiresAscendingIds() throws Exception {
+        try (LawSnapshotWriter writer = new LawSnapshotWriter(tempDir.resolve("law.snapshot"))) {
+            writer.add(law(7L, "근로기준법"));
+            assertThatThrownBy(() -> writer.add(law(3L, "민법"))).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Law law(Long id, String name) {
+        Law law = new Law();
+        law.setId(id);
+        law.setLawName(name);
+        law.setEnforcementDate(LocalDate.of(2024, 1, 1));
+
+        Jang first = jang(id * 10, null, jo(id * 100, "제1조(목적)"));
+        Jo definitions = jo(id * 100 + 1, "제2조(정의)");
+        Hang hang = new Hang();
+        hang.setId(id * 1000);
+        hang.setContent("① 이 법에서 사용하는 용어");
+        hang.getHoList().add(ho(id * 10000, "1. 근로자"));
+        hang.getHoList().add(ho(id * 10000 + 1, "2. 사용자"));
+        definitions.getHangList().add(hang);
+        Jang second = jang(id * 10 + 1, "제2장 근로계약", definitions, jo(id * 100 + 2, "제3조(근로조건)"));
+
+        law.setJangList(List.of(first, second));
+        return law;
+    }
+
+    private static Jang jang(Long id, String content, Jo... jos) {
+        Jang jang = new Jang();
+        jang.setId(id);
+        jang.setContent(content);
+        jang.setJoList(List.of(jos));
+        return jang;
+    }
+
+    private static Jo jo(Long id, String content) {
+        Jo jo = new Jo();
+        jo.setId(id);
+        jo.setContent(content);
+        return jo;
+    }
+
+    private static Ho ho(Long id, String content) {
+        Ho ho = new Ho();
+        ho.setId(id);
+        ho.setContent(content);
+        return ho;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ai.lawyer.global.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdRangePartitioner 테스트")
+class IdRangePartitionerTest {
+
+    @Test
+    @DisplayName("범위를 겹치지 않고 빠짐없이 연속 구간으로 나눈다")
+    void partition_CoversRangeWithoutOverlap() {
+        Map<String, ExecutionContext> partitions = new IdRangePartitioner(100, 1103).partition(4);
+
+        List<long[]> ranges = partitions.values().stream()
+                .map(context -> new long[]{context.getLong(IdRangePartitioner.START_AFTER_ID_KEY),
+                        context.getLong(IdRangePartitioner.MAX_ID_KEY)})
+                .toList();
+
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0)[0]).isEqualTo(100);
+        assertThat(ranges.get(3)[1]).isEqualTo(1103);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isEqualTo(ranges.get(i - 1)[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("행 수보다 파티션이 많으면 행 수만큼만, 범위가 비면 빈 파티션 하나를 만든다")
+    void partition_SmallOrEmptyRange() {
+        assertThat(new IdRangePartitioner(10, 12).partition(8)).hasSize(2);
+
+        Map<String, ExecutionContext> empty = new IdRangePartitioner(10, 10).partition(8);
+        assertThat(empty).hasSize(1);
+        assertThat(empty.get("partition0").getLong(IdRangePartitioner.MAX_ID_KEY)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ai.lawyer.global.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeysetItemReader 테스트")
+class KeysetItemReaderTest {
+
+    private final List<Long> rows = LongStream.rangeClosed(1, 25).boxed().toList();
+    private final List<Long> queriedAfter = new ArrayList<>();
+
+    private final BiFunction<Long, Integer, List<Long>> pageLoader = (lastId, limit) -> {
+        queriedAfter.add(lastId);
+        return rows.stream().filter(id -> id > lastId).limit(limit).toList();
+    };
+
+    @Test
+    @DisplayName("시작 id 이후 행을 마지막 id 기준으로 페이지 단위 조회한다")
+    void read_PagesByLastId() {
+        KeysetItemReader<Long> reader = new KeysetItemReader<>("reader", pageLoader, id -> id, 10, 0, 5);
+
+        List<Long> read = readAll(reader);
+
+        assertThat(read).containsExactlyElementsOf(rows.subList(5, 25));
+        assertThat(queriedAfter).containsExactly(5L, 15L, 25L);
+        assertThat(reader.getLastId()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("최대 읽기 수를 넘지 않는다")
+    void read_StopsAtMaxItemCount() {
+        KeysetItemReader<Long> reader = new KeysetItemReader<>("reader", pageLoader, id -> id, 10, 12, 0);
+
+        assertThat(readAll(reader)).hasSize(12);
+        assertThat(reader.getLastId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("재시작하면 ExecutionContext에 저장된 마지막 id 다음부터 읽는다")
+    void open_ResumesFromExecutionContext() {
+        ExecutionContext executionContext = new ExecutionContext();
+        KeysetItemReader<Long> first = new KeysetItemReader<>("reader", pageLoader, id -> id, 10, 20, 0);
+        first.open(executionContext);
+        for (int i = 0; i < 7; i++) {
+            first.read();
+        }
+        first.update(executionContext);
+
+        KeysetItemReader<Long> restarted = new KeysetItemReader<>("reader", pageLoader, id -> id, 10, 20, 0);
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted)).containsExactlyElementsOf(rows.subList(7, 20));
+    }
+
+    private static List<Long> readAll(KeysetItemReader<Long> reader) {
+        List<Long> read = new ArrayList<>();
+        for (Long id = reader.read(); id != null; id = reader.read()) {
+            read.add(id);
+        }
+        return read;
+    }
+}
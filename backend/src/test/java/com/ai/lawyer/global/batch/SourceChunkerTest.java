@@ -0,0 +1,140 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.law.dto.LawJangText;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.snapshot.LawCorpusSnapshot;
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.domain.vector.repository.VectorSyncWatermarkRepository;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.qdrant.service.ChunkIds;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SourceChunker 테스트")
+class SourceChunkerTest {
+
+    private LawRepository lawRepository;
+    private LawCorpusSnapshot lawCorpusSnapshot;
+    private VectorDocumentWriter vectorDocumentWriter;
+    private VectorSourceStateRepository vectorSourceStateRepository;
+    private SourceChunker sourceChunker;
+
+    @BeforeEach
+    void setUp() {
+        lawRepository = mock(LawRepository.class);
+        lawCorpusSnapshot = mock(LawCorpusSnapshot.class);
+        vectorDocumentWriter = mock(VectorDocumentWriter.class);
+        vectorSourceStateRepository = mock(VectorSourceStateRepository.class);
+        CachingEmbeddingModel model = embeddingModel("bge-m3");
+        when(vectorDocumentWriter.embeddingModelFor(anyString())).thenReturn(model);
+        sourceChunker = new SourceChunker(lawRepository, lawCorpusSnapshot, vectorDocumentWriter);
+    }
+
+    @Test
+    @DisplayName("판례 청크 id는 (type, 원본 id, 순번, 모델)로 정해지고 같은 본문은 같은 해시를 만든다")
+    void chunkPrecedent_DeterministicIdsAndHash() {
+        SourceChunks first = sourceChunker.chunk(precedent(11L, "원심판결을 파기한다."));
+        SourceChunks again = sourceChunker.chunk(precedent(11L, "원심판결을 파기한다."));
+        SourceChunks edited = sourceChunker.chunk(precedent(11L, "상고를 기각한다."));
+
+        assertThat(first.documents()).extracting(Document::getId)
+                .containsExactly(ChunkIds.pointId("판례", 11L, 0, "bge-m3"));
+        assertThat(first.documents().get(0).getMetadata())
+                .containsEntry(VectorDocumentWriter.SOURCE_ID_KEY, 11L)
+                .containsEntry("caseNumber", "2020다11");
+        assertThat(again.contentHash()).isEqualTo(first.contentHash());
+        assertThat(again.documents()).extracting(Document::getId).isEqualTo(first.documents().stream().map(Document::getId).toList());
+        assertThat(edited.contentHash()).isNotEqualTo(first.contentHash());
+        assertThat(sourceChunker.chunk(precedent(12L, "  "))).isNull();
+    }
+
+    @Test
+    @DisplayName("별칭 교체로 type 모델이 바뀌면 청크 id도 새 모델로 만든다")
+    void chunkPrecedent_UsesLiveModelOfType() {
+        String before = sourceChunker.chunk(precedent(11L, "원심판결을 파기한다.")).documents().get(0).getId();
+        CachingEmbeddingModel swapped = embeddingModel("bge-m3-v2");
+        when(vectorDocumentWriter.embeddingModelFor("판례")).thenReturn(swapped);
+
+        String after = sourceChunker.chunk(precedent(11L, "원심판결을 파기한다.")).documents().get(0).getId();
+
+        assertThat(after).isNotEqualTo(before).isEqualTo(ChunkIds.pointId("판례", 11L, 0, "bge-m3-v2"));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 법령은 DB의 장별 본문으로 장마다 청크를 만들고, 순번은 법령 전체에서 이어진다")
+    void chunkLaw_FallsBackToRepository() {
+        Law law = new Law();
+        law.setId(7L);
+        law.setLawName("근로기준법");
+        when(lawCorpusSnapshot.findJangTexts(7L)).thenReturn(Optional.empty());
+        when(lawRepository.findJangTexts(List.of(7L))).thenReturn(List.of(
+                new LawJangText(7L, 70L, "제1조(목적)\n"),
+                new LawJangText(7L, 71L, "제2장 근로계약\n제2조(정의)\n")));
+
+        SourceChunks chunks = sourceChunker.chunk(law);
+
+        assertThat(chunks.sourceType()).isEqualTo(VectorSourceType.LAW);
+        assertThat(chunks.documents()).extracting(Document::getText)
+                .containsExactly("근로기준법\n제1조(목적)", "근로기준법\n제2장 근로계약\n제2조(정의)");
+        assertThat(chunks.documents()).extracting(document -> document.getMetadata().get("jangId")).containsExactly(70L, 71L);
+        assertThat(chunks.documents()).extracting(Document::getId).containsExactly(
+                ChunkIds.pointId("법령", 7L, 0, "bge-m3"), ChunkIds.pointId("법령", 7L, 1, "bge-m3"));
+    }
+
+    @Test
+    @DisplayName("본문 해시가 마지막 벡터화 때와 같은 행만 건너뛴다")
+    void changedOnly_FiltersUnchangedHash() throws Exception {
+        DataVectorizationJobConfig jobConfig = new DataVectorizationJobConfig(mock(JobRepository.class),
+                mock(PlatformTransactionManager.class), mock(PrecedentRepository.class), lawRepository,
+                vectorSourceStateRepository, mock(VectorSyncWatermarkRepository.class), sourceChunker,
+                mock(SourceChunksWriter.class), mock(StaleVectorCleanupTasklet.class));
+        ItemProcessor<Precedent, SourceChunks> processor = jobConfig.precedentItemProcessor();
+        String hash = sourceChunker.chunk(precedent(11L, "원심판결을 파기한다.")).contentHash();
+        when(vectorSourceStateRepository.findBySourceTypeAndSourceId(VectorSourceType.PRECEDENT, 11L))
+                .thenReturn(Optional.of(VectorSourceState.builder().contentHash(hash).build()));
+        when(vectorSourceStateRepository.findBySourceTypeAndSourceId(VectorSourceType.PRECEDENT, 12L))
+                .thenReturn(Optional.of(VectorSourceState.builder().contentHash(hash).build()));
+        when(vectorSourceStateRepository.findBySourceTypeAndSourceId(VectorSourceType.PRECEDENT, 13L))
+                .thenReturn(Optional.empty());
+
+        assertThat(processor.process(precedent(11L, "원심판결을 파기한다."))).isNull();
+        assertThat(processor.process(precedent(12L, "상고를 기각한다."))).isNotNull();
+        assertThat(processor.process(precedent(13L, "원심판결을 파기한다."))).isNotNull();
+        assertThat(processor.process(precedent(14L, ""))).isNull();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static CachingEmbeddingModel embeddingModel(String modelId) {
+        CachingEmbeddingModel model = mock(CachingEmbeddingModel.class);
+        when(model.getModelId()).thenReturn(modelId);
+        return model;
+    }
+
+    private static Precedent precedent(Long id, String content) {
+        Precedent precedent = new Precedent();
+        precedent.setId(id);
+        precedent.setCaseNumber("2020다" + id);
+        precedent.setCourtName("대법원");
+        precedent.setCaseName("손해배상");
+        precedent.setPrecedentContent(content);
+        return precedent;
+    }
+}
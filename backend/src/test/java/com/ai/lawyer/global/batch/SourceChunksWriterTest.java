@@ -0,0 +1,98 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.ai.document.Document;
+import org.springframework.batch.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SourceChunksWriter 테스트")
+class SourceChunksWriterTest {
+
+    private VectorDocumentWriter vectorDocumentWriter;
+    private VectorSourceStateRepository vectorSourceStateRepository;
+    private SourceChunksWriter sourceChunksWriter;
+
+    @BeforeEach
+    void setUp() {
+        vectorDocumentWriter = mock(VectorDocumentWriter.class);
+        vectorSourceStateRepository = mock(VectorSourceStateRepository.class);
+        sourceChunksWriter = new SourceChunksWriter(vectorDocumentWriter, vectorSourceStateRepository);
+    }
+
+    @Test
+    @DisplayName("새 청크를 저장한 뒤 현재 청크를 남기고 이전 청크를 지우고, 마지막에 벡터화 상태를 저장한다")
+    @SuppressWarnings("unchecked")
+    void write_UpsertsThenDeletesStaleThenSavesStates() throws Exception {
+        SourceChunks precedent = chunks(VectorSourceType.PRECEDENT, 11L, "hash-11", "caseNumber", "2020다11", "p-0", "p-1");
+        SourceChunks law = chunks(VectorSourceType.LAW, 7L, "hash-7", "lawName", "민법", "l-0");
+        VectorSourceState existing = VectorSourceState.builder()
+                .id(1L).sourceType(VectorSourceType.LAW).sourceId(7L).contentHash("old").chunkCount(3).build();
+        when(vectorSourceStateRepository.findBySourceTypeAndSourceIdIn(VectorSourceType.LAW, List.of(7L)))
+                .thenReturn(List.of(existing));
+
+        sourceChunksWriter.write(new Chunk<>(List.of(precedent, law)));
+
+        InOrder inOrder = inOrder(vectorDocumentWriter, vectorSourceStateRepository);
+        inOrder.verify(vectorDocumentWriter).write(documents(precedent, law));
+        inOrder.verify(vectorDocumentWriter).deleteBySource("판례", 11L, "caseNumber", "2020다11", Set.of("p-0", "p-1"));
+        inOrder.verify(vectorDocumentWriter).deleteBySource("법령", 7L, "lawName", "민법", Set.of("l-0"));
+        ArgumentCaptor<List<VectorSourceState>> saved = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(vectorSourceStateRepository).saveAll(saved.capture());
+
+        assertThat(saved.getValue()).extracting(VectorSourceState::getSourceId, VectorSourceState::getContentHash,
+                        VectorSourceState::getChunkCount)
+                .containsExactlyInAnyOrder(tuple(11L, "hash-11", 2), tuple(7L, "hash-7", 1));
+        assertThat(saved.getValue()).filteredOn(state -> state.getSourceId().equals(7L)).singleElement().isSameAs(existing);
+    }
+
+    @Test
+    @DisplayName("저장이 실패하면 기존 청크를 지우지 않고 상태도 갱신하지 않는다")
+    void write_FailedUpsertKeepsCurrentChunks() throws Exception {
+        doThrow(new IllegalStateException("qdrant down")).when(vectorDocumentWriter).write(anyList());
+
+        assertThatThrownBy(() -> sourceChunksWriter.write(new Chunk<>(List.of(
+                chunks(VectorSourceType.PRECEDENT, 11L, "hash-11", "caseNumber", "2020다11", "p-0")))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(vectorDocumentWriter, never()).deleteBySource(any(), anyLong(), any(), any(), any());
+        verify(vectorSourceStateRepository, never()).saveAll(any());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static SourceChunks chunks(VectorSourceType type, Long sourceId, String hash, String sourceKey,
+                                       String sourceKeyValue, String... ids) {
+        List<Document> documents = new ArrayList<>();
+        for (String id : ids) {
+            documents.add(new Document(id, "본문 " + id, Map.of("type", type.getLabel(), "sourceId", sourceId)));
+        }
+        return new SourceChunks(type, sourceId, hash, sourceKey, sourceKeyValue, documents);
+    }
+
+    private static List<Document> documents(SourceChunks... items) {
+        List<Document> documents = new ArrayList<>();
+        for (SourceChunks item : items) {
+            documents.addAll(item.documents());
+        }
+        return documents;
+    }
+}
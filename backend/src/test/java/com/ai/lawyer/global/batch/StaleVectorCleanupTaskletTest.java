@@ -0,0 +1,108 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceState;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.repository.VectorSourceStateRepository;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StaleVectorCleanupTasklet 테스트")
+class StaleVectorCleanupTaskletTest {
+
+    private VectorSourceStateRepository vectorSourceStateRepository;
+    private VectorDocumentWriter vectorDocumentWriter;
+    private StaleVectorCleanupTasklet tasklet;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        vectorSourceStateRepository = mock(VectorSourceStateRepository.class);
+        vectorDocumentWriter = mock(VectorDocumentWriter.class);
+        when(vectorDocumentWriter.deleteBySource(any(), anyLong(), isNull(), isNull())).thenReturn(List.of("a", "b"));
+        tasklet = new StaleVectorCleanupTasklet(vectorSourceStateRepository, vectorDocumentWriter);
+        stepExecution = new JobExecution(new JobInstance(1L, "dataVectorizationJob"), new JobParameters())
+                .createStepExecution("staleVectorCleanupStep");
+    }
+
+    @Test
+    @DisplayName("판례 고아 상태가 한 페이지를 채우면 법령은 조회하지 않고 다음 반복으로 넘긴다")
+    void execute_FullPrecedentPageContinues() throws Exception {
+        when(vectorSourceStateRepository.findOrphanedPrecedentStates(Limit.of(100)))
+                .thenReturn(states(VectorSourceType.PRECEDENT, 1, 100));
+
+        RepeatStatus status = execute();
+
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        verify(vectorSourceStateRepository, never()).findOrphanedLawStates(any());
+        verify(vectorDocumentWriter, times(100)).deleteBySource(eq("판례"), anyLong(), isNull(), isNull());
+        assertThat(stepExecution.getExecutionContext().getLong("removedSources")).isEqualTo(100L);
+        assertThat(stepExecution.getExecutionContext().getLong("removedChunks")).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("판례로 채우지 못한 만큼만 법령을 조회하고, 페이지가 차지 않으면 끝낸다")
+    void execute_FillsRemainderWithLawsAndFinishes() throws Exception {
+        List<VectorSourceState> precedents = states(VectorSourceType.PRECEDENT, 1, 30);
+        List<VectorSourceState> laws = states(VectorSourceType.LAW, 1, 20);
+        when(vectorSourceStateRepository.findOrphanedPrecedentStates(Limit.of(100))).thenReturn(precedents);
+        when(vectorSourceStateRepository.findOrphanedLawStates(Limit.of(70))).thenReturn(laws);
+
+        RepeatStatus status = execute();
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(vectorDocumentWriter, times(20)).deleteBySource(eq("법령"), anyLong(), isNull(), isNull());
+        verify(vectorSourceStateRepository).deleteAll(Stream.concat(precedents.stream(), laws.stream()).toList());
+        assertThat(stepExecution.getExecutionContext().getLong("removedSources")).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("반복 실행 시 정리 건수를 누적한다")
+    void execute_AccumulatesAcrossIterations() throws Exception {
+        when(vectorSourceStateRepository.findOrphanedPrecedentStates(Limit.of(100)))
+                .thenReturn(states(VectorSourceType.PRECEDENT, 1, 100), List.of());
+        when(vectorSourceStateRepository.findOrphanedLawStates(Limit.of(100))).thenReturn(List.of());
+
+        assertThat(execute()).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(execute()).isEqualTo(RepeatStatus.FINISHED);
+
+        assertThat(stepExecution.getExecutionContext().getLong("removedSources")).isEqualTo(100L);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(100L);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private RepeatStatus execute() throws Exception {
+        StepContribution contribution = stepExecution.createStepContribution();
+        RepeatStatus status = tasklet.execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+        stepExecution.apply(contribution);
+        return status;
+    }
+
+    private static List<VectorSourceState> states(VectorSourceType type, long fromId, int count) {
+        return LongStream.range(fromId, fromId + count)
+                .mapToObj(id -> VectorSourceState.builder().id(id).sourceType(type).sourceId(id).contentHash("hash").build())
+                .toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.domain.vector.entity.VectorSyncWatermark;
+import com.ai.lawyer.domain.vector.repository.VectorSyncWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("VectorizationStepListener 테스트")
+class VectorizationStepListenerTest {
+
+    private final List<Long> rows = LongStream.rangeClosed(1, 50).boxed().toList();
+    private final List<Long> queriedAfter = new ArrayList<>();
+
+    private VectorSyncWatermarkRepository watermarkRepository;
+    private VectorizationStepListener listener;
+
+    @BeforeEach
+    void setUp() {
+        watermarkRepository = mock(VectorSyncWatermarkRepository.class);
+        when(watermarkRepository.findById(VectorSourceType.PRECEDENT)).thenReturn(Optional.of(watermark(10L)));
+        listener = new VectorizationStepListener(VectorSourceType.PRECEDENT, "precedentVectorizationWorker",
+                () -> 50L,
+                (lastId, limit) -> {
+                    queriedAfter.add(lastId);
+                    return rows.stream().filter(id -> id > lastId).limit(limit).toList();
+                },
+                20, watermarkRepository);
+    }
+
+    @Test
+    @DisplayName("증분 모드는 워터마크 이후 최대 행 수까지를 범위로 잡는다")
+    void beforeStep_IncrementalRangeFromWatermark() {
+        StepExecution stepExecution = stepExecution(DataVectorizationJobConfig.MODE_INCREMENTAL);
+
+        listener.beforeStep(stepExecution);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        assertThat(context.getLong(VectorizationStepListener.RANGE_START_AFTER_ID_KEY)).isEqualTo(10L);
+        assertThat(context.getLong(VectorizationStepListener.RANGE_MAX_ID_KEY)).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("전체 모드는 처음부터 최대 id까지를 범위로 잡는다")
+    void beforeStep_FullRange() {
+        StepExecution stepExecution = stepExecution(DataVectorizationJobConfig.MODE_FULL);
+
+        listener.beforeStep(stepExecution);
+
+        assertThat(stepExecution.getExecutionContext().getLong(VectorizationStepListener.RANGE_START_AFTER_ID_KEY)).isZero();
+        assertThat(stepExecution.getExecutionContext().getLong(VectorizationStepListener.RANGE_MAX_ID_KEY)).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("재시작하면 저장된 범위를 그대로 쓰고 다시 계산하지 않는다")
+    void beforeStep_RestartKeepsRange() {
+        StepExecution stepExecution = stepExecution(DataVectorizationJobConfig.MODE_INCREMENTAL);
+        stepExecution.getExecutionContext().putLong(VectorizationStepListener.RANGE_START_AFTER_ID_KEY, 5L);
+        stepExecution.getExecutionContext().putLong(VectorizationStepListener.RANGE_MAX_ID_KEY, 25L);
+
+        listener.beforeStep(stepExecution);
+
+        assertThat(stepExecution.getExecutionContext().getLong(VectorizationStepListener.RANGE_START_AFTER_ID_KEY)).isEqualTo(5L);
+        assertThat(stepExecution.getExecutionContext().getLong(VectorizationStepListener.RANGE_MAX_ID_KEY)).isEqualTo(25L);
+        assertThat(queriedAfter).isEmpty();
+        verify(watermarkRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("정상 완료된 경우에만 워터마크를 범위 끝으로 올린다")
+    void afterStep_AdvancesWatermarkOnlyWhenCompleted() {
+        StepExecution failed = stepExecution(DataVectorizationJobConfig.MODE_INCREMENTAL);
+        listener.beforeStep(failed);
+        failed.setStatus(BatchStatus.FAILED);
+        listener.afterStep(failed);
+        verify(watermarkRepository, never()).save(any());
+
+        StepExecution completed = stepExecution(DataVectorizationJobConfig.MODE_INCREMENTAL);
+        listener.beforeStep(completed);
+        completed.setStatus(BatchStatus.COMPLETED);
+        listener.afterStep(completed);
+        ArgumentCaptor<VectorSyncWatermark> saved = ArgumentCaptor.forClass(VectorSyncWatermark.class);
+        verify(watermarkRepository).save(saved.capture());
+        assertThat(saved.getValue().getLastSourceId()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("전체 모드 완료는 워터마크를 되돌리지 않는다")
+    void afterStep_FullModeNeverLowersWatermark() {
+        when(watermarkRepository.findById(VectorSourceType.PRECEDENT)).thenReturn(Optional.of(watermark(80L)));
+        StepExecution stepExecution = stepExecution(DataVectorizationJobConfig.MODE_FULL);
+        listener.beforeStep(stepExecution);
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+
+        listener.afterStep(stepExecution);
+
+        verify(watermarkRepository, never()).save(any());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static StepExecution stepExecution(String mode) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "dataVectorizationJob"),
+                new JobParametersBuilder().addString(DataVectorizationJobConfig.MODE_PARAMETER, mode).toJobParameters());
+        return jobExecution.createStepExecution("precedentVectorizationStep");
+    }
+
+    private static VectorSyncWatermark watermark(Long lastSourceId) {
+        return VectorSyncWatermark.builder().sourceType(VectorSourceType.PRECEDENT).lastSourceId(lastSourceId).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveBatchSizer 테스트")
+class AdaptiveBatchSizerTest {
+
+    private EmbeddingWriteProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmbeddingWriteProperties();
+        properties.setInitialTokens(1000);
+        properties.setMinTokens(100);
+        properties.setMaxTokens(1600);
+        properties.setIncreaseTokens(200);
+        properties.setTargetLatencyMillis(500);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("목표 지연 안에 끝나면 더하기로 늘리고 최대 크기를 넘지 않는다")
+    void onSuccess_IncreasesAdditively() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(properties, meterRegistry);
+
+        sizer.onSuccess(100);
+        assertThat(sizer.currentTokens()).isEqualTo(1200);
+
+        for (int i = 0; i < 10; i++) {
+            sizer.onSuccess(100);
+        }
+        assertThat(sizer.currentTokens()).isEqualTo(1600);
+    }
+
+    @Test
+    @DisplayName("목표 지연을 넘기거나 실패하면 곱하기로 줄이고 최소 크기 아래로 내려가지 않는다")
+    void slowOrFailure_DecreasesMultiplicatively() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(properties, meterRegistry);
+
+        sizer.onSuccess(900);
+        assertThat(sizer.currentTokens()).isEqualTo(500);
+
+        sizer.onFailure();
+        sizer.onFailure();
+        sizer.onFailure();
+        assertThat(sizer.currentTokens()).isEqualTo(100);
+        assertThat(meterRegistry.counter("embedding.write.failures").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("embedding.write.batch.tokens").gauge().value()).isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("BatchingEmbeddingModel 테스트")
+class BatchingEmbeddingModelTest {
+
+    private RecordingEmbeddingModel delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchingEmbeddingModel batchingEmbeddingModel;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingEmbeddingModel();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        batchingEmbeddingModel.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 질의는 하나의 배치 호출로 묶이고 각 호출자는 자기 결과를 받는다")
+    void concurrentQueries_AreBatched() {
+        // given
+        start(8, 1);
+        List<CompletableFuture<float[]>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(batchingEmbeddingModel.embedAsync("질의" + i));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        for (int i = 0; i < 8; i++) {
+            assertThat(futures.get(i).join()[0]).isEqualTo(("질의" + i).hashCode());
+        }
+        assertThat(delegate.batchSizes).containsExactly(8);
+        assertThat(meterRegistry.get("embedding.query.requests").counter().count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("같은 배치 안의 동일한 질의는 한 번만 임베딩한다")
+    void duplicateQueries_AreEmbeddedOnce() {
+        // given
+        start(2, 1);
+
+        // when
+        CompletableFuture<float[]> first = batchingEmbeddingModel.embedAsync("손해배상");
+        CompletableFuture<float[]> second = batchingEmbeddingModel.embedAsync("손해배상");
+
+        // then
+        assertThat(first.join()).isEqualTo(second.join());
+        assertThat(delegate.batchSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("동기 embed 호출도 배치 디스패처를 거쳐 결과를 반환한다")
+    void embed_ReturnsResult() {
+        // given
+        start(1, 1);
+
+        // when
+        float[] result = batchingEmbeddingModel.embed("임대차");
+
+        // then
+        assertThat(result[0]).isEqualTo("임대차".hashCode());
+        assertThat(delegate.batchSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에서 꺼냈지만 제출하지 못한 배치의 호출자는 바로 실패한다")
+    void destroy_FailsDrainedBatch() throws Exception {
+        // given - 첫 배치가 임베딩 호출에 묶여 있어 두 번째 배치는 동시 배치 수 제한에서 대기
+        start(1, 1);
+        delegate.release = new CountDownLatch(1);
+        CompletableFuture<float[]> first = batchingEmbeddingModel.embedAsync("첫 질의");
+        assertThat(delegate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<float[]> second = batchingEmbeddingModel.embedAsync("두 번째 질의");
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("embedding.queue.depth").gauge().value() == 0);
+
+        // when
+        batchingEmbeddingModel.destroy();
+
+        // then
+        assertThat(second).isCompletedExceptionally();
+        delegate.release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)[0]).isEqualTo("첫 질의".hashCode());
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 대기 시간 창이 아니라 배치 크기로만 배치가 끝나도록 최대 대기 시간을 충분히 길게 설정
+     */
+    private void start(int maxBatchSize, int maxConcurrentBatches) {
+        EmbeddingBatchProperties properties = new EmbeddingBatchProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setMaxConcurrentBatches(maxConcurrentBatches);
+        properties.setMaxWaitMillis(TimeUnit.MINUTES.toMillis(1));
+        batchingEmbeddingModel = new BatchingEmbeddingModel(delegate, properties, meterRegistry);
+    }
+
+    private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchSizes.add(request.getInstructions().size());
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                embeddings.add(new Embedding(new float[]{request.getInstructions().get(i).hashCode()}, i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return new float[]{document.getText().hashCode()};
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ai.lawyer.global.embedding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachingEmbeddingModel 테스트")
+class CachingEmbeddingModelTest {
+
+    private CountingEmbeddingModel delegate;
+    private InMemoryCacheStore cacheStore;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingEmbeddingModel cachingEmbeddingModel;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingEmbeddingModel();
+        cacheStore = new InMemoryCacheStore();
+        meterRegistry = new SimpleMeterRegistry();
+        cachingEmbeddingModel = new CachingEmbeddingModel(delegate, cacheStore, "kure-v1", true, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 본문만 중복 없이 모델로 계산하고, 다시 요청하면 모델을 호출하지 않는다")
+    void embed_UsesCacheForUnchangedText() {
+        List<float[]> first = cachingEmbeddingModel.embed(List.of("민법 제750조", "근로기준법 제23조", "민법 제750조"));
+        List<float[]> second = cachingEmbeddingModel.embed(List.of("근로기준법 제23조", "민법 제750조", "형법 제250조"));
+
+        assertThat(delegate.embeddedTexts).containsExactly("민법 제750조", "근로기준법 제23조", "형법 제250조");
+        assertThat(first.get(0)).isEqualTo(first.get(2));
+        assertThat(second.get(0)).isEqualTo(first.get(1));
+        assertThat(second.get(1)).isEqualTo(first.get(0));
+        assertThat(meterRegistry.counter("embedding.cache.hits", "model", "kure-v1").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("embedding.cache.misses", "model", "kure-v1").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("모델 id가 다르면 캐시를 공유하지 않는다")
+    void embed_SeparatesModels() {
+        cachingEmbeddingModel.embed(List.of("민법 제750조"));
+        new CachingEmbeddingModel(delegate, cacheStore, "bge-m3", true, meterRegistry).embed(List.of("민법 제750조"));
+
+        assertThat(delegate.embeddedTexts).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("벡터는 float32 little-endian 바이트로 손실 없이 저장된다")
+    void encodeDecode_RoundTrip() {
+        float[] vector = {0.1f, -2.5f, Float.MIN_VALUE, 1e10f};
+
+        byte[] encoded = EmbeddingCacheStore.encode(vector);
+
+        assertThat(encoded).hasSize(vector.length * Float.BYTES);
+        assertThat(EmbeddingCacheStore.decode(encoded)).containsExactly(vector);
+    }
+
+    // ==================== Helper Classes ====================
+
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        private final List<String> embeddedTexts = new ArrayList<>();
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                String text = request.getInstructions().get(i);
+                embeddedTexts.add(text);
+                embeddings.add(new Embedding(new float[]{text.hashCode(), text.length()}, i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embed(document.getText());
+        }
+    }
+
+    private static class InMemoryCacheStore extends EmbeddingCacheStore {
+
+        private final Map<String, float[]> entries = new HashMap<>();
+
+        InMemoryCacheStore() {
+            super(null, new EmbeddingCacheProperties(), null, null);
+        }
+
+        @Override
+        public Map<String, float[]> getAll(String model, Collection<String> textHashes) {
+            Map<String, float[]> found = new HashMap<>();
+            textHashes.forEach(hash -> {
+                float[] vector = entries.get(model + ":" + hash);
+                if (vector != null) {
+                    found.put(hash, vector);
+                }
+            });
+            return found;
+        }
+
+        @Override
+        public void putAll(String model, Map<String, float[]> embeddings) {
+            embeddings.forEach((hash, vector) -> entries.put(model + ":" + hash, vector));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ai.lawyer.global.embedding;
+
+import com.ai.lawyer.domain.vector.repository.EmbeddingCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("EmbeddingCacheStore 테스트")
+class EmbeddingCacheStoreTest {
+
+    @Autowired
+    private EmbeddingCacheStore embeddingCacheStore;
+
+    @Autowired
+    private EmbeddingCacheRepository embeddingCacheRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 캐시 저장은 별도 트랜잭션에서 커밋되므로 테스트마다 다른 모델 id 사용
+    private final String model = "test-" + UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        embeddingCacheRepository.deleteAll(embeddingCacheRepository.findByModelAndTextHashIn(model, List.of("a", "b")));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 키를 다시 저장해도 호출자 트랜잭션이 롤백 전용으로 바뀌지 않고 새 키만 저장된다")
+    void putAll_DuplicateKeepsCallerTransaction() {
+        embeddingCacheStore.putAll(model, Map.of("a", new float[]{1f, 2f}));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            embeddingCacheStore.putAll(model, Map.of("a", new float[]{9f, 9f}, "b", new float[]{3f, 4f}));
+            assertThat(status.isRollbackOnly()).isFalse();
+        });
+
+        Map<String, float[]> found = embeddingCacheStore.getAll(model, List.of("a", "b"));
+        assertThat(found.get("a")).containsExactly(1f, 2f);
+        assertThat(found.get("b")).containsExactly(3f, 4f);
+    }
+}
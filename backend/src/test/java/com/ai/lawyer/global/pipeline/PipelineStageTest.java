@@ -0,0 +1,106 @@
+package com.ai.lawyer.global.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PipelineStage 테스트")
+class PipelineStageTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("단계를 이어 모든 항목을 처리하고, 앞 단계를 닫으면 마지막 단계까지 종료된다")
+    void chainedStages_ProcessAllAndClose() throws Exception {
+        ConcurrentLinkedQueue<Integer> results = new ConcurrentLinkedQueue<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        PipelineStage<Integer, Void> sum = new PipelineStage<>("sum", 1, 4, 5, 50,
+                (batch, sink) -> {
+                    batchSizes.add(batch.size());
+                    results.addAll(batch);
+                }, null, meterRegistry);
+        PipelineStage<Integer, Integer> square = new PipelineStage<>("square", 3, 4, 1, 50,
+                (batch, sink) -> {
+                    for (Integer value : batch) {
+                        sink.put(value * value);
+                    }
+                }, sum, meterRegistry);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            sum.start(executor);
+            square.start(executor);
+            for (int i = 1; i <= 20; i++) {
+                square.put(i);
+            }
+            square.close();
+            assertThat(sum.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(results).hasSize(20).contains(1, 4, 400);
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 5));
+        assertThat(square.getProcessedCount()).isEqualTo(20);
+        assertThat(sum.getProcessedCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 앞 단계의 put이 대기한다")
+    void fullQueue_BlocksProducer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PipelineStage<Integer, Void> slow = new PipelineStage<>("slow", 1, 2, 1, 50,
+                (batch, sink) -> release.await(), null, meterRegistry);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            slow.start(executor);
+            slow.put(1); // 워커가 꺼내 처리 중
+            Thread.sleep(50);
+            slow.put(2);
+            slow.put(3); // 대기열(2) 가득 참
+
+            Future<?> blocked = executor.submit(() -> {
+                slow.put(4);
+                return null;
+            });
+            Thread.sleep(100);
+            assertThat(blocked.isDone()).isFalse();
+            assertThat(slow.getQueueDepth()).isEqualTo(2);
+
+            release.countDown();
+            blocked.get(1, TimeUnit.SECONDS);
+            slow.close();
+            assertThat(slow.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(slow.getProcessedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("항목 처리 실패는 기록만 하고 다음 항목을 계속 처리한다")
+    void failure_IsCountedAndSkipped() throws Exception {
+        AtomicInteger handled = new AtomicInteger();
+        PipelineStage<Integer, Void> stage = new PipelineStage<>("flaky", 2, 8, 1, 50,
+                (batch, sink) -> {
+                    if (batch.get(0) % 3 == 0) {
+                        throw new IllegalStateException("parse error");
+                    }
+                    handled.incrementAndGet();
+                }, null, meterRegistry);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            stage.start(executor);
+            for (int i = 1; i <= 9; i++) {
+                stage.put(i);
+            }
+            stage.close();
+            assertThat(stage.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(handled.get()).isEqualTo(6);
+        assertThat(stage.getFailedCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("ingestion.stage.failed", "stage", "flaky").count()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,218 @@
+package com.ai.lawyer.global.pipeline;
+
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import com.ai.lawyer.domain.vector.entity.VectorSourceType;
+import com.ai.lawyer.global.batch.SourceChunker;
+import com.ai.lawyer.global.batch.SourceChunks;
+import com.ai.lawyer.global.batch.SourceChunksWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PrecedentIngestionPipeline 테스트")
+class PrecedentIngestionPipelineTest {
+
+    private static final String QUERY = "손해배상";
+
+    private PrecedentService precedentService;
+    private PrecedentRepository precedentRepository;
+    private SourceChunker sourceChunker;
+    private SourceChunksWriter sourceChunksWriter;
+    private IngestionPipelineProperties properties;
+
+    // 단계별 처리 기록 ("fetch:1", "persist:1:true", "write:1", "clear:1")
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final Set<Long> cleared = ConcurrentHashMap.newKeySet();
+    private volatile List<List<String>> searchPages = List.of();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        precedentService = mock(PrecedentService.class);
+        precedentRepository = mock(PrecedentRepository.class);
+        sourceChunker = mock(SourceChunker.class);
+        sourceChunksWriter = mock(SourceChunksWriter.class);
+
+        properties = new IngestionPipelineProperties();
+        properties.setMaxWaitMillis(50);
+        properties.setFetchRequestsPerSecond(1000);
+        properties.setFetchRetryBackoff(Duration.ofMillis(10));
+
+        doAnswer(invocation -> {
+            Consumer<List<String>> pageConsumer = invocation.getArgument(1);
+            searchPages.forEach(pageConsumer);
+            return null;
+        }).when(precedentService).forEachPrecedentNumberPage(eq(QUERY), any());
+        when(precedentService.fetchPrecedentJson(anyString())).thenAnswer(invocation -> {
+            String precedentNumber = invocation.getArgument(0);
+            events.add("fetch:" + precedentNumber);
+            return precedentNumber;
+        });
+        when(precedentService.parsePrecedent(anyString())).thenAnswer(invocation -> precedent(invocation.getArgument(0)));
+        when(precedentService.savePrecedents(anyList())).thenAnswer(invocation -> {
+            List<Precedent> batch = invocation.getArgument(0);
+            for (Precedent precedent : batch) {
+                precedent.setId(Long.parseLong(precedent.getPrecedentNumber()));
+                events.add("persist:" + precedent.getId() + ":" + precedent.isVectorPending());
+            }
+            return batch;
+        });
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            ids.forEach(id -> events.add("clear:" + id));
+            cleared.addAll(ids);
+            return null;
+        }).when(precedentService).clearVectorPending(anyList());
+        when(sourceChunker.chunk(any(Precedent.class))).thenAnswer(invocation -> {
+            Precedent precedent = invocation.getArgument(0);
+            return precedent.getPrecedentContent().isBlank() ? null : chunks(precedent);
+        });
+        doAnswer(invocation -> {
+            Chunk<SourceChunks> chunk = invocation.getArgument(0);
+            chunk.forEach(chunks -> events.add("write:" + chunks.sourceId()));
+            return null;
+        }).when(sourceChunksWriter).write(any());
+        when(precedentRepository.findVectorPending(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("판례마다 조회 -> 미벡터화 표시 저장 -> 벡터 저장 -> 표시 해제 순서로 처리하고, 중복/기존 판례는 건너뛴다")
+    void run_ProcessesStagesInOrder() throws Exception {
+        searchPages = List.of(List.of("1", "2", "3"), List.of("3", "4", "5", "6"));
+        when(precedentService.existsByPrecedentNumber("5")).thenReturn(true);
+
+        IngestionResult result = pipeline().run(QUERY);
+
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(result.fetched()).isEqualTo(5);
+        assertThat(result.persisted()).isEqualTo(5);
+        assertThat(result.vectorized()).isEqualTo(4);
+        assertThat(result.failed()).isZero();
+        for (String id : List.of("1", "2", "3", "4")) {
+            assertThat(events.indexOf("fetch:" + id)).isNotNegative()
+                    .isLessThan(events.indexOf("persist:" + id + ":true"));
+            assertThat(events.indexOf("persist:" + id + ":true")).isLessThan(events.indexOf("write:" + id));
+            assertThat(events.indexOf("write:" + id)).isLessThan(events.indexOf("clear:" + id));
+        }
+        // 판례내용이 없는 판례는 벡터 저장 없이 표시만 해제
+        assertThat(events).doesNotContain("write:6", "fetch:5");
+        assertThat(cleared).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 6L);
+        verify(precedentService, times(1)).fetchPrecedentJson("3");
+    }
+
+    @Test
+    @DisplayName("벡터 저장이 막히면 대기열 크기만큼만 앞서 조회하고, 풀리면 모두 처리한다")
+    void run_BackpressureBoundsFetchAhead() throws Exception {
+        properties.setQueueCapacity(2);
+        properties.setFetchWorkers(1);
+        properties.setParseWorkers(1);
+        properties.setChunkWorkers(1);
+        properties.setWriteWorkers(1);
+        properties.setPersistBatchSize(1);
+        properties.setWriteBatchSize(1);
+        searchPages = List.of(IntStream.rangeClosed(1, 40).mapToObj(String::valueOf).toList());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(sourceChunksWriter).write(any());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<IngestionResult> running = executor.submit(() -> pipeline().run(QUERY));
+            Thread.sleep(300);
+            long fetchedWhileBlocked = fetchCount();
+            Thread.sleep(200);
+
+            // 단계마다 대기열 2개 + 처리 중 1개
+            assertThat(fetchedWhileBlocked).isLessThanOrEqualTo(15).isEqualTo(fetchCount());
+            assertThat(running.isDone()).isFalse();
+
+            release.countDown();
+            IngestionResult result = running.get(10, TimeUnit.SECONDS);
+            assertThat(result.fetched()).isEqualTo(40);
+            assertThat(result.vectorized()).isEqualTo(40);
+        }
+    }
+
+    @Test
+    @DisplayName("이 파이프라인이 저장만 하고 벡터화하지 못한 판례를 조회 없이 청크 단계부터 이어서 처리한다")
+    void run_ResumesVectorPending() throws Exception {
+        Precedent first = precedent("101");
+        first.setId(101L);
+        Precedent second = precedent("102");
+        second.setId(102L);
+        when(precedentRepository.findVectorPending(Limit.of(1000))).thenReturn(List.of(first, second));
+
+        IngestionResult result = pipeline().run(QUERY);
+
+        assertThat(result.vectorized()).isEqualTo(2);
+        assertThat(result.fetched()).isZero();
+        assertThat(events).contains("write:101", "write:102");
+        assertThat(cleared).containsExactlyInAnyOrder(101L, 102L);
+        verify(precedentService, never()).fetchPrecedentJson(anyString());
+        verify(precedentService, never()).savePrecedents(anyList());
+    }
+
+    @Test
+    @DisplayName("상세 조회 5xx는 재시도하고, 4xx는 재시도하지 않고 실패로 센다")
+    void run_RetriesFetch() throws Exception {
+        properties.setFetchMaxAttempts(3);
+        searchPages = List.of(List.of("1", "2"));
+        when(precedentService.fetchPrecedentJson("1"))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenReturn("1");
+        when(precedentService.fetchPrecedentJson("2")).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        IngestionResult result = pipeline().run(QUERY);
+
+        assertThat(result.vectorized()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        verify(precedentService, times(2)).fetchPrecedentJson("1");
+        verify(precedentService, times(1)).fetchPrecedentJson("2");
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PrecedentIngestionPipeline pipeline() {
+        return new PrecedentIngestionPipeline(precedentService, precedentRepository, sourceChunker, sourceChunksWriter,
+                properties, new SimpleMeterRegistry());
+    }
+
+    private long fetchCount() {
+        return new ArrayList<>(events).stream().filter(event -> event.startsWith("fetch:")).count();
+    }
+
+    private static Precedent precedent(String precedentNumber) {
+        Precedent precedent = new Precedent();
+        precedent.setPrecedentNumber(precedentNumber);
+        precedent.setPrecedentContent(precedentNumber.equals("6") ? "" : "판례내용" + precedentNumber);
+        return precedent;
+    }
+
+    private static SourceChunks chunks(Precedent precedent) {
+        return new SourceChunks(VectorSourceType.PRECEDENT, precedent.getId(), "hash", "caseNumber",
+                precedent.getCaseNumber(), List.of());
+    }
+}
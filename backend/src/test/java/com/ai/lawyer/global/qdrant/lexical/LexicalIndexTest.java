@@ -0,0 +1,90 @@
+package com.ai.lawyer.global.qdrant.lexical;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LexicalIndex 테스트")
+class LexicalIndexTest {
+
+    private LexicalIndex lexicalIndex;
+
+    @BeforeEach
+    void setUp() {
+        lexicalIndex = new LexicalIndex();
+        lexicalIndex.addAll(List.of(
+                new Document("a", "민법 제750조(불법행위의 내용) 고의 또는 과실로 인한 위법행위로 타인에게 손해를 가한 자는 그 손해를 배상할 책임이 있다.",
+                        Map.of("type", "법령", "lawName", "민법")),
+                new Document("b", "민법 제751조(재산 이외의 손해의 배상) 타인의 신체, 자유 또는 명예를 해하거나 기타 정신상고통을 가한 자는 재산 이외의 손해에 대하여도 배상할 책임이 있다.",
+                        Map.of("type", "법령", "lawName", "민법")),
+                new Document("c", "대법원 2020다12345 판결. 원고의 손해배상 청구를 기각한 원심을 파기한다.",
+                        Map.of("type", "판례", "caseNumber", "2020다12345"))));
+    }
+
+    @Test
+    @DisplayName("조문 번호는 공백 유무와 관계없이 정확히 일치하는 문서를 먼저 찾는다")
+    void articleNumber_ExactMatch() {
+        List<Document> results = lexicalIndex.search("민법 제 750 조 손해배상", "type", "법령", 2);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results.get(0).getId()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("사건번호로 판례를 찾고 메타데이터 필터를 적용한다")
+    void caseNumber_WithFilter() {
+        assertThat(lexicalIndex.search("2020다 12345 판결", "type", "판례", 5))
+                .extracting(Document::getId)
+                .containsExactly("c");
+        assertThat(lexicalIndex.search("2020다12345", "type", "법령", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 id로 다시 추가하면 기존 문서를 대체하고, 삭제한 문서는 검색되지 않는다")
+    void replaceAndRemove() {
+        lexicalIndex.addAll(List.of(new Document("c", "대법원 2021도999 판결", Map.of("type", "판례"))));
+        assertThat(lexicalIndex.size()).isEqualTo(3);
+        assertThat(lexicalIndex.search("2020다12345", null, null, 5)).isEmpty();
+
+        lexicalIndex.removeAll(List.of("a"));
+        assertThat(lexicalIndex.search("제750조", null, null, 5))
+                .extracting(Document::getId)
+                .doesNotContain("a");
+    }
+
+    @Test
+    @DisplayName("여러 번 대체된 문서가 있어도 문서 빈도는 살아 있는 문서만 세어 점수가 양수로 유지된다")
+    void replacedDocuments_KeepPositiveScore() {
+        for (int i = 0; i < 20; i++) {
+            lexicalIndex.addAll(List.of(new Document("c", "대법원 2020다12345 판결", Map.of("type", "판례"))));
+        }
+
+        List<Document> results = lexicalIndex.search("2020다12345", null, null, 5);
+
+        assertThat(results).extracting(Document::getId).containsExactly("c");
+        assertThat(results.get(0).getScore()).isPositive();
+    }
+
+    @Test
+    @DisplayName("삭제 표시가 쌓이면 압축해 내부 문서 수가 늘어나지 않고 검색 결과도 그대로다")
+    void replacedDocuments_AreCompacted() {
+        for (int i = 0; i < 3000; i++) {
+            lexicalIndex.addAll(List.of(new Document("c", "대법원 2020다12345 판결 " + i, Map.of("type", "판례"))));
+        }
+
+        assertThat(lexicalIndex.size()).isEqualTo(3);
+        assertThat(lexicalIndex.slotCount()).isLessThan(1500);
+        assertThat(lexicalIndex.search("2020다12345", "type", "판례", 5))
+                .extracting(Document::getId)
+                .containsExactly("c");
+        assertThat(lexicalIndex.search("제750조", "type", "법령", 5))
+                .extracting(Document::getId)
+                .startsWith("a");
+    }
+}
@@ -0,0 +1,218 @@
+package com.ai.lawyer.global.qdrant.reembed;
+
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.domain.vector.dto.SourceRowView;
+import com.ai.lawyer.domain.vector.entity.ReembeddingJob;
+import com.ai.lawyer.domain.vector.entity.ReembeddingStatus;
+import com.ai.lawyer.domain.vector.repository.ReembeddingJobRepository;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.embedding.EmbeddingCacheProperties;
+import com.ai.lawyer.global.embedding.EmbeddingCacheStore;
+import com.ai.lawyer.global.qdrant.collection.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.qdrant.schema.QdrantSchemaManager;
+import com.ai.lawyer.global.qdrant.service.QdrantPointScanner;
+import com.ai.lawyer.global.qdrant.service.VectorDocumentWriter;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
+import com.ai.lawyer.global.vectorstore.FailoverVectorStore;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import com.ai.lawyer.global.vectorstore.ShadowReadVectorStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Points.Condition;
+import io.qdrant.client.grpc.Points.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReembeddingService 테스트")
+class ReembeddingServiceTest {
+
+    private static final String TYPE = QdrantPartitionProperties.PRECEDENT;
+    private static final String ALIAS = "legal_precedents";
+    private static final String CONFIGURED_MODEL = "bge-m3";
+    private static final String NEW_MODEL = "bge-m3-v2";
+
+    @Mock
+    private QdrantClient qdrantClient;
+    @Mock
+    private QdrantCollectionManager collectionManager;
+    @Mock
+    private QdrantSchemaManager schemaManager;
+    @Mock
+    private QdrantPointScanner scanner;
+    @Mock
+    private ReembeddingJobRepository reembeddingJobRepository;
+    @Mock
+    private PrecedentRepository precedentRepository;
+    @Mock
+    private LawRepository lawRepository;
+    @Mock
+    private OllamaApi ollamaApi;
+    @Mock
+    private EmbeddingCacheStore embeddingCacheStore;
+    @Mock
+    private HnswVectorStore replica;
+
+    private ReembeddingProperties properties;
+    private VectorStoreRouter vectorStoreRouter;
+    private VectorStore livePrecedentStore;
+    private ReembeddingService reembeddingService;
+
+    @BeforeEach
+    void setUp() {
+        QdrantPartitionProperties partition = new QdrantPartitionProperties();
+        partition.setEnabled(true);
+        properties = new ReembeddingProperties();
+        properties.setModel(NEW_MODEL);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // 기동 시 VectorStoreConfig처럼 type별 저장소를 복제본 장애 전환 저장소로 감싼 라우터
+        UnaryOperator<VectorStore> decorator = store -> new FailoverVectorStore(store, replica, meterRegistry);
+        livePrecedentStore = decorator.apply(mock(VectorStore.class));
+        vectorStoreRouter = new VectorStoreRouter(mock(VectorStore.class),
+                Map.of(TYPE, livePrecedentStore, QdrantPartitionProperties.LAW, decorator.apply(mock(VectorStore.class))),
+                decorator);
+
+        reembeddingService = new ReembeddingService(qdrantClient, collectionManager, schemaManager, scanner, partition,
+                properties, vectorStoreRouter, reembeddingJobRepository, precedentRepository, lawRepository, ollamaApi,
+                embeddingCacheStore, new EmbeddingCacheProperties(), meterRegistry);
+        ReflectionTestUtils.setField(reembeddingService, "configuredModel", CONFIGURED_MODEL);
+    }
+
+    @Test
+    @DisplayName("적재 중에는 기존 저장소를 기본으로 한 비교 검색 저장소와 이중 저장 대상을 둔다")
+    void run_InstallsShadowReadWhileFilling() throws Exception {
+        properties.setSwapOnComplete(false);
+        properties.getDualRead().setEnabled(true);
+        givenNewJob();
+        List<VectorStore> storesDuringFill = new ArrayList<>();
+        when(precedentRepository.findSourceRowsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            storesDuringFill.add(vectorStoreRouter.forType(TYPE));
+            assertThat(vectorStoreRouter.dualWriteTarget(TYPE)).isPresent();
+            return List.of();
+        });
+
+        ReembeddingJob job = reembeddingService.run(TYPE);
+
+        assertThat(storesDuringFill).singleElement().isInstanceOf(ShadowReadVectorStore.class);
+        assertThat(((ShadowReadVectorStore) storesDuringFill.get(0)).getPrimary()).isSameAs(livePrecedentStore);
+        assertThat(job.getStatus()).isEqualTo(ReembeddingStatus.RUNNING);
+        verify(collectionManager, never()).switchAlias(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("완료하면 별칭을 교체하고 기동 시와 같이 감싼 저장소와 새 문서 임베딩 모델로 바꾼다")
+    void run_SwapsDecoratedStoreAndDocumentModel() throws Exception {
+        givenNewJob();
+        when(precedentRepository.findSourceRowsAfter(eq(0L), any())).thenReturn(List.of());
+
+        ReembeddingJob job = reembeddingService.run(TYPE);
+
+        assertThat(job.getStatus()).isEqualTo(ReembeddingStatus.SWAPPED);
+        verify(collectionManager).switchAlias(ALIAS, job.getTargetCollection());
+        assertThat(vectorStoreRouter.forType(TYPE)).isInstanceOf(FailoverVectorStore.class);
+        assertThat(((FailoverVectorStore) vectorStoreRouter.forType(TYPE)).getReplica()).isSameAs(replica);
+        assertThat(vectorStoreRouter.documentModel(TYPE)).map(CachingEmbeddingModel::getModelId).contains(NEW_MODEL);
+        assertThat(vectorStoreRouter.documentModel(QdrantPartitionProperties.LAW)).isEmpty();
+        assertThat(vectorStoreRouter.dualWriteTarget(TYPE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 기존 저장소와 모델로 되돌리고 별칭은 그대로 둔다")
+    void run_RollsBackOnFailure() throws Exception {
+        properties.getDualRead().setEnabled(true);
+        givenNewJob();
+        when(precedentRepository.findSourceRowsAfter(eq(0L), any())).thenThrow(new IllegalStateException("db down"));
+
+        ReembeddingJob job = reembeddingService.run(TYPE);
+
+        assertThat(job.getStatus()).isEqualTo(ReembeddingStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("db down");
+        assertThat(vectorStoreRouter.forType(TYPE)).isSameAs(livePrecedentStore);
+        assertThat(vectorStoreRouter.documentModel(TYPE)).isEmpty();
+        assertThat(vectorStoreRouter.dualWriteTarget(TYPE)).isEmpty();
+        verify(collectionManager, never()).switchAlias(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("원본 행의 청크는 sourceId로 찾고, 사건번호는 sourceId가 없는 기존 청크에만 쓴다")
+    void run_SelectsChunksBySourceId() throws Exception {
+        properties.setSwapOnComplete(false);
+        givenNewJob();
+        when(precedentRepository.findSourceRowsAfter(eq(0L), any())).thenReturn(List.of(sourceRow(42L, "2020다12345")));
+
+        reembeddingService.run(TYPE);
+
+        ArgumentCaptor<Filter> filter = ArgumentCaptor.forClass(Filter.class);
+        verify(scanner).scan(eq("legal_precedents_v1"), filter.capture(), anyBoolean(), anyInt(), any());
+        Filter sourceMatch = filter.getValue().getMust(1).getFilter();
+        Condition bySourceId = sourceMatch.getShould(0);
+        assertThat(bySourceId.getField().getKey()).isEqualTo(VectorDocumentWriter.SOURCE_ID_KEY);
+        assertThat(bySourceId.getField().getMatch().getInteger()).isEqualTo(42L);
+        Filter legacy = sourceMatch.getShould(1).getFilter();
+        assertThat(legacy.getMust(0).getField().getMatch().getKeyword()).isEqualTo("2020다12345");
+        assertThat(legacy.getMust(1).getIsEmpty().getKey()).isEqualTo(VectorDocumentWriter.SOURCE_ID_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 교체한 별칭도 감싼 저장소와 새 문서 임베딩 모델로 맞춘다")
+    void syncSwappedModels_KeepsDecoration() throws Exception {
+        when(collectionManager.aliases()).thenReturn(Map.of(ALIAS, "legal_precedents_v2", "legal_laws", "legal_laws_v1"));
+        when(reembeddingJobRepository.findFirstByTargetCollectionOrderByIdDesc("legal_precedents_v2"))
+                .thenReturn(Optional.of(ReembeddingJob.builder().model(NEW_MODEL).build()));
+        when(reembeddingJobRepository.findFirstByTargetCollectionOrderByIdDesc("legal_laws_v1")).thenReturn(Optional.empty());
+
+        reembeddingService.syncSwappedModels();
+
+        assertThat(vectorStoreRouter.forType(TYPE)).isInstanceOf(FailoverVectorStore.class).isNotSameAs(livePrecedentStore);
+        assertThat(vectorStoreRouter.documentModel(TYPE)).map(CachingEmbeddingModel::getModelId).contains(NEW_MODEL);
+        assertThat(vectorStoreRouter.documentModel(QdrantPartitionProperties.LAW)).isEmpty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void givenNewJob() throws Exception {
+        when(reembeddingJobRepository.findFirstByAliasAndStatusOrderByIdDesc(ALIAS, ReembeddingStatus.RUNNING))
+                .thenReturn(Optional.empty());
+        when(collectionManager.aliases()).thenReturn(Map.of(ALIAS, "legal_precedents_v1"));
+        when(reembeddingJobRepository.save(any(ReembeddingJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static SourceRowView sourceRow(Long id, String sourceKey) {
+        return new SourceRowView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSourceKey() {
+                return sourceKey;
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.QdrantGrpcClient;
+import io.qdrant.client.grpc.Collections;
+import io.qdrant.client.grpc.JsonWithInt.Value;
+import io.qdrant.client.grpc.Points.Filter;
+import io.qdrant.client.grpc.Points.PointStruct;
+import io.qdrant.client.grpc.Points.SearchPoints;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+import static io.qdrant.client.PointIdFactory.id;
+import static io.qdrant.client.ValueFactory.value;
+import static io.qdrant.client.VectorsFactory.vectors;
+
+/**
+ * payload 인덱스 생성 전/후 필터 검색 지연 비교 (실행 중인 Qdrant 필요)
+ * <p>
+ * 실행: QDRANT_HOST=localhost QDRANT_PORT=6334 ./gradlew benchmark --tests '*PayloadIndexBenchmarkTest'
+ * <p>
+ * 임시 컬렉션에 판례/법령 청크를 흉내 낸 포인트를 넣고, type / caseNumber 필터 검색 평균 지연을 출력한 뒤 컬렉션을 삭제한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Qdrant payload 인덱스 벤치마크")
+class PayloadIndexBenchmarkTest {
+
+    private static final int DIMENSIONS = 256;
+    private static final int POINT_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUERY_COUNT = 200;
+
+    private final String collectionName = "payload_index_bench_" + System.currentTimeMillis();
+    private final Random random = new Random(3);
+    private QdrantClient qdrantClient;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String host = Optional.ofNullable(System.getenv("QDRANT_HOST")).orElse("localhost");
+        int port = Integer.parseInt(Optional.ofNullable(System.getenv("QDRANT_PORT")).orElse("6334"));
+        qdrantClient = new QdrantClient(QdrantGrpcClient.newBuilder(host, port, false).build());
+        try {
+            qdrantClient.listCollectionsAsync().get(3, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            qdrantClient.close();
+            Assumptions.abort("Qdrant에 연결할 수 없어 건너뜁니다: " + host + ":" + port);
+        }
+
+        qdrantClient.createCollectionAsync(collectionName, Collections.VectorParams.newBuilder()
+                .setSize(DIMENSIONS)
+                .setDistance(Collections.Distance.Cosine)
+                .build()).get();
+
+        List<PointStruct> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < POINT_COUNT; i++) {
+            // 판례 80% (사건당 청크 5개), 법령 20%
+            boolean precedent = i % 5 != 0;
+            Map<String, Value> payload = new HashMap<>();
+            payload.put("type", value(precedent ? "판례" : "법령"));
+            payload.put("chunkIndex", value(i % 5));
+            if (precedent) {
+                payload.put("caseNumber", value(caseNumber(i / 5)));
+            } else {
+                payload.put("lawName", value("법령" + (i / 50)));
+            }
+            batch.add(PointStruct.newBuilder()
+                    .setId(id(i))
+                    .setVectors(vectors(randomVector()))
+                    .putAllPayload(payload)
+                    .build());
+            if (batch.size() == BATCH_SIZE) {
+                qdrantClient.upsertAsync(collectionName, batch).get();
+                batch.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (qdrantClient != null) {
+            qdrantClient.deleteCollectionAsync(collectionName).get();
+            qdrantClient.close();
+        }
+    }
+
+    @Test
+    @DisplayName("type / caseNumber 필터 검색 지연 (인덱스 전/후)")
+    void filteredSearchLatency() throws Exception {
+        double typeBefore = measure(() -> Filter.newBuilder().addMust(matchKeyword("type", "법령")).build());
+        double caseBefore = measure(() -> Filter.newBuilder()
+                .addMust(matchKeyword("caseNumber", caseNumber(random.nextInt(POINT_COUNT / 5)))).build());
+
+        QdrantSchemaManager schemaManager = new QdrantSchemaManager(qdrantClient, new QdrantSchemaProperties(), new SimpleMeterRegistry());
+        long startTime = System.currentTimeMillis();
+        schemaManager.reconcile(collectionName);
+        long indexMillis = System.currentTimeMillis() - startTime;
+
+        double typeAfter = measure(() -> Filter.newBuilder().addMust(matchKeyword("type", "법령")).build());
+        double caseAfter = measure(() -> Filter.newBuilder()
+                .addMust(matchKeyword("caseNumber", caseNumber(random.nextInt(POINT_COUNT / 5)))).build());
+
+        System.out.printf("포인트 %d개, 인덱스 생성 %dms%n", POINT_COUNT, indexMillis);
+        System.out.printf("%-12s %12s %12s%n", "filter", "before ms", "after ms");
+        System.out.printf("%-12s %12.2f %12.2f%n", "type", typeBefore, typeAfter);
+        System.out.printf("%-12s %12.2f %12.2f%n", "caseNumber", caseBefore, caseAfter);
+    }
+
+    private double measure(Supplier<Filter> filters) throws Exception {
+        // 워밍업
+        for (int i = 0; i < 10; i++) {
+            search(filters.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            search(filters.get());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / QUERY_COUNT;
+    }
+
+    private void search(Filter filter) throws Exception {
+        List<Float> query = new ArrayList<>(DIMENSIONS);
+        for (float value : randomVector()) {
+            query.add(value);
+        }
+        qdrantClient.searchAsync(SearchPoints.newBuilder()
+                .setCollectionName(collectionName)
+                .addAllVector(query)
+                .setFilter(filter)
+                .setLimit(5)
+                .build()).get();
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static String caseNumber(int caseIndex) {
+        return (2000 + caseIndex % 25) + "다" + caseIndex;
+    }
+}
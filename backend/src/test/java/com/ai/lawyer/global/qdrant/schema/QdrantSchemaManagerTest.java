@@ -0,0 +1,116 @@
+package com.ai.lawyer.global.qdrant.schema;
+
+import com.google.common.util.concurrent.Futures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Collections.CollectionInfo;
+import io.qdrant.client.grpc.Collections.PayloadSchemaInfo;
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QdrantSchemaManager 테스트")
+class QdrantSchemaManagerTest {
+
+    private static final String COLLECTION = "legal_cases";
+
+    @Mock
+    private QdrantClient qdrantClient;
+
+    private QdrantSchemaProperties properties;
+    private QdrantSchemaManager qdrantSchemaManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QdrantSchemaProperties();
+        qdrantSchemaManager = new QdrantSchemaManager(qdrantClient, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("누락/타입 불일치/미관리 인덱스를 구분해 보고한다")
+    void inspect_ReportsDrift() throws Exception {
+        when(qdrantClient.getCollectionInfoAsync(COLLECTION)).thenReturn(Futures.immediateFuture(collectionInfo(
+                "type", PayloadSchemaType.Keyword,
+                "chunkIndex", PayloadSchemaType.Keyword,
+                "court", PayloadSchemaType.Keyword)));
+
+        SchemaDrift drift = qdrantSchemaManager.inspect(COLLECTION);
+
+        assertThat(drift.missing()).containsExactly("caseNumber", "lawName", "jangId", "sourceId");
+        assertThat(drift.mismatched()).containsEntry("chunkIndex", PayloadSchemaType.Keyword).hasSize(1);
+        assertThat(drift.unmanaged()).containsExactly("court");
+        assertThat(drift.hasDrift()).isTrue();
+        assertThat(qdrantSchemaManager.getLastReports()).containsKey(COLLECTION);
+    }
+
+    @Test
+    @DisplayName("drop-mismatched를 켜면 누락된 인덱스는 만들고 타입이 다른 인덱스는 삭제 후 다시 만든다")
+    void reconcile_CreatesMissingAndRecreatesMismatched() throws Exception {
+        properties.setDropMismatched(true);
+        when(qdrantClient.getCollectionInfoAsync(COLLECTION))
+                .thenReturn(Futures.immediateFuture(collectionInfo(
+                        "type", PayloadSchemaType.Keyword,
+                        "caseNumber", PayloadSchemaType.Keyword,
+                        "lawName", PayloadSchemaType.Keyword,
+                        "chunkIndex", PayloadSchemaType.Keyword)))
+                .thenReturn(Futures.immediateFuture(collectionInfo(
+                        "type", PayloadSchemaType.Keyword,
+                        "caseNumber", PayloadSchemaType.Keyword,
+                        "lawName", PayloadSchemaType.Keyword,
+                        "chunkIndex", PayloadSchemaType.Integer,
+                        "jangId", PayloadSchemaType.Integer,
+                        "sourceId", PayloadSchemaType.Integer)));
+        when(qdrantClient.createPayloadIndexAsync(eq(COLLECTION), anyString(), any(), any(), any(), any(), any()))
+                .thenReturn(Futures.immediateFuture(null));
+        when(qdrantClient.deletePayloadIndexAsync(eq(COLLECTION), anyString(), any(), any(), any()))
+                .thenReturn(Futures.immediateFuture(null));
+
+        SchemaDrift remaining = qdrantSchemaManager.reconcile(COLLECTION);
+
+        verify(qdrantClient).createPayloadIndexAsync(COLLECTION, "jangId", PayloadSchemaType.Integer, null, true, null, null);
+        verify(qdrantClient).createPayloadIndexAsync(COLLECTION, "sourceId", PayloadSchemaType.Integer, null, true, null, null);
+        verify(qdrantClient).deletePayloadIndexAsync(COLLECTION, "chunkIndex", true, null, null);
+        verify(qdrantClient).createPayloadIndexAsync(COLLECTION, "chunkIndex", PayloadSchemaType.Integer, null, true, null, null);
+        verify(qdrantClient, never()).createPayloadIndexAsync(eq(COLLECTION), eq("type"), any(), any(), any(), any(), any());
+        assertThat(remaining.hasDrift()).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본값에서는 타입이 다른 인덱스를 삭제하지 않고 차이로만 남긴다")
+    void reconcile_KeepsMismatchedByDefault() throws Exception {
+        when(qdrantClient.getCollectionInfoAsync(COLLECTION))
+                .thenReturn(Futures.immediateFuture(collectionInfo(
+                        "type", PayloadSchemaType.Keyword,
+                        "caseNumber", PayloadSchemaType.Keyword,
+                        "lawName", PayloadSchemaType.Keyword,
+                        "chunkIndex", PayloadSchemaType.Keyword,
+                        "jangId", PayloadSchemaType.Integer,
+                        "sourceId", PayloadSchemaType.Integer)));
+
+        SchemaDrift remaining = qdrantSchemaManager.reconcile(COLLECTION);
+
+        verify(qdrantClient, never()).deletePayloadIndexAsync(anyString(), anyString(), any(), any(), any());
+        verify(qdrantClient, never()).createPayloadIndexAsync(anyString(), anyString(), any(), any(), any(), any(), any());
+        assertThat(remaining.mismatched()).containsEntry("chunkIndex", PayloadSchemaType.Keyword).hasSize(1);
+    }
+
+    private static CollectionInfo collectionInfo(Object... fieldsAndTypes) {
+        CollectionInfo.Builder builder = CollectionInfo.newBuilder();
+        for (int i = 0; i < fieldsAndTypes.length; i += 2) {
+            builder.putPayloadSchema((String) fieldsAndTypes[i],
+                    PayloadSchemaInfo.newBuilder().setDataType((PayloadSchemaType) fieldsAndTypes[i + 1]).build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벡터 단독 검색 vs 하이브리드(벡터 + BM25, RRF) 검색의 recall@k / 지연 시간 비교
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*HybridRetrievalBenchmarkTest'
+ * <p>
+ * 임베딩은 한글 음절 bigram 해시 벡터를 사용하며 숫자를 무시한다.
+ * 실제 밀집 임베딩 모델이 사건번호/조문 번호 같은 식별자를 잘 구분하지 못하는 특성을 흉내 내기 위함이다.
+ * <p>
+ * 주의: 사건번호 질의는 색인된 청크 본문의 식별자를 그대로 쓰므로 BM25에 유리하다 (정확 일치 질의의 상한에 가까움).
+ * 그래서 코퍼스에 없는 표현으로 쓴 주제 질의(held-out)를 따로 두고, 같은 주제 문서 비율(precision@k)을 함께 출력한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("하이브리드 검색 벤치마크")
+class HybridRetrievalBenchmarkTest {
+
+    private static final int CORPUS_SIZE = 3000;
+    private static final int QUERY_COUNT = 300;
+    private static final int[] KS = {1, 5, 10};
+
+    private static final List<String> TOPICS = List.of(
+            "임대인이 임차보증금 반환을 지체하여 임차인이 지연손해금을 청구한 사안",
+            "근로자가 부당해고를 이유로 해고무효확인과 임금 지급을 청구한 사안",
+            "교통사고 피해자가 가해 차량 보험회사를 상대로 손해배상을 청구한 사안",
+            "인터넷 중고거래에서 대금을 받고 물건을 보내지 않은 사기죄 사안",
+            "이웃 간 층간소음으로 인한 폭행 및 상해 사안",
+            "배우자의 부정행위를 이유로 이혼 및 위자료를 청구한 사안");
+
+    private SimpleVectorStore vectorStore;
+    private LexicalIndex lexicalIndex;
+    private HybridSearchService hybridSearchService;
+    // 코퍼스 본문과 겹치지 않는 표현으로 쓴 주제별 질의 (TOPICS와 같은 순서)
+    private static final List<List<String>> HELD_OUT_QUERIES = List.of(
+            List.of("집주인이 전세금을 늦게 돌려줘서 이자를 받고 싶어요", "계약 끝났는데 보증금을 몇 달째 못 받고 있어요"),
+            List.of("회사에서 갑자기 잘렸는데 복직할 수 있나요", "억울하게 짤렸는데 밀린 월급도 받을 수 있을까요"),
+            List.of("차에 치여서 다쳤는데 상대 보험사가 보상을 안 해줘요", "접촉 사고로 입원했는데 치료비를 누가 내나요"),
+            List.of("중고나라에서 돈만 받고 잠적한 판매자를 처벌하고 싶어요", "온라인 직거래로 입금했는데 택배가 안 와요"),
+            List.of("윗집 소음 때문에 싸우다가 맞았어요", "아랫집 사람이 시끄럽다고 찾아와서 주먹을 휘둘렀어요"),
+            List.of("남편이 바람을 피워서 헤어지고 정신적 피해를 보상받고 싶어요", "아내의 외도로 갈라서려는데 배상을 받을 수 있나요"));
+
+    private final List<Document> queries = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        Random random = new Random(42);
+        List<Document> corpus = new ArrayList<>();
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String caseNumber = (2010 + random.nextInt(15)) + (random.nextBoolean() ? "다" : "도") + (10000 + random.nextInt(90000));
+            int topic = random.nextInt(TOPICS.size());
+            String text = "대법원 " + caseNumber + " 판결. " + TOPICS.get(topic) + "에 관한 판단.";
+            corpus.add(new Document(UUID.nameUUIDFromBytes(caseNumber.getBytes()).toString() + i, text,
+                    Map.of("type", "판례", "caseNumber", caseNumber, "topic", String.valueOf(topic))));
+        }
+
+        vectorStore = SimpleVectorStore.builder(new DigitBlindEmbeddingModel()).build();
+        vectorStore.add(corpus);
+
+        lexicalIndex = new LexicalIndex();
+        lexicalIndex.addAll(corpus);
+        lexicalIndex.markReady();
+
+        hybridSearchService = new HybridSearchService(VectorStoreRouter.single(vectorStore), lexicalIndex,
+                new SimpleMeterRegistry(), true, 20, ReciprocalRankFusion.DEFAULT_K);
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Document target = corpus.get(random.nextInt(corpus.size()));
+            queries.add(new Document(target.getId(), target.getMetadata().get("caseNumber") + " 판결 요지 알려줘", Map.of()));
+        }
+    }
+
+    @Test
+    @DisplayName("recall@k 및 평균 지연 시간 비교")
+    void compareRecallAndLatency() {
+        int maxK = Arrays.stream(KS).max().orElse(10);
+
+        Result vectorOnly = run("vector", query -> hybridSearchService.vectorSearch(query, "type", "판례", maxK));
+        Result hybrid = run("hybrid", query -> hybridSearchService.search(query, "type", "판례", maxK));
+
+        System.out.printf("%-8s %10s %10s %10s %12s%n", "path", "recall@1", "recall@5", "recall@10", "avg ms");
+        for (Result result : List.of(vectorOnly, hybrid)) {
+            System.out.printf("%-8s %10.3f %10.3f %10.3f %12.3f%n",
+                    result.name(), result.recall()[0], result.recall()[1], result.recall()[2], result.avgMillis());
+        }
+
+        assertThat(hybrid.recall()[0]).isGreaterThanOrEqualTo(vectorOnly.recall()[0]);
+    }
+
+    @Test
+    @DisplayName("코퍼스에 없는 표현의 주제 질의(held-out) precision@k 비교")
+    void compareHeldOutTopicPrecision() {
+        int maxK = Arrays.stream(KS).max().orElse(10);
+
+        double[] vectorOnly = topicPrecision(query -> hybridSearchService.vectorSearch(query, "type", "판례", maxK));
+        double[] hybrid = topicPrecision(query -> hybridSearchService.search(query, "type", "판례", maxK));
+
+        System.out.printf("%-8s %10s %10s %10s%n", "held-out", "p@1", "p@5", "p@10");
+        System.out.printf("%-8s %10.3f %10.3f %10.3f%n", "vector", vectorOnly[0], vectorOnly[1], vectorOnly[2]);
+        System.out.printf("%-8s %10.3f %10.3f %10.3f%n", "hybrid", hybrid[0], hybrid[1], hybrid[2]);
+
+        // 식별자가 없는 질의에서는 어휘 검색의 이점이 없으므로 수치만 기록 (회귀 판단은 사람이 비교)
+        assertThat(hybrid).hasSize(KS.length);
+    }
+
+    /**
+     * held-out 질의별로 상위 k개 중 같은 주제 문서 비율의 평균
+     */
+    private double[] topicPrecision(Function<String, List<Document>> search) {
+        double[] sums = new double[KS.length];
+        int count = 0;
+        for (int topic = 0; topic < HELD_OUT_QUERIES.size(); topic++) {
+            for (String query : HELD_OUT_QUERIES.get(topic)) {
+                List<Document> results = search.apply(query);
+                for (int i = 0; i < KS.length; i++) {
+                    String expected = String.valueOf(topic);
+                    long relevant = results.stream().limit(KS[i])
+                            .filter(doc -> expected.equals(doc.getMetadata().get("topic")))
+                            .count();
+                    sums[i] += (double) relevant / KS[i];
+                }
+                count++;
+            }
+        }
+        for (int i = 0; i < KS.length; i++) {
+            sums[i] /= count;
+        }
+        return sums;
+    }
+
+    private Result run(String name, Function<String, List<Document>> search) {
+        int[] hits = new int[KS.length];
+        long totalNanos = 0;
+
+        for (Document query : queries) {
+            long start = System.nanoTime();
+            List<Document> results = search.apply(query.getText());
+            totalNanos += System.nanoTime() - start;
+
+            for (int i = 0; i < KS.length; i++) {
+                int k = KS[i];
+                if (results.stream().limit(k).anyMatch(doc -> doc.getId().equals(query.getId()))) {
+                    hits[i]++;
+                }
+            }
+        }
+
+        double[] recall = new double[KS.length];
+        for (int i = 0; i < KS.length; i++) {
+            recall[i] = (double) hits[i] / queries.size();
+        }
+        return new Result(name, recall, totalNanos / 1_000_000.0 / queries.size());
+    }
+
+    private record Result(String name, double[] recall, double avgMillis) {
+    }
+
+    /**
+     * 숫자를 무시하는 한글 bigram 해시 임베딩 (벤치마크 전용)
+     */
+    private static class DigitBlindEmbeddingModel implements EmbeddingModel {
+
+        private static final int DIMENSIONS = 256;
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                embeddings.add(new Embedding(hash(request.getInstructions().get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return hash(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+
+        private static float[] hash(String text) {
+            float[] vector = new float[DIMENSIONS];
+            String hangul = text.replaceAll("[^가-힣]", "");
+            for (int i = 0; i + 2 <= hangul.length(); i++) {
+                vector[Math.floorMod(hangul.substring(i, i + 2).hashCode(), DIMENSIONS)] += 1;
+            }
+            double norm = 0;
+            for (float value : vector) {
+                norm += value * value;
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < DIMENSIONS && norm > 0; i++) {
+                vector[i] /= (float) norm;
+            }
+            return vector;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HybridSearchService 테스트")
+class HybridSearchServiceTest {
+
+    private VectorStore vectorStore;
+    private LexicalIndex lexicalIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private HybridSearchService hybridSearchService;
+
+    private final Document vectorHit = new Document("vector", "벡터 결과", Map.of("type", "판례"));
+    private final Document lexicalHit = new Document("lexical", "대법원 2020다12345 판결", Map.of("type", "판례"));
+
+    @BeforeEach
+    void setUp() {
+        vectorStore = mock(VectorStore.class);
+        when(vectorStore.similaritySearch(any(SearchRequest.class))).thenReturn(List.of(vectorHit));
+        lexicalIndex = spy(new LexicalIndex());
+        lexicalIndex.addAll(List.of(lexicalHit));
+        meterRegistry = new SimpleMeterRegistry();
+        hybridSearchService = new HybridSearchService(VectorStoreRouter.single(vectorStore), lexicalIndex,
+                meterRegistry, true, 20, ReciprocalRankFusion.DEFAULT_K);
+    }
+
+    @Test
+    @DisplayName("어휘 색인 적재 전에는 RRF 없이 벡터 검색 결과만 반환하고 vector_only로 집계한다")
+    void notReady_SkipsFusion() {
+        List<Document> results = hybridSearchService.search("2020다12345", "type", "판례", 5);
+
+        assertThat(hybridSearchService.isHybridActive()).isFalse();
+        assertThat(results).extracting(Document::getId).containsExactly("vector");
+        verify(lexicalIndex, never()).search(any(), any(), any(), anyInt());
+        assertThat(count("vector_only")).isEqualTo(1);
+        assertThat(count("hybrid")).isZero();
+    }
+
+    @Test
+    @DisplayName("적재가 끝나면 벡터/어휘 결과를 RRF로 합친다")
+    void ready_FusesBothLegs() {
+        lexicalIndex.markReady();
+
+        List<Document> results = hybridSearchService.search("2020다12345", "type", "판례", 5);
+
+        assertThat(hybridSearchService.isHybridActive()).isTrue();
+        assertThat(results).extracting(Document::getId).containsExactlyInAnyOrder("vector", "lexical");
+        assertThat(count("hybrid")).isEqualTo(1);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private double count(String mode) {
+        return meterRegistry.get("retrieval.hybrid.search").tag("mode", mode).counter().count();
+    }
+}
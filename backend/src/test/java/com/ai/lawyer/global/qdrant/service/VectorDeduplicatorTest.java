@@ -0,0 +1,44 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VectorDeduplicator 테스트")
+class VectorDeduplicatorTest {
+
+    @Test
+    @DisplayName("같은 원본/청크 순번/본문의 청크는 하나만 남기고, sourceId가 있는 청크를 우선 남긴다")
+    void duplicates_KeepsDeterministicChunk() {
+        String deterministicId = ChunkIds.pointId("판례", 1L, 0, "bge-m3");
+        List<Document> documents = List.of(
+                new Document("legacy-1", "원심 판결을 파기한다", Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 0)),
+                new Document("legacy-2", "원심 판결을 파기한다", Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 0)),
+                new Document(deterministicId, "원심 판결을 파기한다",
+                        Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 0, "sourceId", 1L)),
+                new Document("legacy-3", "상고를 기각한다", Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 1)),
+                new Document("law-1", "원심 판결을 파기한다", Map.of("type", "법령", "lawName", "민법", "jangId", 3, "chunkIndex", 0)));
+
+        List<String> duplicates = VectorDeduplicator.duplicates(documents);
+
+        assertThat(duplicates).containsExactlyInAnyOrder("legacy-1", "legacy-2");
+    }
+
+    @Test
+    @DisplayName("결정적 id는 (type, 원본 id, 순번, 모델)이 같으면 같고 하나라도 다르면 다르다")
+    void pointId_IsDeterministic() {
+        String id = ChunkIds.pointId("판례", 1L, 0, "bge-m3");
+
+        assertThat(ChunkIds.pointId("판례", 1L, 0, "bge-m3")).isEqualTo(id);
+        assertThat(List.of(
+                ChunkIds.pointId("법령", 1L, 0, "bge-m3"),
+                ChunkIds.pointId("판례", 2L, 0, "bge-m3"),
+                ChunkIds.pointId("판례", 1L, 1, "bge-m3"),
+                ChunkIds.pointId("판례", 1L, 0, "nomic-embed-text"))).doesNotContain(id);
+    }
+}
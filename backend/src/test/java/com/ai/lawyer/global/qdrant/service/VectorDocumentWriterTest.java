@@ -0,0 +1,96 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.embedding.AdaptiveBatchSizer;
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import com.ai.lawyer.global.embedding.EmbeddingWriteProperties;
+import com.ai.lawyer.global.qdrant.lexical.LexicalIndex;
+import com.ai.lawyer.global.qdrant.partition.QdrantPartitionProperties;
+import com.ai.lawyer.global.vectorstore.HnswVectorStore;
+import com.ai.lawyer.global.vectorstore.LocalVectorStoreProperties;
+import com.ai.lawyer.global.vectorstore.VectorQuantizationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("VectorDocumentWriter 테스트")
+class VectorDocumentWriterTest {
+
+    private HnswVectorStore vectorStore;
+    private CachingEmbeddingModel documentEmbeddingModel;
+    private VectorStoreRouter vectorStoreRouter;
+    private VectorDocumentWriter vectorDocumentWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        LocalVectorStoreProperties.Hnsw settings = new LocalVectorStoreProperties.Hnsw();
+        settings.setFlushIntervalSeconds(0);
+        vectorStore = new HnswVectorStore(mock(EmbeddingModel.class), settings, new VectorQuantizationProperties(), null, false);
+        documentEmbeddingModel = mock(CachingEmbeddingModel.class);
+        vectorStoreRouter = new VectorStoreRouter(vectorStore, Map.of("판례", vectorStore, "법령", vectorStore));
+        vectorDocumentWriter = new VectorDocumentWriter(documentEmbeddingModel, vectorStore,
+                vectorStoreRouter, mock(ObjectProvider.class), mock(ObjectProvider.class),
+                new QdrantPartitionProperties(), new LexicalIndex(), mock(AdaptiveBatchSizer.class), new EmbeddingWriteProperties());
+
+        // 같은 법령명의 두 행(1, 2)과 sourceId 없이 저장된 기존 청크
+        List<Document> documents = List.of(
+                new Document("row1-0", "제1조", Map.of("type", "법령", "lawName", "민법", "sourceId", 1L)),
+                new Document("row1-1", "제2조", Map.of("type", "법령", "lawName", "민법", "sourceId", 1L)),
+                new Document("row2-0", "제1조", Map.of("type", "법령", "lawName", "민법", "sourceId", 2L)),
+                new Document("legacy-0", "제1조", Map.of("type", "법령", "lawName", "민법")),
+                new Document("other-0", "제1조", Map.of("type", "법령", "lawName", "형법", "sourceId", 3L)));
+        vectorStore.add(documents, documents.stream().map(document -> new float[]{1, document.getId().length()}).toList());
+    }
+
+    @Test
+    @DisplayName("같은 이름의 다른 행 청크는 남기고, 이름 조건은 sourceId 없는 기존 청크에만 적용한다")
+    void deleteBySource_KeepsRowsSharingName() throws Exception {
+        List<String> deleted = vectorDocumentWriter.deleteBySource("법령", 1L, "lawName", "민법", Set.of("row1-0"));
+
+        assertThat(deleted).containsExactlyInAnyOrder("row1-1", "legacy-0");
+        assertThat(vectorStore.documents()).extracting(Document::getId)
+                .containsExactlyInAnyOrder("row1-0", "row2-0", "other-0");
+    }
+
+    @Test
+    @DisplayName("행마다 자기 청크를 남기며 차례로 지워도 서로의 청크를 지우지 않는다")
+    void deleteBySource_PerRowKeepIds() throws Exception {
+        vectorDocumentWriter.deleteBySource("법령", 1L, "lawName", "민법", Set.of("row1-0", "row1-1"));
+        vectorDocumentWriter.deleteBySource("법령", 2L, "lawName", "민법", Set.of("row2-0"));
+
+        assertThat(vectorStore.documents()).extracting(Document::getId)
+                .containsExactlyInAnyOrder("row1-0", "row1-1", "row2-0", "other-0");
+    }
+
+    @Test
+    @DisplayName("별칭 교체로 모델이 바뀐 type 청크는 그 모델로, 나머지는 기본 모델로 임베딩한다")
+    void write_EmbedsWithModelOfSwappedType() throws Exception {
+        CachingEmbeddingModel swappedModel = mock(CachingEmbeddingModel.class);
+        when(swappedModel.embed(anyList())).thenReturn(List.of(new float[]{1, 2}));
+        when(documentEmbeddingModel.embed(anyList())).thenReturn(List.of(new float[]{1, 3}));
+        vectorStoreRouter.replace("법령", vectorStore, swappedModel);
+
+        vectorDocumentWriter.write(List.of(
+                new Document("law-new", "제3조", Map.of("type", "법령", "lawName", "상법", "sourceId", 4L)),
+                new Document("precedent-new", "판결", Map.of("type", "판례", "caseNumber", "2020다1", "sourceId", 5L))));
+
+        verify(swappedModel).embed(List.of("제3조"));
+        verify(documentEmbeddingModel).embed(List.of("판결"));
+        assertThat(vectorDocumentWriter.embeddingModelFor("법령")).isSameAs(swappedModel);
+        assertThat(vectorDocumentWriter.embeddingModelFor("판례")).isSameAs(documentEmbeddingModel);
+        assertThat(vectorStore.documents()).extracting(Document::getId).contains("law-new", "precedent-new");
+    }
+}
@@ -0,0 +1,92 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.embedding.CachingEmbeddingModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("VectorStoreRouter 테스트")
+class VectorStoreRouterTest {
+
+    private VectorStore defaultStore;
+    private VectorStore precedentStore;
+    private VectorStore lawStore;
+    private VectorStoreRouter router;
+
+    @BeforeEach
+    void setUp() {
+        defaultStore = mock(VectorStore.class);
+        precedentStore = mock(VectorStore.class);
+        lawStore = mock(VectorStore.class);
+        router = new VectorStoreRouter(defaultStore, Map.of("판례", precedentStore, "법령", lawStore));
+    }
+
+    @Test
+    @DisplayName("type 필터는 type별 저장소로, 그 외 필터는 기본 저장소로 보낸다")
+    void forFilter_RoutesByType() {
+        assertThat(router.forFilter("type", "판례")).isSameAs(precedentStore);
+        assertThat(router.forFilter("type", "법령")).isSameAs(lawStore);
+        assertThat(router.forFilter("type", "기타")).isSameAs(defaultStore);
+        assertThat(router.forFilter("caseNumber", "2020다12345")).isSameAs(defaultStore);
+    }
+
+    @Test
+    @DisplayName("분리하지 않으면 모든 요청을 기본 저장소로 보낸다")
+    void single_UsesDefaultStore() {
+        VectorStoreRouter single = VectorStoreRouter.single(defaultStore);
+
+        assertThat(single.isPartitioned()).isFalse();
+        assertThat(single.forType("판례")).isSameAs(defaultStore);
+    }
+
+    @Test
+    @DisplayName("저장 시 type별로 나누고, 이중 저장 중인 type은 새 컬렉션에도 저장한다")
+    void add_SplitsByTypeAndDualWrites() {
+        Document precedent = new Document("판례 본문", Map.of("type", "판례", "caseNumber", "2020다12345"));
+        Document law = new Document("법령 본문", Map.of("type", "법령", "lawName", "민법"));
+        VectorStore shadow = mock(VectorStore.class);
+
+        router.startDualWrite("판례", new VectorStoreRouter.DualWriteTarget("precedents_new", shadow, true));
+        router.add(List.of(precedent, law));
+        router.stopDualWrite("판례");
+        router.add(List.of(precedent));
+
+        verify(precedentStore, times(2)).add(List.of(precedent));
+        verify(lawStore).add(List.of(law));
+        verify(shadow, times(1)).add(List.of(precedent));
+        verify(defaultStore, never()).add(any());
+        assertThat(router.dualWriteTarget("판례")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모델과 함께 교체한 저장소는 기동 시와 같이 감싸고, 모델 없이 교체하면 기록된 모델을 유지한다")
+    void replace_DecoratesAndRecordsModel() {
+        VectorStore wrapped = mock(VectorStore.class);
+        VectorStore swapped = mock(VectorStore.class);
+        CachingEmbeddingModel newModel = mock(CachingEmbeddingModel.class);
+        VectorStoreRouter decorating = new VectorStoreRouter(defaultStore, Map.of("판례", precedentStore),
+                store -> store == swapped ? wrapped : store);
+
+        decorating.replace("판례", swapped, newModel);
+        assertThat(decorating.forType("판례")).isSameAs(wrapped);
+        assertThat(decorating.documentModel("판례")).containsSame(newModel);
+
+        decorating.replace("판례", precedentStore);
+        assertThat(decorating.forType("판례")).isSameAs(precedentStore);
+        assertThat(decorating.documentModel("판례")).containsSame(newModel);
+
+        decorating.replace("판례", swapped, null);
+        assertThat(decorating.documentModel("판례")).isEmpty();
+        assertThat(decorating.replace("법령", swapped, newModel)).isNull();
+        assertThat(decorating.documentModel("법령")).isEmpty();
+    }
+}
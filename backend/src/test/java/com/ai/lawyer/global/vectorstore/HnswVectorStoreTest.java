@@ -0,0 +1,324 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HnswVectorStore 테스트")
+class HnswVectorStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalVectorStoreProperties.Hnsw settings;
+    private VectorQuantizationProperties quantization;
+    private EmbeddingModel embeddingModel;
+
+    @BeforeEach
+    void setUp() {
+        settings = new LocalVectorStoreProperties.Hnsw();
+        settings.setFlushIntervalSeconds(0);
+        quantization = new VectorQuantizationProperties();
+        embeddingModel = new CharacterEmbeddingModel();
+    }
+
+    @Test
+    @DisplayName("HNSW 근사 검색은 전수 비교 결과와 대부분 일치한다 (recall@10 >= 0.9)")
+    void approximateSearch_Recall() {
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(32, 16, 200);
+        for (int i = 0; i < 2000; i++) {
+            index.add(randomVector(random, 32));
+        }
+
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random, 32);
+            Set<Integer> exact = new HashSet<>();
+            index.exactSearch(query, 10, null).forEach(candidate -> exact.add(candidate.node()));
+            hits += (int) index.search(query, 10, 64, null).stream()
+                    .filter(candidate -> exact.contains(candidate.node()))
+                    .count();
+        }
+
+        assertThat((double) hits / (queries * 10)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("type, caseNumber 메타데이터 필터를 적용해 검색한다")
+    void similaritySearch_WithFilter() {
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, null, false);
+        store.add(sampleDocuments());
+
+        List<Document> laws = store.similaritySearch(SearchRequest.builder()
+                .query("손해배상").topK(5)
+                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("type"), new Filter.Value("법령")))
+                .build());
+        List<Document> caseChunks = store.similaritySearch(SearchRequest.builder()
+                .query("손해배상").topK(100)
+                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("caseNumber"), new Filter.Value("2020다12345")))
+                .build());
+
+        assertThat(laws).extracting(Document::getId).containsExactlyInAnyOrder("law-1", "law-2");
+        assertThat(caseChunks).extracting(Document::getId).containsExactlyInAnyOrder("case-1-0", "case-1-1");
+        assertThat(caseChunks).allSatisfy(document -> assertThat(document.getScore()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("같은 id로 다시 추가하면 대체되고, 삭제한 문서는 검색되지 않는다")
+    void upsertAndDelete() {
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, null, false);
+        store.add(sampleDocuments());
+        store.add(List.of(new Document("law-1", "근로기준법 제23조 해고의 제한", Map.of("type", "법령"))));
+        store.delete(List.of("law-2"));
+
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.documents())
+                .filteredOn(document -> document.getId().equals("law-1"))
+                .singleElement()
+                .satisfies(document -> assertThat(document.getText()).contains("근로기준법"));
+        assertThat(store.documents()).extracting(Document::getId).doesNotContain("law-2");
+    }
+
+    @Test
+    @DisplayName("삭제 표시 비율이 기준을 넘으면 살아 있는 문서만으로 색인을 다시 구성한다")
+    void compaction_DropsTombstones() {
+        HnswVectorStore uncompacted = new HnswVectorStore(embeddingModel, settings, quantization, null, false);
+        LocalVectorStoreProperties.Hnsw compacting = new LocalVectorStoreProperties.Hnsw();
+        compacting.setFlushIntervalSeconds(0);
+        compacting.setCompactMinDeleted(2);
+        compacting.setCompactDeletedRatio(0.3);
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, compacting, quantization, null, false);
+
+        for (HnswVectorStore each : List.of(uncompacted, store)) {
+            each.add(sampleDocuments());
+            each.add(List.of(new Document("law-1", "근로기준법 제23조 해고의 제한", Map.of("type", "법령"))));
+        }
+        assertThat(store.deletedRatio()).isGreaterThan(0);
+
+        uncompacted.delete(List.of("law-2"));
+        store.delete(List.of("law-2"));  // 6개 노드 중 2개 삭제 표시 -> 압축
+
+        SearchRequest request = SearchRequest.builder().query("불법행위 손해배상").topK(4)
+                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("type"), new Filter.Value("판례")))
+                .build();
+        assertThat(store.deletedRatio()).isZero();
+        assertThat(uncompacted.deletedRatio()).isGreaterThan(0);
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.heapBytes()).isLessThan(uncompacted.heapBytes());
+        assertThat(store.similaritySearch(request)).extracting(Document::getId)
+                .containsExactlyElementsOf(uncompacted.similaritySearch(request).stream().map(Document::getId).toList());
+        assertThat(store.documents()).extracting(Document::getId).doesNotContain("law-2");
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일에서 복원하면 임베딩 없이 같은 결과를 반환한다")
+    void persistAndRestore() {
+        Path path = tempDir.resolve("index.hnsw");
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, path, false);
+        store.add(sampleDocuments());
+        store.delete(List.of("case-2-0"));
+        store.persist();
+
+        HnswVectorStore restored = new HnswVectorStore(embeddingModel, settings, quantization, path, true);
+        SearchRequest request = SearchRequest.builder().query("불법행위 손해배상").topK(3).build();
+
+        assertThat(restored.size()).isEqualTo(store.size());
+        assertThat(restored.similaritySearch(request)).extracting(Document::getId)
+                .containsExactlyElementsOf(store.similaritySearch(request).stream().map(Document::getId).toList());
+        assertThat(restored.documents()).filteredOn(document -> document.getId().equals("case-1-1"))
+                .singleElement()
+                .satisfies(document -> assertThat(document.getMetadata()).containsEntry("chunkIndex", 1));
+        assertThatThrownBy(() -> restored.add(sampleDocuments()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("int8 양자화 + 재채점 색인도 스냅샷(원본 mmap)에서 복원해 같은 결과를 반환한다")
+    void int8Quantization_PersistAndRestore() {
+        quantization.setType(QuantizationType.INT8);
+        Path path = tempDir.resolve("index-int8.hnsw");
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, path, false);
+        store.add(sampleDocuments());
+        store.persist();
+
+        HnswVectorStore restored = new HnswVectorStore(embeddingModel, settings, quantization, path, false);
+        restored.add(List.of(new Document("law-3", "근로기준법 제23조 해고의 제한", Map.of("type", "법령"))));
+        SearchRequest request = SearchRequest.builder().query("불법행위 손해배상").topK(3).build();
+
+        assertThat(restored.similaritySearch(request)).extracting(Document::getId)
+                .containsExactlyElementsOf(store.similaritySearch(request).stream().map(Document::getId).toList());
+        assertThat(restored.similaritySearch(SearchRequest.builder().query("근로기준법 해고").topK(1).build()))
+                .extracting(Document::getId)
+                .containsExactly("law-3");
+    }
+
+    @Test
+    @DisplayName("기본 저장소 검색이 실패하면 복제본으로 검색한다")
+    void failover_UsesReplica() {
+        HnswVectorStore replica = new HnswVectorStore(embeddingModel, settings, quantization, null, true);
+        HnswVectorStore.Rebuild rebuild = replica.rebuild();
+        sampleDocuments().forEach(document -> rebuild.add(document, embeddingModel.embed(document.getText())));
+        rebuild.commit();
+
+        VectorStore primary = mock(VectorStore.class);
+        when(primary.similaritySearch(any(SearchRequest.class))).thenThrow(new IllegalStateException("connection refused"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FailoverVectorStore failover = new FailoverVectorStore(primary, replica, meterRegistry);
+
+        List<Document> results = failover.similaritySearch(SearchRequest.builder().query("부당해고 구제").topK(1).build());
+
+        assertThat(results).extracting(Document::getId).containsExactly("case-2-0");
+        assertThat(meterRegistry.counter("vectorstore.fallback").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("색인된 필드와 색인되지 않은 필드를 섞은 AND / OR / NOT 필터도 메타데이터 직접 비교와 같은 결과를 낸다")
+    void similaritySearch_CompositeFilter() {
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, null, false);
+        store.add(sampleDocuments());
+        store.delete(List.of("case-2-0"));
+        Filter.Expression caseType = new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("type"), new Filter.Value("판례"));
+        Filter.Expression firstChunk = new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key("chunkIndex"), new Filter.Value(0));
+        Filter.Expression caseNumbers = new Filter.Expression(Filter.ExpressionType.IN, new Filter.Key("caseNumber"),
+                new Filter.Value(List.of("2020다12345", "2021두999")));
+
+        List<Filter.Expression> filters = List.of(
+                new Filter.Expression(Filter.ExpressionType.AND, firstChunk, caseType),
+                new Filter.Expression(Filter.ExpressionType.OR, caseNumbers, firstChunk),
+                new Filter.Expression(Filter.ExpressionType.NOT, caseType),
+                caseNumbers);
+
+        for (Filter.Expression filter : filters) {
+            List<String> expected = store.documents().stream()
+                    .filter(document -> MetadataFilterEvaluator.test(filter, document.getMetadata()))
+                    .map(Document::getId)
+                    .toList();
+            assertThat(store.similaritySearch(SearchRequest.builder().query("손해배상").topK(10).filterExpression(filter).build()))
+                    .extracting(Document::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷을 여러 매핑 영역에 나눠 저장/복원해도 같은 색인과 문서를 복원한다")
+    void persistAndRestore_AcrossRegions() throws Exception {
+        quantization.setType(QuantizationType.INT8);
+        Random random = new Random(11);
+        HnswIndex index = HnswIndex.create(32, settings, quantization);
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            index.add(randomVector(random, 32));
+            documents.add(new Document("doc-" + i, "본문 " + i, Map.of("type", i % 2 == 0 ? "법령" : "판례")));
+        }
+        index.markDeleted(7);
+        Path path = tempDir.resolve("regions.hnsw");
+
+        // 영역 하나에 벡터 4개 -> 헤더, 이웃 목록, 문서가 영역 경계에 걸침
+        HnswIndexFile.write(path, index, documents, 512);
+        HnswIndexFile.Loaded small = HnswIndexFile.read(path, settings, quantization, 512);
+        HnswIndexFile.Loaded whole = HnswIndexFile.read(path, settings, quantization);
+
+        float[] query = randomVector(random, 32);
+        List<Integer> expected = index.search(query, 10, 64, null).stream().map(HnswIndex.Candidate::node).toList();
+        for (HnswIndexFile.Loaded loaded : List.of(small, whole)) {
+            assertThat(loaded.index().search(query, 10, 64, null)).extracting(HnswIndex.Candidate::node)
+                    .containsExactlyElementsOf(expected);
+            assertThat(loaded.index().isDeleted(7)).isTrue();
+            assertThat(loaded.documents().get(299).getId()).isEqualTo("doc-299");
+            assertThat(loaded.documents().get(7)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장해도 스냅샷이 깨지지 않는다")
+    void persist_Concurrently() throws Exception {
+        Path path = tempDir.resolve("concurrent.hnsw");
+        HnswVectorStore store = new HnswVectorStore(embeddingModel, settings, quantization, path, false);
+        store.add(sampleDocuments());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(store::persist));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        store.destroy();
+
+        HnswVectorStore restored = new HnswVectorStore(embeddingModel, settings, quantization, path, true);
+        assertThat(restored.documents()).extracting(Document::getId)
+                .containsExactlyInAnyOrderElementsOf(store.documents().stream().map(Document::getId).toList());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static List<Document> sampleDocuments() {
+        return List.of(
+                new Document("law-1", "민법 제750조 불법행위로 인한 손해배상 책임", Map.of("type", "법령", "lawName", "민법", "chunkIndex", 0)),
+                new Document("law-2", "민법 제751조 재산 이외의 손해의 배상", Map.of("type", "법령", "lawName", "민법", "chunkIndex", 0)),
+                new Document("case-1-0", "대법원 2020다12345 불법행위 손해배상 청구", Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 0)),
+                new Document("case-1-1", "원심 판결을 파기하고 환송한다", Map.of("type", "판례", "caseNumber", "2020다12345", "chunkIndex", 1)),
+                new Document("case-2-0", "부당해고 구제 재심판정 취소", Map.of("type", "판례", "caseNumber", "2021두999", "chunkIndex", 0)));
+    }
+
+    private static float[] randomVector(Random random, int dimensions) {
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    /**
+     * 글자 빈도 해시 임베딩 (테스트 전용)
+     */
+    private static class CharacterEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                embeddings.add(new Embedding(hash(request.getInstructions().get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return hash(document.getText());
+        }
+
+        private static float[] hash(String text) {
+            float[] vector = new float[64];
+            text.chars().filter(Character::isLetterOrDigit)
+                    .forEach(ch -> vector[Math.floorMod(ch, vector.length)] += 1);
+            return vector;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ai.lawyer.global.vectorstore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 양자화 방식별 recall@10 / 검색 지연 / 힙 메모리 비교 (1024차원)
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*QuantizationBenchmarkTest'
+ * <p>
+ * 정답은 float 원본 전수 비교 결과이며, 힙 메모리는 색인 구성 직후와 스냅샷 복원 후(원본 mmap)를 모두 출력한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("벡터 양자화 벤치마크")
+class QuantizationBenchmarkTest {
+
+    private static final int DIMENSIONS = 1024;
+    private static final int CORPUS_SIZE = 5000;
+    private static final int QUERY_COUNT = 100;
+    private static final int TOP_K = 10;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<float[]> corpus = new ArrayList<>();
+    private final List<float[]> queries = new ArrayList<>();
+    private final List<Set<Integer>> groundTruth = new ArrayList<>();
+    private final List<Document> documents = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        // 주제(클러스터) 중심 주변에 분포하는 임베딩을 흉내 냄
+        Random random = new Random(1);
+        float[][] centers = new float[50][DIMENSIONS];
+        for (float[] center : centers) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            corpus.add(around(centers[random.nextInt(centers.length)], random));
+            documents.add(new Document("chunk-" + i, "chunk-" + i, Map.of()));
+        }
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(around(centers[random.nextInt(centers.length)], random));
+        }
+
+        HnswIndex exact = build(QuantizationType.NONE, true);
+        for (float[] query : queries) {
+            Set<Integer> truth = new HashSet<>();
+            exact.exactSearch(query, TOP_K, null).forEach(candidate -> truth.add(candidate.node()));
+            groundTruth.add(truth);
+        }
+    }
+
+    @Test
+    @DisplayName("양자화 방식별 recall / 지연 / 메모리")
+    void compareQuantization() throws Exception {
+        System.out.printf("%-8s %-8s %10s %10s %14s %16s%n", "type", "rescore", "recall@10", "avg ms", "heap MB", "heap MB (mmap)");
+
+        Map<String, Double> recalls = new LinkedHashMap<>();
+        for (QuantizationType type : QuantizationType.values()) {
+            for (boolean rescore : type == QuantizationType.NONE ? new boolean[]{true} : new boolean[]{true, false}) {
+                HnswIndex index = build(type, rescore);
+
+                int hits = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < queries.size(); i++) {
+                    Set<Integer> truth = groundTruth.get(i);
+                    hits += (int) index.search(queries.get(i), TOP_K, 64, null).stream()
+                            .filter(candidate -> truth.contains(candidate.node()))
+                            .count();
+                }
+                double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / queries.size();
+                double recall = (double) hits / (queries.size() * TOP_K);
+
+                Path path = tempDir.resolve(type + "-" + rescore + ".hnsw");
+                HnswIndexFile.write(path, index, documents);
+                HnswIndex restored = HnswIndexFile.read(path, new LocalVectorStoreProperties.Hnsw(), quantization(type, rescore)).index();
+
+                System.out.printf("%-8s %-8s %10.3f %10.3f %14.1f %16.1f%n", type, rescore, recall, avgMillis,
+                        index.heapBytes() / 1e6, restored.heapBytes() / 1e6);
+                recalls.put(type + "/" + rescore, recall);
+            }
+        }
+
+        assertThat(recalls.get("INT8/true")).isGreaterThanOrEqualTo(recalls.get("NONE/true") - 0.05);
+    }
+
+    private HnswIndex build(QuantizationType type, boolean rescore) {
+        LocalVectorStoreProperties.Hnsw settings = new LocalVectorStoreProperties.Hnsw();
+        settings.setEfConstruction(100);
+        HnswIndex index = HnswIndex.create(DIMENSIONS, settings, quantization(type, rescore));
+        corpus.forEach(index::add);
+        return index;
+    }
+
+    private static VectorQuantizationProperties quantization(QuantizationType type, boolean rescore) {
+        VectorQuantizationProperties quantization = new VectorQuantizationProperties();
+        quantization.setType(type);
+        quantization.setRescore(rescore);
+        return quantization;
+    }
+
+    private static float[] around(float[] center, Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = center[i] + (float) random.nextGaussian() * 1.5f;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ai.lawyer.global.vectorstore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ShadowReadVectorStore 테스트")
+class ShadowReadVectorStoreTest {
+
+    @Test
+    @DisplayName("기본 저장소 결과를 반환하고, 새 저장소 결과와의 겹침 비율을 기록한다")
+    void similaritySearch_RecordsOverlap() {
+        VectorStore primary = mock(VectorStore.class);
+        VectorStore shadow = mock(VectorStore.class);
+        when(primary.similaritySearch(any(SearchRequest.class))).thenReturn(List.of(document("a"), document("b")));
+        when(shadow.similaritySearch(any(SearchRequest.class))).thenReturn(List.of(document("b"), document("c")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ShadowReadVectorStore store = new ShadowReadVectorStore(primary, shadow, 1.0, meterRegistry, "판례");
+
+        List<Document> results = store.similaritySearch(SearchRequest.builder().query("손해배상").topK(2).build());
+
+        assertThat(results).extracting(Document::getId).containsExactly("a", "b");
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                assertThat(meterRegistry.summary("vectorstore.shadow.overlap", "type", "판례").count()).isEqualTo(1));
+        assertThat(meterRegistry.summary("vectorstore.shadow.overlap", "type", "판례").totalAmount()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("비교 비율이 0이면 새 저장소를 호출하지 않고, 쓰기는 기본 저장소로만 보낸다")
+    void zeroSampleRate_SkipsShadow() {
+        VectorStore primary = mock(VectorStore.class);
+        VectorStore shadow = mock(VectorStore.class);
+        when(primary.similaritySearch(any(SearchRequest.class))).thenReturn(List.of(document("a")));
+        ShadowReadVectorStore store = new ShadowReadVectorStore(primary, shadow, 0.0, new SimpleMeterRegistry(), "법령");
+
+        store.similaritySearch(SearchRequest.builder().query("민법").topK(1).build());
+        store.add(List.of(document("d")));
+
+        verify(primary).add(any());
+        verifyNoInteractions(shadow);
+    }
+
+    private static Document document(String id) {
+        return new Document(id, "본문 " + id, Map.of("type", "판례"));
+    }
+}